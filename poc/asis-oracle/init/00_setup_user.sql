@@ -26,6 +26,7 @@ GRANT CREATE SEQUENCE TO ASIS_USER;
 GRANT CREATE VIEW TO ASIS_USER;
 GRANT CREATE JOB TO ASIS_USER;
 GRANT EXECUTE ON SYS.DBMS_CRYPTO TO ASIS_USER;
+GRANT EXECUTE ON SYS.DBMS_LOCK TO ASIS_USER;  -- SP_RUN_WORKER 동시 실행 방지
 
 -- 확인
 SELECT username, account_status FROM DBA_USERS WHERE username = 'ASIS_USER';
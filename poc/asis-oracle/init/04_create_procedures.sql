@@ -362,14 +362,52 @@ BEGIN
 END;
 /
 
+-- ============================================
+-- WORKER 1개 실행 (같은 WORKER 동시 실행 방지)
+-- - Scheduler Job과 sync-service 이벤트 트리거(cdc.sync.worker-trigger)가 함께 호출
+-- - WORKER는 행마다 COMMIT하므로 COMMIT 후에도 유지되는 사용자 락(DBMS_LOCK) 사용
+-- - 다른 세션이 실행 중이면 기다리지 않고 p_ran = 0 (호출자가 나중에 다시 호출)
+-- ============================================
+CREATE OR REPLACE PROCEDURE SP_RUN_WORKER(
+    p_worker IN VARCHAR2,
+    p_ran    OUT NUMBER
+)
+IS
+    v_handle VARCHAR2(128);
+    v_result INTEGER;
+BEGIN
+    p_ran := 0;
+    DBMS_LOCK.ALLOCATE_UNIQUE('CDC_' || p_worker, v_handle);
+    v_result := DBMS_LOCK.REQUEST(v_handle, DBMS_LOCK.X_MODE, 0, FALSE);  -- 대기 없음, COMMIT해도 유지
+    IF v_result <> 0 THEN
+        RETURN;
+    END IF;
+
+    BEGIN
+        CASE p_worker
+        WHEN 'SP_WORKER_BOOK' THEN SP_WORKER_BOOK;
+        WHEN 'SP_WORKER_MEMBER' THEN SP_WORKER_MEMBER;
+        WHEN 'SP_WORKER_NEW_SERVICE' THEN SP_WORKER_NEW_SERVICE;
+        END CASE;
+    EXCEPTION
+        WHEN OTHERS THEN
+            v_result := DBMS_LOCK.RELEASE(v_handle);
+            RAISE;
+    END;
+    v_result := DBMS_LOCK.RELEASE(v_handle);
+    p_ran := 1;
+END;
+/
+
 -- 전체 WORKER 실행 프로시저
 CREATE OR REPLACE PROCEDURE SP_RUN_ALL_WORKERS
 IS
+    v_ran NUMBER;
 BEGIN
     SP_CLEANUP_HASH;
-    SP_WORKER_BOOK;
-    SP_WORKER_MEMBER;
-    SP_WORKER_NEW_SERVICE;
+    SP_RUN_WORKER('SP_WORKER_BOOK', v_ran);
+    SP_RUN_WORKER('SP_WORKER_MEMBER', v_ran);
+    SP_RUN_WORKER('SP_WORKER_NEW_SERVICE', v_ran);
 END;
 /
 
@@ -387,6 +425,8 @@ END;
 /
 
 -- Scheduler Job 생성
+-- sync-service 이벤트 트리거(cdc.sync.worker-trigger.enabled=true) 사용 시 안전망 주기로 늘릴 것
+--   EXEC DBMS_SCHEDULER.SET_ATTRIBUTE('JOB_CDC_WORKER', 'repeat_interval', 'FREQ=MINUTELY;INTERVAL=1');
 BEGIN
     DBMS_SCHEDULER.CREATE_JOB(
         job_name        => 'JOB_CDC_WORKER',
@@ -0,0 +1,35 @@
+package com.cdc.sync.benchmark;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+
+/**
+ * 벤치마크용 샘플 Debezium 메시지 로더
+ *
+ * [샘플]
+ * - payloads/book_info.json  : asis.ASIS_USER.BOOK_INFO UPDATE (schemas.enable=true)
+ * - payloads/member_info.json: asis.ASIS_USER.MEMBER_INFO INSERT (schemas.enable=true)
+ */
+final class BenchmarkPayloads {
+
+    private BenchmarkPayloads() {
+    }
+
+    /**
+     * 샘플 메시지 바이트 로드
+     *
+     * @param table BOOK_INFO 또는 MEMBER_INFO
+     */
+    static byte[] load(String table) {
+        String path = "/payloads/" + table.toLowerCase() + ".json";
+        try (InputStream in = BenchmarkPayloads.class.getResourceAsStream(path)) {
+            if (in == null) {
+                throw new IllegalArgumentException("Payload not found: " + path);
+            }
+            return in.readAllBytes();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
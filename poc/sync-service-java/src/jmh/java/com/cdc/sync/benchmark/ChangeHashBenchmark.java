@@ -0,0 +1,101 @@
+package com.cdc.sync.benchmark;
+
+import com.cdc.sync.consumer.StreamingDebeziumParser;
+import com.cdc.sync.service.ChangeHasher;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 변경 해시 비교 벤치마크
+ *
+ * [비교 대상]
+ * - legacy       : 기존 CdcSyncService.generateHash (getInstance + toString + Integer.toHexString)
+ * - canonical    : ChangeHasher.hash (정렬 직렬화 + 스레드별 Digest/버퍼 + 룩업 테이블)
+ * - procedureHash: ChangeHasher.procedureHash (FN_GENERATE_HASH 형식)
+ *
+ * [실행]
+ * mvn -Pbenchmark compile exec:exec -Dbenchmark=ChangeHashBenchmark
+ *
+ * 할당량 비교는 -prof gc 추가 (gc.alloc.rate.norm)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ChangeHashBenchmark {
+
+    @Param({"BOOK_INFO", "MEMBER_INFO"})
+    private String table;
+
+    private Map<String, Object> data;
+    private String pk;
+    private Object[] fields;
+
+    @Setup
+    public void setup() {
+        data = new StreamingDebeziumParser().parse(BenchmarkPayloads.load(table)).getData();
+        pk = "1";
+        fields = data.values().stream().filter(v -> v instanceof String).toArray();
+
+        // procedureHash가 단순 문자열 연결 해시와 같은지 사전 확인
+        StringBuilder joined = new StringBuilder(table + "|" + pk + "|UPDATE|");
+        for (Object field : fields) {
+            joined.append(field);
+        }
+        String expected = HexFormat.of().withUpperCase()
+                .formatHex(sha256().digest(joined.toString().getBytes(StandardCharsets.UTF_8)));
+        String actual = ChangeHasher.procedureHash(table, pk, "UPDATE", fields);
+        if (!expected.equals(actual)) {
+            throw new IllegalStateException("procedureHash mismatch: " + expected + " vs " + actual);
+        }
+    }
+
+    @Benchmark
+    public String legacy() {
+        MessageDigest digest = sha256();
+        byte[] hash = digest.digest(data.toString().getBytes(StandardCharsets.UTF_8));
+        StringBuilder hexString = new StringBuilder();
+        for (byte b : hash) {
+            String hex = Integer.toHexString(0xff & b);
+            if (hex.length() == 1) hexString.append('0');
+            hexString.append(hex);
+        }
+        return hexString.toString();
+    }
+
+    @Benchmark
+    public String canonical() {
+        return ChangeHasher.hash(data);
+    }
+
+    @Benchmark
+    public String procedureHash() {
+        return ChangeHasher.procedureHash(table, pk, "UPDATE", fields);
+    }
+
+    private static MessageDigest sha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -0,0 +1,134 @@
+package com.cdc.sync.benchmark;
+
+import com.cdc.sync.config.CdcSyncConfig;
+import com.cdc.sync.consumer.KeyOrderedDispatcher;
+import com.cdc.sync.consumer.OffsetCommitManager;
+import com.cdc.sync.service.CdcMonitoringService;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.common.TopicPartition;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * 실행 방식(플랫폼 스레드 vs 가상 스레드) 비교 벤치마크
+ *
+ * [측정 대상]
+ * - KeyOrderedDispatcher로 키 해시 분산 → 워커에서 블로킹 "JDBC" 호출
+ * - JDBC는 커넥션 풀(Semaphore, poolSize) 획득 + dbLatencyMicros 대기로 모사 (Oracle 없이 블로킹 I/O 재현)
+ * - 처리량: events/sec (OperationsPerInvocation = 이벤트 수)
+ * - 스레드 수: 종료 시 플랫폼 스레드 현재/최대 수 출력 (가상 스레드는 JVM 스레드 수에 포함되지 않음)
+ *
+ * [비교 관점]
+ * - workers=3: 현재 concurrency(3)와 같은 동시 처리 수 → 모드와 무관하게 처리량 동일, 스레드 비용만 차이
+ * - workers=64: 워커를 크게 늘린 경우 → 플랫폼 모드는 스레드 64개, 가상 모드는 캐리어(코어 수)만 사용
+ * - poolSize=5는 현재 Hikari 설정: 상한은 풀 → 워커만 늘려서는 처리량이 오르지 않음
+ *
+ * [실행]
+ * mvn -Pbenchmark compile exec:exec -Dbenchmark=ExecutionModeBenchmark
+ *
+ * mode=virtual은 Java 21 이상에서만 실행 가능 (Java 17에서는 해당 조합이 Setup에서 실패)
+ * exec:exec는 PATH의 java로 벤치마크를 실행 → 두 모드를 함께 보려면 JDK 21을 PATH/JAVA_HOME에 두고 실행
+ *   (컴파일 대상은 그대로 17)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 2, time = 2)
+@Measurement(iterations = 3, time = 3)
+@Fork(1)
+public class ExecutionModeBenchmark {
+
+    private static final String TOPIC = "bench.BOOK_INFO";
+    private static final int EVENTS = 2000;
+    private static final int KEYS = 500;
+
+    @Param({"platform", "virtual"})
+    private String mode;
+
+    @Param({"3", "64"})
+    private int workers;
+
+    @Param({"5", "64"})
+    private int poolSize;
+
+    @Param({"500"})
+    private long dbLatencyMicros;
+
+    private KeyOrderedDispatcher dispatcher;
+    private Semaphore pool;
+    private long offset;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        boolean virtual = "virtual".equals(mode);
+        if (virtual && Runtime.version().feature() < 21) {
+            throw new IllegalStateException("mode=virtual requires Java 21+, running " + Runtime.version());
+        }
+
+        CdcSyncConfig config = new CdcSyncConfig();
+        OffsetCommitManager commitManager = new OffsetCommitManager(config, new CdcMonitoringService());
+        commitManager.onPartitionsAssigned(null, List.of(new TopicPartition(TOPIC, 0)));
+        dispatcher = new KeyOrderedDispatcher(Map.of(), workers, 256, 1000, 1000, virtual, commitManager);
+        pool = new Semaphore(poolSize);
+        ManagementFactory.getThreadMXBean().resetPeakThreadCount();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        ThreadMXBean threads = ManagementFactory.getThreadMXBean();
+        System.out.printf("%n[mode=%s, workers=%d, poolSize=%d] platform threads: live=%d, peak=%d%n",
+                mode, workers, poolSize, threads.getThreadCount(), threads.getPeakThreadCount());
+        dispatcher.shutdown();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(EVENTS)
+    public void dispatch() throws InterruptedException {
+        CountDownLatch done = new CountDownLatch(EVENTS);
+        for (int i = 0; i < EVENTS; i++) {
+            ConsumerRecord<String, byte[]> record =
+                    new ConsumerRecord<>(TOPIC, 0, offset++, "BOOK-" + (i % KEYS), null);
+            // 큐가 가득 차 거절되면 poll 스레드의 seek 후 재수신처럼 같은 레코드를 다시 전달
+            while (!dispatcher.dispatch(record, () -> {
+                insert();
+                done.countDown();
+            })) {
+                Thread.onSpinWait();
+            }
+        }
+        done.await();
+    }
+
+    /**
+     * 커넥션 획득 + INSERT 왕복 모사
+     */
+    private void insert() {
+        pool.acquireUninterruptibly();
+        try {
+            LockSupport.parkNanos(TimeUnit.MICROSECONDS.toNanos(dbLatencyMicros));
+        } finally {
+            pool.release();
+        }
+    }
+}
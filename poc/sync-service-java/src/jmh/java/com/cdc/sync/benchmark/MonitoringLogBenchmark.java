@@ -0,0 +1,182 @@
+package com.cdc.sync.benchmark;
+
+import com.cdc.sync.service.CdcMonitoringService;
+import com.cdc.sync.service.CdcMonitoringService.ErrorLog;
+import com.cdc.sync.service.CdcMonitoringService.EventLog;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Group;
+import org.openjdk.jmh.annotations.GroupThreads;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 모니터링 기록 경합 벤치마크 (Consumer 스레드 여러 개 기록 + 대시보드 조회 1개)
+ *
+ * [비교 대상]
+ * - legacy: 개선 전 구현 (AtomicLong 카운터, synchronized + ArrayList.add(0, ...), 기록마다 시각 문자열 변환)
+ * - ring  : CdcMonitoringService (LongAdder 카운터, LogRing, 시각 변환은 조회 시에만)
+ *
+ * [측정]
+ * - 그룹 1개 = 기록 스레드 8개(recordSuccess, 10건 중 1건 recordFailure) + 조회 스레드 1개(getRecentEvents)
+ * - 결과는 메서드별 처리량: write(기록 처리량), read(조회 처리량)
+ * - ring 조회는 항목마다 DTO를 새로 만들고 시각을 변환 → 조회 1회 비용은 legacy(참조 복사)보다 큼
+ *   (대시보드 폴링 주기 단위라 무시 가능, 비교 대상은 기록 처리량과 기록이 조회에 막히지 않는지)
+ * - 코어 수 < 스레드 수(9)이면 경합이 아니라 시분할이 측정됨 → 코어 8개 이상에서 실행
+ *   (코어가 적으면 -tg 1,1로 기록/조회 1개씩 비용만 비교)
+ *
+ * [실행]
+ * mvn -Pbenchmark compile exec:exec -Dbenchmark=MonitoringLogBenchmark
+ */
+@State(Scope.Group)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class MonitoringLogBenchmark {
+
+    private static final int WRITERS = 8;
+    private static final String TOPIC = "asis.ASIS_USER.BOOK_INFO";
+    private static final String TABLE = "CDC_TOBE_BOOK";
+    private static final String HASH = "0123456789abcdef0123456789abcdef";
+    private static final String PREVIEW = "{BOOK_ID=1, BOOK_TITLE=Sample, AUTHOR=Author}";
+
+    private final CdcMonitoringService service = new CdcMonitoringService();
+    private final LegacyLog legacy = new LegacyLog();
+
+    @Benchmark
+    @Group("ring")
+    @GroupThreads(WRITERS)
+    public void ringWrite() {
+        service.recordReceived(TOPIC);
+        if (ThreadLocalRandom.current().nextInt(10) == 0) {
+            service.recordFailure(TOPIC, TABLE, "UPDATE", "ORA-00001: unique constraint violated", PREVIEW);
+        } else {
+            service.recordSuccess(TOPIC, TABLE, "UPDATE", HASH, PREVIEW);
+        }
+    }
+
+    @Benchmark
+    @Group("ring")
+    @GroupThreads(1)
+    public void ringRead(Blackhole blackhole) {
+        blackhole.consume(service.getRecentEvents());
+    }
+
+    @Benchmark
+    @Group("legacy")
+    @GroupThreads(WRITERS)
+    public void legacyWrite() {
+        legacy.recordReceived(TOPIC);
+        if (ThreadLocalRandom.current().nextInt(10) == 0) {
+            legacy.recordFailure(TOPIC, TABLE, "UPDATE", "ORA-00001: unique constraint violated", PREVIEW);
+        } else {
+            legacy.recordSuccess(TOPIC, TABLE, "UPDATE", HASH, PREVIEW);
+        }
+    }
+
+    @Benchmark
+    @Group("legacy")
+    @GroupThreads(1)
+    public void legacyRead(Blackhole blackhole) {
+        blackhole.consume(legacy.getRecentEvents());
+    }
+
+    /**
+     * 기존 CdcMonitoringService의 카운터/최근 이벤트 기록 방식 (비교 기준, 개선 전 구현 그대로)
+     *
+     * - AtomicLong 카운터 + 토픽별 TableStats(AtomicLong, 마지막 처리 시각)
+     * - 두 버퍼 모두 인스턴스 모니터(synchronized)로 보호, ArrayList.add(0, ...) 후 초과분 제거
+     * - 기록마다 LocalDateTime.now().format (실패는 2회)
+     */
+    private static final class LegacyLog {
+
+        private static final int MAX_ERROR_LOGS = 100;
+        private static final int MAX_EVENT_LOGS = 50;
+
+        private final AtomicLong totalReceived = new AtomicLong(0);
+        private final AtomicLong totalSuccess = new AtomicLong(0);
+        private final AtomicLong totalFailed = new AtomicLong(0);
+        private final Map<String, LegacyTableStats> tableStats = new ConcurrentHashMap<>();
+        private final List<ErrorLog> recentErrors = new ArrayList<>();
+        private final List<EventLog> recentEvents = new ArrayList<>();
+        private final DateTimeFormatter formatter = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss");
+
+        void recordReceived(String topic) {
+            totalReceived.incrementAndGet();
+            getTableStats(topic).received.incrementAndGet();
+        }
+
+        void recordSuccess(String topic, String targetTable, String operation, String hash, String dataPreview) {
+            totalSuccess.incrementAndGet();
+            LegacyTableStats stats = getTableStats(topic);
+            stats.success.incrementAndGet();
+            stats.lastSuccess = LocalDateTime.now();
+
+            addEventLog(new EventLog(LocalDateTime.now().format(formatter), "SUCCESS", topic, targetTable,
+                    operation, hash.substring(0, Math.min(16, hash.length())), null, dataPreview));
+        }
+
+        void recordFailure(String topic, String targetTable, String operation, String errorMessage,
+                           String dataPreview) {
+            totalFailed.incrementAndGet();
+            LegacyTableStats stats = getTableStats(topic);
+            stats.failed.incrementAndGet();
+            stats.lastError = LocalDateTime.now();
+
+            addErrorLog(new ErrorLog(LocalDateTime.now().format(formatter), topic, targetTable, operation,
+                    errorMessage));
+            addEventLog(new EventLog(LocalDateTime.now().format(formatter), "FAILED", topic, targetTable,
+                    operation, null,
+                    errorMessage.length() > 100 ? errorMessage.substring(0, 100) + "..." : errorMessage,
+                    dataPreview));
+        }
+
+        synchronized List<EventLog> getRecentEvents() {
+            return new ArrayList<>(recentEvents);
+        }
+
+        private LegacyTableStats getTableStats(String topic) {
+            return tableStats.computeIfAbsent(topic, k -> new LegacyTableStats());
+        }
+
+        private synchronized void addErrorLog(ErrorLog log) {
+            recentErrors.add(0, log);
+            if (recentErrors.size() > MAX_ERROR_LOGS) {
+                recentErrors.remove(recentErrors.size() - 1);
+            }
+        }
+
+        private synchronized void addEventLog(EventLog log) {
+            recentEvents.add(0, log);
+            if (recentEvents.size() > MAX_EVENT_LOGS) {
+                recentEvents.remove(recentEvents.size() - 1);
+            }
+        }
+    }
+
+    private static final class LegacyTableStats {
+        final AtomicLong received = new AtomicLong(0);
+        final AtomicLong success = new AtomicLong(0);
+        final AtomicLong failed = new AtomicLong(0);
+        LocalDateTime lastSuccess;
+        LocalDateTime lastError;
+    }
+}
@@ -0,0 +1,72 @@
+package com.cdc.sync.benchmark;
+
+import com.cdc.sync.consumer.DebeziumMessageParser;
+import com.cdc.sync.consumer.StreamingDebeziumParser;
+import com.cdc.sync.domain.CdcEvent;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Debezium 파서 비교 벤치마크
+ *
+ * [비교 대상]
+ * - mapParser      : 기존 방식 (byte[] → String → ObjectMapper Map → payload 캐스팅)
+ * - streamingParser: JsonParser 토큰 스트리밍 (byte[] 직접, schema 블록 skip)
+ *
+ * [실행]
+ * mvn -Pbenchmark compile exec:exec -Dbenchmark=ParserBenchmark
+ *
+ * mapParser는 StringDeserializer가 하던 byte[] → String 변환 비용까지 포함하여 측정
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ParserBenchmark {
+
+    @Param({"BOOK_INFO", "MEMBER_INFO"})
+    private String table;
+
+    private byte[] message;
+    private DebeziumMessageParser mapParser;
+    private StreamingDebeziumParser streamingParser;
+
+    @Setup
+    public void setup() {
+        message = BenchmarkPayloads.load(table);
+        mapParser = new DebeziumMessageParser();
+        streamingParser = new StreamingDebeziumParser();
+
+        // 두 파서 결과가 같은지 사전 확인 (해시는 같은 데이터 → 같은 값)
+        CdcEvent expected = mapParser.parse(new String(message, StandardCharsets.UTF_8));
+        CdcEvent actual = streamingParser.parse(message);
+        if (!expected.getChangeHash().equals(actual.getChangeHash())
+                || !expected.getOperation().equals(actual.getOperation())) {
+            throw new IllegalStateException("Parser results differ: " + expected + " vs " + actual);
+        }
+    }
+
+    @Benchmark
+    public CdcEvent mapParser() {
+        return mapParser.parse(new String(message, StandardCharsets.UTF_8));
+    }
+
+    @Benchmark
+    public CdcEvent streamingParser() {
+        return streamingParser.parse(message);
+    }
+}
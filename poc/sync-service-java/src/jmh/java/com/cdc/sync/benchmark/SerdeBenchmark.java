@@ -0,0 +1,151 @@
+package com.cdc.sync.benchmark;
+
+import com.cdc.sync.consumer.AvroCdcEventDeserializer;
+import com.cdc.sync.consumer.LocalSchemaRegistry;
+import com.cdc.sync.consumer.StreamingDebeziumParser;
+import com.cdc.sync.domain.CdcEvent;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.apache.avro.Schema;
+import org.apache.avro.generic.GenericData;
+import org.apache.avro.generic.GenericDatumWriter;
+import org.apache.avro.generic.GenericRecord;
+import org.apache.avro.io.BinaryEncoder;
+import org.apache.avro.io.EncoderFactory;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.util.Base64;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 메시지 형식 비교 벤치마크 (JSON vs Avro)
+ *
+ * [비교 대상]
+ * - json: schemas.enable=true JSON 메시지 → StreamingDebeziumParser
+ * - avro: 같은 변경 이벤트를 Avro binary(Confluent wire format)로 인코딩 → AvroCdcEventDeserializer
+ *
+ * [실행]
+ * mvn -Pbenchmark compile exec:exec -Dbenchmark=SerdeBenchmark
+ *
+ * Setup 시 형식별 메시지 크기(bytes/event)를 출력
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class SerdeBenchmark {
+
+    private static final Map<String, Integer> SCHEMA_IDS = Map.of("BOOK_INFO", 102, "MEMBER_INFO", 103);
+
+    @Param({"BOOK_INFO", "MEMBER_INFO"})
+    private String table;
+
+    private byte[] jsonMessage;
+    private byte[] avroMessage;
+    private StreamingDebeziumParser jsonDeserializer;
+    private AvroCdcEventDeserializer avroDeserializer;
+
+    @Setup
+    public void setup() throws IOException {
+        jsonMessage = BenchmarkPayloads.load(table);
+
+        int schemaId = SCHEMA_IDS.get(table);
+        Schema schema = loadSchema(schemaId, table);
+        LocalSchemaRegistry registry = new LocalSchemaRegistry();
+        registry.register(schemaId, schema);
+
+        avroMessage = encode(schemaId, schema, jsonMessage);
+        jsonDeserializer = new StreamingDebeziumParser();
+        avroDeserializer = new AvroCdcEventDeserializer(registry);
+
+        // 두 형식의 결과가 같은 변경을 나타내는지 사전 확인
+        CdcEvent json = jsonDeserializer.deserialize(table, jsonMessage);
+        CdcEvent avro = avroDeserializer.deserialize(table, avroMessage);
+        if (avro == null || !json.getOperation().equals(avro.getOperation())
+                || !json.getData().keySet().equals(avro.getData().keySet())) {
+            throw new IllegalStateException("Deserializer results differ: " + json + " vs " + avro);
+        }
+
+        System.out.printf("%n[%s] bytes/event: json=%d, avro=%d (%.1f%%)%n",
+                table, jsonMessage.length, avroMessage.length, 100.0 * avroMessage.length / jsonMessage.length);
+    }
+
+    @Benchmark
+    public CdcEvent json() {
+        return jsonDeserializer.deserialize(table, jsonMessage);
+    }
+
+    @Benchmark
+    public CdcEvent avro() {
+        return avroDeserializer.deserialize(table, avroMessage);
+    }
+
+    private static Schema loadSchema(int schemaId, String table) throws IOException {
+        String path = "/avro-schemas/" + schemaId + "-asis.ASIS_USER." + table + "-value.avsc";
+        try (InputStream in = SerdeBenchmark.class.getResourceAsStream(path)) {
+            if (in == null) {
+                throw new IllegalArgumentException("Schema not found: " + path);
+            }
+            return new Schema.Parser().parse(in);
+        }
+    }
+
+    /**
+     * JSON 샘플의 payload → Avro wire format (magic + schemaId + binary)
+     */
+    private static byte[] encode(int schemaId, Schema schema, byte[] json) throws IOException {
+        Map<?, ?> payload = (Map<?, ?>) new ObjectMapper().readValue(json, Map.class).get("payload");
+        GenericRecord envelope = (GenericRecord) toAvro(payload, schema);
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        out.write(0);
+        out.write(ByteBuffer.allocate(4).putInt(schemaId).array());
+        BinaryEncoder encoder = EncoderFactory.get().binaryEncoder(out, null);
+        new GenericDatumWriter<GenericRecord>(schema).write(envelope, encoder);
+        encoder.flush();
+        return out.toByteArray();
+    }
+
+    private static Object toAvro(Object value, Schema schema) {
+        return switch (schema.getType()) {
+            case UNION -> {
+                if (value == null) {
+                    yield null;
+                }
+                Schema branch = schema.getTypes().stream()
+                        .filter(s -> s.getType() != Schema.Type.NULL)
+                        .findFirst()
+                        .orElseThrow();
+                yield toAvro(value, branch);
+            }
+            case RECORD -> {
+                Map<?, ?> map = (Map<?, ?>) value;
+                GenericData.Record record = new GenericData.Record(schema);
+                for (Schema.Field field : schema.getFields()) {
+                    record.put(field.pos(), toAvro(map.get(field.name()), field.schema()));
+                }
+                yield record;
+            }
+            case BYTES -> ByteBuffer.wrap(Base64.getDecoder().decode((String) value));
+            case INT -> ((Number) value).intValue();
+            case LONG -> ((Number) value).longValue();
+            default -> value;
+        };
+    }
+}
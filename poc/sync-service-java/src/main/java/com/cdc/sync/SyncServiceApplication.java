@@ -2,6 +2,7 @@ package com.cdc.sync;
 
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.scheduling.annotation.EnableScheduling;
 
 /**
  * CDC Sync Service 메인 애플리케이션
@@ -22,6 +23,7 @@ import org.springframework.boot.autoconfigure.SpringBootApplication;
  * @version 1.0.0
  */
 @SpringBootApplication
+@EnableScheduling  // 백프레셔 풀 상태 점검 (PoolBackpressureManager)
 public class SyncServiceApplication {
 
     public static void main(String[] args) {
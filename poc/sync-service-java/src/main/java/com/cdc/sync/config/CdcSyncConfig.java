@@ -0,0 +1,706 @@
+package com.cdc.sync.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * CDC 동기화 설정
+ * application.yml의 cdc.sync 섹션을 바인딩
+ */
+@Data
+@Configuration
+@ConfigurationProperties(prefix = "cdc.sync")
+public class CdcSyncConfig {
+
+    /**
+     * 구독 토픽 패턴 (리스너 1개가 패턴에 맞는 모든 토픽을 구독)
+     */
+    private String topicPattern = "(asis\\.ASIS_USER|tobe\\.TOBE_USER)\\..+";
+
+    /**
+     * ASIS -> TOBE 매핑 (ASIS 테이블 변경 -> TOBE CDC 테이블에 INSERT)
+     */
+    private List<TopicMapping> asisToTobe = new ArrayList<>();
+
+    /**
+     * TOBE -> ASIS 매핑 (TOBE 테이블 변경 -> ASIS CDC 테이블에 INSERT)
+     */
+    private List<TopicMapping> tobeToAsis = new ArrayList<>();
+
+    private ListenerConfig listener = new ListenerConfig();
+
+    private BatchConfig batch = new BatchConfig();
+
+    private SerdeConfig serde = new SerdeConfig();
+
+    private ParallelConfig parallel = new ParallelConfig();
+
+    private CommitConfig commit = new CommitConfig();
+
+    private BackpressureConfig backpressure = new BackpressureConfig();
+
+    private RetryConfig retry = new RetryConfig();
+
+    private ExecutionConfig execution = new ExecutionConfig();
+
+    private CoalesceConfig coalesce = new CoalesceConfig();
+
+    private EchoConfig echo = new EchoConfig();
+
+    private SnapshotConfig snapshot = new SnapshotConfig();
+
+    private GroupCommitConfig groupCommit = new GroupCommitConfig();
+
+    private DirectApplyConfig directApply = new DirectApplyConfig();
+
+    private WorkerConfig worker = new WorkerConfig();
+
+    private WorkerTriggerConfig workerTrigger = new WorkerTriggerConfig();
+
+    private RetentionConfig retention = new RetentionConfig();
+
+    private MetricsConfig metrics = new MetricsConfig();
+
+    private MonitoringStreamConfig monitoringStream = new MonitoringStreamConfig();
+
+    private MonitoringFileConfig monitoringFile = new MonitoringFileConfig();
+
+    /**
+     * 토픽 → 대상 CDC 테이블 매핑
+     */
+    @Data
+    public static class TopicMapping {
+        private String sourceTopic;
+        private String targetTable;
+
+        /**
+         * 메시지 형식 (json: JsonConverter, avro: AvroConverter)
+         */
+        private String format = "json";
+
+        /**
+         * 키 순서 병렬 처리 시 이 토픽의 워커 수 (미지정 시 cdc.sync.parallel.workers)
+         */
+        private Integer workers;
+
+        /**
+         * 배치 윈도우 안에서 같은 PK의 연속 변경을 순 변경 1건으로 병합 (배치 모드에서만 적용)
+         */
+        private boolean coalesce;
+    }
+
+    /**
+     * 리스너 컨테이너 설정
+     */
+    @Data
+    public static class ListenerConfig {
+        /**
+         * Consumer 스레드 수 (토픽 수와 무관, 구독 파티션 수에 맞춰 조정)
+         */
+        private int concurrency = 3;
+    }
+
+    /**
+     * 배치 소비 모드 설정
+     */
+    @Data
+    public static class BatchConfig {
+        private boolean enabled;
+    }
+
+    /**
+     * 키 순서 병렬 처리 설정 (파티션 내 PK 해시별 워커 분산)
+     */
+    @Data
+    public static class ParallelConfig {
+        private boolean enabled;
+
+        /**
+         * 토픽별 기본 워커 수 (토픽 매핑의 workers로 개별 조정)
+         */
+        private int workers = 2;
+
+        /**
+         * 워커별 대기 큐 크기 (가득 차면 offer-timeout-ms 대기 후 해당 파티션 일시정지)
+         */
+        private int queueCapacity = 256;
+
+        /**
+         * 워커 큐가 가득 찼을 때 poll 스레드가 빈 자리를 기다리는 최대 시간 (ms)
+         */
+        private long offerTimeoutMs = 1000;
+
+        /**
+         * 큐가 가득 차 일시정지한 파티션의 재개 점검 주기 (ms)
+         */
+        private long resumeCheckMs = 200;
+
+        /**
+         * 파티션 회수 시 처리 중인 레코드 완료 대기 시간 (ms)
+         */
+        private long drainTimeoutMs = 30000;
+    }
+
+    /**
+     * 변경 병합 윈도우 설정 (토픽 매핑의 coalesce=true인 테이블에 적용)
+     *
+     * 윈도우 = 배치 poll 1회: 브로커가 fetch-min-bytes가 쌓이거나 window-ms가 지날 때까지 응답을 모음
+     */
+    @Data
+    public static class CoalesceConfig {
+        /**
+         * 배치 1회를 모으는 최대 대기 시간 (ms, fetch.max.wait.ms)
+         */
+        private int windowMs = 500;
+
+        /**
+         * 이 크기가 쌓이면 윈도우 전에 응답 (bytes, fetch.min.bytes)
+         */
+        private int minBytes = 65536;
+
+        /**
+         * 배치 1회 최대 레코드 수 (max.poll.records)
+         */
+        private int maxRecords = 500;
+    }
+
+    /**
+     * 에코 억제 설정 (양방향 테이블: 방금 반대 방향으로 전달한 변경이 되돌아오면 INSERT 전에 폐기)
+     */
+    @Data
+    public static class EchoConfig {
+        private boolean enabled = true;
+
+        /**
+         * 기억할 최대 전달 건수 (초과 시 오래된 것부터 제거)
+         */
+        private int maxEntries = 100_000;
+
+        /**
+         * 전달 후 에코를 기다리는 시간 (ms, FN_IS_LOOP의 5분과 동일)
+         */
+        private long ttlMs = 300_000;
+
+        /**
+         * 양방향 테이블 목록
+         */
+        private List<EchoTable> tables = new ArrayList<>();
+    }
+
+    /**
+     * 양방향 테이블 1쌍 (Worker 프로시저의 컬럼/코드 변환과 같게 설정)
+     */
+    @Data
+    public static class EchoTable {
+        private String name;
+
+        /**
+         * ASIS 원본 테이블 (Debezium source.table, 예: BOOK_INFO)
+         */
+        private String asisTable;
+
+        /**
+         * TOBE 원본 테이블 (예: TB_BOOK)
+         */
+        private String tobeTable;
+
+        /**
+         * 비교 컬럼 "ASIS컬럼:TOBE컬럼" (PK 포함, Worker가 그대로 옮기는 컬럼만)
+         */
+        private List<String> columns = new ArrayList<>();
+
+        /**
+         * ASIS 컬럼별 코드 변환 (ASIS 값 → TOBE 값, SYNC_CODE_MAPPING과 동일)
+         */
+        private Map<String, Map<String, String>> codeMaps = new LinkedHashMap<>();
+    }
+
+    /**
+     * 스냅샷(op=r) 대량 적재 설정
+     */
+    @Data
+    public static class SnapshotConfig {
+        private boolean enabled = true;
+
+        /**
+         * JDBC batch 1회(트랜잭션 1개) 최대 행 수
+         */
+        private int bulkBatchSize = 5000;
+
+        /**
+         * 배치 Consumer poll 1회 최대 레코드 수 (max.poll.records, 스냅샷 배치 크기의 상한)
+         */
+        private int maxPollRecords = 5000;
+
+        /**
+         * 행별 데이터 미리보기/최근 이벤트 기록 생략
+         */
+        private boolean skipPreview = true;
+
+        /**
+         * 행별 변경 해시 생략 (CHANGE_HASH = NULL, FN_IS_LOOP 비교 대상에서 제외)
+         */
+        private boolean skipHash;
+
+        /**
+         * 원본 테이블별 예상 행 수 (ETA 기준, 없으면 ALL_TABLES.NUM_ROWS 통계값)
+         */
+        private Map<String, Long> expectedRows = new LinkedHashMap<>();
+    }
+
+    /**
+     * 그룹 커밋 설정 (단건 Consumer 모드: 여러 이벤트 INSERT를 대상 DB별 트랜잭션 1개로 커밋)
+     */
+    @Data
+    public static class GroupCommitConfig {
+        private boolean enabled;
+
+        /**
+         * 트랜잭션 1개 최대 이벤트 수
+         */
+        private int maxEvents = 200;
+
+        /**
+         * 트랜잭션을 연 뒤 커밋까지 최대 대기 (ms, 레코드 수신 또는 유휴 이벤트 때 확인)
+         */
+        private long maxDelayMs = 100;
+
+        /**
+         * 일시적 DB 장애 시 poll 스레드에서 재반영을 재시도하는 최대 시간 (ms, max.poll.interval.ms보다 충분히 작게)
+         * 초과하면 남은 레코드의 파티션을 커밋되지 않은 가장 낮은 오프셋으로 seek (다시 수신)
+         */
+        private long replayTimeoutMs = 60_000;
+    }
+
+    /**
+     * 직접 반영 설정 (CDC 테이블 INSERT와 같은 트랜잭션에서 원본 테이블까지 반영, Worker 단계 생략)
+     */
+    @Data
+    public static class DirectApplyConfig {
+        /**
+         * SYNC_CODE_MAPPING 메모리 사본 재조회 주기 (ms)
+         */
+        private long codeMappingRefreshMs = 60_000;
+
+        /**
+         * 대상 CDC 테이블별 설정 (enabled=true인 테이블만 직접 반영, Java Worker는 enabled와 무관하게 사용)
+         */
+        private List<DirectApplyTable> tables = new ArrayList<>();
+    }
+
+    /**
+     * 직접 반영/Java Worker 테이블 1개 (Worker 프로시저의 컬럼/코드 변환과 같게 설정)
+     */
+    @Data
+    public static class DirectApplyTable {
+        private boolean enabled;
+
+        /**
+         * 대상 CDC 테이블 (감사 기록, PROCESSED_YN='Y'로 INSERT, 예: CDC_TOBE_BOOK)
+         */
+        private String cdcTable;
+
+        /**
+         * 반영할 원본 테이블 (예: TB_BOOK)
+         */
+        private String targetTable;
+
+        /**
+         * MERGE ON / DELETE WHERE 기준 컬럼 (원본 테이블 컬럼명)
+         */
+        private List<String> keyColumns = new ArrayList<>();
+
+        private List<DirectApplyColumn> columns = new ArrayList<>();
+
+        /**
+         * CDC_SYNC_LOG 기록 (Worker와 같은 SUCCESS/TARGET_NOT_FOUND 이력)
+         */
+        private boolean syncLog = true;
+
+        /**
+         * Java Worker가 변환 결과를 남길 STAGING 테이블 (예: STAGING_TOBE_BOOK, 없으면 기록 안 함)
+         */
+        private String stagingTable;
+
+        /**
+         * CDC_PROCESSED_HASH 기록 필드 (원본 테이블 컬럼, SP_RECORD_HASH 호출과 같은 순서, 없으면 기록 안 함)
+         */
+        private List<String> hashColumns = new ArrayList<>();
+    }
+
+    /**
+     * 직접 반영 컬럼 1개
+     */
+    @Data
+    public static class DirectApplyColumn {
+        /**
+         * 이벤트 컬럼 (없으면 expression만으로 값 결정, 예: SYSTIMESTAMP)
+         */
+        private String source;
+
+        /**
+         * 원본 테이블 컬럼
+         */
+        private String target;
+
+        /**
+         * SYNC_CODE_MAPPING.MAP_GROUP (FN_CONVERT_CODE와 동일: 매핑 없으면 원래 값)
+         */
+        private String codeMap;
+
+        /**
+         * 매핑이 없거나 값이 null일 때 쓸 값 (예: CASE STATUS WHEN 'Y' THEN 1 ELSE 0의 0)
+         */
+        private String codeDefault;
+
+        /**
+         * 값 SQL 식 (? = 변환한 이벤트 값, 예: NVL(CAST(? AS TIMESTAMP), SYSTIMESTAMP))
+         */
+        private String expression = "?";
+
+        /**
+         * 신규 행 INSERT에 포함
+         */
+        private boolean insert = true;
+
+        /**
+         * 기존 행 UPDATE에 포함 (키 컬럼은 항상 제외)
+         */
+        private boolean update = true;
+    }
+
+    /**
+     * 실행 스레드 설정
+     */
+    /**
+     * Java Worker 설정 (CDC → STAGING → 원본 테이블을 청크 단위로, PL/SQL Worker 대체)
+     */
+    @Data
+    public static class WorkerConfig {
+        private boolean enabled = false;
+
+        /**
+         * 테이블 처리 스레드 수 (테이블 1개는 한 번에 스레드 1개)
+         */
+        private int threads = 4;
+
+        /**
+         * 청크 1개(트랜잭션 1개)에서 가져올 최대 CDC 행 수
+         */
+        private int chunkSize = 500;
+
+        /**
+         * 테이블별 키 해시 슬롯 수 (같은 키는 항상 같은 슬롯, 모든 인스턴스가 같은 값이어야 함)
+         */
+        private int slots = 4;
+
+        /**
+         * 미처리 행 확인 주기 (ms)
+         */
+        private long intervalMs = 1000;
+
+        /**
+         * CDC_PROCESSED_HASH 만료 행 정리 주기 (ms, SP_CLEANUP_HASH와 같은 10분 기준)
+         */
+        private long hashCleanupMs = 60_000;
+
+        /**
+         * 처리할 CDC 테이블 (변환 규칙은 cdc.sync.direct-apply.tables의 같은 cdc-table 설정)
+         */
+        private List<String> tables = new ArrayList<>();
+    }
+
+    /**
+     * Worker 이벤트 트리거 설정 (CDC INSERT 직후 해당 테이블 Worker 프로시저만 호출)
+     */
+    @Data
+    public static class WorkerTriggerConfig {
+        private boolean enabled = false;
+
+        /**
+         * 첫 INSERT 후 호출까지 대기 시간 (ms, 그 사이 INSERT는 호출 1회로 합침)
+         */
+        private long debounceMs = 200;
+
+        /**
+         * DB별 동시 프로시저 호출 수 (호출마다 커넥션 1개 점유)
+         */
+        private int maxConcurrentPerDb = 2;
+
+        /**
+         * 안전망 전체 호출 주기 (ms, 트리거를 놓친 행 + SP_CLEANUP_HASH)
+         */
+        private long sweepIntervalMs = 60_000;
+
+        /**
+         * 대상 CDC 테이블 → Worker 프로시저 (예: CDC_TOBE_BOOK → SP_WORKER_BOOK)
+         */
+        private Map<String, String> procedures = new LinkedHashMap<>();
+    }
+
+    /**
+     * 보존/보관 설정 (처리 끝난 CDC/STAGING/이력 행을 로컬 세그먼트 파일로 옮긴 뒤 삭제)
+     */
+    @Data
+    public static class RetentionConfig {
+        private boolean enabled = false;
+
+        /**
+         * 세그먼트 파일 디렉터리 ({directory}/{DB}/{테이블}/)
+         */
+        private String directory = "./archive";
+
+        /**
+         * 보관/삭제 실행 주기 (ms)
+         */
+        private long intervalMs = 300_000;
+
+        /**
+         * 세그먼트 파일 1개의 최대 행 수 (파일을 다 쓴 뒤에 삭제 시작)
+         */
+        private int segmentRows = 10_000;
+
+        /**
+         * DELETE 1회(커밋 1회)의 최대 행 수 (IN 목록, 최대 1000)
+         */
+        private int deleteBatchSize = 500;
+
+        /**
+         * DELETE 배치 사이 대기 시간 (ms, redo/undo 부하 분산)
+         */
+        private long deletePauseMs = 200;
+
+        /**
+         * 실행 1회에 테이블별로 옮길 최대 행 수 (나머지는 다음 실행)
+         */
+        private int maxRowsPerRun = 50_000;
+
+        private List<RetentionTable> tables = new ArrayList<>();
+    }
+
+    /**
+     * 보존 대상 테이블 1개
+     */
+    @Data
+    public static class RetentionTable {
+        /**
+         * 테이블명 (예: CDC_TOBE_BOOK, STAGING_TOBE_BOOK, CDC_SYNC_LOG)
+         */
+        private String table;
+
+        /**
+         * 테이블이 있는 DB (ASIS / TOBE)
+         */
+        private String database;
+
+        /**
+         * 순번 컬럼 (CDC_SEQ / STAGING_SEQ / LOG_SEQ, 이 순서로 옮기고 삭제)
+         */
+        private String keyColumn;
+
+        /**
+         * 보존 기준 시각 컬럼 (RECEIVED_AT / STAGED_AT / LOG_TIME)
+         */
+        private String timeColumn;
+
+        /**
+         * 보존 기간 (시간, 기준 시각이 이보다 오래된 행만 대상)
+         */
+        private long horizonHours = 168;
+
+        /**
+         * 대상 PROCESSED_YN 값 (비어 있으면 조건 없음, 'N'/'E' 행은 넣지 않을 것)
+         */
+        private List<String> processedValues = new ArrayList<>();
+
+        /**
+         * 색인할 원본 PK 컬럼 (예: BOOK_ID, CDC_SYNC_LOG는 PK_VALUE)
+         */
+        private String pkColumn;
+
+        /**
+         * 색인할 해시 컬럼 (CHANGE_HASH, 없으면 비움)
+         */
+        private String hashColumn;
+    }
+
+    @Data
+    public static class ExecutionConfig {
+        /**
+         * 리스너 Consumer 스레드/키 순서 워커를 가상 스레드로 실행 (Java 21 이상 런타임 필요)
+         */
+        private boolean virtualThreads;
+    }
+
+    /**
+     * 오프셋 커밋 설정 (DB 반영 완료 오프셋을 묶어서 비동기 커밋)
+     */
+    @Data
+    public static class CommitConfig {
+        /**
+         * 파티션별 완료 건수가 이 값 이상 쌓이면 커밋
+         */
+        private int minRecords = 100;
+
+        /**
+         * 직전 커밋 후 이 시간이 지나면 1건이라도 커밋 (ms, 유휴 이벤트 주기로도 사용)
+         */
+        private long intervalMs = 1000;
+    }
+
+    /**
+     * 백프레셔 설정 (대상 DB 커넥션 풀 포화 시 해당 방향 토픽 파티션 일시정지)
+     */
+    @Data
+    public static class BackpressureConfig {
+        private boolean enabled = true;
+
+        /**
+         * 풀 상태 점검 주기 (ms)
+         */
+        private long checkIntervalMs = 500;
+
+        /**
+         * 평균 커넥션 획득 시간이 이 값 이상이면 일시정지 (ms)
+         */
+        private long pauseAcquireMs = 1000;
+
+        /**
+         * 평균 커넥션 획득 시간이 이 값 미만이어야 재개 (ms)
+         */
+        private long resumeAcquireMs = 200;
+
+        /**
+         * 활성 커넥션이 최대 풀 크기의 이 비율 이하여야 재개
+         */
+        private double resumeActiveRatio = 0.6;
+
+        /**
+         * 일시정지 후 최소 유지 시간 (ms, 짧은 주기로 정지/재개 반복 방지)
+         */
+        private long minPauseMs = 2000;
+    }
+
+    /**
+     * 재시도 토픽 + DLT 설정 (데이터 오류로 INSERT 실패한 레코드)
+     */
+    @Data
+    public static class RetryConfig {
+        private boolean enabled = true;
+
+        /**
+         * 재시도 토픽 이름 접두사 (단계별 토픽: {prefix}.{지연}, 예: cdc-sync.retry.10s)
+         */
+        private String topicPrefix = "cdc-sync.retry";
+
+        /**
+         * 재시도 단계별 지연 시간 (ms), 마지막 단계 실패 시 DLT
+         */
+        private List<Long> delaysMs = new ArrayList<>(List.of(1000L, 10000L, 60000L));
+
+        /**
+         * Dead Letter Topic
+         */
+        private String dltTopic = "cdc-sync.dlt";
+
+        /**
+         * 재시도/DLT 토픽 파티션 수 (토픽 자동 생성 시)
+         */
+        private int partitions = 1;
+
+        /**
+         * 재시도/DLT 발행 응답 대기 시간 (ms)
+         */
+        private long sendTimeoutMs = 10000;
+
+        /**
+         * 단계 토픽 이름 (지연 시간 → 1s, 10s, 500ms 형태)
+         */
+        public String tierTopic(long delayMs) {
+            String label = delayMs % 1000 == 0 ? (delayMs / 1000) + "s" : delayMs + "ms";
+            return topicPrefix + "." + label;
+        }
+    }
+
+    /**
+     * 메시지 역직렬화 설정
+     */
+    @Data
+    public static class SerdeConfig {
+        /**
+         * Avro writer 스키마(.avsc) 위치 (Spring 리소스 패턴, 예: file:/opt/cdc/schemas/*.avsc)
+         */
+        private List<String> schemaLocations = new ArrayList<>(List.of("classpath*:avro-schemas/*.avsc"));
+    }
+
+    /**
+     * Micrometer 지표 설정 (단계별 Timer, 히스토그램 버킷은 management.metrics.distribution)
+     */
+    @Data
+    public static class MetricsConfig {
+        /**
+         * 토픽/테이블 태그 사용 여부 (false면 방향/형식 단위로만 집계 → 시계열 수가 테이블 수와 무관)
+         */
+        private boolean perTable = true;
+
+        /**
+         * cdc.sync.* 지표의 table 태그 값 상한 (초과분 Meter는 등록하지 않음)
+         */
+        private int maxTables = 250;
+    }
+
+    /**
+     * 모니터링 SSE 스트림 설정 (/api/monitoring/stream, 마지막 전송 이후 변경분만 push)
+     */
+    @Data
+    public static class MonitoringStreamConfig {
+        /**
+         * 구독자당 초당 최대 프레임 수 (그 사이 변경은 다음 프레임 1개로 합침)
+         */
+        private int maxFramesPerSec = 4;
+
+        /**
+         * 동시 구독자 수 상한 (초과 연결은 503)
+         */
+        private int maxClients = 20;
+
+        /**
+         * 연결 유지 시간 (ms, 만료되면 EventSource가 재연결 → 전체 사본부터 다시)
+         */
+        private long timeoutMs = 1_800_000;
+
+        /**
+         * 변경이 없을 때 keepalive 주석 전송 주기 (ms, 프록시 유휴 타임아웃 방지)
+         */
+        private long heartbeatMs = 15_000;
+    }
+
+    /**
+     * 모니터링 통계 파일 설정 (토픽별 카운터 + 최근 이벤트/에러를 메모리 매핑 파일에 유지 → 재시작 후 복원)
+     */
+    @Data
+    public static class MonitoringFileConfig {
+        private boolean enabled = true;
+
+        /**
+         * 통계 파일 경로 (인스턴스마다 다른 경로, 같은 파일은 한 프로세스만 사용)
+         */
+        private String path = "./data/monitoring-stats.dat";
+
+        /**
+         * 보관할 최대 토픽 수 (파일 크기 = 약 150KB + max-tables × 256B, 초과 토픽은 메모리에만)
+         */
+        private int maxTables = 256;
+
+        /**
+         * 디스크 반영(force) 주기 (ms, 0이면 OS 반영에만 맡김)
+         */
+        private long forceIntervalMs = 10_000;
+    }
+}
@@ -8,6 +8,8 @@ import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.context.annotation.Primary;
 import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.transaction.PlatformTransactionManager;
 
 import javax.sql.DataSource;
 
@@ -28,6 +30,12 @@ import javax.sql.DataSource;
 @Configuration
 public class DataSourceConfig {
 
+    /**
+     * 커넥션당 Oracle 암묵적 Statement 캐시 크기
+     * (CDC 테이블 INSERT 계획 수 + 모니터링 쿼리를 담을 정도)
+     */
+    static final int IMPLICIT_STATEMENT_CACHE_SIZE = 50;
+
     // ===========================================
     // ASIS 데이터소스
     // ===========================================
@@ -39,9 +47,9 @@ public class DataSourceConfig {
     @Bean(name = "asisDataSource")
     @ConfigurationProperties(prefix = "asis.datasource")
     public DataSource asisDataSource() {
-        return DataSourceBuilder.create()
+        return withStatementCache(DataSourceBuilder.create()
                 .type(HikariDataSource.class)
-                .build();
+                .build());
     }
 
     /**
@@ -52,6 +60,14 @@ public class DataSourceConfig {
         return new JdbcTemplate(dataSource);
     }
 
+    /**
+     * ASIS DB용 트랜잭션 매니저 (배치 INSERT 롤백용)
+     */
+    @Bean(name = "asisTransactionManager")
+    public PlatformTransactionManager asisTransactionManager(@Qualifier("asisDataSource") DataSource dataSource) {
+        return new DataSourceTransactionManager(dataSource);
+    }
+
     // ===========================================
     // TOBE 데이터소스
     // ===========================================
@@ -64,9 +80,9 @@ public class DataSourceConfig {
     @Primary  // 기본 데이터소스로 지정 (Spring 기본 동작용)
     @ConfigurationProperties(prefix = "tobe.datasource")
     public DataSource tobeDataSource() {
-        return DataSourceBuilder.create()
+        return withStatementCache(DataSourceBuilder.create()
                 .type(HikariDataSource.class)
-                .build();
+                .build());
     }
 
     /**
@@ -76,4 +92,27 @@ public class DataSourceConfig {
     public JdbcTemplate tobeJdbcTemplate(@Qualifier("tobeDataSource") DataSource dataSource) {
         return new JdbcTemplate(dataSource);
     }
+
+    /**
+     * TOBE DB용 트랜잭션 매니저 (배치 INSERT 롤백용)
+     */
+    @Bean(name = "tobeTransactionManager")
+    @Primary
+    public PlatformTransactionManager tobeTransactionManager(@Qualifier("tobeDataSource") DataSource dataSource) {
+        return new DataSourceTransactionManager(dataSource);
+    }
+
+    /**
+     * Oracle 암묵적 Statement 캐시 활성화
+     *
+     * [설계 의도]
+     * - 같은 SQL 문자열의 prepareStatement를 커넥션 안에서 재사용 (파싱/커서 생성 생략)
+     * - InsertPlanCache가 컬럼 구성별로 SQL 문자열을 고정하므로 캐시 적중
+     * - yml의 data-source-properties로 덮어쓰기 가능 (설정 바인딩이 이후에 적용됨)
+     */
+    private static DataSource withStatementCache(HikariDataSource dataSource) {
+        dataSource.addDataSourceProperty("oracle.jdbc.implicitStatementCacheSize",
+                String.valueOf(IMPLICIT_STATEMENT_CACHE_SIZE));
+        return dataSource;
+    }
 }
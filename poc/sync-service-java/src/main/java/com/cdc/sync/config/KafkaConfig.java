@@ -1,18 +1,43 @@
 package com.cdc.sync.config;
 
+import com.cdc.sync.config.CdcSyncConfig.CoalesceConfig;
+import com.cdc.sync.config.CdcSyncConfig.ParallelConfig;
+import com.cdc.sync.config.CdcSyncConfig.RetryConfig;
+import com.cdc.sync.config.CdcSyncConfig.SnapshotConfig;
+import com.cdc.sync.config.CdcSyncConfig.TopicMapping;
+import com.cdc.sync.consumer.KeyOrderedDispatcher;
+import com.cdc.sync.consumer.OffsetCommitManager;
 import org.apache.kafka.clients.consumer.ConsumerConfig;
+import org.apache.kafka.clients.consumer.CooperativeStickyAssignor;
+import org.apache.kafka.clients.admin.NewTopic;
+import org.apache.kafka.clients.producer.ProducerConfig;
+import org.apache.kafka.common.serialization.ByteArrayDeserializer;
+import org.apache.kafka.common.serialization.ByteArraySerializer;
 import org.apache.kafka.common.serialization.StringDeserializer;
+import org.apache.kafka.common.serialization.StringSerializer;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
 import org.springframework.kafka.annotation.EnableKafka;
 import org.springframework.kafka.config.ConcurrentKafkaListenerContainerFactory;
+import org.springframework.kafka.config.TopicBuilder;
 import org.springframework.kafka.core.ConsumerFactory;
 import org.springframework.kafka.core.DefaultKafkaConsumerFactory;
+import org.springframework.kafka.core.DefaultKafkaProducerFactory;
+import org.springframework.kafka.core.KafkaAdmin;
+import org.springframework.kafka.core.KafkaTemplate;
 import org.springframework.kafka.listener.ContainerProperties;
+import org.springframework.kafka.listener.DefaultErrorHandler;
+import org.springframework.util.backoff.ExponentialBackOff;
 
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.Properties;
+import java.util.stream.Stream;
 
 /**
  * Kafka Consumer 설정
@@ -23,6 +48,12 @@ import java.util.Map;
  *   - bootstrap-servers: Kafka 브로커 주소
  *   - group-id: Consumer Group ID
  *   - auto-offset-reset: 오프셋 초기화 정책
+ *   - cdc.sync.listener.concurrency: 리스너 Consumer 스레드 수 (패턴 구독 리스너 1개 기준)
+ *   - cdc.sync.parallel.*: 키 순서 병렬 처리 (토픽별 워커 수는 토픽 매핑의 workers)
+ *   - cdc.sync.commit.*: 오프셋 커밋 (자동 커밋 대신 OffsetCommitManager가 DB 반영 완료분만 커밋)
+ *   - cdc.sync.retry.*: 실패 레코드 재시도 단계 토픽/DLT (발행용 Producer + 토픽 생성)
+ *   - cdc.sync.coalesce.*: 배치 모드 변경 병합 윈도우 (토픽 매핑 coalesce=true인 테이블)
+ *   - cdc.sync.execution.virtual-threads: Consumer 스레드/키 순서 워커를 가상 스레드로 실행 (Java 21+)
  */
 @Configuration
 @EnableKafka
@@ -34,6 +65,19 @@ public class KafkaConfig {
     @Value("${spring.kafka.consumer.group-id}")
     private String groupId;
 
+    private final CdcSyncConfig syncConfig;
+    private final OffsetCommitManager commitManager;
+
+    public KafkaConfig(CdcSyncConfig syncConfig, OffsetCommitManager commitManager) {
+        this.syncConfig = syncConfig;
+        this.commitManager = commitManager;
+
+        if (syncConfig.getExecution().isVirtualThreads() && Runtime.version().feature() < 21) {
+            throw new IllegalStateException("cdc.sync.execution.virtual-threads requires Java 21+, running "
+                    + Runtime.version());
+        }
+    }
+
     /**
      * Kafka Consumer 설정 맵 생성
      */
@@ -45,17 +89,23 @@ public class KafkaConfig {
         props.put(ConsumerConfig.BOOTSTRAP_SERVERS_CONFIG, bootstrapServers);
         props.put(ConsumerConfig.GROUP_ID_CONFIG, groupId);
         props.put(ConsumerConfig.KEY_DESERIALIZER_CLASS_CONFIG, StringDeserializer.class);
-        props.put(ConsumerConfig.VALUE_DESERIALIZER_CLASS_CONFIG, StringDeserializer.class);
+        // 값은 byte[] 그대로 전달 (StreamingDebeziumParser가 String 변환 없이 파싱)
+        props.put(ConsumerConfig.VALUE_DESERIALIZER_CLASS_CONFIG, ByteArrayDeserializer.class);
 
         // 오프셋 설정
         props.put(ConsumerConfig.AUTO_OFFSET_RESET_CONFIG, "earliest");
-        props.put(ConsumerConfig.ENABLE_AUTO_COMMIT_CONFIG, true);
+        // 자동 커밋 비활성화: DB 반영이 끝난 오프셋만 OffsetCommitManager가 커밋
+        props.put(ConsumerConfig.ENABLE_AUTO_COMMIT_CONFIG, false);
 
-        // 성능 튜닝
+        // 성능 튜닝 (배치 모드에서는 poll 1회 = 배치 1건의 최대 크기)
         props.put(ConsumerConfig.MAX_POLL_RECORDS_CONFIG, 100);
         props.put(ConsumerConfig.FETCH_MIN_BYTES_CONFIG, 1);
         props.put(ConsumerConfig.FETCH_MAX_WAIT_MS_CONFIG, 500);
 
+        // 패턴 구독: 신규 토픽 감지 주기 + 리밸런스 시 전체 파티션 회수 방지
+        props.put(ConsumerConfig.METADATA_MAX_AGE_CONFIG, 30000);
+        props.put(ConsumerConfig.PARTITION_ASSIGNMENT_STRATEGY_CONFIG, CooperativeStickyAssignor.class.getName());
+
         return props;
     }
 
@@ -63,7 +113,7 @@ public class KafkaConfig {
      * Kafka Consumer Factory 생성
      */
     @Bean
-    public ConsumerFactory<String, String> consumerFactory() {
+    public ConsumerFactory<String, byte[]> consumerFactory() {
         return new DefaultKafkaConsumerFactory<>(consumerConfigs());
     }
 
@@ -73,18 +123,213 @@ public class KafkaConfig {
      * @KafkaListener 어노테이션이 사용하는 팩토리입니다.
      */
     @Bean
-    public ConcurrentKafkaListenerContainerFactory<String, String> kafkaListenerContainerFactory() {
-        ConcurrentKafkaListenerContainerFactory<String, String> factory =
+    public ConcurrentKafkaListenerContainerFactory<String, byte[]> kafkaListenerContainerFactory() {
+        ConcurrentKafkaListenerContainerFactory<String, byte[]> factory =
+                new ConcurrentKafkaListenerContainerFactory<>();
+
+        factory.setConsumerFactory(consumerFactory());
+
+        // 동시 처리 스레드 수 (파티션 수에 맞춤, 토픽 수와 무관)
+        factory.setConcurrency(syncConfig.getListener().getConcurrency());
+
+        // 커밋 설정 (컨테이너는 커밋하지 않음, OffsetCommitManager가 담당)
+        configureCommits(factory);
+        configureExecution(factory);
+
+        return factory;
+    }
+
+    /**
+     * 배치 Kafka Listener Container Factory 생성
+     *
+     * [설계 의도]
+     * - poll 1회로 가져온 레코드(최대 MAX_POLL_RECORDS_CONFIG건)를 List로 한 번에 전달
+     * - CdcBatchKafkaConsumer가 사용 (cdc.sync.batch.enabled=true)
+     */
+    @Bean
+    public ConcurrentKafkaListenerContainerFactory<String, byte[]> batchKafkaListenerContainerFactory() {
+        ConcurrentKafkaListenerContainerFactory<String, byte[]> factory =
                 new ConcurrentKafkaListenerContainerFactory<>();
 
         factory.setConsumerFactory(consumerFactory());
+        factory.setConcurrency(syncConfig.getListener().getConcurrency());
+        factory.setBatchListener(true);
+        configureCommits(factory);
+        configureExecution(factory);
+        configureCoalesceWindow(factory);
+        configureSnapshotPoll(factory);
+
+        return factory;
+    }
+
+    /**
+     * 변경 병합 윈도우 (coalesce=true 매핑이 있을 때만)
+     *
+     * [설계 의도]
+     * - 병합 윈도우 = poll 1회 배치: 브로커가 fetch-min-bytes 또는 window-ms까지 응답을 모아 배치를 키움
+     * - 윈도우를 Consumer 쪽 버퍼로 만들지 않음 → 오프셋 커밋/리밸런스 처리는 기존 배치 경로 그대로
+     * - 병합 대상이 아닌 토픽도 같은 Consumer이므로 지연이 최대 window-ms 늘어남
+     */
+    private void configureCoalesceWindow(ConcurrentKafkaListenerContainerFactory<String, byte[]> factory) {
+        boolean anyCoalesce = Stream.of(syncConfig.getAsisToTobe(), syncConfig.getTobeToAsis())
+                .flatMap(List::stream)
+                .anyMatch(TopicMapping::isCoalesce);
+        if (!anyCoalesce) {
+            return;
+        }
+
+        CoalesceConfig coalesce = syncConfig.getCoalesce();
+        Properties overrides = factory.getContainerProperties().getKafkaConsumerProperties();
+        overrides.put(ConsumerConfig.FETCH_MAX_WAIT_MS_CONFIG, String.valueOf(coalesce.getWindowMs()));
+        overrides.put(ConsumerConfig.FETCH_MIN_BYTES_CONFIG, String.valueOf(coalesce.getMinBytes()));
+        overrides.put(ConsumerConfig.MAX_POLL_RECORDS_CONFIG, String.valueOf(coalesce.getMaxRecords()));
+    }
+
+    /**
+     * 스냅샷 대량 적재용 poll 크기 (cdc.sync.snapshot.enabled=true)
+     *
+     * [설계 의도]
+     * - 스냅샷 JDBC batch 크기는 poll 1회 분량이 상한 → 기본 100건이면 대량 적재 효과가 없음
+     * - max.poll.records는 상한일 뿐 (쌓인 레코드가 적으면 그만큼만 반환) → 평상시 실시간 지연은 그대로
+     * - 병합 윈도우의 max-records와 함께 설정되면 큰 값 사용
+     */
+    private void configureSnapshotPoll(ConcurrentKafkaListenerContainerFactory<String, byte[]> factory) {
+        SnapshotConfig snapshot = syncConfig.getSnapshot();
+        if (!snapshot.isEnabled()) {
+            return;
+        }
+
+        Properties overrides = factory.getContainerProperties().getKafkaConsumerProperties();
+        int current = Integer.parseInt(overrides.getProperty(ConsumerConfig.MAX_POLL_RECORDS_CONFIG, "0"));
+        overrides.put(ConsumerConfig.MAX_POLL_RECORDS_CONFIG,
+                String.valueOf(Math.max(current, snapshot.getMaxPollRecords())));
+    }
+
+    /**
+     * 키 순서 병렬 디스패처 (cdc.sync.parallel.enabled=true)
+     *
+     * [토픽별 튜닝]
+     * - 토픽 매핑의 workers 값이 있으면 그 값, 없으면 cdc.sync.parallel.workers
+     * - 핫 테이블(예: MEMBER_INFO)만 워커를 늘리고 나머지는 기본값 유지
+     */
+    @Bean(destroyMethod = "shutdown")
+    @ConditionalOnProperty(prefix = "cdc.sync.parallel", name = "enabled", havingValue = "true")
+    public KeyOrderedDispatcher keyOrderedDispatcher() {
+        ParallelConfig parallel = syncConfig.getParallel();
+
+        Map<String, Integer> workersByTopic = new HashMap<>();
+        Stream.of(syncConfig.getAsisToTobe(), syncConfig.getTobeToAsis())
+                .flatMap(List::stream)
+                .filter(mapping -> mapping.getWorkers() != null)
+                .forEach(mapping -> workersByTopic.put(mapping.getSourceTopic(), mapping.getWorkers()));
 
-        // 동시 처리 스레드 수 (파티션 수에 맞춤)
-        factory.setConcurrency(3);
+        return new KeyOrderedDispatcher(workersByTopic, parallel.getWorkers(),
+                parallel.getQueueCapacity(), parallel.getDrainTimeoutMs(), parallel.getOfferTimeoutMs(),
+                syncConfig.getExecution().isVirtualThreads(), commitManager);
+    }
+
+    /**
+     * 키 순서 병렬 Listener Container Factory 생성
+     *
+     * [설계 의도]
+     * - poll 결과를 List로 받아 워커에 분산 (CdcKeyOrderedKafkaConsumer)
+     * - 워커가 완료한 오프셋만 OffsetCommitManager가 커밋
+     * - 파티션 회수 시 OffsetCommitManager가 처리 중 레코드 완료를 기다린 뒤 커밋
+     * - 워커 큐가 가득 찬 파티션은 seek + pause 후 큐에 여유가 생기면 resume (poll 스레드 무한 대기 방지)
+     */
+    @Bean
+    @ConditionalOnProperty(prefix = "cdc.sync.parallel", name = "enabled", havingValue = "true")
+    public ConcurrentKafkaListenerContainerFactory<String, byte[]> keyOrderedKafkaListenerContainerFactory() {
+        ConcurrentKafkaListenerContainerFactory<String, byte[]> factory =
+                new ConcurrentKafkaListenerContainerFactory<>();
 
-        // ACK 모드 설정
-        factory.getContainerProperties().setAckMode(ContainerProperties.AckMode.BATCH);
+        factory.setConsumerFactory(consumerFactory());
+        factory.setConcurrency(syncConfig.getListener().getConcurrency());
+        factory.setBatchListener(true);
+        configureCommits(factory);
+        configureExecution(factory);
 
         return factory;
     }
+
+    /**
+     * 재시도/DLT 발행용 KafkaTemplate
+     *
+     * [설계 의도]
+     * - 원본 키/값 바이트를 그대로 재발행 (StringSerializer / ByteArraySerializer)
+     * - acks=all + 멱등성: 발행 확정 후에만 원본 레코드를 완료로 기록하므로 중복/유실 최소화
+     */
+    @Bean
+    public KafkaTemplate<String, byte[]> retryKafkaTemplate() {
+        Map<String, Object> props = new HashMap<>();
+        props.put(ProducerConfig.BOOTSTRAP_SERVERS_CONFIG, bootstrapServers);
+        props.put(ProducerConfig.KEY_SERIALIZER_CLASS_CONFIG, StringSerializer.class);
+        props.put(ProducerConfig.VALUE_SERIALIZER_CLASS_CONFIG, ByteArraySerializer.class);
+        props.put(ProducerConfig.ACKS_CONFIG, "all");
+        props.put(ProducerConfig.ENABLE_IDEMPOTENCE_CONFIG, true);
+        props.put(ProducerConfig.CLIENT_ID_CONFIG, groupId + "-retry");
+
+        return new KafkaTemplate<>(new DefaultKafkaProducerFactory<>(props));
+    }
+
+    /**
+     * 재시도 단계 토픽 + DLT 생성 (KafkaAdmin이 기동 시 없는 토픽만 생성)
+     *
+     * [프로덕션 고려사항]
+     * - 브로커 자동 생성에 의존하지 않도록 파티션 수/보존 기간을 명시해 사전 생성
+     */
+    @Bean
+    @ConditionalOnProperty(prefix = "cdc.sync.retry", name = "enabled", havingValue = "true", matchIfMissing = true)
+    public KafkaAdmin.NewTopics retryTopics() {
+        RetryConfig retry = syncConfig.getRetry();
+        List<NewTopic> topics = new ArrayList<>();
+        for (Long delayMs : retry.getDelaysMs()) {
+            topics.add(TopicBuilder.name(retry.tierTopic(delayMs)).partitions(retry.getPartitions()).build());
+        }
+        topics.add(TopicBuilder.name(retry.getDltTopic()).partitions(retry.getPartitions()).build());
+        return new KafkaAdmin.NewTopics(topics.toArray(NewTopic[]::new));
+    }
+
+    /**
+     * 공통 커밋/에러 처리 설정
+     *
+     * [설계 의도]
+     * - AckMode.MANUAL + Acknowledgment 미사용: 컨테이너는 커밋하지 않고 OffsetCommitManager만 커밋
+     * - 유휴 이벤트(commit.interval-ms): 레코드가 끊겨도 완료 오프셋이 커밋되도록
+     * - 리밸런스 리스너: 파티션 회수 직전 완료 오프셋 동기 커밋
+     * - 에러 핸들러: 리스너가 던진 예외(일시적 DB 장애)는 같은 레코드를 지수 백오프로 무기한 재처리
+     *   (완료로 기록되지 않은 레코드는 커밋되지 않음)
+     */
+    private void configureCommits(ConcurrentKafkaListenerContainerFactory<String, byte[]> factory) {
+        ContainerProperties containerProperties = factory.getContainerProperties();
+        containerProperties.setAckMode(ContainerProperties.AckMode.MANUAL);
+        containerProperties.setIdleEventInterval(syncConfig.getCommit().getIntervalMs());
+        containerProperties.setConsumerRebalanceListener(commitManager);
+
+        ExponentialBackOff backOff = new ExponentialBackOff(1000L, 2.0);
+        backOff.setMaxInterval(30000L);
+        factory.setCommonErrorHandler(new DefaultErrorHandler(backOff));
+    }
+
+    /**
+     * Consumer 스레드 실행 방식 설정
+     *
+     * [설계 의도]
+     * - 동기화 경로의 시간은 대부분 JDBC 블로킹(커넥션 대기, executeUpdate)
+     * - virtual-threads=true: 컨테이너 Consumer 스레드를 가상 스레드로 생성
+     *   → 리스너 처리와 CdcSyncService의 JDBC 호출이 가상 스레드에서 실행, 블로킹 중 캐리어 반납
+     * - false(기본): 기존과 같은 플랫폼 스레드 (컨테이너 기본 실행기)
+     *
+     * [프로덕션 고려사항]
+     * - 가상 스레드는 동시 처리 수를 늘리지 않음 (파티션/concurrency/워커 수가 상한, 풀 크기와 함께 조정)
+     * - synchronized 안의 블로킹은 캐리어를 고정(pinning) → 핫패스는 ReentrantLock 사용
+     */
+    private void configureExecution(ConcurrentKafkaListenerContainerFactory<String, byte[]> factory) {
+        if (!syncConfig.getExecution().isVirtualThreads()) {
+            return;
+        }
+        SimpleAsyncTaskExecutor executor = new SimpleAsyncTaskExecutor("cdc-consumer-");
+        executor.setVirtualThreads(true);
+        factory.getContainerProperties().setListenerTaskExecutor(executor);
+    }
 }
@@ -0,0 +1,56 @@
+package com.cdc.sync.config;
+
+import com.cdc.sync.config.CdcSimulatorConfig.SyncDirection;
+import io.micrometer.core.instrument.Meter;
+import io.micrometer.core.instrument.Tag;
+import io.micrometer.core.instrument.config.MeterFilter;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.Map;
+
+/**
+ * Micrometer MeterFilter 설정 (레지스트리 생성 시 자동 적용)
+ *
+ * [설계 의도]
+ * - Hikari 지표(hikaricp.*)는 pool 태그만 있음 → 풀 이름으로 동기화 방향 태그 추가
+ *   (ASIS 풀에 쓰는 방향 = TOBE_TO_ASIS, TOBE 풀에 쓰는 방향 = ASIS_TO_TOBE)
+ * - cdc.sync.* 지표의 table 태그 값 수 상한 → 넘는 Meter는 등록하지 않음 (시계열 폭증 방지)
+ *
+ * 히스토그램 버킷은 application.yml management.metrics.distribution.slo 참고
+ */
+@Configuration
+public class MeterFilterConfig {
+
+    /**
+     * hikaricp.* 지표에 direction 태그 추가
+     */
+    @Bean
+    public MeterFilter poolDirectionTag(@Value("${asis.datasource.pool-name:ASIS-Pool}") String asisPoolName,
+                                        @Value("${tobe.datasource.pool-name:TOBE-Pool}") String tobePoolName) {
+        Map<String, SyncDirection> directions = Map.of(
+                asisPoolName, SyncDirection.TOBE_TO_ASIS,
+                tobePoolName, SyncDirection.ASIS_TO_TOBE);
+        return new MeterFilter() {
+            @Override
+            public Meter.Id map(Meter.Id id) {
+                if (!id.getName().startsWith("hikaricp.")) {
+                    return id;
+                }
+                String pool = id.getTag("pool");
+                SyncDirection direction = pool != null ? directions.get(pool) : null;
+                return direction != null ? id.withTag(Tag.of("direction", direction.name())) : id;
+            }
+        };
+    }
+
+    /**
+     * cdc.sync.* 지표의 table 태그 값 상한 (cdc.sync.metrics.max-tables)
+     */
+    @Bean
+    public MeterFilter syncTableCardinalityLimit(CdcSyncConfig syncConfig) {
+        return MeterFilter.maximumAllowableTags("cdc.sync", "table", syncConfig.getMetrics().getMaxTables(),
+                MeterFilter.deny());
+    }
+}
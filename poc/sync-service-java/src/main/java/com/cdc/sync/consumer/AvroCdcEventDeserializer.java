@@ -0,0 +1,220 @@
+package com.cdc.sync.consumer;
+
+import com.cdc.sync.domain.CdcEvent;
+import com.cdc.sync.domain.RowSchema;
+import com.cdc.sync.service.ValueConverter;
+import org.apache.avro.LogicalTypes;
+import org.apache.avro.Schema;
+import org.apache.avro.generic.GenericData;
+import org.apache.avro.generic.GenericDatumReader;
+import org.apache.avro.generic.GenericRecord;
+import org.apache.avro.io.BinaryDecoder;
+import org.apache.avro.io.DecoderFactory;
+import org.apache.kafka.common.errors.SerializationException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Debezium Avro 메시지 역직렬화 (AvroConverter 출력)
+ *
+ * [메시지 구조: Confluent wire format]
+ * | magic(0x00) | schemaId(4 bytes, big-endian) | Avro binary (Envelope) |
+ *
+ * [설계 의도]
+ * - writer 스키마는 LocalSchemaRegistry에서 ID로 조회 (외부 Schema Registry 불필요)
+ * - 스키마 ID별 GenericDatumReader 캐싱 (resolver는 Avro 내부에서 스레드별 캐싱)
+ * - Envelope(before/after/source/op/ts_ms) → CdcEvent 변환
+ *
+ * [값 변환]
+ * - string/enum(Utf8) → String
+ * - io.debezium.data.VariableScaleDecimal, decimal 논리 타입 → Long(scale 0) 또는 BigDecimal
+ * - 그 외 int/long/boolean 등은 그대로 (timestamp 계열은 long 그대로 전달)
+ * - 스키마 ID별 RowSchema 캐싱: 필드의 connect.name(시간 논리 타입)으로 INSERT 시 변환기 결정
+ *   (decimal은 여기서 이미 숫자로 변환하므로 RowSchema에는 시간 타입만 기록)
+ */
+@Component
+public class AvroCdcEventDeserializer implements CdcEventDeserializer {
+
+    private static final Logger log = LoggerFactory.getLogger(AvroCdcEventDeserializer.class);
+
+    private static final byte MAGIC_BYTE = 0x0;
+    private static final int HEADER_SIZE = 5;
+    private static final String VARIABLE_SCALE_DECIMAL = "io.debezium.data.VariableScaleDecimal";
+
+    private final LocalSchemaRegistry schemaRegistry;
+    private final Map<Integer, GenericDatumReader<GenericRecord>> readers = new ConcurrentHashMap<>();
+    private final Map<Integer, RowSchema> rowSchemas = new ConcurrentHashMap<>();
+
+    public AvroCdcEventDeserializer(LocalSchemaRegistry schemaRegistry) {
+        this.schemaRegistry = schemaRegistry;
+    }
+
+    @Override
+    public String format() {
+        return "avro";
+    }
+
+    @Override
+    public CdcEvent deserialize(String topic, byte[] data) {
+        if (data == null || data.length == 0) {
+            return null;
+        }
+
+        if (data.length < HEADER_SIZE || data[0] != MAGIC_BYTE) {
+            throw new SerializationException("Failed to parse Avro message from " + topic + ": unknown magic byte");
+        }
+
+        try {
+            int schemaId = ByteBuffer.wrap(data, 1, 4).getInt();
+            GenericDatumReader<GenericRecord> reader = readers.computeIfAbsent(schemaId,
+                    id -> new GenericDatumReader<>(schemaRegistry.getById(id)));
+
+            BinaryDecoder decoder = DecoderFactory.get()
+                    .binaryDecoder(data, HEADER_SIZE, data.length - HEADER_SIZE, null);
+            GenericRecord envelope = reader.read(null, decoder);
+
+            CdcEvent event = new CdcEvent();
+            event.setOperation(CdcEvent.convertOperation(asString(envelope.get("op"))));
+            event.setBefore(toMap(envelope, "before"));
+            event.setAfter(toMap(envelope, "after"));
+            event.setSource(toMap(envelope, "source"));
+            event.setSchema(rowSchemas.computeIfAbsent(schemaId, id -> rowSchema(id, envelope.getSchema())));
+
+            Object tsMs = envelope.get("ts_ms");
+            event.setSourceTimestamp(CdcEvent.convertTimestamp(tsMs instanceof Long ? (Long) tsMs : null));
+
+            log.debug("Parsed Avro CDC event: {}", event);
+            return event;
+
+        } catch (IOException | RuntimeException e) {
+            // 알 수 없는 스키마 ID, 디코딩 실패 → 호출자가 재시도 단계(최종 DLT)로 이동
+            throw new SerializationException("Failed to parse Avro message from " + topic + ": " + e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Envelope 스키마 → RowSchema (after 레코드의 필드별 시간 논리 타입)
+     */
+    private static RowSchema rowSchema(int schemaId, Schema envelopeSchema) {
+        Schema.Field rowField = envelopeSchema.getField("after");
+        if (rowField == null) {
+            rowField = envelopeSchema.getField("before");
+        }
+        Schema row = rowField != null ? nonNull(rowField.schema()) : null;
+        if (row == null || row.getType() != Schema.Type.RECORD) {
+            return RowSchema.UNKNOWN;
+        }
+
+        Map<String, RowSchema.Field> fields = new LinkedHashMap<>();
+        for (Schema.Field field : row.getFields()) {
+            String connectName = nonNull(field.schema()).getProp("connect.name");
+            boolean temporal = connectName != null && (connectName.startsWith("io.debezium.time.")
+                    || connectName.equals("org.apache.kafka.connect.data.Timestamp")
+                    || connectName.equals("org.apache.kafka.connect.data.Date"));
+            fields.put(field.name(), new RowSchema.Field(field.name(), temporal ? connectName : null, 0));
+        }
+        return new RowSchema(row.getFullName() + "@" + schemaId, fields);
+    }
+
+    /**
+     * ["null", T] 유니온이면 T
+     */
+    private static Schema nonNull(Schema schema) {
+        if (schema.getType() != Schema.Type.UNION) {
+            return schema;
+        }
+        for (Schema type : schema.getTypes()) {
+            if (type.getType() != Schema.Type.NULL) {
+                return type;
+            }
+        }
+        return schema;
+    }
+
+    /**
+     * Envelope 필드(레코드) → Map
+     */
+    private Map<String, Object> toMap(GenericRecord envelope, String field) {
+        if (envelope.getSchema().getField(field) == null) {
+            return null;
+        }
+        Object value = envelope.get(field);
+        return value instanceof GenericRecord record ? recordToMap(record) : null;
+    }
+
+    private Map<String, Object> recordToMap(GenericRecord record) {
+        Map<String, Object> map = new LinkedHashMap<>();
+        for (Schema.Field field : record.getSchema().getFields()) {
+            map.put(field.name(), convert(record.get(field.pos()), field.schema()));
+        }
+        return map;
+    }
+
+    /**
+     * Avro 값 → Java 값 (스키마 기준)
+     */
+    private Object convert(Object value, Schema schema) {
+        if (value == null) {
+            return null;
+        }
+
+        return switch (schema.getType()) {
+            case UNION -> convert(value, schema.getTypes().get(GenericData.get().resolveUnion(schema, value)));
+            case RECORD -> {
+                GenericRecord record = (GenericRecord) value;
+                if (VARIABLE_SCALE_DECIMAL.equals(schema.getFullName())) {
+                    yield toNumber(toBytes(record.get("value")), (Integer) record.get("scale"));
+                }
+                yield recordToMap(record);
+            }
+            case BYTES, FIXED -> {
+                byte[] bytes = value instanceof GenericData.Fixed fixed ? fixed.bytes() : toBytes(value);
+                if (schema.getLogicalType() instanceof LogicalTypes.Decimal decimal) {
+                    yield toNumber(bytes, decimal.getScale());
+                }
+                yield bytes;
+            }
+            case STRING, ENUM -> value.toString();
+            case ARRAY -> {
+                List<Object> list = new ArrayList<>();
+                for (Object item : (List<?>) value) {
+                    list.add(convert(item, schema.getElementType()));
+                }
+                yield list;
+            }
+            case MAP -> {
+                Map<String, Object> map = new LinkedHashMap<>();
+                ((Map<?, ?>) value).forEach((k, v) -> map.put(k.toString(), convert(v, schema.getValueType())));
+                yield map;
+            }
+            default -> value;
+        };
+    }
+
+    /**
+     * 2의 보수 big-endian 바이트 → Long(scale 0) 또는 BigDecimal (8바이트 이하는 BigInteger 없이)
+     */
+    private static Object toNumber(byte[] bytes, int scale) {
+        return ValueConverter.toNumber(bytes, scale);
+    }
+
+    private static byte[] toBytes(Object value) {
+        ByteBuffer buffer = ((ByteBuffer) value).duplicate();
+        byte[] bytes = new byte[buffer.remaining()];
+        buffer.get(bytes);
+        return bytes;
+    }
+
+    private static String asString(Object value) {
+        return value != null ? value.toString() : null;
+    }
+}
@@ -0,0 +1,244 @@
+package com.cdc.sync.consumer;
+
+import com.cdc.sync.consumer.TopicRouter.Route;
+import com.cdc.sync.domain.CdcEvent;
+import com.cdc.sync.service.CdcMonitoringService;
+import com.cdc.sync.service.CdcSyncService;
+import com.cdc.sync.service.CdcSyncService.BatchEntry;
+import com.cdc.sync.service.CdcSyncService.BatchFailure;
+import org.apache.kafka.clients.consumer.Consumer;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.common.TopicPartition;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * CDC Kafka 배치 Consumer (poll 단위 처리)
+ *
+ * [설계 의도]
+ * - 대량 배치 작업 시 레코드마다 Oracle 왕복이 발생하는 문제 해결
+ * - poll 1회 분량(List<ConsumerRecord>)을 대상 CDC 테이블별로 묶어 JDBC batch 1회로 INSERT
+ * - cdc.sync.batch.enabled=true 일 때만 활성화 (기본은 단건 CdcKafkaConsumer)
+ *
+ * [처리 흐름]
+ * 1. poll 결과 수신 (최대 MAX_POLL_RECORDS_CONFIG건)
+ * 2. 레코드별 TopicRouter 조회 + 파싱 → 대상 CDC 테이블별 그룹핑 (수신 순서 유지)
+ *    (매핑에 coalesce=true인 테이블은 같은 PK 변경을 순 변경 1건으로 병합, ChangeCoalescer)
+ * 3. 그룹별 CdcSyncService.syncBatch*() 호출
+ *    (스냅샷 op=r 행은 수신 순서를 지키며 대량 적재 구간으로 분리, 스냅샷 중에는 poll 크기를 snapshot.max-poll-records까지)
+ * 4. 성공/실패는 이벤트별로, 처리량(rows/sec)은 배치별로 모니터링에 기록
+ * 5. 실패 건(파싱 오류, 데이터 오류)은 원본 레코드를 재시도 단계 토픽으로 이동 (CdcRetryPublisher)
+ * 6. 전체 그룹 처리 후 poll 분량을 완료 기록 → OffsetCommitManager가 묶어서 비동기 커밋
+ *    (일시적 DB 장애는 예외 전파 → 에러 핸들러가 배치 재처리, 완료 기록 없음)
+ *
+ * [재처리 중복 방지]
+ * - 대상 DB가 방향별로 달라 poll 전체를 한 트랜잭션으로 묶을 수 없음
+ *   → 일시적 DB 장애로 예외를 던지기 전에 이미 끝난 레코드(INSERT 커밋, 재시도 단계 발행)를 스레드별로 기록
+ * - 에러 핸들러가 같은 poll을 다시 전달하면 기록된 레코드는 건너뜀 (중복 INSERT/성공 집계 방지)
+ * - poll이 끝까지 처리되면 그 poll의 기록 삭제
+ * - 리밸런스로 다른 Consumer가 재수신하면 기록이 없으므로 중복 가능 (at-least-once)
+ */
+@Component
+@ConditionalOnProperty(prefix = "cdc.sync.batch", name = "enabled", havingValue = "true")
+public class CdcBatchKafkaConsumer {
+
+    private static final Logger log = LoggerFactory.getLogger(CdcBatchKafkaConsumer.class);
+
+    private final CdcSyncService syncService;
+    private final CdcEventDeserializers deserializers;
+    private final TopicRouter topicRouter;
+    private final OffsetCommitManager commitManager;
+    private final CdcRetryPublisher retryPublisher;
+    private final CdcMonitoringService monitoringService;
+
+    // 재처리될 poll에서 이미 끝난 레코드 (Consumer 스레드별, 파티션 → 오프셋)
+    private final ThreadLocal<Map<TopicPartition, Set<Long>>> finished = ThreadLocal.withInitial(HashMap::new);
+
+    public CdcBatchKafkaConsumer(CdcSyncService syncService, CdcEventDeserializers deserializers,
+                                 TopicRouter topicRouter, OffsetCommitManager commitManager,
+                                 CdcRetryPublisher retryPublisher, CdcMonitoringService monitoringService) {
+        this.syncService = syncService;
+        this.deserializers = deserializers;
+        this.topicRouter = topicRouter;
+        this.commitManager = commitManager;
+        this.retryPublisher = retryPublisher;
+        this.monitoringService = monitoringService;
+    }
+
+    /**
+     * 동기화 대상 토픽 전체 배치 수신 (패턴 구독)
+     */
+    @KafkaListener(
+            topicPattern = "${cdc.sync.topic-pattern}",
+            groupId = "${spring.kafka.consumer.group-id}",
+            containerFactory = "batchKafkaListenerContainerFactory")
+    public void consumeBatch(List<ConsumerRecord<String, byte[]>> records, Consumer<?, ?> consumer) {
+        // 이번 poll에서 끝난 레코드 (INSERT 커밋, 에코 폐기 또는 재시도 단계 발행)
+        List<ConsumerRecord<String, byte[]>> done = new ArrayList<>();
+        try {
+            process(records, done);
+        } catch (RuntimeException e) {
+            // 에러 핸들러가 같은 poll을 다시 전달 → 끝난 레코드는 건너뛰도록 기록
+            Map<TopicPartition, Set<Long>> skip = finished.get();
+            for (ConsumerRecord<String, byte[]> record : done) {
+                skip.computeIfAbsent(partitionOf(record), k -> new HashSet<>()).add(record.offset());
+            }
+            throw e;
+        }
+
+        forget(records);
+        for (ConsumerRecord<String, byte[]> record : records) {
+            commitManager.processed(record);
+        }
+        commitManager.maybeCommit(consumer);
+    }
+
+    private void process(List<ConsumerRecord<String, byte[]>> records, List<ConsumerRecord<String, byte[]>> done) {
+        // 라우팅 정보(방향 + 대상 테이블)별 그룹 (수신 순서 유지)
+        Map<Route, List<Received>> groups = new LinkedHashMap<>();
+
+        int skipped = 0;
+        for (ConsumerRecord<String, byte[]> record : records) {
+            if (isFinished(record)) {
+                skipped++;
+                continue;
+            }
+            String topic = record.topic();
+            Route route = topicRouter.route(topic);
+            if (route == null) {
+                continue;
+            }
+
+            try {
+                CdcEvent event = deserializers.deserialize(route, record.value());
+                if (event != null) {
+                    groups.computeIfAbsent(route, k -> new ArrayList<>()).add(new Received(record, event));
+                }
+            } catch (Exception e) {
+                log.error("Failed to parse event from {}: {}", topic, e.getMessage(), e);
+                retryPublisher.publishFailure(record, e);
+                done.add(record);
+            }
+        }
+
+        if (skipped > 0) {
+            log.info("Skipped {} records already synced before the batch was redelivered", skipped);
+        }
+        log.debug("Received batch: {} records in {} groups", records.size(), groups.size());
+
+        for (Map.Entry<Route, List<Received>> group : groups.entrySet()) {
+            Route route = group.getKey();
+            // INSERT 대상 → 원본 레코드 (실패 시 재시도 단계 발행용, 병합된 경우 여러 건)
+            Map<BatchEntry, List<ConsumerRecord<String, byte[]>>> sources = new IdentityHashMap<>();
+            List<BatchEntry> entries = route.coalesce()
+                    ? coalesce(route, group.getValue(), sources)
+                    : toEntries(group.getValue(), sources);
+
+            List<BatchEntry> inserted = new ArrayList<>();
+            List<BatchFailure> failures;
+            try {
+                failures = switch (route.direction()) {
+                    case ASIS_TO_TOBE -> syncService.syncBatchAsisToTobe(entries, route.targetTable(), inserted);
+                    case TOBE_TO_ASIS -> syncService.syncBatchTobeToAsis(entries, route.targetTable(), inserted);
+                    default -> {
+                        log.warn("Unsupported direction {} for {}", route.direction(), route.targetTable());
+                        yield List.of();
+                    }
+                };
+            } finally {
+                // 예외가 나도 그 전까지 커밋된 INSERT와 폐기한 에코는 끝난 것으로
+                for (BatchEntry entry : inserted) {
+                    done.addAll(sources.get(entry));
+                }
+            }
+            for (BatchFailure failure : failures) {
+                // 병합된 변경이 실패하면 원본 레코드를 순서대로 넘겨 재시도 단계에서 1건씩 반영
+                for (ConsumerRecord<String, byte[]> record : sources.get(failure.entry())) {
+                    retryPublisher.publishFailure(record, failure.error());
+                    done.add(record);
+                }
+            }
+        }
+    }
+
+    private boolean isFinished(ConsumerRecord<String, byte[]> record) {
+        Map<TopicPartition, Set<Long>> skip = finished.get();
+        if (skip.isEmpty()) {
+            return false;
+        }
+        Set<Long> offsets = skip.get(partitionOf(record));
+        return offsets != null && offsets.contains(record.offset());
+    }
+
+    /**
+     * poll을 끝까지 처리한 뒤 그 poll 레코드의 건너뛰기 기록 삭제
+     */
+    private void forget(List<ConsumerRecord<String, byte[]>> records) {
+        Map<TopicPartition, Set<Long>> skip = finished.get();
+        if (skip.isEmpty()) {
+            return;
+        }
+        for (ConsumerRecord<String, byte[]> record : records) {
+            TopicPartition partition = partitionOf(record);
+            Set<Long> offsets = skip.get(partition);
+            if (offsets != null && offsets.remove(record.offset()) && offsets.isEmpty()) {
+                skip.remove(partition);
+            }
+        }
+    }
+
+    private static TopicPartition partitionOf(ConsumerRecord<?, ?> record) {
+        return new TopicPartition(record.topic(), record.partition());
+    }
+
+    private List<BatchEntry> toEntries(List<Received> received,
+                                       Map<BatchEntry, List<ConsumerRecord<String, byte[]>>> sources) {
+        List<BatchEntry> entries = new ArrayList<>(received.size());
+        for (Received r : received) {
+            BatchEntry entry = new BatchEntry(r.record().topic(), r.event());
+            entries.add(entry);
+            sources.put(entry, List.of(r.record()));
+        }
+        return entries;
+    }
+
+    /**
+     * 같은 PK(Debezium 메시지 키) 변경을 순 변경으로 병합
+     */
+    private List<BatchEntry> coalesce(Route route, List<Received> received,
+                                      Map<BatchEntry, List<ConsumerRecord<String, byte[]>>> sources) {
+        ChangeCoalescer.Result<Received> result =
+                ChangeCoalescer.coalesce(received, r -> r.record().key(), Received::event);
+
+        List<BatchEntry> entries = new ArrayList<>(result.changes().size());
+        for (ChangeCoalescer.Change<Received> change : result.changes()) {
+            BatchEntry entry = new BatchEntry(route.sourceTopic(), change.event());
+            entries.add(entry);
+            sources.put(entry, change.sources().stream().map(Received::record).toList());
+        }
+
+        monitoringService.recordCoalesced(route.targetTable(), result.inputCount(), entries.size());
+        if (entries.size() < result.inputCount()) {
+            log.debug("Coalesced {} events into {} for {} ({} cancelled out)",
+                    result.inputCount(), entries.size(), route.targetTable(), result.dropped().size());
+        }
+        return entries;
+    }
+
+    /**
+     * 역직렬화된 레코드
+     */
+    private record Received(ConsumerRecord<String, byte[]> record, CdcEvent event) {}
+}
@@ -0,0 +1,34 @@
+package com.cdc.sync.consumer;
+
+import com.cdc.sync.domain.CdcEvent;
+
+/**
+ * CDC 이벤트 역직렬화 인터페이스 (레코드 바이트 → CdcEvent)
+ *
+ * [설계 의도]
+ * - 메시지 형식(JSON, Avro 등)을 Consumer와 분리하여 토픽별로 선택
+ * - 구현체는 Spring Bean으로 등록하면 CdcEventDeserializers가 format()으로 찾아 사용
+ * - CHANGE_HASH는 채우지 않음 → CdcSyncService가 INSERT 직전에 생성
+ *   (역직렬화/해시 시간을 따로 측정, 병합으로 버려지는 이벤트는 해시 생략)
+ *
+ * [구현체]
+ * - json: StreamingDebeziumParser (JsonConverter 출력)
+ * - avro: AvroCdcEventDeserializer (AvroConverter 출력, 스키마는 LocalSchemaRegistry)
+ */
+public interface CdcEventDeserializer {
+
+    /**
+     * 형식 이름 (application.yml의 토픽 매핑 format 값과 일치)
+     */
+    String format();
+
+    /**
+     * 레코드 값 역직렬화
+     *
+     * @param topic 원본 Kafka 토픽
+     * @param data 레코드 값 바이트
+     * @return CdcEvent (빈 메시지, tombstone이면 null)
+     * @throws org.apache.kafka.common.errors.SerializationException 파싱 실패 (호출자가 재시도 단계로 이동)
+     */
+    CdcEvent deserialize(String topic, byte[] data);
+}
@@ -0,0 +1,65 @@
+package com.cdc.sync.consumer;
+
+import com.cdc.sync.consumer.TopicRouter.Route;
+import com.cdc.sync.domain.CdcEvent;
+import com.cdc.sync.service.CdcMonitoringService;
+import com.cdc.sync.service.SyncMetrics;
+import org.springframework.stereotype.Component;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 토픽별 역직렬화기 선택 + 형식별 처리량 기록
+ *
+ * [설계 의도]
+ * - 등록된 CdcEventDeserializer Bean을 format() 이름으로 모아 불변 Map 구성
+ * - 토픽 매핑의 format 값으로 역직렬화기 선택 (기동 시 전체 매핑 검증)
+ * - 형식별 이벤트 수/바이트/소요 시간을 모니터링에 기록 → JSON/Avro 비교
+ * - 토픽별 역직렬화 시간은 Micrometer cdc.sync.parse (SyncMetrics)
+ */
+@Component
+public class CdcEventDeserializers {
+
+    private final Map<String, CdcEventDeserializer> deserializers;
+    private final CdcMonitoringService monitoringService;
+    private final SyncMetrics syncMetrics;
+
+    public CdcEventDeserializers(List<CdcEventDeserializer> deserializerBeans, TopicRouter topicRouter,
+                                 CdcMonitoringService monitoringService, SyncMetrics syncMetrics) {
+        Map<String, CdcEventDeserializer> map = new HashMap<>();
+        for (CdcEventDeserializer deserializer : deserializerBeans) {
+            map.put(deserializer.format(), deserializer);
+        }
+        this.deserializers = Map.copyOf(map);
+        this.monitoringService = monitoringService;
+        this.syncMetrics = syncMetrics;
+
+        for (Route route : topicRouter.getRoutes().values()) {
+            if (!deserializers.containsKey(route.format())) {
+                throw new IllegalStateException("Unknown message format '" + route.format()
+                        + "' for topic " + route.sourceTopic() + " (available: " + deserializers.keySet() + ")");
+            }
+        }
+    }
+
+    /**
+     * 토픽 형식에 맞는 역직렬화 실행
+     *
+     * @param route 토픽 라우팅 정보 (format 포함)
+     * @param data 레코드 값 바이트
+     * @return CdcEvent (빈 메시지, tombstone이면 null)
+     * @throws org.apache.kafka.common.errors.SerializationException 파싱 실패
+     */
+    public CdcEvent deserialize(Route route, byte[] data) {
+        long startNanos = System.nanoTime();
+        CdcEvent event = deserializers.get(route.format()).deserialize(route.sourceTopic(), data);
+        if (data != null) {
+            long elapsedNanos = System.nanoTime() - startNanos;
+            monitoringService.recordDeserialized(route.format(), data.length, elapsedNanos);
+            syncMetrics.recordParse(route.sourceTopic(), elapsedNanos);
+        }
+        return event;
+    }
+}
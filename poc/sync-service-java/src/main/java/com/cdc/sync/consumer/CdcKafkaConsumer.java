@@ -1,18 +1,17 @@
 package com.cdc.sync.consumer;
 
+import com.cdc.sync.consumer.TopicRouter.Route;
 import com.cdc.sync.domain.CdcEvent;
 import com.cdc.sync.service.CdcSyncService;
-import com.fasterxml.jackson.core.JsonProcessingException;
-import com.fasterxml.jackson.core.type.TypeReference;
-import com.fasterxml.jackson.databind.ObjectMapper;
+import org.apache.kafka.clients.consumer.Consumer;
 import org.apache.kafka.clients.consumer.ConsumerRecord;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.kafka.annotation.KafkaListener;
 import org.springframework.stereotype.Component;
 
-import java.util.Map;
-
 /**
  * CDC Kafka Consumer (메시지 수신 레이어)
  *
@@ -22,197 +21,102 @@ import java.util.Map;
  * - @KafkaListener: Spring Kafka의 선언적 리스너
  *
  * [구독 토픽]
- * - ASIS 토픽: asis.ASIS_USER.* (BOOK_INFO, MEMBER_INFO, LEGACY_CODE)
- * - TOBE 토픽: tobe.TOBE_USER.* (TB_BOOK, TB_MEMBER, TB_NEW_SERVICE)
+ * - 패턴 구독 1개: cdc.sync.topic-pattern (기본: asis.ASIS_USER.* | tobe.TOBE_USER.*)
+ * - 토픽 → (방향, 대상 CDC 테이블)은 TopicRouter가 application.yml 매핑으로 결정
+ * - 테이블이 늘어도 리스너 컨테이너는 1개, 스레드 수는 cdc.sync.listener.concurrency
  *
  * [처리 흐름]
  * 1. Kafka 메시지 수신
- * 2. JSON 파싱 → CdcEvent 변환
- * 3. 토픽에 따라 CdcSyncService 호출
+ * 2. 토픽 형식(json/avro)에 맞는 역직렬화 → CdcEvent 변환
+ * 3. TopicRouter로 방향/대상 테이블 결정 후 CdcSyncService 호출
  * 4. Service가 상대 DB CDC 테이블에 INSERT
+ * 5. 처리 완료 기록 → OffsetCommitManager가 묶어서 비동기 커밋
+ *    (일시적 DB 장애는 예외 전파 → 에러 핸들러가 같은 레코드를 재수신, 완료 기록 없음)
+ *    (데이터 오류는 CdcRetryPublisher가 재시도 단계 토픽으로 이동 → 파티션 진행이 막히지 않음)
+ *
+ * [그룹 커밋] (cdc.sync.group-commit.enabled=true)
+ * - 4에서 자동 커밋 대신 GroupCommitCoordinator의 열린 트랜잭션에 INSERT
+ * - 5의 완료 기록은 그룹 커밋 성공 후 (INSERT 대상이 아닌 레코드는 바로 완료)
  *
  * [프로덕션 고려사항]
- * - 에러 처리: Dead Letter Queue 적용
- * - 재시도: @Retryable 또는 Kafka RetryTemplate
- * - 배치 처리: @KafkaListener(batch = true)
- * - 동적 토픽: 토픽 패턴 매칭 또는 동적 등록
+ * - 배치 처리: cdc.sync.batch.enabled=true 시 CdcBatchKafkaConsumer가 대신 동작
+ * - 키 순서 병렬: cdc.sync.parallel.enabled=true 시 CdcKeyOrderedKafkaConsumer가 대신 동작
  */
 @Component
+@ConditionalOnProperty(prefix = "cdc.sync", name = {"batch.enabled", "parallel.enabled"},
+        havingValue = "false", matchIfMissing = true)
 public class CdcKafkaConsumer {
 
     private static final Logger log = LoggerFactory.getLogger(CdcKafkaConsumer.class);
 
     private final CdcSyncService syncService;
-    private final ObjectMapper objectMapper;
-
-    public CdcKafkaConsumer(CdcSyncService syncService) {
+    private final CdcEventDeserializers deserializers;
+    private final TopicRouter topicRouter;
+    private final OffsetCommitManager commitManager;
+    private final CdcRetryPublisher retryPublisher;
+    private final GroupCommitCoordinator groupCommit;
+
+    public CdcKafkaConsumer(CdcSyncService syncService, CdcEventDeserializers deserializers,
+                            TopicRouter topicRouter, OffsetCommitManager commitManager,
+                            CdcRetryPublisher retryPublisher, ObjectProvider<GroupCommitCoordinator> groupCommit) {
         this.syncService = syncService;
-        this.objectMapper = new ObjectMapper();
-    }
-
-    // ===========================================
-    // ASIS -> TOBE 동기화 리스너
-    // ===========================================
-
-    /**
-     * ASIS BOOK_INFO 테이블 변경 이벤트 처리
-     */
-    @KafkaListener(topics = "asis.ASIS_USER.BOOK_INFO", groupId = "cdc-sync-service")
-    public void consumeAsisBookInfo(ConsumerRecord<String, String> record) {
-        processAsisEvent(record, "CDC_TOBE_BOOK");
-    }
-
-    /**
-     * ASIS MEMBER_INFO 테이블 변경 이벤트 처리
-     */
-    @KafkaListener(topics = "asis.ASIS_USER.MEMBER_INFO", groupId = "cdc-sync-service")
-    public void consumeAsisMemberInfo(ConsumerRecord<String, String> record) {
-        processAsisEvent(record, "CDC_TOBE_MEMBER");
-    }
-
-    /**
-     * ASIS LEGACY_CODE 테이블 변경 이벤트 처리
-     */
-    @KafkaListener(topics = "asis.ASIS_USER.LEGACY_CODE", groupId = "cdc-sync-service")
-    public void consumeAsisLegacyCode(ConsumerRecord<String, String> record) {
-        processAsisEvent(record, "CDC_TOBE_LEGACY_CODE");
-    }
-
-    // ===========================================
-    // TOBE -> ASIS 동기화 리스너
-    // ===========================================
-
-    /**
-     * TOBE TB_BOOK 테이블 변경 이벤트 처리
-     */
-    @KafkaListener(topics = "tobe.TOBE_USER.TB_BOOK", groupId = "cdc-sync-service")
-    public void consumeTobeBook(ConsumerRecord<String, String> record) {
-        processTobeEvent(record, "CDC_ASIS_BOOK");
+        this.deserializers = deserializers;
+        this.topicRouter = topicRouter;
+        this.commitManager = commitManager;
+        this.retryPublisher = retryPublisher;
+        this.groupCommit = groupCommit.getIfAvailable();
     }
 
     /**
-     * TOBE TB_MEMBER 테이블 변경 이벤트 처리
+     * 동기화 대상 토픽 전체 수신 (패턴 구독)
      */
-    @KafkaListener(topics = "tobe.TOBE_USER.TB_MEMBER", groupId = "cdc-sync-service")
-    public void consumeTobeMember(ConsumerRecord<String, String> record) {
-        processTobeEvent(record, "CDC_ASIS_MEMBER");
-    }
-
-    /**
-     * TOBE TB_NEW_SERVICE 테이블 변경 이벤트 처리
-     */
-    @KafkaListener(topics = "tobe.TOBE_USER.TB_NEW_SERVICE", groupId = "cdc-sync-service")
-    public void consumeTobeNewService(ConsumerRecord<String, String> record) {
-        processTobeEvent(record, "CDC_ASIS_NEW_SERVICE");
-    }
-
-    // ===========================================
-    // 내부 처리 메서드
-    // ===========================================
-
-    /**
-     * ASIS 이벤트 처리 (→ TOBE DB로 전송)
-     */
-    private void processAsisEvent(ConsumerRecord<String, String> record, String targetTable) {
-        String topic = record.topic();
-        try {
-            CdcEvent event = parseDebeziumMessage(record.value());
-            if (event != null) {
-                syncService.syncAsisToTobe(event, targetTable, topic);
-            }
-        } catch (Exception e) {
-            log.error("Failed to process ASIS event for {}: {}", targetTable, e.getMessage(), e);
+    @KafkaListener(topicPattern = "${cdc.sync.topic-pattern}", groupId = "${spring.kafka.consumer.group-id}")
+    public void consume(ConsumerRecord<String, byte[]> record, Consumer<?, ?> consumer) {
+        // 그룹 재반영 포기로 seek한 파티션: seek 전에 받은 레코드는 다시 수신되므로 건너뜀
+        if (groupCommit != null && groupCommit.skipRewound(record)) {
+            return;
         }
-    }
+        Route route = topicRouter.route(record.topic());
+        boolean pending = route != null && process(route, record);
 
-    /**
-     * TOBE 이벤트 처리 (→ ASIS DB로 전송)
-     */
-    private void processTobeEvent(ConsumerRecord<String, String> record, String targetTable) {
-        String topic = record.topic();
-        try {
-            CdcEvent event = parseDebeziumMessage(record.value());
-            if (event != null) {
-                syncService.syncTobeToAsis(event, targetTable, topic);
-            }
-        } catch (Exception e) {
-            log.error("Failed to process TOBE event for {}: {}", targetTable, e.getMessage(), e);
+        // 그룹에 들어간 레코드는 그룹 커밋 후 완료 기록
+        if (!pending) {
+            commitManager.processed(record);
         }
+        if (groupCommit != null) {
+            groupCommit.flushIfDue(consumer);
+        }
+        commitManager.maybeCommit(consumer);
     }
 
     /**
-     * Debezium 메시지 파싱
-     *
-     * [Debezium JSON 구조]
-     * {
-     *   "schema": { ... },
-     *   "payload": {
-     *     "before": { ... },
-     *     "after": { ... },
-     *     "source": { ... },
-     *     "op": "c|u|d|r",
-     *     "ts_ms": 1234567890123
-     *   }
-     * }
+     * 레코드 1건 처리 (일시적 DB 장애만 예외 전파, 그 외 실패는 재시도 단계로 이동)
      *
-     * @param message JSON 문자열
-     * @return CdcEvent 객체
+     * @return true면 그룹 커밋 대기 중 (완료 기록은 GroupCommitCoordinator)
      */
-    private CdcEvent parseDebeziumMessage(String message) {
-        if (message == null || message.isEmpty()) {
-            return null;
-        }
-
+    private boolean process(Route route, ConsumerRecord<String, byte[]> record) {
         try {
-            Map<String, Object> json = objectMapper.readValue(
-                    message, new TypeReference<Map<String, Object>>() {});
-
-            // payload 추출 (Debezium envelope 구조)
-            @SuppressWarnings("unchecked")
-            Map<String, Object> payload = json.containsKey("payload")
-                    ? (Map<String, Object>) json.get("payload")
-                    : json;
-
-            CdcEvent event = new CdcEvent();
-
-            // Operation
-            String op = (String) payload.get("op");
-            event.setOperation(CdcEvent.convertOperation(op));
-
-            // Before/After 데이터
-            @SuppressWarnings("unchecked")
-            Map<String, Object> before = (Map<String, Object>) payload.get("before");
-            @SuppressWarnings("unchecked")
-            Map<String, Object> after = (Map<String, Object>) payload.get("after");
-
-            event.setBefore(before);
-            event.setAfter(after);
-
-            // Source 정보
-            @SuppressWarnings("unchecked")
-            Map<String, Object> source = (Map<String, Object>) payload.get("source");
-            event.setSource(source);
-
-            // Timestamp
-            Object tsMs = payload.get("ts_ms");
-            if (tsMs instanceof Number) {
-                event.setSourceTimestamp(CdcEvent.convertTimestamp(((Number) tsMs).longValue()));
-            } else {
-                event.setSourceTimestamp(CdcEvent.convertTimestamp(null));
+            CdcEvent event = deserializers.deserialize(route, record.value());
+            if (event == null) {
+                return false;
             }
-
-            // Hash 생성
-            Map<String, Object> data = event.getData();
-            if (data != null) {
-                event.setChangeHash(CdcSyncService.generateHash(data));
+            if (groupCommit != null) {
+                return groupCommit.add(route, record, event);
             }
 
-            log.debug("Parsed CDC event: {}", event);
-            return event;
-
-        } catch (JsonProcessingException e) {
-            log.error("Failed to parse Debezium message: {}", e.getMessage());
-            return null;
+            switch (route.direction()) {
+                case ASIS_TO_TOBE -> syncService.syncAsisToTobe(event, route.targetTable(), record.topic());
+                case TOBE_TO_ASIS -> syncService.syncTobeToAsis(event, route.targetTable(), record.topic());
+                default -> log.warn("Unsupported direction {} for topic {}", route.direction(), record.topic());
+            }
+            return false;
+        } catch (Exception e) {
+            if (CdcSyncService.isRetryable(e)) {
+                throw e;
+            }
+            // 데이터 오류: 재시도 단계 토픽으로 이동 후 다음 레코드 진행 (발행 실패 시 예외 전파)
+            retryPublisher.publishFailure(record, e);
+            return false;
         }
     }
 }
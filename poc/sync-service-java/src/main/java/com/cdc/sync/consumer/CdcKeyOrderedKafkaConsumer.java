@@ -0,0 +1,164 @@
+package com.cdc.sync.consumer;
+
+import com.cdc.sync.consumer.TopicRouter.Route;
+import com.cdc.sync.domain.CdcEvent;
+import com.cdc.sync.service.CdcSyncService;
+import org.apache.kafka.clients.consumer.Consumer;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.common.TopicPartition;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnExpression;
+import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.kafka.config.KafkaListenerEndpointRegistry;
+import org.springframework.kafka.listener.MessageListenerContainer;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * CDC Kafka 키 순서 병렬 Consumer
+ *
+ * [설계 의도]
+ * - 파티션 1개의 레코드를 원본 PK 해시별 워커로 분산 (KeyOrderedDispatcher)
+ * - 같은 PK는 수신 순서대로, 다른 PK는 병렬로 CDC 테이블에 INSERT
+ * - cdc.sync.parallel.enabled=true 일 때 활성화 (batch.enabled=true가 우선)
+ *
+ * [처리 흐름]
+ * 1. poll 결과 수신 (poll 스레드)
+ * 2. 레코드별 TopicRouter 조회 → 키 해시 워커에 전달
+ * 3. 워커 스레드에서 역직렬화 + CdcSyncService 호출
+ * 4. poll 스레드가 완료된 오프셋까지만 묶어서 commitAsync (OffsetCommitManager)
+ *
+ * [워커 큐 포화]
+ * - 키의 워커 큐가 offer-timeout-ms 동안 가득 차 있으면 그 레코드 오프셋으로 seek + 파티션 pausePartition
+ *   (같은 poll 결과의 이후 레코드도 건너뜀 → resume 후 다시 수신, 오프셋 순서 유지)
+ * - 일시정지 중에도 poll은 계속 → max.poll.interval.ms 초과/리밸런스 없음 (PoolBackpressureManager와 같은 방식)
+ * - resume-check-ms 주기로 해당 워커 큐가 절반 이상 비었으면 resumePartition
+ */
+@Component
+@ConditionalOnExpression("${cdc.sync.parallel.enabled:false} and !${cdc.sync.batch.enabled:false}")
+public class CdcKeyOrderedKafkaConsumer {
+
+    private static final Logger log = LoggerFactory.getLogger(CdcKeyOrderedKafkaConsumer.class);
+
+    private final CdcSyncService syncService;
+    private final CdcEventDeserializers deserializers;
+    private final TopicRouter topicRouter;
+    private final KeyOrderedDispatcher dispatcher;
+    private final OffsetCommitManager commitManager;
+    private final CdcRetryPublisher retryPublisher;
+    private final KafkaListenerEndpointRegistry listenerRegistry;
+
+    // 워커 큐 포화로 일시정지한 파티션 → 막힌 레코드 키
+    private final Map<TopicPartition, LanePause> pausedPartitions = new ConcurrentHashMap<>();
+
+    public CdcKeyOrderedKafkaConsumer(CdcSyncService syncService, CdcEventDeserializers deserializers,
+                                      TopicRouter topicRouter, KeyOrderedDispatcher dispatcher,
+                                      OffsetCommitManager commitManager,
+                                      CdcRetryPublisher retryPublisher,
+                                      KafkaListenerEndpointRegistry listenerRegistry) {
+        this.syncService = syncService;
+        this.deserializers = deserializers;
+        this.topicRouter = topicRouter;
+        this.dispatcher = dispatcher;
+        this.commitManager = commitManager;
+        this.retryPublisher = retryPublisher;
+        this.listenerRegistry = listenerRegistry;
+    }
+
+    /**
+     * 동기화 대상 토픽 전체 수신 (패턴 구독) → 키 해시 워커로 분산
+     */
+    @KafkaListener(
+            topicPattern = "${cdc.sync.topic-pattern}",
+            groupId = "${spring.kafka.consumer.group-id}",
+            containerFactory = "keyOrderedKafkaListenerContainerFactory")
+    public void consume(List<ConsumerRecord<String, byte[]>> records, Consumer<?, ?> consumer) {
+        Set<TopicPartition> blocked = new HashSet<>();
+        for (ConsumerRecord<String, byte[]> record : records) {
+            TopicPartition partition = new TopicPartition(record.topic(), record.partition());
+            if (blocked.contains(partition)) {
+                continue;
+            }
+            Route route = topicRouter.route(record.topic());
+            if (route == null) {
+                commitManager.processed(record);
+                continue;
+            }
+            if (!dispatcher.dispatch(record, () -> process(route, record))) {
+                consumer.seek(partition, record.offset());
+                blocked.add(partition);
+                pause(partition, record.key());
+            }
+        }
+
+        log.debug("Dispatched {} records ({} in flight)", records.size(), commitManager.pendingCount());
+        commitManager.maybeCommit(consumer);
+    }
+
+    /**
+     * 워커 큐에 여유가 생긴 파티션 재개
+     */
+    @Scheduled(fixedDelayString = "${cdc.sync.parallel.resume-check-ms:200}")
+    public void resumeDrainedPartitions() {
+        pausedPartitions.forEach((partition, paused) -> {
+            if (dispatcher.hasCapacity(partition.topic(), paused.key())) {
+                pausedPartitions.remove(partition);
+                paused.container().resumePartition(partition);
+                log.info("Worker queue drained, resuming {}", partition);
+            }
+        });
+    }
+
+    /**
+     * 워커 큐가 가득 찬 파티션 일시정지 (이미 다른 이유로 정지 요청된 파티션은 seek만)
+     */
+    private void pause(TopicPartition partition, String key) {
+        for (MessageListenerContainer container : listenerRegistry.getListenerContainers()) {
+            Collection<TopicPartition> assigned = container.getAssignedPartitions();
+            if (assigned == null || !assigned.contains(partition)) {
+                continue;
+            }
+            if (!container.isPartitionPauseRequested(partition)) {
+                container.pausePartition(partition);
+                pausedPartitions.put(partition, new LanePause(container, key));
+                log.warn("Worker queue full, pausing {}", partition);
+            }
+            return;
+        }
+    }
+
+    /**
+     * 레코드 1건 처리 (워커 스레드)
+     */
+    private void process(Route route, ConsumerRecord<String, byte[]> record) {
+        try {
+            CdcEvent event = deserializers.deserialize(route, record.value());
+            if (event == null) {
+                return;
+            }
+
+            switch (route.direction()) {
+                case ASIS_TO_TOBE -> syncService.syncAsisToTobe(event, route.targetTable(), record.topic());
+                case TOBE_TO_ASIS -> syncService.syncTobeToAsis(event, route.targetTable(), record.topic());
+                default -> log.warn("Unsupported direction {} for topic {}", route.direction(), record.topic());
+            }
+        } catch (Exception e) {
+            // 일시적 DB 장애는 디스패처가 같은 워커에서 재시도
+            if (CdcSyncService.isRetryable(e)) {
+                throw e;
+            }
+            // 데이터 오류: 재시도 단계 토픽으로 이동 (발행 실패 시 디스패처가 재시도)
+            retryPublisher.publishFailure(record, e);
+        }
+    }
+
+    private record LanePause(MessageListenerContainer container, String key) {}
+}
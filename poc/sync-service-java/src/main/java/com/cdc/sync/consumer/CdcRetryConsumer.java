@@ -0,0 +1,178 @@
+package com.cdc.sync.consumer;
+
+import com.cdc.sync.config.CdcSyncConfig;
+import com.cdc.sync.config.CdcSyncConfig.RetryConfig;
+import com.cdc.sync.consumer.TopicRouter.Route;
+import com.cdc.sync.domain.CdcEvent;
+import com.cdc.sync.service.CdcMonitoringService;
+import com.cdc.sync.service.CdcSyncService;
+import org.apache.kafka.clients.consumer.Consumer;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.kafka.config.ConcurrentKafkaListenerContainerFactory;
+import org.springframework.kafka.listener.AcknowledgingConsumerAwareMessageListener;
+import org.springframework.kafka.listener.ConcurrentMessageListenerContainer;
+import org.springframework.kafka.listener.MessageListenerContainer;
+import org.springframework.kafka.support.Acknowledgment;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 재시도 단계 토픽 Consumer (지연 재처리)
+ *
+ * [설계 의도]
+ * - 재시도 단계(지연 시간)마다 리스너 컨테이너 1개, 모든 원본 토픽이 단계 토픽을 공유
+ *   (@RetryableTopic은 원본 토픽별 재시도 토픽을 만들고 패턴 구독 리스너에는 적용 불가)
+ * - 레코드 타임스탬프 + 단계 지연 시간이 지나지 않았으면 nack(남은 시간)
+ *   → 컨테이너가 파티션을 일시정지한 채 poll 유지 (스레드 sleep 없음, 리밸런스 없음)
+ * - 원본 토픽은 헤더(cdc-original-topic)로 라우팅 → 원본 리스너와 같은 역직렬화/INSERT 경로
+ *
+ * [결과 처리]
+ * - 성공: 단계별 recovered + 최초 실패 이후 경과 시간 기록
+ * - 데이터 오류: 다음 단계(마지막 단계면 DLT)로 발행 후 완료 기록
+ * - 일시적 DB 장애: 예외 전파 → 에러 핸들러가 같은 레코드를 백오프 재처리
+ *
+ * [오프셋]
+ * - 원본 리스너와 같은 OffsetCommitManager로 완료분만 묶어서 커밋
+ * - Consumer 그룹은 원본 리스너와 분리 (group-id + "-retry")
+ *   → 단계 컨테이너 시작/정지가 원본 토픽 파티션의 리밸런스를 일으키지 않음
+ */
+@Component
+@ConditionalOnProperty(prefix = "cdc.sync.retry", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class CdcRetryConsumer implements SmartLifecycle {
+
+    private static final Logger log = LoggerFactory.getLogger(CdcRetryConsumer.class);
+
+    private final ConcurrentKafkaListenerContainerFactory<String, byte[]> containerFactory;
+    private final ApplicationEventPublisher eventPublisher;
+    private final CdcSyncService syncService;
+    private final CdcEventDeserializers deserializers;
+    private final TopicRouter topicRouter;
+    private final CdcRetryPublisher retryPublisher;
+    private final OffsetCommitManager commitManager;
+    private final CdcMonitoringService monitoringService;
+    private final RetryConfig config;
+    private final String groupId;
+
+    private final List<ConcurrentMessageListenerContainer<String, byte[]>> containers = new ArrayList<>();
+    private volatile boolean running;
+
+    public CdcRetryConsumer(
+            @Qualifier("kafkaListenerContainerFactory") ConcurrentKafkaListenerContainerFactory<String, byte[]> containerFactory,
+            ApplicationEventPublisher eventPublisher,
+            CdcSyncService syncService,
+            CdcEventDeserializers deserializers,
+            TopicRouter topicRouter,
+            CdcRetryPublisher retryPublisher,
+            OffsetCommitManager commitManager,
+            CdcMonitoringService monitoringService,
+            CdcSyncConfig syncConfig,
+            @Value("${spring.kafka.consumer.group-id}") String groupId) {
+        this.containerFactory = containerFactory;
+        this.eventPublisher = eventPublisher;
+        this.syncService = syncService;
+        this.deserializers = deserializers;
+        this.topicRouter = topicRouter;
+        this.retryPublisher = retryPublisher;
+        this.commitManager = commitManager;
+        this.monitoringService = monitoringService;
+        this.config = syncConfig.getRetry();
+        this.groupId = groupId + "-retry";
+    }
+
+    @Override
+    public synchronized void start() {
+        for (Long delayMs : config.getDelaysMs()) {
+            String topic = config.tierTopic(delayMs);
+            ConcurrentMessageListenerContainer<String, byte[]> container = containerFactory.createContainer(topic);
+            container.setConcurrency(1);
+            container.setBeanName("cdcRetry-" + topic);
+            container.getContainerProperties().setGroupId(groupId);
+            // 유휴 이벤트 → OffsetCommitManager 시간 조건 커밋
+            container.setApplicationEventPublisher(eventPublisher);
+            container.setupMessageListener((AcknowledgingConsumerAwareMessageListener<String, byte[]>)
+                    (record, ack, consumer) -> onRecord(delayMs, record, ack, consumer));
+            container.start();
+            containers.add(container);
+        }
+        running = true;
+        log.info("Retry tiers started: {} -> {}", retryPublisher.getTierTopics(), config.getDltTopic());
+    }
+
+    @Override
+    public synchronized void stop() {
+        containers.forEach(ConcurrentMessageListenerContainer::stop);
+        containers.clear();
+        running = false;
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    /**
+     * 실행 중인 단계 컨테이너 (레지스트리 밖에서 직접 생성 → 백프레셔가 별도로 일시정지)
+     */
+    public synchronized List<MessageListenerContainer> getContainers() {
+        return List.copyOf(containers);
+    }
+
+    /**
+     * 재시도 단계 레코드 1건 처리
+     */
+    private void onRecord(long delayMs, ConsumerRecord<String, byte[]> record,
+                          Acknowledgment ack, Consumer<?, ?> consumer) {
+        long waitMs = record.timestamp() + delayMs - System.currentTimeMillis();
+        if (waitMs > 0) {
+            // 아직 재처리 시각 전: 남은 시간 후 같은 레코드부터 재수신
+            ack.nack(Duration.ofMillis(waitMs));
+            return;
+        }
+
+        String originalTopic = CdcRetryPublisher.originalTopic(record);
+        Route route = topicRouter.route(originalTopic);
+        if (route == null) {
+            log.warn("No route for original topic {} of {}-{}@{}, dropping",
+                    originalTopic, record.topic(), record.partition(), record.offset());
+        } else {
+            process(route, originalTopic, record);
+        }
+
+        commitManager.processed(record);
+        commitManager.maybeCommit(consumer);
+    }
+
+    private void process(Route route, String originalTopic, ConsumerRecord<String, byte[]> record) {
+        try {
+            CdcEvent event = deserializers.deserialize(route, record.value());
+            if (event != null) {
+                switch (route.direction()) {
+                    case ASIS_TO_TOBE -> syncService.syncAsisToTobe(event, route.targetTable(), originalTopic);
+                    case TOBE_TO_ASIS -> syncService.syncTobeToAsis(event, route.targetTable(), originalTopic);
+                    default -> {
+                        log.warn("Unsupported direction {} for topic {}", route.direction(), originalTopic);
+                        return;
+                    }
+                }
+                // 실제로 반영된 경우만 복구로 집계 (tombstone/빈 값 제외)
+                monitoringService.recordRetryRecovered(record.topic(),
+                        System.currentTimeMillis() - CdcRetryPublisher.firstFailedAt(record));
+            }
+        } catch (Exception e) {
+            if (CdcSyncService.isRetryable(e)) {
+                throw e;
+            }
+            retryPublisher.publishFailure(record, e);
+        }
+    }
+}
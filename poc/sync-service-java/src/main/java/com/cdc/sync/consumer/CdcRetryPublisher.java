@@ -0,0 +1,239 @@
+package com.cdc.sync.consumer;
+
+import com.cdc.sync.config.CdcSyncConfig;
+import com.cdc.sync.config.CdcSyncConfig.RetryConfig;
+import com.cdc.sync.service.CdcMonitoringService;
+import org.apache.kafka.clients.consumer.Consumer;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.clients.consumer.ConsumerRecords;
+import org.apache.kafka.clients.consumer.OffsetAndMetadata;
+import org.apache.kafka.clients.producer.ProducerRecord;
+import org.apache.kafka.common.TopicPartition;
+import org.apache.kafka.common.header.Header;
+import org.apache.kafka.common.header.Headers;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.kafka.core.ConsumerFactory;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * 실패 레코드 재시도 토픽/DLT 발행
+ *
+ * [설계 의도]
+ * - 데이터 오류(ORA-00904, 값 초과 등)로 INSERT 실패한 레코드를 원본 파티션에서 빼내 다음 레코드 진행
+ * - 실패 횟수에 따라 지연 단계 토픽(기본 1s → 10s → 60s)으로 이동, 마지막 단계 실패 시 DLT
+ * - 원본 키(PK)/값 바이트는 그대로, 원본 위치/실패 정보는 헤더로 전달
+ * - 발행이 브로커에 확정된 뒤에만 호출자가 원본 레코드를 완료로 기록 (유실 없음)
+ *
+ * [헤더]
+ * - cdc-original-topic / partition / offset: 원본 위치 (재처리 시 라우팅 기준)
+ * - cdc-attempt: 실패 횟수 (1 = 원본 처리 실패 후 첫 단계)
+ * - cdc-first-failed-at: 최초 실패 시각 (epoch ms, 단계별 age 계산용)
+ * - cdc-error: 마지막 실패 메시지
+ *
+ * [DLT 재주입]
+ * - replayDeadLetters(): 전용 Consumer Group으로 DLT를 읽어 첫 재시도 단계로 다시 발행
+ * - 재주입한 위치까지 커밋 → 같은 레코드를 두 번 재주입하지 않음
+ */
+@Component
+public class CdcRetryPublisher {
+
+    private static final Logger log = LoggerFactory.getLogger(CdcRetryPublisher.class);
+
+    public static final String HEADER_ORIGINAL_TOPIC = "cdc-original-topic";
+    public static final String HEADER_ORIGINAL_PARTITION = "cdc-original-partition";
+    public static final String HEADER_ORIGINAL_OFFSET = "cdc-original-offset";
+    public static final String HEADER_ATTEMPT = "cdc-attempt";
+    public static final String HEADER_FIRST_FAILED_AT = "cdc-first-failed-at";
+    public static final String HEADER_ERROR = "cdc-error";
+
+    private static final int MAX_ERROR_LENGTH = 500;
+
+    private final KafkaTemplate<String, byte[]> kafkaTemplate;
+    private final ConsumerFactory<String, byte[]> consumerFactory;
+    private final CdcMonitoringService monitoringService;
+    private final RetryConfig config;
+    private final List<String> tierTopics;
+    private final String replayGroupId;
+
+    public CdcRetryPublisher(@Qualifier("retryKafkaTemplate") KafkaTemplate<String, byte[]> kafkaTemplate,
+                             ConsumerFactory<String, byte[]> consumerFactory,
+                             CdcMonitoringService monitoringService,
+                             CdcSyncConfig syncConfig,
+                             @Value("${spring.kafka.consumer.group-id}") String groupId) {
+        this.kafkaTemplate = kafkaTemplate;
+        this.consumerFactory = consumerFactory;
+        this.monitoringService = monitoringService;
+        this.config = syncConfig.getRetry();
+        this.tierTopics = config.getDelaysMs().stream().map(config::tierTopic).toList();
+        this.replayGroupId = groupId + "-dlt-replay";
+    }
+
+    /**
+     * 재시도 단계 토픽 목록 (지연 시간 순)
+     */
+    public List<String> getTierTopics() {
+        return tierTopics;
+    }
+
+    /**
+     * 실패 레코드를 다음 재시도 단계(또는 DLT)로 발행
+     *
+     * @param record 실패한 레코드 (원본 토픽 또는 재시도 단계 토픽)
+     * @param error 실패 원인
+     * @throws IllegalStateException 발행 실패 (호출자는 원본 레코드를 완료로 기록하지 않아야 함)
+     */
+    public void publishFailure(ConsumerRecord<String, byte[]> record, Exception error) {
+        if (!config.isEnabled()) {
+            return;
+        }
+
+        int attempt = intHeader(record.headers(), HEADER_ATTEMPT, 0) + 1;
+        String target = attempt <= tierTopics.size() ? tierTopics.get(attempt - 1) : config.getDltTopic();
+        long firstFailedAt = longHeader(record.headers(), HEADER_FIRST_FAILED_AT, System.currentTimeMillis());
+
+        ProducerRecord<String, byte[]> out = new ProducerRecord<>(target, null, record.key(), record.value());
+        Headers headers = out.headers();
+        headers.add(HEADER_ORIGINAL_TOPIC, bytes(stringHeader(record.headers(), HEADER_ORIGINAL_TOPIC, record.topic())));
+        headers.add(HEADER_ORIGINAL_PARTITION, bytes(stringHeader(record.headers(), HEADER_ORIGINAL_PARTITION,
+                String.valueOf(record.partition()))));
+        headers.add(HEADER_ORIGINAL_OFFSET, bytes(stringHeader(record.headers(), HEADER_ORIGINAL_OFFSET,
+                String.valueOf(record.offset()))));
+        headers.add(HEADER_ATTEMPT, bytes(String.valueOf(attempt)));
+        headers.add(HEADER_FIRST_FAILED_AT, bytes(String.valueOf(firstFailedAt)));
+        headers.add(HEADER_ERROR, bytes(truncate(error.getMessage())));
+
+        send(out);
+        monitoringService.recordRetryPublished(target, System.currentTimeMillis() - firstFailedAt);
+        log.warn("Moved {}-{}@{} to {} (attempt {}): {}",
+                record.topic(), record.partition(), record.offset(), target, attempt, error.getMessage());
+    }
+
+    /**
+     * DLT 레코드를 첫 재시도 단계로 재주입
+     *
+     * @param maxRecords 최대 재주입 건수
+     * @return 재주입 건수
+     */
+    public int replayDeadLetters(int maxRecords) {
+        if (tierTopics.isEmpty()) {
+            throw new IllegalStateException("No retry tiers configured");
+        }
+
+        int replayed = 0;
+        try (Consumer<String, byte[]> consumer = consumerFactory.createConsumer(replayGroupId, "-dlt-replay")) {
+            List<TopicPartition> partitions = consumer.partitionsFor(config.getDltTopic()).stream()
+                    .map(info -> new TopicPartition(info.topic(), info.partition()))
+                    .toList();
+            consumer.assign(partitions);
+            Map<TopicPartition, Long> endOffsets = consumer.endOffsets(partitions);
+
+            while (replayed < maxRecords && !reachedEnd(consumer, endOffsets)) {
+                ConsumerRecords<String, byte[]> records = consumer.poll(Duration.ofMillis(500));
+                Map<TopicPartition, OffsetAndMetadata> offsets = new HashMap<>();
+
+                for (ConsumerRecord<String, byte[]> record : records) {
+                    if (replayed >= maxRecords) {
+                        break;
+                    }
+                    ProducerRecord<String, byte[]> out =
+                            new ProducerRecord<>(tierTopics.get(0), null, record.key(), record.value());
+                    for (Header header : record.headers()) {
+                        if (!HEADER_ATTEMPT.equals(header.key())) {
+                            out.headers().add(header);
+                        }
+                    }
+                    out.headers().add(HEADER_ATTEMPT, bytes("1"));
+                    send(out);
+
+                    offsets.put(new TopicPartition(record.topic(), record.partition()),
+                            new OffsetAndMetadata(record.offset() + 1));
+                    replayed++;
+                }
+
+                if (!offsets.isEmpty()) {
+                    consumer.commitSync(offsets);
+                }
+            }
+        }
+
+        monitoringService.recordDltReplayed(config.getDltTopic(), replayed);
+        log.info("Replayed {} records from {} to {}", replayed, config.getDltTopic(), tierTopics.get(0));
+        return replayed;
+    }
+
+    private boolean reachedEnd(Consumer<String, byte[]> consumer, Map<TopicPartition, Long> endOffsets) {
+        for (Map.Entry<TopicPartition, Long> entry : endOffsets.entrySet()) {
+            if (consumer.position(entry.getKey()) < entry.getValue()) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * 동기 발행 (브로커 확정까지 대기)
+     */
+    private void send(ProducerRecord<String, byte[]> record) {
+        try {
+            kafkaTemplate.send(record).get(config.getSendTimeoutMs(), TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while publishing to " + record.topic(), e);
+        } catch (ExecutionException | TimeoutException e) {
+            throw new IllegalStateException("Failed to publish to " + record.topic() + ": " + e.getMessage(), e);
+        }
+    }
+
+    /**
+     * 레코드의 원본 토픽 (재시도 단계 레코드면 헤더, 아니면 현재 토픽)
+     */
+    public static String originalTopic(ConsumerRecord<?, ?> record) {
+        return stringHeader(record.headers(), HEADER_ORIGINAL_TOPIC, record.topic());
+    }
+
+    /**
+     * 최초 실패 시각 (epoch ms, 헤더 없으면 레코드 타임스탬프)
+     */
+    public static long firstFailedAt(ConsumerRecord<?, ?> record) {
+        return longHeader(record.headers(), HEADER_FIRST_FAILED_AT, record.timestamp());
+    }
+
+    private static String stringHeader(Headers headers, String key, String defaultValue) {
+        Header header = headers.lastHeader(key);
+        return header != null ? new String(header.value(), StandardCharsets.UTF_8) : defaultValue;
+    }
+
+    private static int intHeader(Headers headers, String key, int defaultValue) {
+        Header header = headers.lastHeader(key);
+        return header != null ? Integer.parseInt(new String(header.value(), StandardCharsets.UTF_8)) : defaultValue;
+    }
+
+    private static long longHeader(Headers headers, String key, long defaultValue) {
+        Header header = headers.lastHeader(key);
+        return header != null ? Long.parseLong(new String(header.value(), StandardCharsets.UTF_8)) : defaultValue;
+    }
+
+    private static byte[] bytes(String value) {
+        return value.getBytes(StandardCharsets.UTF_8);
+    }
+
+    private static String truncate(String message) {
+        if (message == null) {
+            return "";
+        }
+        return message.length() > MAX_ERROR_LENGTH ? message.substring(0, MAX_ERROR_LENGTH) : message;
+    }
+}
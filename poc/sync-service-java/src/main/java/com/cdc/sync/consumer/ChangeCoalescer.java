@@ -0,0 +1,120 @@
+package com.cdc.sync.consumer;
+
+import com.cdc.sync.domain.CdcEvent;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * 같은 PK 변경 병합 (배치 윈도우 안의 순 변경 계산)
+ *
+ * [문제]
+ * - 레거시 배치가 한 트랜잭션에서 같은 행을 여러 번 UPDATE → 변경마다 CDC 행 1건
+ * - 각 CDC 행은 SP_WORKER에서 1건씩 처리 + 매번 COMMIT
+ *
+ * [병합 규칙]
+ * - 윈도우 시작 전 행 존재 여부(첫 변경이 INSERT가 아니면 존재)와
+ *   윈도우 끝 행 존재 여부(마지막 변경이 DELETE가 아니면 존재)로 순 변경 결정
+ *   - 없음 → 있음: INSERT (마지막 값)        예) INSERT+UPDATE → INSERT
+ *   - 있음 → 있음: UPDATE (첫 변경 전 값 + 마지막 값)  예) UPDATE+UPDATE → UPDATE, DELETE+INSERT → UPDATE
+ *   - 있음 → 없음: DELETE                    예) UPDATE+DELETE → DELETE
+ *   - 없음 → 없음: 변경 없음 (CDC 행 미생성)  예) INSERT+DELETE
+ * - 변경이 1건인 키는 원본 이벤트 그대로
+ *
+ * [순서]
+ * - 순 변경은 해당 키의 마지막 변경 위치에 배치 → 서로 다른 키 사이의 최종 반영 순서 유지
+ * - 키가 없는 레코드는 병합하지 않음
+ */
+public class ChangeCoalescer {
+
+    private ChangeCoalescer() {
+    }
+
+    /**
+     * 병합 결과 1건
+     *
+     * @param event 순 변경 이벤트 (sources가 1건이면 원본 이벤트)
+     * @param sources 병합된 원본 항목 (수신 순서)
+     */
+    public record Change<T>(CdcEvent event, List<T> sources) {}
+
+    /**
+     * 병합 실행
+     *
+     * @param items 같은 대상 테이블로 가는 항목 (수신 순서)
+     * @param keyOf 항목의 PK (Debezium 메시지 키, null이면 병합 제외)
+     * @param eventOf 항목의 CDC 이벤트
+     * @return 순 변경 목록과 병합으로 사라진 원본 항목 (dropped)
+     */
+    public static <T> Result<T> coalesce(List<T> items, Function<T, String> keyOf, Function<T, CdcEvent> eventOf) {
+        // 키별 원본 항목 (마지막 변경 위치 순서로 재배치하기 위해 삽입 후 갱신)
+        Map<Object, List<T>> byKey = new LinkedHashMap<>();
+        for (T item : items) {
+            String key = keyOf.apply(item);
+            Object groupKey = key != null ? key : new Object();
+            List<T> sources = byKey.remove(groupKey);
+            if (sources == null) {
+                sources = new ArrayList<>(1);
+            }
+            sources.add(item);
+            byKey.put(groupKey, sources);
+        }
+
+        List<Change<T>> changes = new ArrayList<>(byKey.size());
+        List<T> dropped = new ArrayList<>();
+        for (List<T> sources : byKey.values()) {
+            CdcEvent net = sources.size() == 1
+                    ? eventOf.apply(sources.get(0))
+                    : merge(eventOf.apply(sources.get(0)), eventOf.apply(sources.get(sources.size() - 1)));
+            if (net == null) {
+                dropped.addAll(sources);
+            } else {
+                changes.add(new Change<>(net, sources));
+            }
+        }
+        return new Result<>(changes, dropped, items.size());
+    }
+
+    /**
+     * 첫 변경과 마지막 변경으로 순 변경 계산
+     *
+     * @return 순 변경 이벤트 (변경 없음이면 null)
+     */
+    static CdcEvent merge(CdcEvent first, CdcEvent last) {
+        boolean existedBefore = !"INSERT".equals(first.getOperation());
+        boolean existsAfter = !"DELETE".equals(last.getOperation());
+
+        if (!existedBefore && !existsAfter) {
+            return null;
+        }
+
+        String operation = !existedBefore ? "INSERT" : existsAfter ? "UPDATE" : "DELETE";
+        // UPDATE는 전 값을 첫 변경 것으로 바꿔야 하므로 그대로 쓰지 않음
+        if (operation.equals(last.getOperation()) && !"UPDATE".equals(operation)) {
+            return last;
+        }
+
+        // 마지막 값 기준 + 연산/전 값만 변경 (해시는 getData() 기준이라 마지막 이벤트와 동일)
+        CdcEvent net = new CdcEvent();
+        net.setOperation(operation);
+        net.setBefore("INSERT".equals(operation) ? null : first.getBefore());
+        net.setAfter(last.getAfter());
+        net.setSource(last.getSource());
+        net.setSourceTimestamp(last.getSourceTimestamp());
+        net.setChangeHash(last.getChangeHash());
+        net.setSchema(last.getSchema());
+        return net;
+    }
+
+    /**
+     * 병합 결과
+     *
+     * @param changes 순 변경 (반영 순서)
+     * @param dropped 서로 상쇄되어 반영하지 않는 원본 항목
+     * @param inputCount 병합 전 항목 수
+     */
+    public record Result<T>(List<Change<T>> changes, List<T> dropped, int inputCount) {}
+}
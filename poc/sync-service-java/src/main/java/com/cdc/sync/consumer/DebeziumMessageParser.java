@@ -0,0 +1,106 @@
+package com.cdc.sync.consumer;
+
+import com.cdc.sync.domain.CdcEvent;
+import com.cdc.sync.service.CdcSyncService;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.Map;
+
+/**
+ * Debezium 메시지 파서 (ObjectMapper → Map 방식)
+ *
+ * [설계 의도]
+ * - 메시지 전체(schema 포함)를 Map으로 읽은 뒤 payload를 꺼내는 단순 구현
+ * - Consumer는 StreamingDebeziumParser를 사용, 이 클래스는 성능 비교 기준(벤치마크)용
+ * - JSON 문자열 → CdcEvent 변환만 담당 (라우팅/저장은 호출자 책임)
+ *
+ * [Debezium JSON 구조]
+ * {
+ *   "schema": { ... },
+ *   "payload": {
+ *     "before": { ... },
+ *     "after": { ... },
+ *     "source": { ... },
+ *     "op": "c|u|d|r",
+ *     "ts_ms": 1234567890123
+ *   }
+ * }
+ */
+public class DebeziumMessageParser {
+
+    private static final Logger log = LoggerFactory.getLogger(DebeziumMessageParser.class);
+
+    private final ObjectMapper objectMapper;
+
+    public DebeziumMessageParser() {
+        this.objectMapper = new ObjectMapper();
+    }
+
+    /**
+     * Debezium 메시지 파싱
+     *
+     * @param message JSON 문자열
+     * @return CdcEvent 객체 (파싱 실패 또는 빈 메시지면 null)
+     */
+    public CdcEvent parse(String message) {
+        if (message == null || message.isEmpty()) {
+            return null;
+        }
+
+        try {
+            Map<String, Object> json = objectMapper.readValue(
+                    message, new TypeReference<Map<String, Object>>() {});
+
+            // payload 추출 (Debezium envelope 구조)
+            @SuppressWarnings("unchecked")
+            Map<String, Object> payload = json.containsKey("payload")
+                    ? (Map<String, Object>) json.get("payload")
+                    : json;
+
+            CdcEvent event = new CdcEvent();
+
+            // Operation
+            String op = (String) payload.get("op");
+            event.setOperation(CdcEvent.convertOperation(op));
+
+            // Before/After 데이터
+            @SuppressWarnings("unchecked")
+            Map<String, Object> before = (Map<String, Object>) payload.get("before");
+            @SuppressWarnings("unchecked")
+            Map<String, Object> after = (Map<String, Object>) payload.get("after");
+
+            event.setBefore(before);
+            event.setAfter(after);
+
+            // Source 정보
+            @SuppressWarnings("unchecked")
+            Map<String, Object> source = (Map<String, Object>) payload.get("source");
+            event.setSource(source);
+
+            // Timestamp
+            Object tsMs = payload.get("ts_ms");
+            if (tsMs instanceof Number) {
+                event.setSourceTimestamp(CdcEvent.convertTimestamp(((Number) tsMs).longValue()));
+            } else {
+                event.setSourceTimestamp(CdcEvent.convertTimestamp(null));
+            }
+
+            // Hash 생성 (스냅샷 행은 cdc.sync.snapshot.skip-hash 설정에 따라 CdcSyncService가 생성)
+            Map<String, Object> data = event.getData();
+            if (data != null && !event.isSnapshot()) {
+                event.setChangeHash(CdcSyncService.generateHash(data));
+            }
+
+            log.debug("Parsed CDC event: {}", event);
+            return event;
+
+        } catch (JsonProcessingException e) {
+            log.error("Failed to parse Debezium message: {}", e.getMessage());
+            return null;
+        }
+    }
+}
@@ -0,0 +1,252 @@
+package com.cdc.sync.consumer;
+
+import com.cdc.sync.config.CdcSyncConfig;
+import com.cdc.sync.config.CdcSyncConfig.GroupCommitConfig;
+import com.cdc.sync.consumer.TopicRouter.Route;
+import com.cdc.sync.domain.CdcEvent;
+import com.cdc.sync.service.CdcSyncService;
+import com.cdc.sync.service.EchoSuppressor;
+import com.cdc.sync.service.GroupCommitSession;
+import com.cdc.sync.service.GroupCommitSession.Echo;
+import com.cdc.sync.service.GroupCommitSession.Entry;
+import com.cdc.sync.service.GroupCommitSession.Failure;
+import com.cdc.sync.service.GroupCommitSession.Result;
+import jakarta.annotation.PreDestroy;
+import org.apache.kafka.clients.consumer.Consumer;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.common.TopicPartition;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.event.EventListener;
+import org.springframework.kafka.event.ListenerContainerIdleEvent;
+import org.springframework.stereotype.Component;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 그룹 커밋 조정 (단건 Consumer 모드, cdc.sync.group-commit.enabled=true)
+ *
+ * [설계 의도]
+ * - Consumer 스레드별 GroupCommitSession 1개 (ThreadLocal, KafkaConsumer 1개 = 스레드 1개)
+ * - 레코드마다 열린 트랜잭션에 INSERT → max-events건 또는 max-delay-ms 경과 시 대상 DB별 커밋 1회
+ * - 오프셋: 그룹에 넣을 때 처리 시작, 커밋 성공(또는 건별 재반영) 후 완료 기록
+ *   → 커밋 전 레코드는 OffsetCommitManager가 커밋하지 않음 (at-least-once 유지)
+ *
+ * [커밋 시점]
+ * - 레코드 수신 시 한도 확인 (CdcKafkaConsumer)
+ * - ListenerContainerIdleEvent (레코드가 끊겨도 commit.interval-ms 안에 커밋)
+ * - 파티션 회수 직전 (OffsetCommitManager before-revoke hook, 같은 poll 스레드)
+ *
+ * [장애 처리]
+ * - 데이터 오류 행: INSERT 시점에 예외 → 호출자가 재시도 토픽으로 이동, 그룹은 계속
+ * - 커밋 실패: CdcSyncService가 건별 자동 커밋으로 재반영 (데이터 오류 행만 재시도 토픽)
+ * - 재반영 중 일시적 DB 장애: 이미 poll한 레코드라 재수신이 없으므로 poll 스레드에서 백오프 재시도
+ *   (종료 중이면 완료 기록 없이 중단 → 다음 소유자가 커밋 오프셋부터 재수신)
+ * - 재시도는 replay-timeout-ms까지만 (poll 스레드가 max.poll.interval.ms를 넘기지 않도록)
+ *   → 초과하면 남은 레코드를 완료 기록 없이 버리고 파티션별 가장 낮은 미커밋 오프셋으로 seek
+ *   → 같은 poll 결과에서 이미 받은 그 뒤 레코드는 건너뜀 (skipRewound, seek 후 다시 수신)
+ *   → 그 뒤에서 에코로 폐기한 레코드는 지문을 되돌림 (다시 받아도 INSERT되지 않도록)
+ *
+ * [프로덕션 고려사항]
+ * - Consumer 스레드마다 대상 DB 커넥션을 최대 1개씩 점유 (concurrency x 방향 수 ≤ 풀 크기로 조정)
+ * - max-delay-ms보다 유휴 이벤트 주기(commit.interval-ms)가 길면 트래픽이 끊겼을 때 그 주기만큼 지연
+ */
+@Component
+@ConditionalOnProperty(prefix = "cdc.sync.group-commit", name = "enabled", havingValue = "true")
+public class GroupCommitCoordinator {
+
+    private static final Logger log = LoggerFactory.getLogger(GroupCommitCoordinator.class);
+
+    private static final long INITIAL_RETRY_MS = 1000;
+    private static final long MAX_RETRY_MS = 30000;
+
+    private final CdcSyncService syncService;
+    private final OffsetCommitManager commitManager;
+    private final CdcRetryPublisher retryPublisher;
+    private final EchoSuppressor echoSuppressor;
+
+    private final long replayTimeoutMs;
+
+    private final ThreadLocal<GroupCommitSession<ConsumerRecord<String, byte[]>>> sessions;
+    // seek로 되돌린 파티션 → 되돌리기 전 마지막 수신 오프셋 (이보다 큰 레코드는 seek 전에 받은 것)
+    private final ThreadLocal<Map<TopicPartition, Long>> rewound = ThreadLocal.withInitial(HashMap::new);
+    private volatile boolean running = true;
+
+    public GroupCommitCoordinator(CdcSyncConfig syncConfig, CdcSyncService syncService,
+                                  OffsetCommitManager commitManager, CdcRetryPublisher retryPublisher,
+                                  EchoSuppressor echoSuppressor) {
+        this.syncService = syncService;
+        this.commitManager = commitManager;
+        this.retryPublisher = retryPublisher;
+        this.echoSuppressor = echoSuppressor;
+
+        GroupCommitConfig config = syncConfig.getGroupCommit();
+        int maxEvents = Math.max(1, config.getMaxEvents());
+        long maxDelayNanos = TimeUnit.MILLISECONDS.toNanos(config.getMaxDelayMs());
+        this.replayTimeoutMs = config.getReplayTimeoutMs();
+        this.sessions = ThreadLocal.withInitial(() -> new GroupCommitSession<>(maxEvents, maxDelayNanos));
+
+        // 회수 대상 파티션의 레코드가 이 스레드 그룹에 남아 있으면 완료 대기가 끝나지 않으므로 먼저 커밋
+        commitManager.addBeforeRevokeHook(this::flush);
+        log.info("Group commit enabled: max {} events / {} ms per transaction", maxEvents, config.getMaxDelayMs());
+    }
+
+    /**
+     * 레코드를 현재 스레드 그룹 트랜잭션에 INSERT
+     *
+     * @return true면 그룹에 추가됨 (커밋 후 완료 기록), false면 INSERT 대상 아님 (호출자가 바로 완료 기록)
+     * @throws RuntimeException 데이터 오류 (호출자가 재시도 토픽으로 이동)
+     */
+    public boolean add(Route route, ConsumerRecord<String, byte[]> record, CdcEvent event) {
+        GroupCommitSession<ConsumerRecord<String, byte[]>> session = sessions.get();
+        boolean added = switch (route.direction()) {
+            case ASIS_TO_TOBE -> syncService.groupAsisToTobe(session, event, route.targetTable(), record.topic(), record);
+            case TOBE_TO_ASIS -> syncService.groupTobeToAsis(session, event, route.targetTable(), record.topic(), record);
+            default -> {
+                log.warn("Unsupported direction {} for topic {}", route.direction(), record.topic());
+                yield false;
+            }
+        };
+        if (added) {
+            commitManager.dispatched(record);
+        }
+        return added;
+    }
+
+    /**
+     * 건수/시간 한도에 도달한 그룹이 있으면 커밋 (poll 스레드)
+     *
+     * @param consumer 재반영 포기 시 seek할 Consumer (현재 poll 스레드)
+     */
+    public void flushIfDue(Consumer<?, ?> consumer) {
+        GroupCommitSession<ConsumerRecord<String, byte[]>> session = sessions.get();
+        if (!session.isEmpty() && session.isDue(System.nanoTime())) {
+            flush(consumer);
+        }
+    }
+
+    /**
+     * 재반영 포기로 seek한 파티션의 레코드 중 seek 전에 이미 받은 레코드인지 (true면 처리/완료 기록 없이 건너뜀)
+     */
+    public boolean skipRewound(ConsumerRecord<String, byte[]> record) {
+        Map<TopicPartition, Long> partitions = rewound.get();
+        if (partitions.isEmpty()) {
+            return false;
+        }
+        TopicPartition partition = new TopicPartition(record.topic(), record.partition());
+        Long lastReceived = partitions.get(partition);
+        if (lastReceived == null) {
+            return false;
+        }
+        if (record.offset() > lastReceived) {
+            return true;
+        }
+        // seek 후 다시 받은 레코드부터 정상 처리
+        partitions.remove(partition);
+        return false;
+    }
+
+    /**
+     * 유휴 상태에서도 시간 한도 커밋 (이벤트는 해당 Consumer의 poll 스레드에서 발행)
+     */
+    @EventListener
+    public void onIdle(ListenerContainerIdleEvent event) {
+        Consumer<?, ?> consumer = event.getConsumer();
+        flushIfDue(consumer);
+        if (consumer != null) {
+            commitManager.maybeCommit(consumer);
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        running = false;
+    }
+
+    /**
+     * 현재 스레드의 열린 그룹 전부 커밋 + 오프셋 완료 기록
+     *
+     * @param consumer 재반영 포기 시 seek할 Consumer (null이면 seek할 수 없으므로 종료 전까지 재시도)
+     */
+    private void flush(Consumer<?, ?> consumer) {
+        GroupCommitSession<ConsumerRecord<String, byte[]>> session = sessions.get();
+        if (session.isEmpty()) {
+            return;
+        }
+
+        List<Echo<ConsumerRecord<String, byte[]>>> echoes = session.drainEchoes();
+        Result<ConsumerRecord<String, byte[]>> result = syncService.commitGroups(session);
+        long deadline = System.currentTimeMillis() + replayTimeoutMs;
+        long backoffMs = INITIAL_RETRY_MS;
+        while (true) {
+            complete(result);
+            if (result.remaining().isEmpty()) {
+                return;
+            }
+            if (!running) {
+                log.warn("Group commit stopping, leaving {} records uncommitted", result.remaining().size());
+                return;
+            }
+            long waitMs = backoffMs;
+            if (consumer != null) {
+                waitMs = Math.min(backoffMs, deadline - System.currentTimeMillis());
+                if (waitMs <= 0) {
+                    rewind(result.remaining(), echoes, consumer);
+                    return;
+                }
+            }
+            log.warn("Retrying {} group records in {} ms", result.remaining().size(), waitMs);
+            try {
+                Thread.sleep(waitMs);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+            backoffMs = Math.min(backoffMs * 2, MAX_RETRY_MS);
+            result = syncService.replayGroup(result.remaining());
+        }
+    }
+
+    /**
+     * 재반영 포기: 남은 레코드 파티션을 가장 낮은 미커밋 오프셋으로 되돌리고 seek (완료 기록 없음 → 다시 수신)
+     *
+     * - 그 오프셋 뒤에서 에코로 폐기한 레코드도 다시 수신 → 소비한 지문을 되돌려 다시 폐기되도록
+     */
+    private void rewind(List<Entry<ConsumerRecord<String, byte[]>>> remaining,
+                        List<Echo<ConsumerRecord<String, byte[]>>> echoes, Consumer<?, ?> consumer) {
+        Map<TopicPartition, Long> lowest = new HashMap<>();
+        for (Entry<ConsumerRecord<String, byte[]>> entry : remaining) {
+            ConsumerRecord<String, byte[]> record = entry.source();
+            lowest.merge(new TopicPartition(record.topic(), record.partition()), record.offset(), Math::min);
+        }
+
+        lowest.forEach((partition, offset) -> {
+            long lastReceived = commitManager.rewind(partition, offset);
+            consumer.seek(partition, offset);
+            rewound.get().put(partition, Math.max(lastReceived, offset));
+        });
+        for (Echo<ConsumerRecord<String, byte[]>> echo : echoes) {
+            ConsumerRecord<String, byte[]> record = echo.source();
+            Long offset = lowest.get(new TopicPartition(record.topic(), record.partition()));
+            if (offset != null && record.offset() >= offset) {
+                echoSuppressor.restore(echo.event());
+            }
+        }
+        log.warn("Giving up group replay after {} ms, {} records left uncommitted, seeking {}",
+                replayTimeoutMs, remaining.size(), lowest);
+    }
+
+    private void complete(Result<ConsumerRecord<String, byte[]>> result) {
+        for (ConsumerRecord<String, byte[]> record : result.committed()) {
+            commitManager.completed(record);
+        }
+        for (Failure<ConsumerRecord<String, byte[]>> failure : result.failed()) {
+            retryPublisher.publishFailure(failure.source(), failure.error());
+            commitManager.completed(failure.source());
+        }
+    }
+}
@@ -0,0 +1,93 @@
+package com.cdc.sync.consumer;
+
+import com.cdc.sync.domain.RowSchema;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * JsonConverter schema 섹션 → RowSchema 캐시 (토픽별, 스키마 버전별)
+ *
+ * [설계 의도]
+ * - JsonConverter는 메시지마다 같은 schema 블록을 반복 전송 (Schema Registry 같은 ID 없음)
+ *   → schema 블록 바이트 자체를 버전으로 사용
+ * - 빠른 경로: 토픽의 마지막 스키마 바이트와 비교 (Arrays.equals 범위 비교, 할당 없음)
+ * - 느린 경로(DDL로 스키마 변경, 버전이 번갈아 오는 경우): 버전 Map 조회, 없으면 파싱 후 등록
+ * - 파싱은 버전당 1회 → after(없으면 before) 구조체의 필드별 논리 타입만 추출
+ */
+class JsonRowSchemaCache {
+
+    private static final Logger log = LoggerFactory.getLogger(JsonRowSchemaCache.class);
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    // 토픽별 마지막으로 본 스키마 버전
+    private final Map<String, Version> latestByTopic = new ConcurrentHashMap<>();
+
+    // schema 블록 바이트(내용 기준 equals/hashCode) → 스키마
+    private final Map<ByteBuffer, RowSchema> schemasByBytes = new ConcurrentHashMap<>();
+
+    private record Version(byte[] bytes, RowSchema schema) {}
+
+    /**
+     * schema 블록에 해당하는 RowSchema 조회
+     *
+     * @param topic 원본 토픽 (버전 캐시 키)
+     * @param message 메시지 바이트
+     * @param from schema 블록 시작 오프셋 (포함)
+     * @param to schema 블록 끝 오프셋 (제외)
+     */
+    RowSchema resolve(String topic, byte[] message, int from, int to) {
+        Version latest = latestByTopic.get(topic);
+        if (latest != null && Arrays.equals(latest.bytes(), 0, latest.bytes().length, message, from, to)) {
+            return latest.schema();
+        }
+
+        byte[] bytes = Arrays.copyOfRange(message, from, to);
+        RowSchema schema = schemasByBytes.computeIfAbsent(ByteBuffer.wrap(bytes), key -> build(topic, bytes));
+        latestByTopic.put(topic, new Version(bytes, schema));
+        return schema;
+    }
+
+    /**
+     * schema 블록 파싱 (버전당 1회)
+     */
+    private RowSchema build(String topic, byte[] bytes) {
+        try {
+            JsonNode row = null;
+            for (JsonNode envelopeField : objectMapper.readTree(bytes).path("fields")) {
+                String name = envelopeField.path("field").asText();
+                if ("after".equals(name) || ("before".equals(name) && row == null)) {
+                    row = envelopeField;
+                }
+            }
+            if (row == null) {
+                return RowSchema.UNKNOWN;
+            }
+
+            Map<String, RowSchema.Field> fields = new LinkedHashMap<>();
+            for (JsonNode field : row.path("fields")) {
+                String name = field.path("field").asText();
+                String logicalName = field.hasNonNull("name") ? field.get("name").asText() : null;
+                int scale = field.path("parameters").path("scale").asInt(0);
+                fields.put(name, new RowSchema.Field(name, logicalName, scale));
+            }
+
+            String version = row.path("name").asText(topic) + "@" + Integer.toHexString(Arrays.hashCode(bytes));
+            log.info("Registered schema version for topic {}: {} ({} fields)", topic, version, fields.size());
+            return new RowSchema(version, fields);
+
+        } catch (IOException e) {
+            log.warn("Failed to parse schema block of topic {}, falling back to column names: {}", topic, e.getMessage());
+            return RowSchema.UNKNOWN;
+        }
+    }
+}
@@ -0,0 +1,222 @@
+package com.cdc.sync.consumer;
+
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.core.task.VirtualThreadTaskExecutor;
+
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 키 순서 보장 병렬 디스패처 (파티션 내 PK 해시별 워커 분산)
+ *
+ * [설계 의도]
+ * - 파티션 1개 = 스레드 1개 구조에서는 핫 테이블의 INSERT가 한 번에 1건으로 제한됨
+ * - 레코드 키(Debezium 메시지 키 = 원본 PK)의 해시로 토픽별 워커(단일 스레드) 선택
+ * - 같은 키는 항상 같은 워커 → 키 단위 순서 보장, 다른 키는 병렬 처리
+ * - 워커 큐는 고정 크기 (메모리 무한 증가 방지), 가득 차면 offer-timeout-ms까지만 대기 후 거절
+ *   → 호출자(poll 스레드)가 해당 파티션을 seek + pause, 큐에 여유가 생기면 resume (hasCapacity)
+ *
+ * [오프셋]
+ * - 전달 시 OffsetCommitManager에 처리 시작, 작업 성공 후 완료 기록
+ * - 일시적 DB 장애로 작업이 실패하면 같은 워커에서 백오프 재시도 (완료로 기록하지 않음, 키 순서 유지)
+ * - 커밋은 "완료되지 않은 가장 낮은 오프셋"까지만 (OffsetCommitManager)
+ * - 전달 시점의 파티션 할당 세대를 작업에 보관, 실행/재시도 직전마다 확인
+ *   → 회수/유실된 파티션의 작업(큐 대기, 재시도 중)은 쓰지 않고 중단 (새 소유자와 키 순서 역전 방지)
+ *
+ * [가상 스레드]
+ * - virtualThreads=true면 워커를 가상 스레드로 생성 (JDBC 대기 중 캐리어 반납)
+ * - 워커당 비용이 작아 핫 테이블 워커 수를 크게 늘릴 수 있음 (상한은 DB 커넥션 풀)
+ *
+ * [한계]
+ * - 세대 확인 이후 이미 실행 중인 INSERT 1건은 중단할 수 없음 (회수 시 drain-timeout-ms 대기로 완화)
+ *
+ * [프로덕션 고려사항]
+ * - 토픽별 워커 수 합계가 DB 커넥션 풀 크기를 크게 넘지 않도록 조정
+ * - offer-timeout-ms × MAX_POLL_RECORDS가 max.poll.interval.ms보다 충분히 작도록 조정
+ */
+public class KeyOrderedDispatcher {
+
+    private static final Logger log = LoggerFactory.getLogger(KeyOrderedDispatcher.class);
+
+    private static final long INITIAL_RETRY_MS = 1000;
+    private static final long MAX_RETRY_MS = 30000;
+
+    private final Map<String, Integer> workersByTopic;
+    private final int defaultWorkers;
+    private final int queueCapacity;
+    private final long drainTimeoutMs;
+    private final long offerTimeoutMs;
+    private final boolean virtualThreads;
+    private final OffsetCommitManager commitManager;
+
+    private final Map<String, ThreadPoolExecutor[]> lanesByTopic = new ConcurrentHashMap<>();
+    private volatile boolean running = true;
+
+    /**
+     * @param workersByTopic 토픽별 워커 수 (없는 토픽은 defaultWorkers)
+     * @param defaultWorkers 기본 워커 수
+     * @param queueCapacity 워커별 대기 큐 크기
+     * @param drainTimeoutMs 종료 시 처리 중 작업 완료 대기 시간 (ms)
+     * @param offerTimeoutMs 워커 큐가 가득 찼을 때 빈 자리 대기 시간 (ms)
+     * @param virtualThreads 워커를 가상 스레드로 생성 (Java 21+)
+     * @param commitManager 완료 오프셋 기록/커밋
+     */
+    public KeyOrderedDispatcher(Map<String, Integer> workersByTopic, int defaultWorkers, int queueCapacity,
+                                long drainTimeoutMs, long offerTimeoutMs, boolean virtualThreads,
+                                OffsetCommitManager commitManager) {
+        this.workersByTopic = Map.copyOf(workersByTopic);
+        this.defaultWorkers = defaultWorkers;
+        this.queueCapacity = queueCapacity;
+        this.drainTimeoutMs = drainTimeoutMs;
+        this.offerTimeoutMs = offerTimeoutMs;
+        this.virtualThreads = virtualThreads;
+        this.commitManager = commitManager;
+        log.info("Key-ordered dispatcher: default {} {} workers/topic, overrides {}",
+                defaultWorkers, virtualThreads ? "virtual" : "platform", workersByTopic);
+    }
+
+    /**
+     * 레코드를 키 해시에 해당하는 워커에 전달
+     *
+     * @param record Kafka 레코드 (키 = 원본 PK)
+     * @param task 레코드 처리 작업 (워커 스레드에서 실행, 예외 시 재시도)
+     * @return 워커 큐에 넣었으면 true, offer-timeout-ms 동안 자리가 없으면 false
+     *         (처리 시작이 취소됨 → 호출자가 이 오프셋으로 seek 후 파티션 pause)
+     */
+    public boolean dispatch(ConsumerRecord<String, ?> record, Runnable task) {
+        ThreadPoolExecutor lane = lane(record.topic(), record.key());
+        if (lane.isShutdown()) {
+            throw new RejectedExecutionException("Key-ordered dispatcher is shut down");
+        }
+
+        long generation = commitManager.generation(record);
+        commitManager.dispatched(record);
+        Runnable work = () -> {
+            if (runWithRetry(task, record, generation) && commitManager.isCurrent(record, generation)) {
+                commitManager.completed(record);
+            }
+        };
+
+        // execute()의 거절 핸들러 대신 큐에 직접 offer (워커는 미리 시작, 대기 시간 제한)
+        try {
+            if (lane.getQueue().offer(work, offerTimeoutMs, TimeUnit.MILLISECONDS)) {
+                return true;
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        commitManager.cancelled(record);
+        return false;
+    }
+
+    /**
+     * 키가 배정되는 워커 큐에 여유가 있는지 (절반 이상 비었으면 true, pause한 파티션 resume 판단용)
+     */
+    public boolean hasCapacity(String topic, String key) {
+        return lane(topic, key).getQueue().remainingCapacity() >= Math.max(1, queueCapacity / 2);
+    }
+
+    /**
+     * 워커 종료 (Bean 소멸 시, 리스너 컨테이너 정지 이후)
+     */
+    public void shutdown() {
+        running = false;
+        for (ThreadPoolExecutor[] lanes : lanesByTopic.values()) {
+            for (ThreadPoolExecutor lane : lanes) {
+                lane.shutdown();
+            }
+        }
+        for (ThreadPoolExecutor[] lanes : lanesByTopic.values()) {
+            for (ThreadPoolExecutor lane : lanes) {
+                try {
+                    if (!lane.awaitTermination(drainTimeoutMs, TimeUnit.MILLISECONDS)) {
+                        lane.shutdownNow();
+                    }
+                } catch (InterruptedException e) {
+                    lane.shutdownNow();
+                    Thread.currentThread().interrupt();
+                }
+            }
+        }
+    }
+
+    /**
+     * 작업 실행 (실패 시 종료 또는 파티션 회수 전까지 지수 백오프 재시도)
+     *
+     * @return 성공하면 true, 종료/회수로 중단되면 false (완료로 기록하지 않음 → 재수신)
+     */
+    private boolean runWithRetry(Runnable task, ConsumerRecord<String, ?> record, long generation) {
+        long backoffMs = INITIAL_RETRY_MS;
+        while (true) {
+            if (!commitManager.isCurrent(record, generation)) {
+                log.warn("Partition {}-{} no longer assigned, dropping offset {} without writing",
+                        record.topic(), record.partition(), record.offset());
+                return false;
+            }
+            try {
+                task.run();
+                return true;
+            } catch (RuntimeException e) {
+                if (!running) {
+                    log.warn("Dispatcher stopping, leaving {}-{}@{} uncommitted",
+                            record.topic(), record.partition(), record.offset());
+                    return false;
+                }
+                log.warn("Retrying {}-{}@{} in {} ms: {}",
+                        record.topic(), record.partition(), record.offset(), backoffMs, e.getMessage());
+                try {
+                    Thread.sleep(backoffMs);
+                } catch (InterruptedException ie) {
+                    Thread.currentThread().interrupt();
+                    return false;
+                }
+                backoffMs = Math.min(backoffMs * 2, MAX_RETRY_MS);
+            }
+        }
+    }
+
+    /**
+     * 키 해시로 토픽의 워커 선택 (키가 없으면 0번 워커)
+     */
+    private ThreadPoolExecutor lane(String topic, String key) {
+        ThreadPoolExecutor[] lanes = lanesByTopic.computeIfAbsent(topic, this::createLanes);
+        if (key == null) {
+            return lanes[0];
+        }
+        int hash = key.hashCode();
+        return lanes[Math.floorMod(hash ^ (hash >>> 16), lanes.length)];
+    }
+
+    private ThreadPoolExecutor[] createLanes(String topic) {
+        int workers = Math.max(1, workersByTopic.getOrDefault(topic, defaultWorkers));
+        String table = topic.substring(topic.lastIndexOf('.') + 1);
+
+        ThreadPoolExecutor[] lanes = new ThreadPoolExecutor[workers];
+        for (int i = 0; i < workers; i++) {
+            lanes[i] = new ThreadPoolExecutor(1, 1, 0L, TimeUnit.MILLISECONDS,
+                    new ArrayBlockingQueue<>(queueCapacity),
+                    threadFactory("cdc-" + table + "-" + i));
+            lanes[i].prestartAllCoreThreads();
+        }
+        log.info("Created {} ordered workers for topic {}", workers, topic);
+        return lanes;
+    }
+
+    private ThreadFactory threadFactory(String threadName) {
+        if (virtualThreads) {
+            return new VirtualThreadTaskExecutor(threadName + "-").getVirtualThreadFactory();
+        }
+        return runnable -> {
+            Thread thread = new Thread(runnable, threadName);
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+}
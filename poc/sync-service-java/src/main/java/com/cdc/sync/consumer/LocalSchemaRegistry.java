@@ -0,0 +1,127 @@
+package com.cdc.sync.consumer;
+
+import com.cdc.sync.config.CdcSyncConfig;
+import org.apache.avro.Schema;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.core.io.Resource;
+import org.springframework.core.io.support.PathMatchingResourcePatternResolver;
+import org.springframework.core.io.support.ResourcePatternResolver;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 로컬 Avro 스키마 레지스트리 (Schema Registry 대체용)
+ *
+ * [설계 의도]
+ * - Debezium Avro 메시지의 writer 스키마를 외부 Schema Registry 없이 조회
+ * - 기동 시 스키마 디렉토리(cdc.sync.serde.schema-locations)의 .avsc 파일을 읽어 등록
+ * - register()로 프로세스 내 등록도 가능 (테스트/벤치마크용 인메모리 레지스트리)
+ *
+ * [파일 이름 규칙]
+ * - {schemaId}-{subject}.avsc  (예: 102-asis.ASIS_USER.BOOK_INFO-value.avsc)
+ * - schemaId는 메시지 헤더(Confluent wire format)의 4바이트 ID와 일치해야 함
+ */
+@Component
+public class LocalSchemaRegistry {
+
+    private static final Logger log = LoggerFactory.getLogger(LocalSchemaRegistry.class);
+
+    // 프로세스 내 등록 시 자동 부여되는 ID 시작값 (파일 ID와 겹치지 않도록)
+    private static final int IN_PROCESS_ID_START = 100_000;
+
+    private final Map<Integer, Schema> schemasById = new ConcurrentHashMap<>();
+    private final Map<Schema, Integer> idsBySchema = new ConcurrentHashMap<>();
+    private final AtomicInteger nextId = new AtomicInteger(IN_PROCESS_ID_START);
+
+    /**
+     * 빈 레지스트리 (프로세스 내 등록 전용)
+     */
+    public LocalSchemaRegistry() {
+    }
+
+    /**
+     * 설정된 스키마 위치에서 .avsc 파일 로드
+     */
+    @Autowired
+    public LocalSchemaRegistry(CdcSyncConfig syncConfig) {
+        ResourcePatternResolver resolver = new PathMatchingResourcePatternResolver();
+        for (String location : syncConfig.getSerde().getSchemaLocations()) {
+            try {
+                for (Resource resource : resolver.getResources(location)) {
+                    loadSchemaFile(resource);
+                }
+            } catch (IOException e) {
+                throw new UncheckedIOException("Failed to read schema location: " + location, e);
+            }
+        }
+        log.info("Local schema registry loaded: {} schemas", schemasById.size());
+    }
+
+    /**
+     * ID로 writer 스키마 조회
+     *
+     * @throws IllegalArgumentException 등록되지 않은 ID
+     */
+    public Schema getById(int id) {
+        Schema schema = schemasById.get(id);
+        if (schema == null) {
+            throw new IllegalArgumentException("Unknown schema id: " + id);
+        }
+        return schema;
+    }
+
+    /**
+     * 스키마 등록 (이미 등록된 스키마면 기존 ID 반환)
+     *
+     * @return 스키마 ID
+     */
+    public int register(Schema schema) {
+        return idsBySchema.computeIfAbsent(schema, s -> {
+            int id = nextId.getAndIncrement();
+            schemasById.put(id, s);
+            return id;
+        });
+    }
+
+    /**
+     * 지정 ID로 스키마 등록
+     */
+    public void register(int id, Schema schema) {
+        Schema previous = schemasById.putIfAbsent(id, schema);
+        if (previous != null && !previous.equals(schema)) {
+            throw new IllegalStateException("Schema id " + id + " is already registered with a different schema");
+        }
+        idsBySchema.putIfAbsent(schema, id);
+    }
+
+    /**
+     * 등록된 스키마 수
+     */
+    public int size() {
+        return schemasById.size();
+    }
+
+    private void loadSchemaFile(Resource resource) throws IOException {
+        String filename = resource.getFilename();
+        int dash = filename != null ? filename.indexOf('-') : -1;
+        if (dash <= 0) {
+            log.warn("Skipped schema file without id prefix: {}", filename);
+            return;
+        }
+
+        int id = Integer.parseInt(filename.substring(0, dash));
+        try (InputStream in = resource.getInputStream()) {
+            Schema schema = new Schema.Parser().parse(in);
+            register(id, schema);
+            log.debug("Registered schema {} -> {}", id, schema.getFullName());
+        }
+    }
+}
@@ -0,0 +1,253 @@
+package com.cdc.sync.consumer;
+
+import com.cdc.sync.config.CdcSyncConfig;
+import com.cdc.sync.service.CdcMonitoringService;
+import org.apache.kafka.clients.consumer.Consumer;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.clients.consumer.OffsetAndMetadata;
+import org.apache.kafka.common.TopicPartition;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.event.EventListener;
+import org.springframework.kafka.event.ListenerContainerIdleEvent;
+import org.springframework.kafka.listener.ConsumerAwareRebalanceListener;
+import org.springframework.stereotype.Component;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 오프셋 커밋 관리 (DB 반영 완료 기준, 비동기 + 묶음 커밋)
+ *
+ * [설계 의도]
+ * - 자동 커밋은 poll한 레코드를 DB 반영 여부와 무관하게 커밋 → 유실 가능
+ * - 레코드가 CDC 테이블에 커밋된 뒤에만 완료로 기록 (PartitionOffsetTracker)
+ * - 완료 오프셋은 건수(min-records) 또는 시간(interval-ms) 조건 충족 시 commitAsync 1회로 묶어 커밋
+ * - poll 스레드가 커밋 왕복을 기다리지 않음 → at-least-once + 처리량 유지
+ *
+ * [커밋 시점]
+ * - 리스너 호출 후 (레코드가 계속 들어오는 동안)
+ * - ListenerContainerIdleEvent (레코드가 끊겨도 interval-ms 안에 커밋)
+ * - 파티션 회수 직전: 회수 전 작업(그룹 커밋 등) 실행 → 처리 중 레코드 완료 대기 후 commitSync
+ *
+ * [할당 세대]
+ * - 파티션이 할당될 때마다 새 세대 번호, 회수(처리 중 레코드 대기 후)/유실 시 세대 폐기
+ * - 워커는 전달 시점 세대를 들고 있다가 실행/재시도 직전마다 확인 → 폐기됐으면 쓰지 않고 중단
+ *   (회수 후 새 소유자가 커밋 오프셋부터 다시 처리하는 동안 이전 소유자의 오래된 변경이 뒤늦게 반영되지 않도록)
+ *
+ * [스레드]
+ * - KafkaConsumer는 스레드 안전하지 않으므로 커밋은 항상 해당 Consumer의 poll 스레드에서 실행
+ * - Consumer별로 자신에게 할당된 파티션만 커밋
+ *
+ * [지표]
+ * - 커밋 지연(commitAsync 요청 → 콜백), 커밋/실패 횟수
+ * - 커밋 미확정 레코드 수(커밋이 처리보다 뒤처진 정도), 처리 중 레코드 수
+ */
+@Component
+public class OffsetCommitManager implements ConsumerAwareRebalanceListener {
+
+    private static final Logger log = LoggerFactory.getLogger(OffsetCommitManager.class);
+
+    private final PartitionOffsetTracker tracker = new PartitionOffsetTracker();
+    private final List<RevokeHook> beforeRevokeHooks = new CopyOnWriteArrayList<>();
+    private final CdcMonitoringService monitoringService;
+
+    // 파티션 → 현재 할당 세대 (할당되지 않은 파티션은 없음)
+    private final Map<TopicPartition, Long> generations = new ConcurrentHashMap<>();
+    private final AtomicLong nextGeneration = new AtomicLong();
+
+    private final int minRecords;
+    private final long maxDelayNanos;
+    private final long drainTimeoutMs;
+
+    public OffsetCommitManager(CdcSyncConfig syncConfig, CdcMonitoringService monitoringService) {
+        this.monitoringService = monitoringService;
+        this.minRecords = syncConfig.getCommit().getMinRecords();
+        this.maxDelayNanos = TimeUnit.MILLISECONDS.toNanos(syncConfig.getCommit().getIntervalMs());
+        this.drainTimeoutMs = syncConfig.getParallel().getDrainTimeoutMs();
+    }
+
+    /**
+     * 파티션 회수 직전 poll 스레드에서 실행할 작업 등록 (같은 스레드가 쥔 처리 중 레코드를 먼저 완료시키는 용도)
+     */
+    public void addBeforeRevokeHook(RevokeHook hook) {
+        beforeRevokeHooks.add(hook);
+    }
+
+    /**
+     * 레코드 처리 시작 (워커로 넘기는 비동기 처리)
+     */
+    public void dispatched(ConsumerRecord<?, ?> record) {
+        tracker.dispatched(partitionOf(record), record.offset());
+    }
+
+    /**
+     * 처리 시작 취소 (워커 큐가 가득 차 넘기지 못함 → seek로 다시 수신)
+     */
+    public void cancelled(ConsumerRecord<?, ?> record) {
+        tracker.cancelled(partitionOf(record), record.offset());
+    }
+
+    /**
+     * 파티션을 지정 오프셋부터 다시 처리하도록 되돌림 (호출자가 같은 오프셋으로 seek)
+     *
+     * @return 되돌리기 전 마지막 수신 오프셋 (-1이면 추적 중 아님)
+     */
+    public long rewind(TopicPartition partition, long offset) {
+        return tracker.rewind(partition, offset);
+    }
+
+    /**
+     * 레코드 파티션의 현재 할당 세대 (할당되지 않았으면 -1)
+     */
+    public long generation(ConsumerRecord<?, ?> record) {
+        return generations.getOrDefault(partitionOf(record), -1L);
+    }
+
+    /**
+     * 전달 시점 세대가 아직 유효한지 (false면 파티션이 회수/유실됨 → 쓰지 말고 중단)
+     */
+    public boolean isCurrent(ConsumerRecord<?, ?> record, long generation) {
+        return generation >= 0 && generations.getOrDefault(partitionOf(record), -1L) == generation;
+    }
+
+    /**
+     * 비동기 처리 완료 (워커 스레드)
+     */
+    public void completed(ConsumerRecord<?, ?> record) {
+        tracker.completed(partitionOf(record), record.offset());
+    }
+
+    /**
+     * poll 스레드에서 동기 처리 완료 (또는 처리 대상이 아닌 레코드)
+     */
+    public void processed(ConsumerRecord<?, ?> record) {
+        tracker.processed(partitionOf(record), record.offset());
+    }
+
+    /**
+     * 커밋 조건을 만족한 완료 오프셋 비동기 커밋 (poll 스레드에서 호출)
+     */
+    public void maybeCommit(Consumer<?, ?> consumer) {
+        Map<TopicPartition, OffsetAndMetadata> offsets =
+                tracker.dueOffsets(consumer.assignment(), minRecords, maxDelayNanos, System.nanoTime());
+        if (offsets.isEmpty()) {
+            return;
+        }
+
+        long startNanos = System.nanoTime();
+        consumer.commitAsync(offsets, (committed, e) -> {
+            boolean success = e == null;
+            tracker.commitCompleted(offsets, success);
+            monitoringService.recordCommit(offsets.size(), System.nanoTime() - startNanos, success);
+            updateLag();
+            if (!success) {
+                log.warn("Async offset commit failed for {}: {}", offsets.keySet(), e.getMessage());
+            }
+        });
+    }
+
+    /**
+     * 유휴 상태(레코드 없음)에서도 시간 조건 커밋 (이벤트는 해당 Consumer의 poll 스레드에서 발행)
+     */
+    @EventListener
+    public void onIdle(ListenerContainerIdleEvent event) {
+        Consumer<?, ?> consumer = event.getConsumer();
+        if (consumer != null) {
+            maybeCommit(consumer);
+        }
+        updateLag();
+    }
+
+    /**
+     * 파티션 할당: 새 세대 번호
+     */
+    @Override
+    public void onPartitionsAssigned(Consumer<?, ?> consumer, Collection<TopicPartition> partitions) {
+        for (TopicPartition partition : partitions) {
+            generations.put(partition, nextGeneration.incrementAndGet());
+        }
+    }
+
+    /**
+     * 파티션 회수 직전: 처리 중 레코드 완료 대기 → 세대 폐기 → 완료 오프셋 동기 커밋
+     *
+     * 대기 시간 안에 끝나지 않은 작업(큐 대기, 재시도 중)은 세대 폐기로 다음 시도 전에 중단
+     * (콜백이 끝나기 전까지는 이 Consumer가 소유 → 대기 중 완료된 작업은 정상 반영)
+     */
+    @Override
+    public void onPartitionsRevokedBeforeCommit(Consumer<?, ?> consumer, Collection<TopicPartition> partitions) {
+        if (partitions.isEmpty()) {
+            return;
+        }
+        for (RevokeHook hook : beforeRevokeHooks) {
+            try {
+                hook.beforeRevoke(consumer);
+            } catch (RuntimeException e) {
+                log.warn("Before-revoke hook failed for {}: {}", partitions, e.getMessage());
+            }
+        }
+        try {
+            if (!tracker.awaitCompletion(partitions, drainTimeoutMs)) {
+                log.warn("Revoked partitions {} still have in-flight records after {} ms, committing completed prefix only",
+                        partitions, drainTimeoutMs);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        partitions.forEach(generations::remove);
+
+        Map<TopicPartition, OffsetAndMetadata> offsets = tracker.committableOffsets(partitions);
+        if (!offsets.isEmpty()) {
+            long startNanos = System.nanoTime();
+            boolean success = true;
+            try {
+                consumer.commitSync(offsets);
+            } catch (RuntimeException e) {
+                success = false;
+                log.warn("Offset commit on revoke failed for {}: {}", offsets.keySet(), e.getMessage());
+            }
+            monitoringService.recordCommit(offsets.size(), System.nanoTime() - startNanos, success);
+        }
+        tracker.remove(partitions);
+        updateLag();
+    }
+
+    /**
+     * 파티션 유실 (다른 Consumer에 이미 할당됨): 커밋 없이 추적만 중단
+     */
+    @Override
+    public void onPartitionsLost(Consumer<?, ?> consumer, Collection<TopicPartition> partitions) {
+        partitions.forEach(generations::remove);
+        tracker.remove(partitions);
+        updateLag();
+    }
+
+    /**
+     * 처리 중 레코드 수 (전체 파티션)
+     */
+    public int pendingCount() {
+        return tracker.pendingCount();
+    }
+
+    private void updateLag() {
+        monitoringService.updateCommitLag(tracker.uncommittedCount(), tracker.pendingCount());
+    }
+
+    private static TopicPartition partitionOf(ConsumerRecord<?, ?> record) {
+        return new TopicPartition(record.topic(), record.partition());
+    }
+
+    /**
+     * 파티션 회수 직전 작업 (회수 대상 Consumer의 poll 스레드에서 실행, 필요하면 seek 가능)
+     */
+    @FunctionalInterface
+    public interface RevokeHook {
+        void beforeRevoke(Consumer<?, ?> consumer);
+    }
+}
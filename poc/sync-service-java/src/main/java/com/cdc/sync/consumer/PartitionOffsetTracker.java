@@ -0,0 +1,318 @@
+package com.cdc.sync.consumer;
+
+import org.apache.kafka.clients.consumer.OffsetAndMetadata;
+import org.apache.kafka.common.TopicPartition;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 파티션별 처리 완료 오프셋 추적
+ *
+ * [설계 의도]
+ * - 레코드가 순서와 무관하게 완료되어도 커밋 오프셋은 "완료되지 않은 가장 낮은 오프셋"까지만 전진
+ * - 예) 10, 11, 12 수신 → 12, 10 완료 → 커밋 가능 오프셋 11 (11 미완료)
+ * - 수신(dispatched)은 poll 스레드, 완료(completed)는 poll 스레드 또는 워커 스레드에서 호출
+ *
+ * [커밋 오프셋 규칙]
+ * - Kafka 커밋 값은 "다음에 읽을 오프셋"
+ * - 미완료가 있으면 미완료 최솟값, 없으면 마지막 수신 오프셋 + 1
+ * - 요청(requested)과 확정(confirmed)을 구분: 비동기 커밋 실패 시 다음 커밋에서 다시 포함
+ */
+public class PartitionOffsetTracker {
+
+    private final Map<TopicPartition, PartitionState> partitions = new ConcurrentHashMap<>();
+
+    /**
+     * 레코드 처리 시작 기록
+     */
+    public void dispatched(TopicPartition partition, long offset) {
+        partitions.computeIfAbsent(partition, k -> new PartitionState()).dispatched(offset);
+    }
+
+    /**
+     * 레코드 처리 완료 기록 (INSERT 커밋 완료 또는 재처리하지 않는 실패)
+     */
+    public void completed(TopicPartition partition, long offset) {
+        PartitionState state = partitions.get(partition);
+        if (state != null) {
+            state.completed(offset);
+        }
+    }
+
+    /**
+     * 처리 시작 취소 (워커에 넘기지 못한 레코드, 같은 파티션에서 가장 최근에 시작한 레코드만)
+     *
+     * - 마지막 수신 오프셋을 되돌려 커밋 오프셋이 이 레코드를 넘지 않도록 (seek 후 다시 수신)
+     */
+    public void cancelled(TopicPartition partition, long offset) {
+        PartitionState state = partitions.get(partition);
+        if (state != null) {
+            state.cancelled(offset);
+        }
+    }
+
+    /**
+     * 지정 오프셋부터 처리 시작 전으로 되돌림 (seek로 다시 수신할 때, 그 이후 레코드는 완료 여부와 무관하게 버림)
+     *
+     * @return 되돌리기 전 마지막 수신 오프셋 (추적 중이 아니면 -1)
+     */
+    public long rewind(TopicPartition partition, long offset) {
+        PartitionState state = partitions.get(partition);
+        return state != null ? state.rewind(offset) : -1;
+    }
+
+    /**
+     * 시작과 동시에 완료된 레코드 (poll 스레드 동기 처리, 매핑 없는 토픽 등)
+     */
+    public void processed(TopicPartition partition, long offset) {
+        PartitionState state = partitions.computeIfAbsent(partition, k -> new PartitionState());
+        state.dispatched(offset);
+        state.completed(offset);
+    }
+
+    /**
+     * 지정 파티션 중 마지막 커밋 이후 전진한 파티션의 커밋 오프셋 (반환 시 커밋 요청된 것으로 간주)
+     */
+    public Map<TopicPartition, OffsetAndMetadata> committableOffsets(Collection<TopicPartition> scope) {
+        return dueOffsets(scope, 1, 0, System.nanoTime());
+    }
+
+    /**
+     * 커밋 조건을 만족한 파티션의 커밋 오프셋
+     *
+     * @param scope 대상 파티션 (해당 Consumer에 할당된 파티션)
+     * @param minRecords 이 건수 이상 전진했으면 커밋
+     * @param maxDelayNanos 직전 커밋 후 이 시간이 지났으면 1건이라도 커밋
+     * @param nowNanos 현재 시각 (System.nanoTime)
+     */
+    public Map<TopicPartition, OffsetAndMetadata> dueOffsets(Collection<TopicPartition> scope, int minRecords,
+                                                            long maxDelayNanos, long nowNanos) {
+        Map<TopicPartition, OffsetAndMetadata> offsets = new HashMap<>();
+        for (TopicPartition partition : scope) {
+            PartitionState state = partitions.get(partition);
+            if (state == null) {
+                continue;
+            }
+            long offset = state.takeCommittable(minRecords, maxDelayNanos, nowNanos);
+            if (offset >= 0) {
+                offsets.put(partition, new OffsetAndMetadata(offset));
+            }
+        }
+        return offsets;
+    }
+
+    /**
+     * 커밋 결과 반영
+     *
+     * @param offsets 커밋 요청한 오프셋
+     * @param success 성공 여부 (실패 시 다음 커밋 대상에 다시 포함)
+     */
+    public void commitCompleted(Map<TopicPartition, OffsetAndMetadata> offsets, boolean success) {
+        offsets.forEach((partition, offset) -> {
+            PartitionState state = partitions.get(partition);
+            if (state != null) {
+                state.commitCompleted(offset.offset(), success);
+            }
+        });
+    }
+
+    /**
+     * 지정 파티션의 처리 중 레코드가 모두 완료될 때까지 대기
+     *
+     * @return 제한 시간 내 모두 완료되면 true
+     */
+    public boolean awaitCompletion(Collection<TopicPartition> scope, long timeoutMs) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + timeoutMs;
+        for (TopicPartition partition : scope) {
+            PartitionState state = partitions.get(partition);
+            if (state != null && !state.awaitIdle(deadline)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * 파티션 추적 중단 (회수/유실 시)
+     */
+    public void remove(Collection<TopicPartition> scope) {
+        scope.forEach(partitions::remove);
+    }
+
+    /**
+     * 전체 처리 중 레코드 수
+     */
+    public int pendingCount() {
+        int count = 0;
+        for (PartitionState state : partitions.values()) {
+            count += state.pendingCount();
+        }
+        return count;
+    }
+
+    /**
+     * 처리 완료됐지만 커밋이 확정되지 않은 레코드 수 (커밋이 처리보다 뒤처진 정도)
+     */
+    public long uncommittedCount() {
+        long count = 0;
+        for (PartitionState state : partitions.values()) {
+            count += state.uncommittedCount();
+        }
+        return count;
+    }
+
+    /**
+     * 파티션 1개의 상태 (모든 접근은 인스턴스 락으로 보호)
+     *
+     * ReentrantLock + Condition: 가상 스레드가 완료 대기(awaitIdle) 중에도 캐리어를 고정하지 않음
+     */
+    private static final class PartitionState {
+        private final ReentrantLock lock = new ReentrantLock();
+        private final Condition idle = lock.newCondition();
+        private final TreeSet<Long> pending = new TreeSet<>();
+        private long highestDispatched = -1;
+        private long requested = -1;
+        private long confirmed = -1;
+        private long lastCommitNanos = System.nanoTime();
+
+        void dispatched(long offset) {
+            lock.lock();
+            try {
+                if (highestDispatched < 0) {
+                    // 할당 직후 첫 레코드: 이 오프셋부터 읽기 시작했으므로 그 앞은 커밋된 것과 같음
+                    requested = offset;
+                    confirmed = offset;
+                }
+                pending.add(offset);
+                highestDispatched = Math.max(highestDispatched, offset);
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        void completed(long offset) {
+            lock.lock();
+            try {
+                pending.remove(offset);
+                if (pending.isEmpty()) {
+                    idle.signalAll();
+                }
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        void cancelled(long offset) {
+            lock.lock();
+            try {
+                pending.remove(offset);
+                if (highestDispatched == offset) {
+                    highestDispatched = offset - 1;
+                }
+                if (pending.isEmpty()) {
+                    idle.signalAll();
+                }
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        long rewind(long offset) {
+            lock.lock();
+            try {
+                long previous = highestDispatched;
+                pending.tailSet(offset).clear();
+                highestDispatched = Math.min(highestDispatched, offset - 1);
+                if (pending.isEmpty()) {
+                    idle.signalAll();
+                }
+                return previous;
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        /**
+         * 커밋 조건을 만족하면 커밋 오프셋 반환 (아니면 -1)
+         */
+        long takeCommittable(int minRecords, long maxDelayNanos, long nowNanos) {
+            lock.lock();
+            try {
+                if (highestDispatched < 0) {
+                    return -1;
+                }
+                long committable = committable();
+                long advanced = committable - requested;
+                if (advanced <= 0) {
+                    return -1;
+                }
+                if (advanced < minRecords && nowNanos - lastCommitNanos < maxDelayNanos) {
+                    return -1;
+                }
+                requested = committable;
+                lastCommitNanos = nowNanos;
+                return committable;
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        void commitCompleted(long offset, boolean success) {
+            lock.lock();
+            try {
+                if (success) {
+                    confirmed = Math.max(confirmed, offset);
+                } else if (requested == offset) {
+                    requested = confirmed;
+                }
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        boolean awaitIdle(long deadline) throws InterruptedException {
+            lock.lock();
+            try {
+                while (!pending.isEmpty()) {
+                    long remaining = deadline - System.currentTimeMillis();
+                    if (remaining <= 0) {
+                        return false;
+                    }
+                    idle.await(remaining, TimeUnit.MILLISECONDS);
+                }
+                return true;
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        int pendingCount() {
+            lock.lock();
+            try {
+                return pending.size();
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        long uncommittedCount() {
+            lock.lock();
+            try {
+                return highestDispatched < 0 ? 0 : Math.max(0, committable() - confirmed);
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        private long committable() {
+            return pending.isEmpty() ? highestDispatched + 1 : pending.first();
+        }
+    }
+}
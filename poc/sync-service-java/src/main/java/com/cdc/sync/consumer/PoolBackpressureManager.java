@@ -0,0 +1,270 @@
+package com.cdc.sync.consumer;
+
+import com.cdc.sync.config.CdcSimulatorConfig.SyncDirection;
+import com.cdc.sync.config.CdcSyncConfig;
+import com.cdc.sync.config.CdcSyncConfig.BackpressureConfig;
+import com.cdc.sync.consumer.TopicRouter.Route;
+import com.cdc.sync.service.CdcMonitoringService;
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.HikariPoolMXBean;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.apache.kafka.common.TopicPartition;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.kafka.config.KafkaListenerEndpointRegistry;
+import org.springframework.kafka.listener.MessageListenerContainer;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 대상 DB 커넥션 풀 기반 백프레셔 (토픽 파티션 일시정지/재개)
+ *
+ * [문제]
+ * - 대상 DB가 느려지면 Consumer 스레드가 connection-timeout(30초)까지 커넥션 대기
+ * - poll 간격이 max.poll.interval.ms를 넘어 리밸런스 → 처리 중단이 더 길어짐
+ *
+ * [설계 의도]
+ * - 대상 DB별 Hikari 풀 지표(활성, 대기 스레드, 평균 획득 시간)를 주기적으로 점검
+ * - 풀이 포화되면 그 DB로 들어가는 방향의 토픽 파티션만 pausePartition
+ *   (ASIS DB 포화 → tobe.* 토픽, TOBE DB 포화 → asis.* 토픽 / 반대 방향은 계속 처리)
+ * - 일시정지 중에도 poll은 계속 → 하트비트/poll 간격 유지, 리밸런스 없음
+ * - 재시도 단계 토픽(CdcRetryConsumer가 직접 만든 컨테이너)은 두 방향이 공유
+ *   → 어느 쪽 풀이든 포화되면 정지, 두 풀 모두 재개 조건을 만족해야 재개
+ * - 히스테리시스: 정지 조건과 재개 조건을 분리 + 최소 정지 시간 (정지/재개 반복 방지)
+ *
+ * [포화 판단]
+ * - 정지: (대기 스레드 > 0 이고 활성 = 최대) 또는 평균 획득 시간 ≥ pause-acquire-ms
+ * - 재개: 대기 스레드 = 0, 활성 ≤ 최대 × resume-active-ratio, 평균 획득 시간 < resume-acquire-ms,
+ *         최소 정지 시간(min-pause-ms) 경과
+ * - 평균 획득 시간: Micrometer hikaricp.connections.acquire 타이머의 점검 주기 간 증분 평균
+ *
+ * [지표]
+ * - 방향별 일시정지 횟수/누적 시간, 풀 상태 → /api/monitoring/stats 의 backpressureStats
+ */
+@Component
+@ConditionalOnProperty(prefix = "cdc.sync.backpressure", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class PoolBackpressureManager {
+
+    private static final Logger log = LoggerFactory.getLogger(PoolBackpressureManager.class);
+
+    private final KafkaListenerEndpointRegistry listenerRegistry;
+    private final ObjectProvider<CdcRetryConsumer> retryConsumer;
+    private final TopicRouter topicRouter;
+    private final CdcMonitoringService monitoringService;
+    private final BackpressureConfig config;
+    private final List<PoolGuard> guards;
+
+    public PoolBackpressureManager(
+            @Qualifier("asisDataSource") DataSource asisDataSource,
+            @Qualifier("tobeDataSource") DataSource tobeDataSource,
+            ObjectProvider<MeterRegistry> meterRegistry,
+            KafkaListenerEndpointRegistry listenerRegistry,
+            ObjectProvider<CdcRetryConsumer> retryConsumer,
+            TopicRouter topicRouter,
+            CdcMonitoringService monitoringService,
+            CdcSyncConfig syncConfig) {
+        this.listenerRegistry = listenerRegistry;
+        this.retryConsumer = retryConsumer;
+        this.topicRouter = topicRouter;
+        this.monitoringService = monitoringService;
+        this.config = syncConfig.getBackpressure();
+
+        MeterRegistry registry = meterRegistry.getIfAvailable();
+        // ASIS DB에 쓰는 방향 = TOBE→ASIS, TOBE DB에 쓰는 방향 = ASIS→TOBE
+        this.guards = List.of(
+                new PoolGuard(SyncDirection.TOBE_TO_ASIS, (HikariDataSource) asisDataSource, registry),
+                new PoolGuard(SyncDirection.ASIS_TO_TOBE, (HikariDataSource) tobeDataSource, registry));
+    }
+
+    /**
+     * 풀 상태 점검 → 일시정지/재개 판단
+     */
+    @Scheduled(fixedDelayString = "${cdc.sync.backpressure.check-interval-ms:500}")
+    public void check() {
+        for (PoolGuard guard : guards) {
+            PoolSnapshot snapshot = guard.sample();
+            if (snapshot == null) {
+                continue;   // 풀 미기동 (첫 커넥션 요청 전)
+            }
+            monitoringService.updatePoolState(guard.direction.name(), snapshot.active(), snapshot.pending(),
+                    snapshot.max(), Double.isNaN(snapshot.acquireMs()) ? 0 : snapshot.acquireMs());
+
+            if (!guard.paused) {
+                String reason = saturationReason(snapshot);
+                if (reason != null) {
+                    guard.paused = true;
+                    guard.pausedAtNanos = System.nanoTime();
+                    monitoringService.recordPause(guard.direction.name(), reason);
+                    log.warn("Pausing {} partitions: {} pool saturated ({})",
+                            guard.direction, guard.poolName, reason);
+                }
+            } else if (isCalm(snapshot, guard)) {
+                resume(guard);
+                continue;
+            }
+
+            if (guard.paused) {
+                // 일시정지 중 새로 할당된 파티션도 정지
+                pause(guard);
+            }
+        }
+    }
+
+    private String saturationReason(PoolSnapshot snapshot) {
+        if (snapshot.pending() > 0 && snapshot.active() >= snapshot.max()) {
+            return "active=" + snapshot.active() + "/" + snapshot.max() + ", pending=" + snapshot.pending();
+        }
+        if (!Double.isNaN(snapshot.acquireMs()) && snapshot.acquireMs() >= config.getPauseAcquireMs()) {
+            return String.format("acquire=%.0fms", snapshot.acquireMs());
+        }
+        return null;
+    }
+
+    private boolean isCalm(PoolSnapshot snapshot, PoolGuard guard) {
+        long pausedMs = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - guard.pausedAtNanos);
+        return pausedMs >= config.getMinPauseMs()
+                && snapshot.pending() == 0
+                && snapshot.active() <= snapshot.max() * config.getResumeActiveRatio()
+                && (Double.isNaN(snapshot.acquireMs()) || snapshot.acquireMs() < config.getResumeAcquireMs());
+    }
+
+    private void pause(PoolGuard guard) {
+        for (MessageListenerContainer container : listenerRegistry.getListenerContainers()) {
+            Collection<TopicPartition> assigned = container.getAssignedPartitions();
+            if (assigned == null) {
+                continue;
+            }
+            for (TopicPartition partition : assigned) {
+                if (feeds(partition, guard.direction) && !container.isPartitionPauseRequested(partition)) {
+                    container.pausePartition(partition);
+                    guard.pausedPartitions.add(new PausedPartition(container, partition));
+                }
+            }
+        }
+
+        // 재시도 단계 토픽: 방향 구분 없이 정지, 다른 방향이 이미 정지했어도 함께 보유 (재개 시점 판단용)
+        CdcRetryConsumer retry = retryConsumer.getIfAvailable();
+        if (retry == null) {
+            return;
+        }
+        for (MessageListenerContainer container : retry.getContainers()) {
+            Collection<TopicPartition> assigned = container.getAssignedPartitions();
+            if (assigned == null) {
+                continue;
+            }
+            for (TopicPartition partition : assigned) {
+                PausedPartition paused = new PausedPartition(container, partition);
+                if (!container.isPartitionPauseRequested(partition)) {
+                    container.pausePartition(partition);
+                    guard.pausedPartitions.add(paused);
+                } else if (isHeldByOther(paused, guard)) {
+                    guard.pausedPartitions.add(paused);
+                }
+            }
+        }
+    }
+
+    private void resume(PoolGuard guard) {
+        for (PausedPartition paused : guard.pausedPartitions) {
+            // 재시도 단계 파티션을 다른 방향이 아직 정지 중이면 유지
+            if (!isHeldByOther(paused, guard)) {
+                paused.container().resumePartition(paused.partition());
+            }
+        }
+        long pausedNanos = System.nanoTime() - guard.pausedAtNanos;
+        log.info("Resuming {} partitions ({}) after {} ms",
+                guard.direction, guard.pausedPartitions.size(), TimeUnit.NANOSECONDS.toMillis(pausedNanos));
+
+        guard.pausedPartitions.clear();
+        guard.paused = false;
+        monitoringService.recordResume(guard.direction.name(), pausedNanos);
+    }
+
+    private boolean isHeldByOther(PausedPartition paused, PoolGuard guard) {
+        for (PoolGuard other : guards) {
+            if (other != guard && other.paused && other.pausedPartitions.contains(paused)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private boolean feeds(TopicPartition partition, SyncDirection direction) {
+        Route route = topicRouter.getRoutes().get(partition.topic());
+        return route != null && route.direction() == direction;
+    }
+
+    /**
+     * 풀 상태 스냅샷
+     *
+     * @param acquireMs 직전 점검 이후 평균 획득 시간 (획득이 없었으면 NaN)
+     */
+    private record PoolSnapshot(int active, int pending, int max, double acquireMs) {}
+
+    private record PausedPartition(MessageListenerContainer container, TopicPartition partition) {}
+
+    /**
+     * 대상 DB 풀 1개 + 그 DB로 들어가는 방향의 일시정지 상태 (점검 스레드에서만 접근)
+     */
+    private static final class PoolGuard {
+        private final SyncDirection direction;
+        private final HikariDataSource dataSource;
+        private final String poolName;
+        private final MeterRegistry meterRegistry;
+        private final Set<PausedPartition> pausedPartitions = new HashSet<>();
+
+        private boolean paused;
+        private long pausedAtNanos;
+        private long lastAcquireCount;
+        private double lastAcquireTotalNanos;
+
+        PoolGuard(SyncDirection direction, HikariDataSource dataSource, MeterRegistry meterRegistry) {
+            this.direction = direction;
+            this.dataSource = dataSource;
+            this.poolName = dataSource.getPoolName();
+            this.meterRegistry = meterRegistry;
+        }
+
+        PoolSnapshot sample() {
+            HikariPoolMXBean pool = dataSource.getHikariPoolMXBean();
+            if (pool == null) {
+                return null;
+            }
+            return new PoolSnapshot(pool.getActiveConnections(), pool.getThreadsAwaitingConnection(),
+                    dataSource.getMaximumPoolSize(), sampleAcquireMs());
+        }
+
+        /**
+         * 직전 점검 이후 평균 커넥션 획득 시간 (Micrometer 타이머 증분)
+         */
+        private double sampleAcquireMs() {
+            if (meterRegistry == null) {
+                return Double.NaN;
+            }
+            Timer timer = meterRegistry.find("hikaricp.connections.acquire").tag("pool", poolName).timer();
+            if (timer == null) {
+                return Double.NaN;
+            }
+
+            long count = timer.count();
+            double totalNanos = timer.totalTime(TimeUnit.NANOSECONDS);
+            long deltaCount = count - lastAcquireCount;
+            double deltaNanos = totalNanos - lastAcquireTotalNanos;
+            lastAcquireCount = count;
+            lastAcquireTotalNanos = totalNanos;
+
+            return deltaCount > 0 ? deltaNanos / deltaCount / 1_000_000.0 : Double.NaN;
+        }
+    }
+}
@@ -0,0 +1,217 @@
+package com.cdc.sync.consumer;
+
+import com.cdc.sync.domain.CdcEvent;
+import com.cdc.sync.service.CdcSyncService;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import org.apache.kafka.common.errors.SerializationException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Debezium 메시지 스트리밍 파서 (Jackson JsonParser 기반)
+ *
+ * [설계 의도]
+ * - 레코드 바이트(byte[])를 String 변환 없이 토큰 단위로 읽음
+ * - schema 블록은 skipChildren()으로 건너뛰어 Map/String 객체를 만들지 않음
+ *   (블록의 바이트 범위만 JsonRowSchemaCache에 넘겨 토픽별 스키마 버전 조회)
+ * - payload 필드를 읽는 즉시 CdcEvent에 채움 (중간 Map + 캐스팅 없음)
+ *
+ * [지원 형식]
+ * - schemas.enable=true : { "schema": {...}, "payload": {...} }
+ * - schemas.enable=false: { "before": ..., "after": ..., "op": ... }
+ *
+ * [호환성]
+ * - before/after/source 값은 기존 ObjectMapper 파서와 같은 타입으로 생성
+ *   (LinkedHashMap, Integer/Long/BigInteger, Double) → 동일 데이터면 동일 해시
+ */
+@Component
+public class StreamingDebeziumParser implements CdcEventDeserializer {
+
+    private static final Logger log = LoggerFactory.getLogger(StreamingDebeziumParser.class);
+
+    // JsonFactory는 스레드 안전 (파서 인스턴스만 호출마다 생성)
+    private final JsonFactory jsonFactory = new JsonFactory();
+    private final JsonRowSchemaCache schemaCache = new JsonRowSchemaCache();
+
+    @Override
+    public String format() {
+        return "json";
+    }
+
+    /**
+     * 레코드 값 역직렬화 (CHANGE_HASH는 CdcSyncService가 생성)
+     */
+    @Override
+    public CdcEvent deserialize(String topic, byte[] data) {
+        return read(topic, data);
+    }
+
+    /**
+     * Debezium 메시지 파싱 (토픽 구분 없음)
+     *
+     * @param message 레코드 값 (UTF-8 JSON 바이트)
+     * @return CdcEvent 객체 (빈 메시지, tombstone이면 null)
+     * @throws SerializationException JSON 파싱 실패
+     */
+    public CdcEvent parse(byte[] message) {
+        return parse("", message);
+    }
+
+    /**
+     * Debezium 메시지 파싱
+     *
+     * @param topic 원본 토픽 (스키마 버전 캐시 키)
+     * @param message 레코드 값 (UTF-8 JSON 바이트)
+     * @return CdcEvent 객체 (스냅샷 행 외에는 CHANGE_HASH 포함, 빈 메시지, tombstone이면 null)
+     * @throws SerializationException JSON 파싱 실패
+     */
+    public CdcEvent parse(String topic, byte[] message) {
+        CdcEvent event = read(topic, message);
+        // Hash 생성 (스냅샷 행은 cdc.sync.snapshot.skip-hash 설정에 따라 CdcSyncService가 생성)
+        if (event != null && event.getData() != null && !event.isSnapshot()) {
+            event.setChangeHash(CdcSyncService.generateHash(event.getData()));
+        }
+        return event;
+    }
+
+    /**
+     * Debezium 메시지 → CdcEvent (해시 없음)
+     */
+    private CdcEvent read(String topic, byte[] message) {
+        if (message == null || message.length == 0) {
+            return null;
+        }
+
+        try (JsonParser parser = jsonFactory.createParser(message)) {
+            if (parser.nextToken() != JsonToken.START_OBJECT) {
+                throw new SerializationException("Failed to parse Debezium message from " + topic + ": not a JSON object");
+            }
+
+            CdcEvent event = new CdcEvent();
+            boolean hasPayload = true;
+
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String field = parser.currentName();
+                JsonToken token = parser.nextToken();
+
+                switch (field) {
+                    case "schema" -> {
+                        int from = (int) parser.currentTokenLocation().getByteOffset();
+                        parser.skipChildren();
+                        if (token == JsonToken.START_OBJECT) {
+                            int to = (int) parser.currentLocation().getByteOffset();
+                            event.setSchema(schemaCache.resolve(topic, message, from, to));
+                        }
+                    }
+                    case "payload" -> {
+                        if (token == JsonToken.START_OBJECT) {
+                            readPayload(parser, event);
+                        } else {
+                            hasPayload = false;
+                        }
+                    }
+                    // schemas.enable=false: 최상위가 곧 payload
+                    default -> readPayloadField(parser, field, event);
+                }
+            }
+
+            if (!hasPayload) {
+                log.debug("Skipped Debezium message without payload");
+                return null;
+            }
+
+            if (event.getOperation() == null) {
+                event.setOperation(CdcEvent.convertOperation(null));
+            }
+            if (event.getSourceTimestamp() == null) {
+                event.setSourceTimestamp(CdcEvent.convertTimestamp(null));
+            }
+
+            log.debug("Parsed CDC event: {}", event);
+            return event;
+
+        } catch (IOException e) {
+            // 호출자가 재시도 단계(최종 DLT)로 이동
+            throw new SerializationException("Failed to parse Debezium message from " + topic + ": " + e.getMessage(), e);
+        }
+    }
+
+    /**
+     * payload 객체 읽기 (현재 토큰: START_OBJECT)
+     */
+    private void readPayload(JsonParser parser, CdcEvent event) throws IOException {
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.currentName();
+            parser.nextToken();
+            readPayloadField(parser, field, event);
+        }
+    }
+
+    /**
+     * payload 필드 1개 읽기 (현재 토큰: 필드 값)
+     */
+    private void readPayloadField(JsonParser parser, String field, CdcEvent event) throws IOException {
+        switch (field) {
+            case "op" -> event.setOperation(CdcEvent.convertOperation(parser.getValueAsString()));
+            case "ts_ms" -> {
+                if (parser.currentToken() == JsonToken.VALUE_NUMBER_INT) {
+                    event.setSourceTimestamp(CdcEvent.convertTimestamp(parser.getLongValue()));
+                }
+            }
+            case "before" -> event.setBefore(readObject(parser));
+            case "after" -> event.setAfter(readObject(parser));
+            case "source" -> event.setSource(readObject(parser));
+            // transaction 등 사용하지 않는 필드
+            default -> parser.skipChildren();
+        }
+    }
+
+    /**
+     * JSON 객체 → Map (현재 토큰: START_OBJECT 또는 VALUE_NULL)
+     */
+    private Map<String, Object> readObject(JsonParser parser) throws IOException {
+        if (parser.currentToken() != JsonToken.START_OBJECT) {
+            parser.skipChildren();
+            return null;
+        }
+
+        Map<String, Object> map = new LinkedHashMap<>();
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.currentName();
+            parser.nextToken();
+            map.put(field, readValue(parser));
+        }
+        return map;
+    }
+
+    /**
+     * JSON 값 → Java 객체 (ObjectMapper의 기본 Map 역직렬화와 같은 타입)
+     */
+    private Object readValue(JsonParser parser) throws IOException {
+        return switch (parser.currentToken()) {
+            case VALUE_STRING -> parser.getText();
+            case VALUE_NUMBER_INT -> parser.getNumberValue();
+            case VALUE_NUMBER_FLOAT -> parser.getDoubleValue();
+            case VALUE_TRUE -> Boolean.TRUE;
+            case VALUE_FALSE -> Boolean.FALSE;
+            case START_OBJECT -> readObject(parser);
+            case START_ARRAY -> {
+                List<Object> list = new ArrayList<>();
+                while (parser.nextToken() != JsonToken.END_ARRAY) {
+                    list.add(readValue(parser));
+                }
+                yield list;
+            }
+            default -> null;
+        };
+    }
+}
@@ -0,0 +1,110 @@
+package com.cdc.sync.consumer;
+
+import com.cdc.sync.config.CdcSimulatorConfig.SyncDirection;
+import com.cdc.sync.config.CdcSyncConfig;
+import com.cdc.sync.config.CdcSyncConfig.TopicMapping;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.regex.Pattern;
+
+/**
+ * 토픽 라우터 (토픽 → 동기화 방향 + 대상 CDC 테이블)
+ *
+ * [설계 의도]
+ * - application.yml의 cdc.sync.asis-to-tobe / tobe-to-asis 목록으로 기동 시 1회 구성
+ * - 구성 후에는 불변 Map이므로 Consumer 스레드 간 동기화 없이 조회
+ * - 테이블이 늘어나도 리스너/Consumer 수는 그대로, 매핑만 추가
+ *
+ * [검증]
+ * - 같은 토픽이 중복 매핑되면 기동 실패
+ * - 구독 패턴에 맞지 않는 토픽은 수신되지 않으므로 경고
+ * - coalesce=true 매핑이 있는데 배치 모드가 꺼져 있으면 경고 (병합은 배치 Consumer에서만 동작)
+ */
+@Component
+public class TopicRouter {
+
+    private static final Logger log = LoggerFactory.getLogger(TopicRouter.class);
+
+    private final Map<String, Route> routes;
+
+    // 매핑 없는 토픽 (경고 로그를 토픽당 1회만 남기기 위함)
+    private final Set<String> unmappedTopics = ConcurrentHashMap.newKeySet();
+
+    public TopicRouter(CdcSyncConfig syncConfig) {
+        Map<String, Route> map = new HashMap<>();
+        addRoutes(map, syncConfig.getAsisToTobe(), SyncDirection.ASIS_TO_TOBE);
+        addRoutes(map, syncConfig.getTobeToAsis(), SyncDirection.TOBE_TO_ASIS);
+        this.routes = Map.copyOf(map);
+
+        Pattern pattern = Pattern.compile(syncConfig.getTopicPattern());
+        for (String topic : routes.keySet()) {
+            if (!pattern.matcher(topic).matches()) {
+                log.warn("Topic {} does not match subscription pattern {} and will not be consumed",
+                        topic, syncConfig.getTopicPattern());
+            }
+        }
+        if (!syncConfig.getBatch().isEnabled()) {
+            List<String> coalescing = routes.values().stream()
+                    .filter(Route::coalesce)
+                    .map(Route::sourceTopic)
+                    .sorted()
+                    .toList();
+            if (!coalescing.isEmpty()) {
+                log.warn("coalesce=true has no effect without cdc.sync.batch.enabled=true, not coalescing {}",
+                        coalescing);
+            }
+        }
+        log.info("Topic routes loaded: {} topics (pattern={})", routes.size(), syncConfig.getTopicPattern());
+    }
+
+    /**
+     * 토픽의 라우팅 정보 조회
+     *
+     * @param topic Kafka 토픽명
+     * @return 라우팅 정보 (매핑이 없으면 null)
+     */
+    public Route route(String topic) {
+        Route route = routes.get(topic);
+        if (route == null && unmappedTopics.add(topic)) {
+            log.warn("No route configured for topic {}, records will be skipped", topic);
+        }
+        return route;
+    }
+
+    /**
+     * 전체 라우팅 정보 (불변)
+     */
+    public Map<String, Route> getRoutes() {
+        return routes;
+    }
+
+    private static void addRoutes(Map<String, Route> map, List<TopicMapping> mappings, SyncDirection direction) {
+        for (TopicMapping mapping : mappings) {
+            Route route = new Route(mapping.getSourceTopic(), direction, mapping.getTargetTable(),
+                    mapping.getFormat(), mapping.isCoalesce());
+            Route previous = map.put(mapping.getSourceTopic(), route);
+            if (previous != null) {
+                throw new IllegalStateException("Duplicate route for topic: " + mapping.getSourceTopic());
+            }
+        }
+    }
+
+    /**
+     * 라우팅 정보
+     *
+     * @param sourceTopic 원본 Kafka 토픽
+     * @param direction 동기화 방향 (ASIS_TO_TOBE 또는 TOBE_TO_ASIS)
+     * @param targetTable 대상 CDC 테이블명
+     * @param format 메시지 형식 (json, avro)
+     * @param coalesce 배치 안에서 같은 PK 변경 병합 여부
+     */
+    public record Route(String sourceTopic, SyncDirection direction, String targetTable, String format,
+                        boolean coalesce) {}
+}
@@ -0,0 +1,58 @@
+package com.cdc.sync.controller;
+
+import com.cdc.sync.consumer.CdcRetryPublisher;
+import com.cdc.sync.service.CdcMonitoringService;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * 재시도 단계/DLT REST API 컨트롤러
+ *
+ * [엔드포인트]
+ * - GET  /api/monitoring/dlt: 재시도 단계/DLT별 발행·복구·재주입 건수, 최초 실패 이후 경과 시간
+ * - POST /api/monitoring/dlt/replay?max=N: DLT 레코드를 첫 재시도 단계로 재주입
+ *
+ * [프로덕션 고려사항]
+ * - 재주입은 원인(스키마/데이터) 수정 후 운영자가 실행 → 인증/인가 필수
+ */
+@RestController
+@RequestMapping("/api/monitoring/dlt")
+@CrossOrigin(origins = "*")  // TODO: 프로덕션에서는 특정 도메인만 허용
+public class DeadLetterController {
+
+    private final CdcRetryPublisher retryPublisher;
+    private final CdcMonitoringService monitoringService;
+
+    public DeadLetterController(CdcRetryPublisher retryPublisher, CdcMonitoringService monitoringService) {
+        this.retryPublisher = retryPublisher;
+        this.monitoringService = monitoringService;
+    }
+
+    /**
+     * 재시도 단계/DLT 통계 조회
+     */
+    @GetMapping
+    public ResponseEntity<Map<String, CdcMonitoringService.RetryTierStats>> getRetryStats() {
+        return ResponseEntity.ok(monitoringService.getStats().retryStats);
+    }
+
+    /**
+     * DLT 재주입
+     */
+    @PostMapping("/replay")
+    public ResponseEntity<Map<String, Object>> replay(@RequestParam(defaultValue = "1000") int max) {
+        Map<String, Object> response = new HashMap<>();
+        try {
+            response.put("replayed", retryPublisher.replayDeadLetters(max));
+            response.put("success", true);
+            return ResponseEntity.ok(response);
+        } catch (RuntimeException e) {
+            response.put("success", false);
+            response.put("message", e.getMessage());
+            return ResponseEntity.internalServerError().body(response);
+        }
+    }
+}
@@ -1,8 +1,12 @@
 package com.cdc.sync.controller;
 
 import com.cdc.sync.service.CdcMonitoringService;
+import com.cdc.sync.service.MonitoringStream;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 import java.util.HashMap;
 import java.util.List;
@@ -31,9 +35,11 @@ import java.util.Map;
 public class MonitoringController {
 
     private final CdcMonitoringService monitoringService;
+    private final MonitoringStream monitoringStream;
 
-    public MonitoringController(CdcMonitoringService monitoringService) {
+    public MonitoringController(CdcMonitoringService monitoringService, MonitoringStream monitoringStream) {
         this.monitoringService = monitoringService;
+        this.monitoringStream = monitoringStream;
     }
 
     /**
@@ -76,6 +82,43 @@ public class MonitoringController {
         return ResponseEntity.ok(dashboard);
     }
 
+    /**
+     * 대시보드 변경분 SSE 스트림 (폴링 대체)
+     *
+     * [설계 의도]
+     * - 연결 직후 snapshot 1회, 이후 변경이 있을 때만 delta (새 이벤트/에러 + 카운터 증가분)
+     * - 구독자당 초당 최대 cdc.sync.monitoring-stream.max-frames-per-sec 프레임
+     */
+    @GetMapping(path = "/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public ResponseEntity<SseEmitter> stream() {
+        SseEmitter emitter = monitoringStream.subscribe();
+        if (emitter == null) {
+            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).build();
+        }
+        return ResponseEntity.ok(emitter);
+    }
+
+    /**
+     * 처리량/에러율/INSERT 지연 시계열 (차트용 배열)
+     *
+     * @param window 10m(최근 10분, 초 단위 버킷) 또는 24h(최근 24시간, 분 단위 버킷)
+     * @param table 대상 CDC 테이블 필터 (예: CDC_TOBE_BOOK, 없으면 전체 토픽)
+     * @param points 최대 점 개수 (버킷 여러 개를 한 점으로 합침)
+     */
+    @GetMapping("/timeseries")
+    public ResponseEntity<?> getTimeSeries(
+            @RequestParam(defaultValue = "10m") String window,
+            @RequestParam(required = false) String table,
+            @RequestParam(defaultValue = "120") int points) {
+        if (!"10m".equals(window) && !"24h".equals(window)) {
+            Map<String, String> response = new HashMap<>();
+            response.put("status", "error");
+            response.put("message", "window must be 10m or 24h");
+            return ResponseEntity.badRequest().body(response);
+        }
+        return ResponseEntity.ok(monitoringService.getTimeSeries(window, table, points));
+    }
+
     /**
      * 통계 초기화
      */
@@ -0,0 +1,93 @@
+package com.cdc.sync.controller;
+
+import com.cdc.sync.service.CdcMonitoringService;
+import com.cdc.sync.service.RetentionService;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.io.IOException;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * 보존/보관 REST API 컨트롤러
+ *
+ * [엔드포인트]
+ * - GET  /api/monitoring/retention: 테이블별 보관/삭제 건수, 세그먼트 크기, 회수 크기 추정치
+ * - POST /api/monitoring/retention/run: 다음 주기를 기다리지 않고 1회 실행
+ * - GET  /api/monitoring/retention/lookup?table=...&pk=...|hash=...: 세그먼트 파일에 보관된 행 조회
+ *
+ * [프로덕션 고려사항]
+ * - 보관 행에는 원본 데이터가 그대로 있음 → 조회 API 인증/인가 필수
+ */
+@RestController
+@RequestMapping("/api/monitoring/retention")
+@CrossOrigin(origins = "*")  // TODO: 프로덕션에서는 특정 도메인만 허용
+public class RetentionController {
+
+    private final ObjectProvider<RetentionService> retentionService;
+    private final CdcMonitoringService monitoringService;
+
+    public RetentionController(ObjectProvider<RetentionService> retentionService,
+                               CdcMonitoringService monitoringService) {
+        this.retentionService = retentionService;
+        this.monitoringService = monitoringService;
+    }
+
+    /**
+     * 보존 통계 조회
+     */
+    @GetMapping
+    public ResponseEntity<Map<String, CdcMonitoringService.RetentionStats>> getRetentionStats() {
+        return ResponseEntity.ok(monitoringService.getStats().retentionStats);
+    }
+
+    /**
+     * 보관/삭제 1회 실행
+     */
+    @PostMapping("/run")
+    public ResponseEntity<Map<String, Object>> run() {
+        Map<String, Object> response = new HashMap<>();
+        RetentionService service = retentionService.getIfAvailable();
+        if (service == null) {
+            response.put("success", false);
+            response.put("message", "Retention is disabled (cdc.sync.retention.enabled=false)");
+            return ResponseEntity.badRequest().body(response);
+        }
+        boolean started = service.start();
+        response.put("success", true);
+        response.put("started", started);
+        response.put("message", started ? "Retention run started" : "Retention run already in progress");
+        return ResponseEntity.ok(response);
+    }
+
+    /**
+     * 보관된 행 조회 (PK 값 또는 CHANGE_HASH)
+     */
+    @GetMapping("/lookup")
+    public ResponseEntity<Map<String, Object>> lookup(
+            @RequestParam String table,
+            @RequestParam(required = false) String pk,
+            @RequestParam(required = false) String hash,
+            @RequestParam(defaultValue = "20") int limit) {
+        Map<String, Object> response = new HashMap<>();
+        RetentionService service = retentionService.getIfAvailable();
+        if (service == null || (pk == null && hash == null)) {
+            response.put("success", false);
+            response.put("message", service == null
+                    ? "Retention is disabled (cdc.sync.retention.enabled=false)"
+                    : "pk or hash is required");
+            return ResponseEntity.badRequest().body(response);
+        }
+        try {
+            response.put("rows", service.lookup(table.toUpperCase(), pk, hash, Math.max(1, limit)));
+            response.put("success", true);
+            return ResponseEntity.ok(response);
+        } catch (IOException e) {
+            response.put("success", false);
+            response.put("message", e.getMessage());
+            return ResponseEntity.internalServerError().body(response);
+        }
+    }
+}
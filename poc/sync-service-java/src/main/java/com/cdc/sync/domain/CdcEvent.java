@@ -29,7 +29,7 @@ import java.util.Map;
  * - c (create): INSERT
  * - u (update): UPDATE
  * - d (delete): DELETE
- * - r (read): 스냅샷 읽기 (INSERT로 처리)
+ * - r (read): 스냅샷 읽기 (INSERT로 처리, source.snapshot으로 구분 → isSnapshot)
  *
  * [프로덕션 고려사항]
  * - Record 또는 불변 클래스로 변경 권장
@@ -68,6 +68,11 @@ public class CdcEvent {
      */
     private String changeHash;
 
+    /**
+     * 행 스키마 (필드별 논리 타입, 스키마 버전별 공유 인스턴스)
+     */
+    private RowSchema schema = RowSchema.UNKNOWN;
+
     // ==================== Getters and Setters ====================
 
     public String getOperation() {
@@ -118,6 +123,14 @@ public class CdcEvent {
         this.changeHash = changeHash;
     }
 
+    public RowSchema getSchema() {
+        return schema;
+    }
+
+    public void setSchema(RowSchema schema) {
+        this.schema = schema != null ? schema : RowSchema.UNKNOWN;
+    }
+
     // ==================== 도메인 로직 ====================
 
     /**
@@ -156,6 +169,23 @@ public class CdcEvent {
         return null;
     }
 
+    /**
+     * 스냅샷 읽기 이벤트 여부 (source.snapshot: true, first, last, incremental 등, 실시간 변경은 false 또는 없음)
+     */
+    public boolean isSnapshot() {
+        Object snapshot = source != null ? source.get("snapshot") : null;
+        return snapshot != null && !"false".equals(snapshot.toString());
+    }
+
+    /**
+     * 테이블 스냅샷의 마지막 행 여부 (last: 전체 스냅샷 마지막, last_in_data_collection: 테이블별 마지막)
+     */
+    public boolean isSnapshotLast() {
+        Object snapshot = source != null ? source.get("snapshot") : null;
+        return snapshot != null
+                && ("last".equals(snapshot.toString()) || "last_in_data_collection".equals(snapshot.toString()));
+    }
+
     @Override
     public String toString() {
         return String.format("CdcEvent{op=%s, table=%s, hash=%s}",
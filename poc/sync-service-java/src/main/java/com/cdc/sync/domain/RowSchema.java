@@ -0,0 +1,66 @@
+package com.cdc.sync.domain;
+
+import java.util.Map;
+
+/**
+ * Debezium 행(before/after) 스키마 - 필드별 논리 타입
+ *
+ * [설계 의도]
+ * - 메시지의 schema 섹션(JSON) 또는 writer 스키마(Avro)에서 1회 생성, 스키마 버전별로 캐싱
+ * - 같은 버전의 이벤트는 같은 인스턴스를 공유 → 인스턴스 자체가 버전 식별자 (equals = 동일 인스턴스)
+ * - INSERT 계획은 이 인스턴스별로 컬럼 변환기를 고정 (값마다 컬럼명/값 크기로 타입 추측하지 않음)
+ *
+ * [예시]
+ * - REG_DATE → io.debezium.time.Timestamp
+ * - BOOK_ID  → io.debezium.data.VariableScaleDecimal
+ * - PRICE    → org.apache.kafka.connect.data.Decimal (scale 2)
+ */
+public final class RowSchema {
+
+    /**
+     * 스키마 정보 없음 (schemas.enable=false 등) → 컬럼명 기반 변환
+     */
+    public static final RowSchema UNKNOWN = new RowSchema("unknown", Map.of());
+
+    /**
+     * 필드 1개의 타입 정보
+     *
+     * @param name 필드명 (원본 컬럼명)
+     * @param logicalName 논리 타입 이름 (예: io.debezium.time.MicroTimestamp, 없으면 null)
+     * @param scale Decimal의 고정 scale (그 외 0)
+     */
+    public record Field(String name, String logicalName, int scale) {}
+
+    private final String version;
+    private final Map<String, Field> fields;
+
+    public RowSchema(String version, Map<String, Field> fields) {
+        this.version = version;
+        this.fields = Map.copyOf(fields);
+    }
+
+    /**
+     * 스키마 버전 (로그/모니터링용 식별 문자열)
+     */
+    public String getVersion() {
+        return version;
+    }
+
+    /**
+     * 필드 타입 조회
+     *
+     * @return 필드 정보 (스키마에 없으면 null)
+     */
+    public Field field(String name) {
+        return fields.get(name);
+    }
+
+    public int size() {
+        return fields.size();
+    }
+
+    @Override
+    public String toString() {
+        return "RowSchema{" + version + ", fields=" + fields.size() + "}";
+    }
+}
@@ -0,0 +1,394 @@
+package com.cdc.sync.service;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.BufferedReader;
+import java.io.Closeable;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.math.BigDecimal;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * 보관 세그먼트 파일 저장소 (로컬 디스크, 보존 대상 테이블별)
+ *
+ * [설계 의도]
+ * - 세그먼트 = gzip 압축 JSON Lines (행 1개 = JSON 객체 1줄, zcat으로 바로 확인 가능)
+ * - 색인 = 세그먼트별 작은 gzip 바이너리 파일: PK 값/해시의 32비트 지문 + 세그먼트 내 행 번호를 long 1개로 묶어 정렬
+ *   → 조회 시 색인만 읽어 이진 탐색, 후보가 있는 세그먼트만 풀어서 실제 값 비교 (지문 충돌 제거)
+ * - 쓰기는 임시 파일 → fsync → 이름 변경: 호출자는 commit이 반환된 뒤에만 원본 행 삭제
+ *
+ * [파일 배치]
+ * - {directory}/{DB}/{테이블}/{테이블}-{첫 순번}-{마지막 순번}-{yyyyMMddHHmmss}.jsonl.gz (+ .idx)
+ *
+ * [프로덕션 고려사항]
+ * - 로컬 디스크는 인스턴스와 수명이 같음 → 장기 보관은 오브젝트 스토리지로 복사
+ * - 삭제 도중 중단되면 남은 행은 다음 실행에서 다시 보관 (세그먼트 간 중복 가능, 순번으로 구분)
+ */
+public class ArchiveStore {
+
+    private static final int INDEX_MAGIC = 0x43444349;  // "CDCI"
+    private static final int INDEX_VERSION = 1;
+    private static final String SEGMENT_SUFFIX = ".jsonl.gz";
+    private static final String INDEX_SUFFIX = ".idx";
+    private static final String TEMP_SUFFIX = ".tmp";
+    private static final DateTimeFormatter STAMP = DateTimeFormatter.ofPattern("yyyyMMddHHmmss");
+
+    private final Path directory;
+    private final ObjectMapper objectMapper = new ObjectMapper()
+            .enable(DeserializationFeature.USE_BIG_DECIMAL_FOR_FLOATS);
+
+    public ArchiveStore(String directory) {
+        this.directory = Paths.get(directory);
+    }
+
+    /**
+     * 새 세그먼트 쓰기 시작 (commit 전까지는 임시 파일)
+     *
+     * @param pkColumn 색인할 PK 컬럼 (null이면 PK 색인 없음)
+     * @param hashColumn 색인할 해시 컬럼 (null이면 해시 색인 없음)
+     */
+    public SegmentWriter open(String database, String table, String pkColumn, String hashColumn) throws IOException {
+        Path tableDir = directory.resolve(database).resolve(table);
+        Files.createDirectories(tableDir);
+        return new SegmentWriter(tableDir, table, pkColumn, hashColumn);
+    }
+
+    /**
+     * 보관된 행 조회 (최근 세그먼트부터, PK 값 또는 해시 중 하나 이상 지정)
+     *
+     * @param table 보존 대상 테이블 (양쪽 DB 모두 검색)
+     * @param pkValue PK 값 (null이면 조건 없음)
+     * @param hash 해시 값 (null이면 조건 없음)
+     * @param limit 최대 행 수
+     * @return 보관 행 (컬럼 → 값, _database/_segment 포함)
+     */
+    public List<Map<String, Object>> lookup(String table, String pkValue, String hash, int limit) throws IOException {
+        List<Map<String, Object>> found = new ArrayList<>();
+        // 테이블명은 경로 일부 → 식별자 형식만 허용
+        if ((pkValue == null && hash == null) || !table.matches("[A-Z][A-Z0-9_$#]*")) {
+            return found;
+        }
+        for (Path index : indexes(table)) {
+            IndexFile indexFile = IndexFile.read(index);
+            int[] ordinals = pkValue != null ? indexFile.ordinals(indexFile.pkColumn, indexFile.pkEntries, pkValue)
+                    : indexFile.ordinals(indexFile.hashColumn, indexFile.hashEntries, hash);
+            if (ordinals.length == 0) {
+                continue;
+            }
+            Path segment = sibling(index, INDEX_SUFFIX, SEGMENT_SUFFIX);
+            scan(segment, ordinals, row -> {
+                if (found.size() < limit
+                        && (pkValue == null || pkValue.equals(text(row.get(indexFile.pkColumn))))
+                        && (hash == null || hash.equals(text(row.get(indexFile.hashColumn))))) {
+                    row.put("_database", index.getParent().getParent().getFileName().toString());
+                    row.put("_segment", segment.getFileName().toString());
+                    found.add(row);
+                }
+            });
+            if (found.size() >= limit) {
+                break;
+            }
+        }
+        return found;
+    }
+
+    /**
+     * 테이블의 색인 파일 (최근 수정 순)
+     */
+    private List<Path> indexes(String table) throws IOException {
+        List<Path> indexes = new ArrayList<>();
+        if (!Files.isDirectory(directory)) {
+            return indexes;
+        }
+        try (DirectoryStream<Path> databases = Files.newDirectoryStream(directory, Files::isDirectory)) {
+            for (Path database : databases) {
+                Path tableDir = database.resolve(table);
+                if (!Files.isDirectory(tableDir)) {
+                    continue;
+                }
+                try (DirectoryStream<Path> files = Files.newDirectoryStream(tableDir, "*" + INDEX_SUFFIX)) {
+                    files.forEach(indexes::add);
+                }
+            }
+        }
+        Map<Path, Long> modified = new HashMap<>();
+        for (Path index : indexes) {
+            modified.put(index, Files.getLastModifiedTime(index).toMillis());
+        }
+        indexes.sort(Comparator.comparing((Path index) -> modified.get(index)).reversed());
+        return indexes;
+    }
+
+    /**
+     * 세그먼트에서 지정한 행 번호의 행만 파싱 (오름차순 행 번호, 마지막 후보 이후는 읽지 않음)
+     */
+    private void scan(Path segment, int[] ordinals, Consumer<Map<String, Object>> consumer)
+            throws IOException {
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(
+                new GZIPInputStream(Files.newInputStream(segment), 64 * 1024), StandardCharsets.UTF_8))) {
+            int next = 0;
+            int ordinal = 0;
+            String line;
+            while (next < ordinals.length && (line = reader.readLine()) != null) {
+                if (ordinal == ordinals[next]) {
+                    consumer.accept(objectMapper.readValue(line, new TypeReference<LinkedHashMap<String, Object>>() {}));
+                    while (next < ordinals.length && ordinals[next] == ordinal) {
+                        next++;
+                    }
+                }
+                ordinal++;
+            }
+        }
+    }
+
+    /**
+     * 색인/비교용 문자열 (숫자는 지수 표기 없이)
+     */
+    static String text(Object value) {
+        if (value == null) {
+            return null;
+        }
+        return value instanceof BigDecimal decimal ? decimal.toPlainString() : value.toString();
+    }
+
+    private static Path sibling(Path path, String suffix, String newSuffix) {
+        String name = path.getFileName().toString();
+        return path.resolveSibling(name.substring(0, name.length() - suffix.length()) + newSuffix);
+    }
+
+    /**
+     * 세그먼트 1개 쓰기 (스레드 1개 전용)
+     */
+    public final class SegmentWriter implements Closeable {
+
+        private final Path tableDir;
+        private final String table;
+        private final String pkColumn;
+        private final String hashColumn;
+        private final Path tempSegment;
+        private final FileChannel channel;
+        private final Writer writer;
+        private final GZIPOutputStream gzip;
+
+        // (32비트 지문 << 32) | 행 번호
+        private long[] pkEntries = new long[1024];
+        private long[] hashEntries = new long[1024];
+        private int pkCount;
+        private int hashCount;
+
+        private int rows;
+        private long minKey = Long.MAX_VALUE;
+        private long maxKey = Long.MIN_VALUE;
+        private boolean committed;
+
+        private SegmentWriter(Path tableDir, String table, String pkColumn, String hashColumn) throws IOException {
+            this.tableDir = tableDir;
+            this.table = table;
+            this.pkColumn = pkColumn;
+            this.hashColumn = hashColumn;
+            this.tempSegment = Files.createTempFile(tableDir, table + "-", SEGMENT_SUFFIX + TEMP_SUFFIX);
+            this.channel = FileChannel.open(tempSegment, StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING);
+            this.gzip = new GZIPOutputStream(new BufferedOutputStream(Channels.newOutputStream(channel), 64 * 1024));
+            this.writer = new OutputStreamWriter(gzip, StandardCharsets.UTF_8);
+        }
+
+        /**
+         * 행 1개 추가
+         *
+         * @param key 순번 (CDC_SEQ 등)
+         * @param row 컬럼 → 값 (JSON 직렬화 가능한 값)
+         */
+        public void append(long key, Map<String, Object> row) throws IOException {
+            writer.write(objectMapper.writeValueAsString(row));
+            writer.write('\n');
+            if (pkColumn != null) {
+                pkEntries = add(pkEntries, pkCount, row.get(pkColumn), rows);
+                pkCount += row.get(pkColumn) != null ? 1 : 0;
+            }
+            if (hashColumn != null) {
+                hashEntries = add(hashEntries, hashCount, row.get(hashColumn), rows);
+                hashCount += row.get(hashColumn) != null ? 1 : 0;
+            }
+            minKey = Math.min(minKey, key);
+            maxKey = Math.max(maxKey, key);
+            rows++;
+        }
+
+        public int rows() {
+            return rows;
+        }
+
+        /**
+         * 세그먼트 + 색인을 디스크에 확정 (fsync 후 이름 변경)
+         *
+         * @return 확정된 세그먼트 (행이 없으면 null, 임시 파일 삭제)
+         */
+        public Segment commit() throws IOException {
+            if (rows == 0) {
+                close();
+                return null;
+            }
+            writer.flush();
+            gzip.finish();
+            gzip.flush();
+            channel.force(true);
+            writer.close();
+
+            String name = table + "-" + minKey + "-" + maxKey + "-" + LocalDateTime.now().format(STAMP);
+            Path segment = tableDir.resolve(name + SEGMENT_SUFFIX);
+            Files.move(tempSegment, segment, StandardCopyOption.ATOMIC_MOVE);
+
+            Path tempIndex = tableDir.resolve(name + INDEX_SUFFIX + TEMP_SUFFIX);
+            try (FileChannel indexChannel = FileChannel.open(tempIndex, StandardOpenOption.CREATE,
+                    StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING);
+                 GZIPOutputStream indexGzip = new GZIPOutputStream(Channels.newOutputStream(indexChannel), 64 * 1024);
+                 DataOutputStream out = new DataOutputStream(indexGzip)) {
+                out.writeInt(INDEX_MAGIC);
+                out.writeInt(INDEX_VERSION);
+                out.writeUTF(pkColumn != null ? pkColumn : "");
+                out.writeUTF(hashColumn != null ? hashColumn : "");
+                out.writeInt(rows);
+                out.writeLong(minKey);
+                out.writeLong(maxKey);
+                writeEntries(out, pkEntries, pkCount);
+                writeEntries(out, hashEntries, hashCount);
+                out.flush();
+                indexGzip.finish();
+                indexChannel.force(true);
+            }
+            Path index = tableDir.resolve(name + INDEX_SUFFIX);
+            Files.move(tempIndex, index, StandardCopyOption.ATOMIC_MOVE);
+            committed = true;
+            return new Segment(segment, rows, minKey, maxKey, Files.size(segment) + Files.size(index));
+        }
+
+        /**
+         * 확정하지 않은 세그먼트는 임시 파일 삭제
+         */
+        @Override
+        public void close() throws IOException {
+            if (committed) {
+                return;
+            }
+            committed = true;
+            try {
+                writer.close();
+            } finally {
+                Files.deleteIfExists(tempSegment);
+            }
+        }
+
+        private static long[] add(long[] entries, int count, Object value, int ordinal) {
+            String text = text(value);
+            if (text == null) {
+                return entries;
+            }
+            if (count == entries.length) {
+                entries = Arrays.copyOf(entries, count * 2);
+            }
+            entries[count] = ((long) text.hashCode() << 32) | ordinal;
+            return entries;
+        }
+
+        private static void writeEntries(DataOutputStream out, long[] entries, int count) throws IOException {
+            long[] sorted = Arrays.copyOf(entries, count);
+            Arrays.sort(sorted);
+            out.writeInt(count);
+            for (long entry : sorted) {
+                out.writeLong(entry);
+            }
+        }
+    }
+
+    /**
+     * 확정된 세그먼트
+     *
+     * @param path 세그먼트 파일
+     * @param rows 행 수
+     * @param minKey 첫 순번
+     * @param maxKey 마지막 순번
+     * @param bytes 세그먼트 + 색인 파일 크기
+     */
+    public record Segment(Path path, int rows, long minKey, long maxKey, long bytes) {}
+
+    /**
+     * 읽어 들인 색인 파일
+     */
+    private record IndexFile(String pkColumn, String hashColumn, long[] pkEntries, long[] hashEntries) {
+
+        static IndexFile read(Path index) throws IOException {
+            try (DataInputStream in = new DataInputStream(new BufferedInputStream(
+                    new GZIPInputStream(Files.newInputStream(index), 64 * 1024)))) {
+                if (in.readInt() != INDEX_MAGIC || in.readInt() != INDEX_VERSION) {
+                    throw new IOException("Not an archive index: " + index);
+                }
+                String pkColumn = in.readUTF();
+                String hashColumn = in.readUTF();
+                in.readInt();   // rows
+                in.readLong();  // minKey
+                in.readLong();  // maxKey
+                return new IndexFile(pkColumn.isEmpty() ? null : pkColumn, hashColumn.isEmpty() ? null : hashColumn,
+                        readEntries(in), readEntries(in));
+            }
+        }
+
+        private static long[] readEntries(DataInputStream in) throws IOException {
+            long[] entries = new long[in.readInt()];
+            for (int i = 0; i < entries.length; i++) {
+                entries[i] = in.readLong();
+            }
+            return entries;
+        }
+
+        /**
+         * 지문이 같은 행 번호 (오름차순, 색인 컬럼이 없으면 빈 배열)
+         */
+        int[] ordinals(String column, long[] entries, String value) {
+            if (column == null) {
+                return new int[0];
+            }
+            long fingerprint = (long) value.hashCode() << 32;
+            int from = Arrays.binarySearch(entries, fingerprint);
+            from = from >= 0 ? from : -from - 1;
+            int to = from;
+            while (to < entries.length && (entries[to] & 0xFFFFFFFF00000000L) == fingerprint) {
+                to++;
+            }
+            int[] ordinals = new int[to - from];
+            for (int i = from; i < to; i++) {
+                ordinals[i - from] = (int) entries[i];
+            }
+            Arrays.sort(ordinals);
+            return ordinals;
+        }
+    }
+}
@@ -1,25 +1,42 @@
 package com.cdc.sync.service;
 
+import com.cdc.sync.config.CdcSyncConfig;
+import com.cdc.sync.config.CdcSyncConfig.MonitoringFileConfig;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
 
+import java.io.IOException;
+import java.nio.file.Paths;
+import java.time.Instant;
 import java.time.LocalDateTime;
+import java.time.ZoneId;
 import java.time.format.DateTimeFormatter;
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
 import java.util.List;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.BiFunction;
 
 /**
  * CDC 모니터링 서비스
  *
  * [설계 의도]
- * - 인메모리 통계 관리: 실시간 모니터링용 (재시작 시 초기화됨)
- * - 스레드 안전: AtomicLong, ConcurrentHashMap, synchronized 사용
- * - 순환 버퍼: 최근 N개만 유지하여 메모리 제한
+ * - 인메모리 통계 관리: 실시간 모니터링용
+ *   토픽별 카운터와 최근 이벤트/에러는 통계 파일(MonitoringStatsFile, 메모리 매핑)에도 기록 → 재시작 시 복원
+ * - 스레드 안전: LongAdder, AtomicLong, ConcurrentHashMap 사용 (락 없음 → 가상 스레드 고정도 없음)
+ *   전체 카운터는 모든 Consumer 스레드가 매 이벤트 갱신 → 스레드별 셀에 나눠 더하는 LongAdder
+ * - 순환 버퍼: 최근 N개만 유지하여 메모리 제한 (LogRing, 시각 문자열 변환은 조회 시에만)
+ * - 시계열: 토픽별 초/분 단위 고정 크기 버킷 (TimeSeriesStore, 현재 처리 속도/에러율 추이)
  *
  * [프로덕션 고려사항]
- * - 영속성: Redis/DB 저장으로 재시작 시에도 유지
+ * - 영속성: 통계 파일은 인스턴스 로컬 디스크 → 컨테이너는 cdc.sync.monitoring-file.path를 볼륨에 두어야 유지
  * - 메트릭: Micrometer/Prometheus 연동 권장
  * - 알림: 임계치 초과 시 알림 발송 기능 추가
  *
@@ -30,49 +47,120 @@ import java.util.concurrent.atomic.AtomicLong;
 @Service
 public class CdcMonitoringService {
 
+    private static final Logger log = LoggerFactory.getLogger(CdcMonitoringService.class);
+
     // 통계 카운터 (스레드 안전)
-    private final AtomicLong totalReceived = new AtomicLong(0);
-    private final AtomicLong totalSuccess = new AtomicLong(0);
-    private final AtomicLong totalFailed = new AtomicLong(0);
+    private final LongAdder totalReceived = new LongAdder();
+    private final LongAdder totalSuccess = new LongAdder();
+    private final LongAdder totalFailed = new LongAdder();
+
+    // 통계 초기화 세대 (resetStats 시작/끝에 증가, SSE 구독자가 바뀐 것을 보면 전체 사본 재전송)
+    private final AtomicLong resetGeneration = new AtomicLong();
 
     // 테이블별 통계
     private final Map<String, TableStats> tableStats = new ConcurrentHashMap<>();
 
-    // 최근 에러 로그 (순환 버퍼, 최대 100개)
-    private final List<ErrorLog> recentErrors = new ArrayList<>();
+    // 배치 처리 통계 (대상 CDC 테이블별)
+    private final Map<String, BatchStats> batchStats = new ConcurrentHashMap<>();
+
+    // 역직렬화 통계 (메시지 형식별: json, avro)
+    private final Map<String, SerdeStats> serdeStats = new ConcurrentHashMap<>();
+
+    // 오프셋 커밋 통계
+    private volatile CommitStats commitStats = new CommitStats();
+
+    // 백프레셔 통계 (동기화 방향별: ASIS_TO_TOBE, TOBE_TO_ASIS)
+    private final Map<String, BackpressureStats> backpressureStats = new ConcurrentHashMap<>();
+
+    // 변경 병합 통계 (대상 CDC 테이블별)
+    private final Map<String, CoalesceStats> coalesceStats = new ConcurrentHashMap<>();
+    private final Map<String, InsertPlanStats> insertPlanStats = new ConcurrentHashMap<>();
+    private final Map<String, EchoStats> echoStats = new ConcurrentHashMap<>();
+    private final Map<String, SnapshotStats> snapshotStats = new ConcurrentHashMap<>();
+    private final Map<String, GroupCommitStats> groupCommitStats = new ConcurrentHashMap<>();
+    private final Map<String, DirectApplyStats> directApplyStats = new ConcurrentHashMap<>();
+    private final Map<String, WorkerStats> workerStats = new ConcurrentHashMap<>();
+    private final Map<String, WorkerTriggerStats> workerTriggerStats = new ConcurrentHashMap<>();
+    private final Map<String, RetentionStats> retentionStats = new ConcurrentHashMap<>();
+
+    // 재시도 통계 (재시도 단계 토픽/DLT별)
+    private final Map<String, RetryTierStats> retryStats = new ConcurrentHashMap<>();
+
+    // 최근 에러 로그 (순환 버퍼, 최대 100개, timestamp는 조회 시 채움)
     private static final int MAX_ERROR_LOGS = 100;
+    private final LogRing<ErrorLog> recentErrors = new LogRing<>(MAX_ERROR_LOGS);
 
-    // 최근 처리 이벤트 (순환 버퍼, 최대 50개)
-    private final List<EventLog> recentEvents = new ArrayList<>();
+    // 최근 처리 이벤트 (순환 버퍼, 최대 50개, timestamp는 조회 시 채움)
     private static final int MAX_EVENT_LOGS = 50;
+    private final LogRing<EventLog> recentEvents = new LogRing<>(MAX_EVENT_LOGS);
+
+    // 토픽별 처리량/에러/INSERT 지연 시계열 (최근 10분 초 단위, 최근 24시간 분 단위)
+    private final TimeSeriesStore timeSeries = new TimeSeriesStore();
 
-    private final DateTimeFormatter formatter = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss");
+    private final DateTimeFormatter formatter = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss")
+            .withZone(ZoneId.systemDefault());
+
+    // 재시작 후에도 유지할 카운터/최근 기록 (비활성화 또는 열기 실패 시 null)
+    private final MonitoringStatsFile statsFile;
+
+    /**
+     * 통계 파일 없이 (메모리에만)
+     */
+    public CdcMonitoringService() {
+        this.statsFile = null;
+    }
+
+    /**
+     * 통계 파일 열기 + 이전 실행의 카운터/최근 기록 복원
+     */
+    @Autowired
+    public CdcMonitoringService(CdcSyncConfig syncConfig) {
+        this.statsFile = openStatsFile(syncConfig.getMonitoringFile());
+        if (statsFile != null) {
+            restore(statsFile.restored());
+        }
+    }
+
+    @PreDestroy
+    public void close() {
+        if (statsFile != null) {
+            statsFile.close();
+        }
+    }
 
     /**
      * 이벤트 수신 기록
      */
     public void recordReceived(String topic) {
-        totalReceived.incrementAndGet();
-        getTableStats(topic).received.incrementAndGet();
+        totalReceived.increment();
+        TableStats stats = getTableStats(topic);
+        stats.received.incrementAndGet();
+        persist(stats, MonitoringStatsFile.RECEIVED, 1);
+        timeSeries.add(topic, TimeSeriesStore.RECEIVED, System.currentTimeMillis());
     }
 
     /**
      * 성공 처리 기록
      */
     public void recordSuccess(String topic, String targetTable, String operation, String hash, String dataPreview) {
-        totalSuccess.incrementAndGet();
+        totalSuccess.increment();
         TableStats stats = getTableStats(topic);
         stats.success.incrementAndGet();
         stats.lastSuccess = LocalDateTime.now();
+        long now = System.currentTimeMillis();
+        persist(stats, MonitoringStatsFile.SUCCESS, 1);
+        persistTime(stats, MonitoringStatsFile.LAST_SUCCESS_AT, now);
+        timeSeries.add(topic, TimeSeriesStore.SUCCESS, now);
+        timeSeries.table(topic, targetTable);
 
         // 최근 이벤트 기록
-        addEventLog(new EventLog(
-                LocalDateTime.now().format(formatter),
+        addEvent(now, new EventLog(
+                null,
                 "SUCCESS",
                 topic,
                 targetTable,
                 operation,
-                hash.substring(0, Math.min(16, hash.length())),
+                hash != null ? hash.substring(0, Math.min(16, hash.length())) : null,
                 null,
                 dataPreview
         ));
@@ -82,14 +170,19 @@ public class CdcMonitoringService {
      * 실패 처리 기록
      */
     public void recordFailure(String topic, String targetTable, String operation, String errorMessage, String dataPreview) {
-        totalFailed.incrementAndGet();
+        totalFailed.increment();
         TableStats stats = getTableStats(topic);
         stats.failed.incrementAndGet();
         stats.lastError = LocalDateTime.now();
+        long now = System.currentTimeMillis();
+        persist(stats, MonitoringStatsFile.FAILED, 1);
+        persistTime(stats, MonitoringStatsFile.LAST_ERROR_AT, now);
+        timeSeries.add(topic, TimeSeriesStore.FAILED, now);
+        timeSeries.table(topic, targetTable);
 
         // 에러 로그 기록
-        addErrorLog(new ErrorLog(
-                LocalDateTime.now().format(formatter),
+        addError(now, new ErrorLog(
+                null,
                 topic,
                 targetTable,
                 operation,
@@ -97,8 +190,8 @@ public class CdcMonitoringService {
         ));
 
         // 최근 이벤트 기록
-        addEventLog(new EventLog(
-                LocalDateTime.now().format(formatter),
+        addEvent(now, new EventLog(
+                null,
                 "FAILED",
                 topic,
                 targetTable,
@@ -109,64 +202,679 @@ public class CdcMonitoringService {
         ));
     }
 
+    /**
+     * CDC 테이블 INSERT 실행 시간 기록 (시계열 평균/최대 지연)
+     *
+     * @param elapsedNanos 단건 INSERT 1회 또는 JDBC batch 1회 소요 시간
+     */
+    public void recordInsertLatency(String topic, long elapsedNanos) {
+        timeSeries.addLatency(topic, elapsedNanos, System.currentTimeMillis());
+    }
+
+    /**
+     * 배치 처리 기록
+     *
+     * @param targetTable 대상 CDC 테이블명
+     * @param rows INSERT 성공 건수
+     * @param elapsedNanos 배치 처리 소요 시간 (나노초)
+     */
+    public void recordBatch(String targetTable, int rows, long elapsedNanos) {
+        BatchStats stats = batchStats.computeIfAbsent(targetTable, k -> new BatchStats());
+        double rowsPerSec = elapsedNanos > 0 ? rows * 1_000_000_000.0 / elapsedNanos : 0;
+
+        stats.batches.incrementAndGet();
+        stats.rows.addAndGet(rows);
+        stats.lastBatchSize = rows;
+        stats.lastBatchMillis = elapsedNanos / 1_000_000.0;
+        stats.lastRowsPerSec = rowsPerSec;
+        stats.maxRowsPerSec = Math.max(stats.maxRowsPerSec, rowsPerSec);
+        stats.lastBatchAt = LocalDateTime.now();
+    }
+
+    /**
+     * 역직렬화 기록
+     *
+     * @param format 메시지 형식 (json, avro)
+     * @param bytes 레코드 값 크기
+     * @param elapsedNanos 역직렬화 소요 시간 (나노초)
+     */
+    public void recordDeserialized(String format, int bytes, long elapsedNanos) {
+        SerdeStats stats = serdeStats.computeIfAbsent(format, k -> new SerdeStats());
+        stats.events.incrementAndGet();
+        stats.bytes.addAndGet(bytes);
+        stats.nanos.addAndGet(elapsedNanos);
+    }
+
+    /**
+     * 오프셋 커밋 결과 기록
+     *
+     * @param partitions 커밋한 파티션 수
+     * @param latencyNanos 커밋 요청 → 완료 소요 시간 (나노초)
+     * @param success 성공 여부
+     */
+    public void recordCommit(int partitions, long latencyNanos, boolean success) {
+        CommitStats stats = commitStats;
+        double latencyMs = latencyNanos / 1_000_000.0;
+
+        if (success) {
+            stats.commits.incrementAndGet();
+            stats.partitionsCommitted.addAndGet(partitions);
+        } else {
+            stats.failures.incrementAndGet();
+        }
+        stats.totalLatencyNanos.addAndGet(latencyNanos);
+        stats.lastLatencyMs = latencyMs;
+        stats.maxLatencyMs = Math.max(stats.maxLatencyMs, latencyMs);
+        stats.lastCommitAt = LocalDateTime.now();
+    }
+
+    /**
+     * 커밋 지연 상태 갱신
+     *
+     * @param uncommittedRecords 처리 완료됐지만 커밋 확정 전인 레코드 수
+     * @param inFlightRecords 처리 중 레코드 수
+     */
+    public void updateCommitLag(long uncommittedRecords, long inFlightRecords) {
+        CommitStats stats = commitStats;
+        stats.uncommittedRecords = uncommittedRecords;
+        stats.inFlightRecords = inFlightRecords;
+    }
+
+    /**
+     * 대상 DB 커넥션 풀 상태 갱신 (백프레셔 점검 주기마다)
+     *
+     * @param direction 동기화 방향 (해당 방향의 대상 DB 풀)
+     * @param active 사용 중 커넥션 수
+     * @param pending 커넥션 대기 스레드 수
+     * @param maxPoolSize 최대 풀 크기
+     * @param acquireMs 최근 평균 커넥션 획득 시간 (ms, 측정값 없으면 0)
+     */
+    public void updatePoolState(String direction, int active, int pending, int maxPoolSize, double acquireMs) {
+        BackpressureStats stats = getBackpressureStats(direction);
+        stats.activeConnections = active;
+        stats.pendingThreads = pending;
+        stats.maxPoolSize = maxPoolSize;
+        stats.acquireMs = acquireMs;
+    }
+
+    /**
+     * 방향별 토픽 파티션 일시정지 기록
+     */
+    public void recordPause(String direction, String reason) {
+        BackpressureStats stats = getBackpressureStats(direction);
+        stats.pauses.incrementAndGet();
+        stats.lastPauseReason = reason;
+        stats.pausedSinceNanos = System.nanoTime();
+        stats.lastPausedAt = LocalDateTime.now();
+        stats.paused = true;
+    }
+
+    /**
+     * 방향별 토픽 파티션 재개 기록
+     *
+     * @param pausedNanos 이번 일시정지 유지 시간 (나노초)
+     */
+    public void recordResume(String direction, long pausedNanos) {
+        BackpressureStats stats = getBackpressureStats(direction);
+        stats.pausedNanos.addAndGet(pausedNanos);
+        stats.paused = false;
+        stats.lastResumedAt = LocalDateTime.now();
+    }
+
+    /**
+     * 배치 윈도우 변경 병합 기록
+     *
+     * @param targetTable 대상 CDC 테이블
+     * @param inputEvents 병합 전 이벤트 수
+     * @param outputEvents 병합 후 INSERT 대상 이벤트 수
+     */
+    public void recordCoalesced(String targetTable, int inputEvents, int outputEvents) {
+        CoalesceStats stats = coalesceStats.computeIfAbsent(targetTable, k -> new CoalesceStats());
+        stats.windows.incrementAndGet();
+        stats.inputEvents.addAndGet(inputEvents);
+        stats.outputEvents.addAndGet(outputEvents);
+    }
+
+    /**
+     * INSERT 계획 캐시 조회 기록
+     *
+     * @param targetTable 대상 CDC 테이블
+     * @param hit 캐시 적중 여부 (false면 SQL/변환기 새로 생성)
+     * @param plans 미적중 시 생성 후 해당 테이블의 계획 수 (스키마 버전 x 컬럼 구성, 적중이면 무시)
+     */
+    public void recordInsertPlanLookup(String targetTable, boolean hit, int plans) {
+        InsertPlanStats stats = insertPlanStats.computeIfAbsent(targetTable, k -> new InsertPlanStats());
+        if (hit) {
+            stats.hits.incrementAndGet();
+        } else {
+            stats.misses.incrementAndGet();
+            stats.plans = plans;
+        }
+    }
+
+    /**
+     * 에코 대기 등록 기록 (양방향 테이블 변경을 CDC 테이블에 전달)
+     *
+     * @param sourceTable 전달한 변경의 원본 테이블
+     */
+    public void recordEchoTracked(String sourceTable) {
+        echoStats.computeIfAbsent(sourceTable, k -> new EchoStats()).tracked.incrementAndGet();
+    }
+
+    /**
+     * 에코 억제 기록 (INSERT 없이 폐기)
+     *
+     * @param sourceTable 폐기한 변경의 원본 테이블
+     */
+    public void recordEchoSuppressed(String sourceTable) {
+        EchoStats stats = echoStats.computeIfAbsent(sourceTable, k -> new EchoStats());
+        stats.suppressed.incrementAndGet();
+        stats.lastSuppressedAt = LocalDateTime.now();
+    }
+
+    /**
+     * 스냅샷 적재 기록 (행별 recordSuccess 대신 배치 단위로 성공 건수 반영)
+     *
+     * @param topic 원본 토픽
+     * @param sourceTable 원본 테이블 (SCHEMA.TABLE)
+     * @param targetTable 대상 CDC 테이블
+     * @param rows INSERT 성공 행 수
+     * @param elapsedNanos 이번 적재 소요 시간 (나노초)
+     * @param expectedRows 스냅샷 전체 예상 행 수 (모르면 -1)
+     * @param completed 테이블 스냅샷 마지막 행 포함 여부
+     */
+    public void recordSnapshotRows(String topic, String sourceTable, String targetTable, int rows,
+                                   long elapsedNanos, long expectedRows, boolean completed) {
+        totalSuccess.add(rows);
+        TableStats table = getTableStats(topic);
+        table.success.addAndGet(rows);
+        table.lastSuccess = LocalDateTime.now();
+        persist(table, MonitoringStatsFile.SUCCESS, rows);
+        persistTime(table, MonitoringStatsFile.LAST_SUCCESS_AT, System.currentTimeMillis());
+
+        long now = System.nanoTime();
+        // 완료된 테이블에 다시 스냅샷 행이 오면 새 스냅샷으로 보고 다시 집계
+        SnapshotStats stats = snapshotStats.compute(sourceTable, (k, existing) ->
+                existing == null || existing.completed ? new SnapshotStats(targetTable, now - elapsedNanos) : existing);
+        stats.rows.addAndGet(rows);
+        stats.expectedRows = expectedRows;
+        stats.lastNanos = now;
+        stats.lastRowAt = LocalDateTime.now();
+        if (completed) {
+            stats.completed = true;
+        }
+    }
+
+    /**
+     * 그룹 커밋 기록 (트랜잭션 1개로 여러 이벤트 커밋)
+     *
+     * @param direction 동기화 방향 (대상 DB)
+     * @param events 커밋한 이벤트 수
+     * @param elapsedNanos 커밋 소요 시간 (나노초)
+     */
+    public void recordGroupCommit(String direction, int events, long elapsedNanos) {
+        GroupCommitStats stats = groupCommitStats.computeIfAbsent(direction, k -> new GroupCommitStats());
+        stats.commits.incrementAndGet();
+        stats.events.addAndGet(events);
+        stats.lastEventsPerCommit = events;
+        stats.maxEventsPerCommit = Math.max(stats.maxEventsPerCommit, events);
+        stats.lastCommitMillis = elapsedNanos / 1_000_000.0;
+        stats.lastNanos = System.nanoTime();
+        stats.lastCommitAt = LocalDateTime.now();
+    }
+
+    /**
+     * 그룹 커밋 실패 → 건별 재반영 기록
+     *
+     * @param direction 동기화 방향 (대상 DB)
+     * @param events 건별로 다시 반영할 이벤트 수
+     */
+    public void recordGroupFallback(String direction, int events) {
+        GroupCommitStats stats = groupCommitStats.computeIfAbsent(direction, k -> new GroupCommitStats());
+        stats.fallbacks.incrementAndGet();
+        stats.fallbackEvents.addAndGet(events);
+    }
+
+    /**
+     * 직접 반영 기록 (원본 테이블 MERGE/DELETE)
+     *
+     * @param targetTable 원본 테이블
+     * @param merged MERGE(INSERT/UPDATE) 건수
+     * @param deleted 삭제한 DELETE 건수
+     * @param notFound 대상 행이 없던 DELETE 건수
+     */
+    public void recordDirectApply(String targetTable, int merged, int deleted, int notFound) {
+        DirectApplyStats stats = directApplyStats.computeIfAbsent(targetTable, k -> new DirectApplyStats());
+        stats.merged.addAndGet(merged);
+        stats.deleted.addAndGet(deleted);
+        stats.notFound.addAndGet(notFound);
+        stats.lastAppliedAt = LocalDateTime.now();
+    }
+
+    /**
+     * Java Worker 청크 1개 처리 기록 (CDC 테이블별)
+     *
+     * @param cdcTable CDC 테이블
+     * @param claimed 가져온 CDC 행 수
+     * @param applied 원본 테이블에 반영한 행 수
+     * @param loopBlocked 루프로 판정해 건너뛴 행 수 ('S')
+     * @param failed 데이터 오류 행 수 ('E')
+     * @param elapsedNanos 청크 트랜잭션 소요 시간 (커밋 포함)
+     */
+    public void recordWorkerChunk(String cdcTable, int claimed, int applied, int loopBlocked, int failed,
+                                  long elapsedNanos) {
+        WorkerStats stats = workerStats.computeIfAbsent(cdcTable, k -> new WorkerStats());
+        stats.chunks.incrementAndGet();
+        stats.rows.addAndGet(claimed);
+        stats.applied.addAndGet(applied);
+        stats.loopBlocked.addAndGet(loopBlocked);
+        stats.failed.addAndGet(failed);
+        stats.busyNanos.addAndGet(elapsedNanos);
+        stats.lastChunkRows = claimed;
+        stats.lastChunkNanos = elapsedNanos;
+        stats.lastChunkAt = LocalDateTime.now();
+    }
+
+    /**
+     * Worker 트리거 요청 기록 (CDC INSERT 반영마다, 실제 호출은 합쳐서 1회)
+     */
+    public void recordWorkerTriggerRequested(String cdcTable) {
+        getWorkerTriggerStats(cdcTable).requested.incrementAndGet();
+    }
+
+    /**
+     * Worker 프로시저 호출 결과 기록
+     *
+     * @param cdcTable CDC 테이블
+     * @param latencyNanos 가장 오래 기다린 INSERT부터 호출 시작까지 (안전망 호출이면 -1)
+     * @param runNanos 프로시저 실행 시간
+     * @param ran false면 다른 세션이 실행 중이라 건너뜀
+     */
+    public void recordWorkerTriggerRun(String cdcTable, long latencyNanos, long runNanos, boolean ran) {
+        WorkerTriggerStats stats = getWorkerTriggerStats(cdcTable);
+        if (!ran) {
+            stats.busy.incrementAndGet();
+            return;
+        }
+        stats.runs.incrementAndGet();
+        stats.lastRunMs = runNanos / 1_000_000;
+        stats.lastRunAt = LocalDateTime.now();
+        if (latencyNanos >= 0) {
+            long latencyMs = latencyNanos / 1_000_000;
+            stats.triggeredRuns.incrementAndGet();
+            stats.totalLatencyMs.addAndGet(latencyMs);
+            stats.lastLatencyMs = latencyMs;
+            stats.maxLatencyMs = Math.max(stats.maxLatencyMs, latencyMs);
+        }
+    }
+
+    /**
+     * Worker 프로시저 호출 실패 기록
+     */
+    public void recordWorkerTriggerFailure(String cdcTable) {
+        getWorkerTriggerStats(cdcTable).failed.incrementAndGet();
+    }
+
+    private WorkerTriggerStats getWorkerTriggerStats(String cdcTable) {
+        return workerTriggerStats.computeIfAbsent(cdcTable, k -> new WorkerTriggerStats());
+    }
+
+    /**
+     * 보존 세그먼트 1개 보관 + 삭제 기록
+     *
+     * @param table 보존 대상 테이블 ({DB}.{테이블})
+     * @param archived 세그먼트에 쓴 행 수
+     * @param purged 삭제한 행 수
+     * @param archiveBytes 세그먼트 + 색인 파일 크기
+     * @param reclaimedBytes 삭제한 행 데이터 크기 추정치 (VSIZE 합)
+     */
+    public void recordRetention(String table, int archived, int purged, long archiveBytes, long reclaimedBytes) {
+        RetentionStats stats = getRetentionStats(table);
+        stats.segments.incrementAndGet();
+        stats.archivedRows.addAndGet(archived);
+        stats.purgedRows.addAndGet(purged);
+        stats.archiveBytes.addAndGet(archiveBytes);
+        stats.reclaimedBytes.addAndGet(reclaimedBytes);
+        stats.lastSegmentAt = LocalDateTime.now();
+    }
+
+    /**
+     * 보존 실행 1회 완료 기록 (테이블별)
+     *
+     * @param table 보존 대상 테이블 ({DB}.{테이블})
+     * @param elapsedMs 실행 시간 (삭제 배치 사이 대기 포함)
+     * @param error 실패 메시지 (성공이면 null)
+     */
+    public void recordRetentionRun(String table, long elapsedMs, String error) {
+        RetentionStats stats = getRetentionStats(table);
+        stats.runs.incrementAndGet();
+        stats.lastRunMs = elapsedMs;
+        stats.lastRunAt = LocalDateTime.now();
+        if (error != null) {
+            stats.failures.incrementAndGet();
+            stats.lastError = error;
+        }
+    }
+
+    private RetentionStats getRetentionStats(String table) {
+        return retentionStats.computeIfAbsent(table, k -> new RetentionStats());
+    }
+
+    /**
+     * 재시도 단계(또는 DLT)로 레코드 이동 기록
+     *
+     * @param tier 재시도 단계 토픽 또는 DLT
+     * @param ageMs 최초 실패 이후 경과 시간 (ms)
+     */
+    public void recordRetryPublished(String tier, long ageMs) {
+        RetryTierStats stats = getRetryStats(tier);
+        stats.published.incrementAndGet();
+        stats.lastAgeMs = ageMs;
+        stats.maxAgeMs = Math.max(stats.maxAgeMs, ageMs);
+        stats.lastPublishedAt = LocalDateTime.now();
+    }
+
+    /**
+     * 재시도 단계에서 처리 성공 기록
+     *
+     * @param tier 재시도 단계 토픽
+     * @param ageMs 최초 실패 이후 경과 시간 (ms)
+     */
+    public void recordRetryRecovered(String tier, long ageMs) {
+        RetryTierStats stats = getRetryStats(tier);
+        stats.recovered.incrementAndGet();
+        stats.lastAgeMs = ageMs;
+        stats.maxAgeMs = Math.max(stats.maxAgeMs, ageMs);
+    }
+
+    /**
+     * DLT 재주입 기록
+     */
+    public void recordDltReplayed(String dltTopic, int records) {
+        getRetryStats(dltTopic).replayed.addAndGet(records);
+    }
+
     /**
      * 전체 통계 반환
      */
     public MonitoringStats getStats() {
         MonitoringStats stats = new MonitoringStats();
-        stats.totalReceived = totalReceived.get();
-        stats.totalSuccess = totalSuccess.get();
-        stats.totalFailed = totalFailed.get();
+        stats.totalReceived = totalReceived.sum();
+        stats.totalSuccess = totalSuccess.sum();
+        stats.totalFailed = totalFailed.sum();
         stats.successRate = stats.totalReceived > 0
                 ? (double) stats.totalSuccess / stats.totalReceived * 100
                 : 0;
         stats.tableStats = new ConcurrentHashMap<>(tableStats);
+        stats.batchStats = new ConcurrentHashMap<>(batchStats);
+        stats.serdeStats = new ConcurrentHashMap<>(serdeStats);
+        stats.commitStats = commitStats;
+        stats.backpressureStats = new ConcurrentHashMap<>(backpressureStats);
+        stats.coalesceStats = new ConcurrentHashMap<>(coalesceStats);
+        stats.insertPlanStats = new ConcurrentHashMap<>(insertPlanStats);
+        stats.echoStats = new ConcurrentHashMap<>(echoStats);
+        stats.snapshotStats = new ConcurrentHashMap<>(snapshotStats);
+        stats.groupCommitStats = new ConcurrentHashMap<>(groupCommitStats);
+        stats.directApplyStats = new ConcurrentHashMap<>(directApplyStats);
+        stats.workerStats = new ConcurrentHashMap<>(workerStats);
+        stats.workerTriggerStats = new ConcurrentHashMap<>(workerTriggerStats);
+        stats.retentionStats = new ConcurrentHashMap<>(retentionStats);
+        stats.retryStats = new ConcurrentHashMap<>(retryStats);
         return stats;
     }
 
     /**
-     * 최근 에러 로그 반환
+     * 최근 에러 로그 반환 (최근 순)
+     */
+    public List<ErrorLog> getRecentErrors() {
+        return recentErrors.snapshot(errorLog(new TimestampFormat(formatter)));
+    }
+
+    /**
+     * 최근 이벤트 로그 반환 (최근 순)
+     */
+    public List<EventLog> getRecentEvents() {
+        return recentEvents.snapshot(eventLog(new TimestampFormat(formatter)));
+    }
+
+    /**
+     * 전체 카운터 현재 값
+     */
+    public Counters getTotals() {
+        return new Counters(totalReceived.sum(), totalSuccess.sum(), totalFailed.sum());
+    }
+
+    /**
+     * 통계 초기화 세대 (값이 바뀌었으면 이전에 읽은 카운터/순번 기준값은 무효)
      */
-    public synchronized List<ErrorLog> getRecentErrors() {
-        return new ArrayList<>(recentErrors);
+    public long getResetGeneration() {
+        return resetGeneration.get();
+    }
+
+    /**
+     * 토픽별 통계 (복사 없는 읽기 전용 뷰)
+     */
+    public Map<String, TableStats> getTableStatsView() {
+        return Collections.unmodifiableMap(tableStats);
+    }
+
+    // ---- 증분 조회 (MonitoringStream: 구독자별 마지막 위치 이후 기록만) ----
+
+    LogRing.Slice<EventLog> getLatestEvents() {
+        return recentEvents.latest(eventLog(new TimestampFormat(formatter)));
+    }
+
+    LogRing.Slice<ErrorLog> getLatestErrors() {
+        return recentErrors.latest(errorLog(new TimestampFormat(formatter)));
+    }
+
+    LogRing.Slice<EventLog> getEventsSince(long position) {
+        return recentEvents.since(position, eventLog(new TimestampFormat(formatter)));
+    }
+
+    LogRing.Slice<ErrorLog> getErrorsSince(long position) {
+        return recentErrors.since(position, errorLog(new TimestampFormat(formatter)));
+    }
+
+    private static BiFunction<Long, ErrorLog, ErrorLog> errorLog(TimestampFormat timestamps) {
+        return (epochMillis, log) -> new ErrorLog(timestamps.format(epochMillis),
+                log.topic, log.targetTable, log.operation, log.errorMessage);
+    }
+
+    private static BiFunction<Long, EventLog, EventLog> eventLog(TimestampFormat timestamps) {
+        return (epochMillis, log) -> new EventLog(timestamps.format(epochMillis), log.status,
+                log.topic, log.targetTable, log.operation, log.hash, log.errorMessage, log.dataPreview);
     }
 
     /**
-     * 최근 이벤트 로그 반환
+     * 처리량/에러율/INSERT 지연 시계열 (버킷 여러 개를 한 점으로 합쳐 차트용 배열로)
+     *
+     * @param window 10m(초 단위 버킷 600개) 또는 24h(분 단위 버킷 1440개)
+     * @param targetTable 대상 CDC 테이블 필터 (null이면 전체 토픽)
+     * @param points 최대 점 개수
      */
-    public synchronized List<EventLog> getRecentEvents() {
-        return new ArrayList<>(recentEvents);
+    public TimeSeries getTimeSeries(String window, String targetTable, int points) {
+        boolean daily = "24h".equals(window);
+        int buckets = daily ? TimeSeriesStore.MINUTE_BUCKETS : TimeSeriesStore.SECOND_BUCKETS;
+        long unitMillis = daily ? 60_000 : 1000;
+        int maxPoints = Math.max(1, Math.min(points, buckets));
+        int step = (buckets + maxPoints - 1) / maxPoints;
+        int count = (buckets + step - 1) / step;
+        // 마지막 점이 진행 중인 버킷에서 끝나도록 정렬
+        long firstUnit = System.currentTimeMillis() / unitMillis - (long) count * step + 1;
+
+        TimeSeries result = new TimeSeries();
+        result.window = daily ? "24h" : "10m";
+        result.stepSeconds = step * unitMillis / 1000;
+        result.timestamps = new long[count];
+        for (int i = 0; i < count; i++) {
+            result.timestamps[i] = (firstUnit + (long) i * step) * unitMillis;
+        }
+
+        long[][] total = new long[TimeSeriesStore.FIELDS][count];
+        result.series = new ArrayList<>();
+        timeSeries.series().forEach((topic, series) -> {
+            if (targetTable != null && !targetTable.equals(series.table)) {
+                return;
+            }
+            long[][] sums = TimeSeriesStore.downsample(daily ? series.minutes : series.seconds, firstUnit, step, count);
+            TimeSeriesStore.merge(total, sums);
+            result.series.add(new SeriesPoints(topic, series.table, sums, result.stepSeconds));
+        });
+        result.series.sort(Comparator.comparing(p -> p.topic));
+        result.total = new SeriesPoints("*", targetTable, total, result.stepSeconds);
+        return result;
     }
 
     /**
      * 통계 초기화
+     *
+     * 세대는 시작/끝에 각각 증가: 초기화 도중 읽은 구독자도 끝난 뒤 세대가 다시 바뀌므로 전체 사본을 한 번 더 받음
      */
     public void resetStats() {
-        totalReceived.set(0);
-        totalSuccess.set(0);
-        totalFailed.set(0);
+        resetGeneration.incrementAndGet();
+        totalReceived.reset();
+        totalSuccess.reset();
+        totalFailed.reset();
         tableStats.clear();
-        synchronized (this) {
-            recentErrors.clear();
-            recentEvents.clear();
+        batchStats.clear();
+        serdeStats.clear();
+        commitStats = new CommitStats();
+        backpressureStats.values().forEach(BackpressureStats::resetCounters);
+        coalesceStats.clear();
+        // 캐시된 계획은 남아 있으므로 계획 수는 유지
+        insertPlanStats.values().forEach(InsertPlanStats::resetCounters);
+        echoStats.clear();
+        snapshotStats.clear();
+        groupCommitStats.clear();
+        directApplyStats.clear();
+        workerStats.clear();
+        workerTriggerStats.clear();
+        retentionStats.clear();
+        retryStats.clear();
+        long errorFloor = recentErrors.clear();
+        long eventFloor = recentEvents.clear();
+        timeSeries.clear();
+        if (statsFile != null) {
+            statsFile.reset(eventFloor, errorFloor);
         }
+        resetGeneration.incrementAndGet();
+    }
+
+    private BackpressureStats getBackpressureStats(String direction) {
+        return backpressureStats.computeIfAbsent(direction, k -> new BackpressureStats());
+    }
+
+    private RetryTierStats getRetryStats(String tier) {
+        return retryStats.computeIfAbsent(tier, k -> new RetryTierStats());
     }
 
     private TableStats getTableStats(String topic) {
-        return tableStats.computeIfAbsent(topic, k -> new TableStats());
+        return tableStats.computeIfAbsent(topic, k -> {
+            TableStats stats = new TableStats();
+            stats.fileSlot = statsFile != null ? statsFile.slot(k) : -1;
+            return stats;
+        });
+    }
+
+    // ---- 통계 파일 (메모리 매핑 → 기록은 메모리 쓰기뿐) ----
+
+    private void persist(TableStats stats, int field, long delta) {
+        if (statsFile != null) {
+            statsFile.add(stats.fileSlot, field, delta);
+        }
+    }
+
+    private void persistTime(TableStats stats, int field, long epochMillis) {
+        if (statsFile != null) {
+            statsFile.touch(stats.fileSlot, field, epochMillis);
+        }
     }
 
-    private synchronized void addErrorLog(ErrorLog log) {
-        recentErrors.add(0, log);
-        if (recentErrors.size() > MAX_ERROR_LOGS) {
-            recentErrors.remove(recentErrors.size() - 1);
+    private void addEvent(long epochMillis, EventLog event) {
+        long seq = recentEvents.add(epochMillis, event);
+        if (statsFile != null) {
+            statsFile.writeEvent(seq, epochMillis, event);
         }
     }
 
-    private synchronized void addEventLog(EventLog log) {
-        recentEvents.add(0, log);
-        if (recentEvents.size() > MAX_EVENT_LOGS) {
-            recentEvents.remove(recentEvents.size() - 1);
+    private void addError(long epochMillis, ErrorLog error) {
+        long seq = recentErrors.add(epochMillis, error);
+        if (statsFile != null) {
+            statsFile.writeError(seq, epochMillis, error);
+        }
+    }
+
+    /**
+     * 통계 파일 열기 (실패해도 서비스는 계속, 통계만 메모리에)
+     */
+    private static MonitoringStatsFile openStatsFile(MonitoringFileConfig config) {
+        if (!config.isEnabled()) {
+            return null;
+        }
+        try {
+            return MonitoringStatsFile.open(Paths.get(config.getPath()), config.getMaxTables(),
+                    MAX_EVENT_LOGS, MAX_ERROR_LOGS, config.getForceIntervalMs());
+        } catch (IOException | RuntimeException e) {
+            log.warn("Monitoring stats file disabled -> {} ({})", config.getPath(), e.getMessage());
+            return null;
+        }
+    }
+
+    /**
+     * 이전 실행의 토픽 카운터, 최근 이벤트/에러 복원 (전체 합계 = 토픽 카운터 합)
+     */
+    private void restore(MonitoringStatsFile.Contents contents) {
+        for (MonitoringStatsFile.TableEntry entry : contents.tables()) {
+            if (entry.received() == 0 && entry.success() == 0 && entry.failed() == 0) {
+                // 초기화 이후 기록 없는 토픽 (슬롯은 파일에 남아 있음)
+                continue;
+            }
+            TableStats stats = new TableStats();
+            stats.fileSlot = entry.slot();
+            stats.received.set(entry.received());
+            stats.success.set(entry.success());
+            stats.failed.set(entry.failed());
+            stats.lastSuccess = toLocalDateTime(entry.lastSuccessAt());
+            stats.lastError = toLocalDateTime(entry.lastErrorAt());
+            tableStats.put(entry.topic(), stats);
+            totalReceived.add(entry.received());
+            totalSuccess.add(entry.success());
+            totalFailed.add(entry.failed());
+        }
+        recentEvents.restoreFloor(contents.eventFloor());
+        contents.events().forEach(e -> recentEvents.restore(e.seq(), e.epochMillis(), e.value()));
+        recentErrors.restoreFloor(contents.errorFloor());
+        contents.errors().forEach(e -> recentErrors.restore(e.seq(), e.epochMillis(), e.value()));
+        log.info("Monitoring stats restored -> {} ({} topics, {} events, {} errors)", statsFile.path(),
+                contents.tables().size(), contents.events().size(), contents.errors().size());
+    }
+
+    private static LocalDateTime toLocalDateTime(long epochMillis) {
+        return epochMillis > 0 ? LocalDateTime.ofInstant(Instant.ofEpochMilli(epochMillis), ZoneId.systemDefault())
+                : null;
+    }
+
+    /**
+     * 조회 1회용 시각 문자열 변환 (초 단위 형식 → 같은 초의 기록은 한 번만 변환)
+     */
+    private static final class TimestampFormat {
+
+        private final DateTimeFormatter formatter;
+        private long lastSecond = Long.MIN_VALUE;
+        private String lastText;
+
+        TimestampFormat(DateTimeFormatter formatter) {
+            this.formatter = formatter;
+        }
+
+        String format(long epochMillis) {
+            long second = Math.floorDiv(epochMillis, 1000);
+            if (second != lastSecond) {
+                lastSecond = second;
+                lastText = formatter.format(Instant.ofEpochSecond(second));
+            }
+            return lastText;
         }
     }
 
@@ -181,8 +889,27 @@ public class CdcMonitoringService {
         public long totalFailed;
         public double successRate;
         public Map<String, TableStats> tableStats;
+        public Map<String, BatchStats> batchStats;
+        public Map<String, SerdeStats> serdeStats;
+        public CommitStats commitStats;
+        public Map<String, BackpressureStats> backpressureStats;
+        public Map<String, CoalesceStats> coalesceStats;
+        public Map<String, InsertPlanStats> insertPlanStats;
+        public Map<String, EchoStats> echoStats;
+        public Map<String, SnapshotStats> snapshotStats;
+        public Map<String, GroupCommitStats> groupCommitStats;
+        public Map<String, DirectApplyStats> directApplyStats;
+        public Map<String, WorkerStats> workerStats;
+        public Map<String, WorkerTriggerStats> workerTriggerStats;
+        public Map<String, RetentionStats> retentionStats;
+        public Map<String, RetryTierStats> retryStats;
     }
 
+    /**
+     * 수신/성공/실패 건수 (전체 또는 토픽 1개)
+     */
+    public record Counters(long received, long success, long failed) {}
+
     /**
      * 테이블별 통계 DTO
      */
@@ -192,6 +919,349 @@ public class CdcMonitoringService {
         public AtomicLong failed = new AtomicLong(0);
         public LocalDateTime lastSuccess;
         public LocalDateTime lastError;
+
+        // 통계 파일 슬롯 (-1 = 파일에 보관 안 함, JSON 제외)
+        int fileSlot = -1;
+    }
+
+    /**
+     * 배치 처리 통계 DTO (대상 CDC 테이블별)
+     */
+    public static class BatchStats {
+        public AtomicLong batches = new AtomicLong(0);
+        public AtomicLong rows = new AtomicLong(0);
+        public volatile int lastBatchSize;
+        public volatile double lastBatchMillis;
+        public volatile double lastRowsPerSec;
+        public volatile double maxRowsPerSec;
+        public volatile LocalDateTime lastBatchAt;
+    }
+
+    /**
+     * 역직렬화 통계 DTO (메시지 형식별)
+     */
+    public static class SerdeStats {
+        public AtomicLong events = new AtomicLong(0);
+        public AtomicLong bytes = new AtomicLong(0);
+        public AtomicLong nanos = new AtomicLong(0);
+
+        /**
+         * 이벤트당 평균 바이트
+         */
+        public double getAvgBytesPerEvent() {
+            long count = events.get();
+            return count > 0 ? (double) bytes.get() / count : 0;
+        }
+
+        /**
+         * 역직렬화 처리량 (역직렬화 시간만 기준, events/sec)
+         */
+        public double getEventsPerSec() {
+            long elapsed = nanos.get();
+            return elapsed > 0 ? events.get() * 1_000_000_000.0 / elapsed : 0;
+        }
+    }
+
+    /**
+     * 오프셋 커밋 통계 DTO
+     */
+    public static class CommitStats {
+        public AtomicLong commits = new AtomicLong(0);
+        public AtomicLong failures = new AtomicLong(0);
+        public AtomicLong partitionsCommitted = new AtomicLong(0);
+        public AtomicLong totalLatencyNanos = new AtomicLong(0);
+        public volatile double lastLatencyMs;
+        public volatile double maxLatencyMs;
+        public volatile long uncommittedRecords;
+        public volatile long inFlightRecords;
+        public volatile LocalDateTime lastCommitAt;
+
+        /**
+         * 평균 커밋 지연 (ms)
+         */
+        public double getAvgLatencyMs() {
+            long count = commits.get() + failures.get();
+            return count > 0 ? totalLatencyNanos.get() / 1_000_000.0 / count : 0;
+        }
+    }
+
+    /**
+     * 백프레셔 통계 DTO (동기화 방향별)
+     */
+    public static class BackpressureStats {
+        public volatile boolean paused;
+        public AtomicLong pauses = new AtomicLong(0);
+        public AtomicLong pausedNanos = new AtomicLong(0);
+        public volatile String lastPauseReason;
+        public volatile LocalDateTime lastPausedAt;
+        public volatile LocalDateTime lastResumedAt;
+        public volatile int activeConnections;
+        public volatile int pendingThreads;
+        public volatile int maxPoolSize;
+        public volatile double acquireMs;
+
+        // 현재 일시정지 시작 시각 (System.nanoTime, JSON 제외)
+        private volatile long pausedSinceNanos;
+
+        /**
+         * 누적 일시정지 시간 (ms, 진행 중인 일시정지 포함)
+         */
+        public double getTotalPausedMs() {
+            long nanos = pausedNanos.get();
+            if (paused) {
+                nanos += System.nanoTime() - pausedSinceNanos;
+            }
+            return nanos / 1_000_000.0;
+        }
+
+        /**
+         * 누적 값만 초기화 (현재 일시정지/풀 상태는 유지)
+         */
+        void resetCounters() {
+            pauses.set(0);
+            pausedNanos.set(0);
+            if (paused) {
+                pausedSinceNanos = System.nanoTime();
+            }
+        }
+    }
+
+    /**
+     * 변경 병합 통계 DTO (대상 CDC 테이블별)
+     */
+    public static class CoalesceStats {
+        public AtomicLong windows = new AtomicLong(0);
+        public AtomicLong inputEvents = new AtomicLong(0);
+        public AtomicLong outputEvents = new AtomicLong(0);
+
+        /**
+         * 병합 비율 (%, 병합으로 줄어든 CDC 행 비율)
+         */
+        public double getCoalescingRatio() {
+            long input = inputEvents.get();
+            return input > 0 ? (1.0 - (double) outputEvents.get() / input) * 100 : 0;
+        }
+    }
+
+    /**
+     * INSERT 계획 캐시 통계 DTO (대상 CDC 테이블별)
+     */
+    public static class InsertPlanStats {
+        public AtomicLong hits = new AtomicLong(0);
+        public AtomicLong misses = new AtomicLong(0);
+        public volatile int plans;
+
+        /**
+         * 캐시 적중률 (%)
+         */
+        public double getHitRatio() {
+            long total = hits.get() + misses.get();
+            return total > 0 ? (double) hits.get() / total * 100 : 0;
+        }
+
+        void resetCounters() {
+            hits.set(0);
+            misses.set(0);
+        }
+    }
+
+    /**
+     * 에코 억제 통계 DTO (원본 테이블별)
+     */
+    public static class EchoStats {
+        public AtomicLong tracked = new AtomicLong(0);
+        public AtomicLong suppressed = new AtomicLong(0);
+        public volatile LocalDateTime lastSuppressedAt;
+    }
+
+    /**
+     * 스냅샷 적재 통계 DTO (원본 테이블별)
+     */
+    public static class SnapshotStats {
+        public final String targetTable;
+        public AtomicLong rows = new AtomicLong(0);
+        public volatile long expectedRows = -1;
+        public volatile boolean completed;
+        public final LocalDateTime startedAt = LocalDateTime.now();
+        public volatile LocalDateTime lastRowAt;
+
+        private final long startNanos;
+        private volatile long lastNanos;
+
+        SnapshotStats(String targetTable, long startNanos) {
+            this.targetTable = targetTable;
+            this.startNanos = startNanos;
+            this.lastNanos = startNanos;
+        }
+
+        /**
+         * 첫 스냅샷 배치 시작부터 마지막 적재까지의 평균 처리량
+         */
+        public double getRowsPerSec() {
+            long elapsed = lastNanos - startNanos;
+            return elapsed > 0 ? rows.get() * 1_000_000_000.0 / elapsed : 0;
+        }
+
+        /**
+         * 진행률 (%, 예상 행 수를 모르면 null)
+         */
+        public Double getProgressPercent() {
+            if (completed) {
+                return 100.0;
+            }
+            return expectedRows > 0 ? Math.min(100.0, rows.get() * 100.0 / expectedRows) : null;
+        }
+
+        /**
+         * 남은 예상 시간 (초, 예상 행 수나 처리량을 모르면 null)
+         */
+        public Long getEtaSeconds() {
+            if (completed) {
+                return 0L;
+            }
+            double rowsPerSec = getRowsPerSec();
+            if (expectedRows <= 0 || rowsPerSec <= 0) {
+                return null;
+            }
+            return Math.round(Math.max(0, expectedRows - rows.get()) / rowsPerSec);
+        }
+    }
+
+    /**
+     * 직접 반영 통계 DTO (원본 테이블별)
+     */
+    public static class DirectApplyStats {
+        public AtomicLong merged = new AtomicLong(0);
+        public AtomicLong deleted = new AtomicLong(0);
+        public AtomicLong notFound = new AtomicLong(0);
+        public volatile LocalDateTime lastAppliedAt;
+    }
+
+    /**
+     * Java Worker 통계 DTO (CDC 테이블별)
+     */
+    public static class WorkerStats {
+        public AtomicLong chunks = new AtomicLong(0);
+        public AtomicLong rows = new AtomicLong(0);
+        public AtomicLong applied = new AtomicLong(0);
+        public AtomicLong loopBlocked = new AtomicLong(0);
+        public AtomicLong failed = new AtomicLong(0);
+        public volatile int lastChunkRows;
+        public volatile LocalDateTime lastChunkAt;
+
+        private final AtomicLong busyNanos = new AtomicLong(0);
+        private volatile long lastChunkNanos;
+
+        /**
+         * 청크 처리 시간 기준 평균 처리량 (행이 없어 쉬는 시간 제외)
+         */
+        public double getRowsPerSec() {
+            long busy = busyNanos.get();
+            return busy > 0 ? rows.get() * 1_000_000_000.0 / busy : 0;
+        }
+
+        /**
+         * 마지막 청크 처리량
+         */
+        public double getLastChunkRowsPerSec() {
+            long elapsed = lastChunkNanos;
+            return elapsed > 0 ? lastChunkRows * 1_000_000_000.0 / elapsed : 0;
+        }
+    }
+
+    /**
+     * Worker 트리거 통계 DTO (CDC 테이블별)
+     */
+    public static class WorkerTriggerStats {
+        public AtomicLong requested = new AtomicLong(0);
+        public AtomicLong runs = new AtomicLong(0);
+        public AtomicLong busy = new AtomicLong(0);
+        public AtomicLong failed = new AtomicLong(0);
+        public volatile long lastLatencyMs;
+        public volatile long maxLatencyMs;
+        public volatile long lastRunMs;
+        public volatile LocalDateTime lastRunAt;
+
+        private final AtomicLong triggeredRuns = new AtomicLong(0);
+        private final AtomicLong totalLatencyMs = new AtomicLong(0);
+
+        /**
+         * INSERT → Worker 호출 시작 평균 지연 (안전망 호출 제외)
+         */
+        public double getAvgLatencyMs() {
+            long count = triggeredRuns.get();
+            return count > 0 ? (double) totalLatencyMs.get() / count : 0;
+        }
+    }
+
+    /**
+     * 보존/보관 통계 DTO (보존 대상 테이블별)
+     */
+    public static class RetentionStats {
+        public AtomicLong runs = new AtomicLong(0);
+        public AtomicLong segments = new AtomicLong(0);
+        public AtomicLong archivedRows = new AtomicLong(0);
+        public AtomicLong purgedRows = new AtomicLong(0);
+        public AtomicLong archiveBytes = new AtomicLong(0);
+        public AtomicLong reclaimedBytes = new AtomicLong(0);
+        public AtomicLong failures = new AtomicLong(0);
+        public volatile long lastRunMs;
+        public volatile LocalDateTime lastRunAt;
+        public volatile LocalDateTime lastSegmentAt;
+        public volatile String lastError;
+
+        /**
+         * 행 데이터 크기 대비 세그먼트 파일 크기 (압축률)
+         */
+        public double getCompressionRatio() {
+            long archived = archiveBytes.get();
+            return archived > 0 ? (double) reclaimedBytes.get() / archived : 0;
+        }
+    }
+
+    /**
+     * 그룹 커밋 통계 DTO (동기화 방향별)
+     */
+    public static class GroupCommitStats {
+        public AtomicLong commits = new AtomicLong(0);
+        public AtomicLong events = new AtomicLong(0);
+        public AtomicLong fallbacks = new AtomicLong(0);
+        public AtomicLong fallbackEvents = new AtomicLong(0);
+        public volatile int lastEventsPerCommit;
+        public volatile int maxEventsPerCommit;
+        public volatile double lastCommitMillis;
+        public volatile LocalDateTime lastCommitAt;
+
+        private final long startNanos = System.nanoTime();
+        private volatile long lastNanos = startNanos;
+
+        /**
+         * 커밋 1회당 평균 이벤트 수
+         */
+        public double getEventsPerCommit() {
+            long count = commits.get();
+            return count > 0 ? (double) events.get() / count : 0;
+        }
+
+        /**
+         * 첫 커밋부터 마지막 커밋까지의 초당 커밋 수
+         */
+        public double getCommitsPerSec() {
+            long elapsed = lastNanos - startNanos;
+            return elapsed > 0 ? commits.get() * 1_000_000_000.0 / elapsed : 0;
+        }
+    }
+
+    /**
+     * 재시도 통계 DTO (재시도 단계 토픽/DLT별)
+     */
+    public static class RetryTierStats {
+        public AtomicLong published = new AtomicLong(0);
+        public AtomicLong recovered = new AtomicLong(0);
+        public AtomicLong replayed = new AtomicLong(0);
+        public volatile long lastAgeMs;
+        public volatile long maxAgeMs;
+        public volatile LocalDateTime lastPublishedAt;
     }
 
     /**
@@ -238,4 +1308,55 @@ public class CdcMonitoringService {
             this.dataPreview = dataPreview;
         }
     }
+
+    /**
+     * 시계열 조회 결과 DTO (timestamps[i] = i번째 점 구간 시작 epoch ms)
+     */
+    public static class TimeSeries {
+        public String window;
+        public long stepSeconds;
+        public long[] timestamps;
+        public List<SeriesPoints> series;
+        public SeriesPoints total;
+    }
+
+    /**
+     * 토픽 1개(또는 합계)의 점별 값
+     *
+     * - received/success/failed: 점 구간 건수
+     * - throughput: 초당 성공 건수, errorRate: 실패 / (성공 + 실패) %
+     * - avgLatencyMs/maxLatencyMs: INSERT 실행 시간 (INSERT 없던 구간은 0)
+     */
+    public static class SeriesPoints {
+        public String topic;
+        public String targetTable;
+        public long[] received;
+        public long[] success;
+        public long[] failed;
+        public double[] throughput;
+        public double[] errorRate;
+        public double[] avgLatencyMs;
+        public double[] maxLatencyMs;
+
+        SeriesPoints(String topic, String targetTable, long[][] sums, long stepSeconds) {
+            this.topic = topic;
+            this.targetTable = targetTable;
+            this.received = sums[TimeSeriesStore.RECEIVED];
+            this.success = sums[TimeSeriesStore.SUCCESS];
+            this.failed = sums[TimeSeriesStore.FAILED];
+            int count = received.length;
+            this.throughput = new double[count];
+            this.errorRate = new double[count];
+            this.avgLatencyMs = new double[count];
+            this.maxLatencyMs = new double[count];
+            for (int i = 0; i < count; i++) {
+                throughput[i] = (double) success[i] / stepSeconds;
+                long processed = success[i] + failed[i];
+                errorRate[i] = processed > 0 ? failed[i] * 100.0 / processed : 0;
+                long inserts = sums[TimeSeriesStore.LATENCY_COUNT][i];
+                avgLatencyMs[i] = inserts > 0 ? sums[TimeSeriesStore.LATENCY_SUM][i] / 1_000_000.0 / inserts : 0;
+                maxLatencyMs[i] = sums[TimeSeriesStore.LATENCY_MAX][i] / 1_000_000.0;
+            }
+        }
+    }
 }
@@ -1,17 +1,31 @@
 package com.cdc.sync.service;
 
+import com.cdc.sync.config.CdcSyncConfig;
+import com.cdc.sync.config.CdcSyncConfig.SnapshotConfig;
 import com.cdc.sync.domain.CdcEvent;
+import com.cdc.sync.service.DirectApplier.TablePlan;
+import com.cdc.sync.service.GroupCommitSession.Entry;
+import com.cdc.sync.service.GroupCommitSession.Failure;
+import com.cdc.sync.service.GroupCommitSession.Group;
+import com.cdc.sync.service.GroupCommitSession.Result;
+import com.cdc.sync.service.InsertPlanCache.InsertPlan;
+import com.cdc.sync.service.SyncMetrics.InsertMode;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.dao.DataAccessException;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.dao.RecoverableDataAccessException;
+import org.springframework.dao.TransientDataAccessException;
 import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.CannotCreateTransactionException;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
 
-import java.nio.charset.StandardCharsets;
-import java.security.MessageDigest;
-import java.security.NoSuchAlgorithmException;
-import java.sql.Timestamp;
+import java.sql.Savepoint;
 import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 
@@ -33,12 +47,20 @@ import java.util.Map;
  * - ASIS 이벤트 → TOBE DB CDC 테이블 INSERT
  * - TOBE 이벤트 → ASIS DB CDC 테이블 INSERT
  * - 변경 데이터 해시 생성 (무한루프 방지용)
- * - Debezium 특수 타입 변환 (NUMBER, TIMESTAMP)
+ * - Debezium 특수 타입 변환 (스키마의 논리 타입 기준, 스키마 없으면 컬럼명 기준)
+ * - 스냅샷(op=r) 행 대량 적재: 배치 안에서 실시간 변경과 구간을 나눠 대용량 JDBC batch로 INSERT
+ * - 직접 반영(cdc.sync.direct-apply): CDC INSERT와 같은 트랜잭션에서 원본 테이블 MERGE/DELETE (DirectApplier)
+ *
+ * [에러 처리]
+ * - 실패는 모니터링에 기록한 뒤 호출자에게 알림 (단건: 예외 재전파, 배치: 실패 목록 반환)
+ * - 일시적 DB 장애(커넥션 획득 실패, 데드락 등, isRetryable): 호출자가 같은 레코드를 재처리
+ *   → 완료로 기록하지 않으므로 오프셋이 커밋되지 않음
+ * - 데이터 오류(ORA-00904, 값 초과, 변환 실패 등): 호출자가 재시도 토픽으로 넘기고 다음 레코드 진행
  *
  * [프로덕션 고려사항]
  * - 트랜잭션 관리: @Transactional 적용
- * - 재시도 로직: Spring Retry 또는 Kafka offset 관리
- * - 배치 처리: 대량 이벤트 시 bulk insert 고려
+ * - 배치 처리: syncBatch*() 사용 시 대상 테이블별 JDBC batchUpdate
+ * - 그룹 커밋: group*() + commitGroups() 사용 시 여러 이벤트를 대상 DB별 트랜잭션 1개로 커밋
  */
 @Service
 public class CdcSyncService {
@@ -47,7 +69,16 @@ public class CdcSyncService {
 
     private final JdbcTemplate asisJdbcTemplate;
     private final JdbcTemplate tobeJdbcTemplate;
+    private final TransactionTemplate asisTransactionTemplate;
+    private final TransactionTemplate tobeTransactionTemplate;
     private final CdcMonitoringService monitoringService;
+    private final InsertPlanCache insertPlanCache;
+    private final EchoSuppressor echoSuppressor;
+    private final SnapshotConfig snapshotConfig;
+    private final SnapshotProgress snapshotProgress;
+    private final DirectApplier directApplier;
+    private final WorkerTrigger workerTrigger;
+    private final SyncMetrics syncMetrics;
 
     /**
      * 생성자 주입 (Constructor Injection)
@@ -59,10 +90,26 @@ public class CdcSyncService {
     public CdcSyncService(
             @Qualifier("asisJdbcTemplate") JdbcTemplate asisJdbcTemplate,
             @Qualifier("tobeJdbcTemplate") JdbcTemplate tobeJdbcTemplate,
-            CdcMonitoringService monitoringService) {
+            @Qualifier("asisTransactionManager") PlatformTransactionManager asisTransactionManager,
+            @Qualifier("tobeTransactionManager") PlatformTransactionManager tobeTransactionManager,
+            CdcMonitoringService monitoringService,
+            EchoSuppressor echoSuppressor,
+            DirectApplier directApplier,
+            WorkerTrigger workerTrigger,
+            SyncMetrics syncMetrics,
+            CdcSyncConfig syncConfig) {
         this.asisJdbcTemplate = asisJdbcTemplate;
         this.tobeJdbcTemplate = tobeJdbcTemplate;
+        this.asisTransactionTemplate = new TransactionTemplate(asisTransactionManager);
+        this.tobeTransactionTemplate = new TransactionTemplate(tobeTransactionManager);
         this.monitoringService = monitoringService;
+        this.insertPlanCache = new InsertPlanCache(monitoringService);
+        this.echoSuppressor = echoSuppressor;
+        this.snapshotConfig = syncConfig.getSnapshot();
+        this.snapshotProgress = new SnapshotProgress(snapshotConfig, monitoringService);
+        this.directApplier = directApplier;
+        this.workerTrigger = workerTrigger;
+        this.syncMetrics = syncMetrics;
     }
 
     /**
@@ -73,7 +120,7 @@ public class CdcSyncService {
      * @param topic 원본 Kafka 토픽명
      */
     public void syncAsisToTobe(CdcEvent event, String targetTable, String topic) {
-        insertToCdcTable(tobeJdbcTemplate, event, targetTable, "ASIS->TOBE", topic);
+        insertToCdcTable(asisJdbcTemplate, tobeJdbcTemplate, event, targetTable, "ASIS->TOBE", topic);
     }
 
     /**
@@ -84,7 +131,35 @@ public class CdcSyncService {
      * @param topic 원본 Kafka 토픽명
      */
     public void syncTobeToAsis(CdcEvent event, String targetTable, String topic) {
-        insertToCdcTable(asisJdbcTemplate, event, targetTable, "TOBE->ASIS", topic);
+        insertToCdcTable(tobeJdbcTemplate, asisJdbcTemplate, event, targetTable, "TOBE->ASIS", topic);
+    }
+
+    /**
+     * ASIS 이벤트 묶음을 TOBE DB CDC 테이블에 배치 INSERT
+     *
+     * @param entries 같은 대상 테이블로 가는 이벤트 목록 (수신 순서)
+     * @param targetTable 대상 CDC 테이블명 (예: CDC_TOBE_BOOK)
+     * @param inserted INSERT가 커밋되었거나 에코로 폐기된 이벤트를 추가할 목록 (일시적 DB 장애로 예외가 나도 그 전까지 커밋된 이벤트는 남음)
+     * @return INSERT 실패 이벤트 (데이터 오류, 일시적 DB 장애는 예외)
+     */
+    public List<BatchFailure> syncBatchAsisToTobe(List<BatchEntry> entries, String targetTable,
+                                                  List<BatchEntry> inserted) {
+        return insertBatchToCdcTable(asisJdbcTemplate, tobeJdbcTemplate, tobeTransactionTemplate,
+                entries, targetTable, "ASIS->TOBE", inserted);
+    }
+
+    /**
+     * TOBE 이벤트 묶음을 ASIS DB CDC 테이블에 배치 INSERT
+     *
+     * @param entries 같은 대상 테이블로 가는 이벤트 목록 (수신 순서)
+     * @param targetTable 대상 CDC 테이블명 (예: CDC_ASIS_BOOK)
+     * @param inserted INSERT가 커밋되었거나 에코로 폐기된 이벤트를 추가할 목록 (일시적 DB 장애로 예외가 나도 그 전까지 커밋된 이벤트는 남음)
+     * @return INSERT 실패 이벤트 (데이터 오류, 일시적 DB 장애는 예외)
+     */
+    public List<BatchFailure> syncBatchTobeToAsis(List<BatchEntry> entries, String targetTable,
+                                                  List<BatchEntry> inserted) {
+        return insertBatchToCdcTable(tobeJdbcTemplate, asisJdbcTemplate, asisTransactionTemplate,
+                entries, targetTable, "TOBE->ASIS", inserted);
     }
 
     /**
@@ -92,25 +167,39 @@ public class CdcSyncService {
      *
      * [처리 흐름]
      * 1. 모니터링: 수신 기록
-     * 2. 데이터 검증
-     * 3. 동적 INSERT SQL 생성
-     * 4. Debezium 특수 타입 변환
-     * 5. SQL 실행
-     * 6. 모니터링: 성공/실패 기록
+     * 2. 에코 확인 (EchoSuppressor, 스냅샷 행 제외) + 데이터 검증
+     * 3. 컬럼 구성별 INSERT 계획 조회 (InsertPlanCache, 최초 1회만 SQL 생성)
+     * 4. 계획의 컬럼별 변환기로 바인딩 (Debezium 논리 타입 → NUMBER, TIMESTAMP)
+     * 5. SQL 실행 (직접 반영 테이블이면 같은 트랜잭션에서 원본 테이블까지 반영)
+     * 6. Worker 트리거 (WorkerTrigger, 비활성화 시 무시)
+     * 7. 모니터링: 성공/실패 기록 (스냅샷 행은 진행률/ETA 집계)
      *
+     * @param sourceJdbcTemplate 원본 DB JdbcTemplate (스냅샷 예상 행 수 조회용)
      * @param jdbcTemplate 대상 DB JdbcTemplate
      * @param event CDC 이벤트
      * @param targetTable 대상 테이블명
      * @param direction 동기화 방향 (로깅용)
      * @param topic 원본 Kafka 토픽명
+     * @throws RuntimeException INSERT 실패 (isRetryable이면 일시적 DB 장애)
      */
-    private void insertToCdcTable(JdbcTemplate jdbcTemplate, CdcEvent event,
+    private void insertToCdcTable(JdbcTemplate sourceJdbcTemplate, JdbcTemplate jdbcTemplate, CdcEvent event,
                                   String targetTable, String direction, String topic) {
         // 모니터링: 수신 기록
         monitoringService.recordReceived(topic);
 
+        boolean snapshot = isBulkSnapshot(event);
+        if (snapshot) {
+            prepareSnapshot(event, topic);
+        } else {
+            ensureHash(event, topic);
+            // 반대 방향으로 방금 전달한 변경의 에코면 INSERT 없이 폐기
+            if (echoSuppressor.suppress(event)) {
+                return;
+            }
+        }
+
         // 데이터 미리보기 생성
-        String dataPreview = createDataPreview(event.getData());
+        String dataPreview = snapshot && snapshotConfig.isSkipPreview() ? null : createDataPreview(event.getData());
 
         try {
             Map<String, Object> data = event.getData();
@@ -119,77 +208,606 @@ public class CdcSyncService {
                 return;
             }
 
-            // 동적 INSERT SQL 생성
-            List<String> columns = new ArrayList<>();
-            List<Object> values = new ArrayList<>();
+            // 캐시된 INSERT 계획으로 바인딩 후 실행
+            long startNanos = System.nanoTime();
+            InsertPlan plan = insertPlanCache.plan(targetTable, event);
+            TablePlan applyPlan = directApplier.plan(targetTable);
+            if (applyPlan == null) {
+                jdbcTemplate.update(plan.sql(), plan.bind(event));
+            } else {
+                List<Object[]> args = List.<Object[]>of(plan.bind(event, true));
+                transactionTemplate(jdbcTemplate).executeWithoutResult(status ->
+                        insertRows(jdbcTemplate, plan, applyPlan, List.of(event), args, direction));
+            }
+            recordInsertTime(topic, InsertMode.SINGLE, System.nanoTime() - startNanos);
+            workerTrigger.inserted(targetTable);
+
+            if (snapshot) {
+                snapshotProgress.record(sourceJdbcTemplate, topic, event, targetTable, 1,
+                        System.nanoTime() - startNanos, event.isSnapshotLast());
+                log.debug("[{}] Snapshot row inserted into {}", direction, targetTable);
+                return;
+            }
+            echoSuppressor.delivered(event);
+            syncMetrics.recordLag(topic, event);
+
+            // 모니터링: 성공 기록 (데이터 미리보기 포함)
+            monitoringService.recordSuccess(topic, targetTable, event.getOperation(), event.getChangeHash(), dataPreview);
+
+            log.info("[{}] Inserted into {}: {} - hash={}",
+                    direction, targetTable, event.getOperation(),
+                    event.getChangeHash().substring(0, 16));
+
+        } catch (Exception e) {
+            // 모니터링: 실패 기록 (데이터 미리보기 포함)
+            monitoringService.recordFailure(topic, targetTable, event.getOperation(), e.getMessage(),
+                    dataPreview != null ? dataPreview : createDataPreview(event.getData()));
+
+            log.error("[{}] Failed to insert into {}: {}",
+                    direction, targetTable, e.getMessage(), e);
+
+            throw e;
+        }
+    }
+
+    /**
+     * 배치 INSERT 실행 (대상 CDC 테이블 1개 기준)
+     *
+     * [처리 흐름]
+     * 1. 수신 순서대로 스냅샷 행 구간 / 실시간 변경 구간으로 나눔
+     * 2. 구간 순서대로 실행 → 스냅샷 도중 들어온 실시간 변경은 앞선 스냅샷 행보다 나중에 INSERT
+     *    (Worker는 CDC 테이블 SEQ 순서로 반영하므로 스냅샷 행이 실시간 변경을 덮어쓰지 않음)
+     *
+     * @param sourceJdbcTemplate 원본 DB JdbcTemplate (스냅샷 예상 행 수 조회용)
+     * @param jdbcTemplate 대상 DB JdbcTemplate
+     * @param transactionTemplate 대상 DB 트랜잭션 템플릿
+     * @param entries 같은 대상 테이블로 가는 이벤트 목록
+     * @param targetTable 대상 테이블명
+     * @param direction 동기화 방향 (로깅용)
+     * @param inserted INSERT가 커밋되었거나 에코로 폐기된 이벤트를 추가할 목록
+     * @return INSERT 실패 이벤트
+     */
+    private List<BatchFailure> insertBatchToCdcTable(JdbcTemplate sourceJdbcTemplate, JdbcTemplate jdbcTemplate,
+                                                     TransactionTemplate transactionTemplate, List<BatchEntry> entries,
+                                                     String targetTable, String direction,
+                                                     List<BatchEntry> inserted) {
+        List<BatchFailure> failures = new ArrayList<>();
+
+        int from = 0;
+        while (from < entries.size()) {
+            boolean snapshot = isBulkSnapshot(entries.get(from).event());
+            int to = from + 1;
+            while (to < entries.size() && isBulkSnapshot(entries.get(to).event()) == snapshot) {
+                to++;
+            }
+
+            List<BatchEntry> run = entries.subList(from, to);
+            if (snapshot) {
+                insertSnapshotRun(sourceJdbcTemplate, jdbcTemplate, transactionTemplate, run, targetTable, direction,
+                        failures, inserted);
+            } else {
+                insertLiveRun(jdbcTemplate, transactionTemplate, run, targetTable, direction, failures, inserted);
+            }
+            from = to;
+        }
+        return failures;
+    }
+
+    /**
+     * 실시간 변경 구간 배치 INSERT
+     *
+     * [처리 흐름]
+     * 1. 이벤트별 수신 기록 + INSERT 문 생성
+     * 2. INSERT 계획(컬럼 구성)이 같은 이벤트끼리 묶어 batchUpdate 1회로 실행
+     * 3. 배치 실패 시 롤백 후 건별 INSERT로 재시도 (실패 이벤트만 골라내기 위함)
+     * 4. 이벤트별 성공/실패 + 배치 처리량(rows/sec) 기록
+     *
+     * @param failures 실패 이벤트를 추가할 목록
+     * @param committed INSERT가 커밋되었거나 에코로 폐기된 이벤트를 추가할 목록
+     */
+    private void insertLiveRun(JdbcTemplate jdbcTemplate, TransactionTemplate transactionTemplate,
+                               List<BatchEntry> entries, String targetTable, String direction,
+                               List<BatchFailure> failures, List<BatchEntry> committed) {
+        long startNanos = System.nanoTime();
+        TablePlan applyPlan = directApplier.plan(targetTable);
+
+        // INSERT 계획(컬럼 구성)이 같은 이벤트끼리 그룹핑 (수신 순서 유지)
+        Map<InsertPlan, List<PendingInsert>> groups = new LinkedHashMap<>();
+        for (BatchEntry entry : entries) {
+            CdcEvent event = entry.event();
+            monitoringService.recordReceived(entry.topic());
+            ensureHash(event, entry.topic());
+            if (echoSuppressor.suppress(event)) {
+                // 폐기도 완료 (이후 일시적 DB 장애로 poll을 다시 받아도 지문이 없으니 건너뛰어야 함)
+                committed.add(entry);
+                continue;
+            }
+
+            String dataPreview = createDataPreview(event.getData());
+            Map<String, Object> data = event.getData();
+            if (data == null || data.isEmpty()) {
+                log.warn("[{}] Empty data for table: {}", direction, targetTable);
+                continue;
+            }
 
-            // 기본 메타 컬럼 추가
-            columns.add("OPERATION");
-            values.add(event.getOperation());
+            try {
+                InsertPlan plan = insertPlanCache.plan(targetTable, event);
+                groups.computeIfAbsent(plan, k -> new ArrayList<>())
+                        .add(new PendingInsert(entry, plan.bind(event, applyPlan != null), dataPreview));
+            } catch (Exception e) {
+                monitoringService.recordFailure(entry.topic(), targetTable, event.getOperation(), e.getMessage(), dataPreview);
+                log.error("[{}] Failed to build insert for {}: {}", direction, targetTable, e.getMessage(), e);
+                failures.add(new BatchFailure(entry, e));
+            }
+        }
 
-            columns.add("SOURCE_TIMESTAMP");
-            values.add(Timestamp.valueOf(event.getSourceTimestamp()));
+        int inserted = 0;
+        for (Map.Entry<InsertPlan, List<PendingInsert>> group : groups.entrySet()) {
+            inserted += executeBatch(jdbcTemplate, transactionTemplate, group.getKey(), applyPlan, group.getValue(),
+                    targetTable, direction, false, failures, committed);
+        }
+        if (inserted > 0) {
+            workerTrigger.inserted(targetTable);
+        }
 
-            columns.add("CHANGE_HASH");
-            values.add(event.getChangeHash());
+        long elapsedNanos = System.nanoTime() - startNanos;
+        monitoringService.recordBatch(targetTable, inserted, elapsedNanos);
 
-            columns.add("PROCESSED_YN");
-            values.add("N");
+        double elapsedMs = elapsedNanos / 1_000_000.0;
+        log.info("[{}] Batch inserted into {}: {}/{} rows in {} ms ({} rows/sec)",
+                direction, targetTable, inserted, entries.size(),
+                String.format("%.1f", elapsedMs),
+                elapsedNanos > 0 ? String.format("%.0f", inserted * 1_000_000_000.0 / elapsedNanos) : "-");
+    }
 
-            // 데이터 컬럼 추가
-            for (Map.Entry<String, Object> entry : data.entrySet()) {
-                String key = entry.getKey();
-                Object value = entry.getValue();
+    /**
+     * 스냅샷 행 구간 대량 INSERT
+     *
+     * [실시간 구간과 차이]
+     * - bulk-batch-size 단위로 잘라 JDBC batch 1회 + 트랜잭션 1개 (실패 시 그 묶음만 건별 재시도)
+     * - 에코 억제 제외: 스냅샷은 기존 데이터 읽기이므로 에코가 아님, 전체 행을 에코 캐시에 넣지 않음
+     * - skip-preview: 행별 미리보기/최근 이벤트 기록 생략 (실패 행만 미리보기 생성)
+     * - skip-hash: CHANGE_HASH 없이 INSERT (해시는 파서가 아니라 여기서 필요할 때만 생성)
+     * - 성공 건수/진행률은 구간 단위로 한 번에 기록 (SnapshotProgress)
+     * - 직접 반영 테이블은 원본 테이블 MERGE도 같은 묶음 트랜잭션에서 batch 실행
+     *
+     * @param failures 실패 이벤트를 추가할 목록
+     * @param committed INSERT가 커밋된 이벤트를 추가할 목록
+     */
+    private void insertSnapshotRun(JdbcTemplate sourceJdbcTemplate, JdbcTemplate jdbcTemplate,
+                                   TransactionTemplate transactionTemplate, List<BatchEntry> entries,
+                                   String targetTable, String direction, List<BatchFailure> failures,
+                                   List<BatchEntry> committed) {
+        long startNanos = System.nanoTime();
+        boolean completed = false;
+        TablePlan applyPlan = directApplier.plan(targetTable);
+
+        // 스냅샷 행은 서로 다른 PK의 INSERT뿐이므로 계획별로 묶어도 반영 결과는 같음
+        Map<InsertPlan, List<PendingInsert>> groups = new LinkedHashMap<>();
+        for (BatchEntry entry : entries) {
+            CdcEvent event = entry.event();
+            monitoringService.recordReceived(entry.topic());
+            completed |= event.isSnapshotLast();
 
-                // Debezium의 복합 타입 처리 (예: NUMBER 타입)
-                if (value instanceof Map) {
-                    @SuppressWarnings("unchecked")
-                    Map<String, Object> complexValue = (Map<String, Object>) value;
-                    // scale/value 형태의 NUMBER 타입 처리
-                    if (complexValue.containsKey("value")) {
-                        value = decodeDebeziumNumber(complexValue);
+            Map<String, Object> data = event.getData();
+            if (data == null || data.isEmpty()) {
+                log.warn("[{}] Empty data for table: {}", direction, targetTable);
+                continue;
+            }
+            prepareSnapshot(event, entry.topic());
+
+            try {
+                InsertPlan plan = insertPlanCache.plan(targetTable, event);
+                String dataPreview = snapshotConfig.isSkipPreview() ? null : createDataPreview(data);
+                groups.computeIfAbsent(plan, k -> new ArrayList<>())
+                        .add(new PendingInsert(entry, plan.bind(event, applyPlan != null), dataPreview));
+            } catch (Exception e) {
+                monitoringService.recordFailure(entry.topic(), targetTable, event.getOperation(), e.getMessage(),
+                        createDataPreview(data));
+                log.error("[{}] Failed to build snapshot insert for {}: {}", direction, targetTable, e.getMessage(), e);
+                failures.add(new BatchFailure(entry, e));
+            }
+        }
+
+        int inserted = 0;
+        int chunkSize = Math.max(1, snapshotConfig.getBulkBatchSize());
+        for (Map.Entry<InsertPlan, List<PendingInsert>> group : groups.entrySet()) {
+            List<PendingInsert> pending = group.getValue();
+            for (int i = 0; i < pending.size(); i += chunkSize) {
+                inserted += executeBatch(jdbcTemplate, transactionTemplate, group.getKey(), applyPlan,
+                        pending.subList(i, Math.min(i + chunkSize, pending.size())),
+                        targetTable, direction, true, failures, committed);
+            }
+        }
+        if (inserted > 0) {
+            workerTrigger.inserted(targetTable);
+        }
+
+        long elapsedNanos = System.nanoTime() - startNanos;
+        monitoringService.recordBatch(targetTable, inserted, elapsedNanos);
+        BatchEntry first = entries.get(0);
+        snapshotProgress.record(sourceJdbcTemplate, first.topic(), first.event(), targetTable,
+                inserted, elapsedNanos, completed);
+
+        log.info("[{}] Snapshot bulk inserted into {}: {}/{} rows in {} ms ({} rows/sec)",
+                direction, targetTable, inserted, entries.size(),
+                String.format("%.1f", elapsedNanos / 1_000_000.0),
+                elapsedNanos > 0 ? String.format("%.0f", inserted * 1_000_000_000.0 / elapsedNanos) : "-");
+    }
+
+    /**
+     * 같은 SQL 그룹을 JDBC batch 1회로 실행
+     *
+     * @param applyPlan 직접 반영 계획 (null이면 CDC 테이블 INSERT만)
+     * @param snapshot 스냅샷 행 여부 (true면 행별 에코 등록/성공 기록 생략, 호출자가 건수로 기록)
+     * @param failures 건별 재시도에서 실패한 이벤트를 추가할 목록
+     * @param committed INSERT가 커밋된 이벤트를 추가할 목록 (건별 재시도 중 일시적 장애로 예외가 나도 유지)
+     * @return INSERT 성공 건수
+     */
+    private int executeBatch(JdbcTemplate jdbcTemplate, TransactionTemplate transactionTemplate, InsertPlan plan,
+                             TablePlan applyPlan, List<PendingInsert> pending, String targetTable, String direction,
+                             boolean snapshot, List<BatchFailure> failures, List<BatchEntry> committed) {
+        List<Object[]> batchArgs = new ArrayList<>(pending.size());
+        List<CdcEvent> events = new ArrayList<>(pending.size());
+        for (PendingInsert insert : pending) {
+            batchArgs.add(insert.args());
+            events.add(insert.entry().event());
+        }
+
+        try {
+            // 한 트랜잭션으로 묶어 부분 반영 없이 전체 성공/전체 롤백
+            long startNanos = System.nanoTime();
+            transactionTemplate.executeWithoutResult(status ->
+                    insertRows(jdbcTemplate, plan, applyPlan, events, batchArgs, direction));
+            recordInsertTime(pending.get(0).entry().topic(), InsertMode.BATCH, System.nanoTime() - startNanos);
+            for (PendingInsert insert : pending) {
+                committed.add(insert.entry());
+            }
+            if (snapshot) {
+                return pending.size();
+            }
+
+            for (PendingInsert insert : pending) {
+                CdcEvent event = insert.entry().event();
+                echoSuppressor.delivered(event);
+                syncMetrics.recordLag(insert.entry().topic(), event);
+                monitoringService.recordSuccess(insert.entry().topic(), targetTable, event.getOperation(),
+                        event.getChangeHash(), insert.dataPreview());
+                log.debug("[{}] Inserted into {}: {} - hash={}",
+                        direction, targetTable, event.getOperation(), event.getChangeHash().substring(0, 16));
+            }
+            return pending.size();
+
+        } catch (DataAccessException e) {
+            // 일시적 DB 장애는 건별 재시도해도 실패하므로 배치 전체를 재처리 대상으로
+            if (isRetryable(e)) {
+                throw e;
+            }
+            log.warn("[{}] Batch insert into {} failed ({} rows), retrying row by row: {}",
+                    direction, targetTable, pending.size(), e.getMessage());
+
+            // 건별 재시도로 실패한 이벤트만 실패 처리
+            int inserted = 0;
+            for (PendingInsert insert : pending) {
+                CdcEvent event = insert.entry().event();
+                try {
+                    long startNanos = System.nanoTime();
+                    if (applyPlan == null) {
+                        jdbcTemplate.update(plan.sql(), insert.args());
+                    } else {
+                        List<Object[]> args = List.<Object[]>of(insert.args());
+                        transactionTemplate.executeWithoutResult(status ->
+                                insertRows(jdbcTemplate, plan, applyPlan, List.of(event), args, direction));
+                    }
+                    recordInsertTime(insert.entry().topic(), InsertMode.SINGLE, System.nanoTime() - startNanos);
+                    committed.add(insert.entry());
+                    if (!snapshot) {
+                        echoSuppressor.delivered(event);
+                        syncMetrics.recordLag(insert.entry().topic(), event);
+                        monitoringService.recordSuccess(insert.entry().topic(), targetTable, event.getOperation(),
+                                event.getChangeHash(), insert.dataPreview());
                     }
+                    inserted++;
+                } catch (Exception rowError) {
+                    monitoringService.recordFailure(insert.entry().topic(), targetTable, event.getOperation(),
+                            rowError.getMessage(),
+                            insert.dataPreview() != null ? insert.dataPreview() : createDataPreview(event.getData()));
+                    log.error("[{}] Failed to insert into {}: {}",
+                            direction, targetTable, rowError.getMessage(), rowError);
+
+                    if (isRetryable(rowError)) {
+                        // 앞서 커밋된 행은 committed에 남음 → 호출자가 재수신 시 건너뜀 (중복 INSERT 방지)
+                        throw (RuntimeException) rowError;
+                    }
+                    failures.add(new BatchFailure(insert.entry(), rowError));
                 }
+            }
+            return inserted;
+        }
+    }
+
+    /**
+     * CDC 테이블 INSERT + 직접 반영 테이블이면 원본 테이블 반영 (호출자 트랜잭션 안에서)
+     *
+     * @param applyPlan 직접 반영 계획 (null이면 CDC 테이블 INSERT만)
+     * @param events 이벤트 목록 (args와 같은 순서)
+     * @param args 이벤트별 CDC INSERT 바인딩 값
+     */
+    private void insertRows(JdbcTemplate jdbcTemplate, InsertPlan plan, TablePlan applyPlan,
+                            List<CdcEvent> events, List<Object[]> args, String direction) {
+        if (args.size() == 1) {
+            jdbcTemplate.update(plan.sql(), args.get(0));
+        } else {
+            jdbcTemplate.batchUpdate(plan.sql(), args);
+        }
+        if (applyPlan != null) {
+            directApplier.apply(jdbcTemplate::batchUpdate, jdbcTemplate, applyPlan, plan, events, args, direction);
+        }
+    }
 
-                // Debezium timestamp 타입 처리 (epoch milliseconds -> java.sql.Timestamp)
-                // 날짜 관련 컬럼명 체크
-                String upperKey = key.toUpperCase();
-                if (value instanceof Long || value instanceof Integer) {
-                    if (upperKey.contains("DATE") || upperKey.contains("_AT") ||
-                        upperKey.contains("TIME") || upperKey.contains("TIMESTAMP")) {
-                        value = convertEpochToTimestamp(((Number) value).longValue());
+    /**
+     * 대상 DB JdbcTemplate의 트랜잭션 템플릿
+     */
+    private TransactionTemplate transactionTemplate(JdbcTemplate jdbcTemplate) {
+        return jdbcTemplate == tobeJdbcTemplate ? tobeTransactionTemplate : asisTransactionTemplate;
+    }
+
+    // ==================== 그룹 커밋 ====================
+
+    /**
+     * ASIS 이벤트를 TOBE DB 그룹 트랜잭션에서 INSERT (커밋은 commitGroups)
+     *
+     * @param session 현재 Consumer 스레드의 그룹 커밋 세션
+     * @param event CDC 이벤트
+     * @param targetTable 대상 CDC 테이블명
+     * @param topic 원본 Kafka 토픽명
+     * @param source 커밋 결과에 돌려줄 원본 (Kafka 레코드)
+     * @return true면 그룹에 추가됨 (commitGroups 결과로 완료), false면 INSERT 대상 아님 (에코, 빈 데이터)
+     * @throws RuntimeException 데이터 오류 (호출자가 재시도 토픽으로 이동)
+     */
+    public <T> boolean groupAsisToTobe(GroupCommitSession<T> session, CdcEvent event, String targetTable,
+                                       String topic, T source) {
+        return addToGroup(session, asisJdbcTemplate, tobeJdbcTemplate, event, targetTable, "ASIS->TOBE", topic, source);
+    }
+
+    /**
+     * TOBE 이벤트를 ASIS DB 그룹 트랜잭션에서 INSERT (커밋은 commitGroups)
+     *
+     * @see #groupAsisToTobe
+     */
+    public <T> boolean groupTobeToAsis(GroupCommitSession<T> session, CdcEvent event, String targetTable,
+                                       String topic, T source) {
+        return addToGroup(session, tobeJdbcTemplate, asisJdbcTemplate, event, targetTable, "TOBE->ASIS", topic, source);
+    }
+
+    /**
+     * 세션의 열린 그룹 전부 커밋
+     *
+     * [처리 흐름]
+     * 1. 대상 DB별 커밋 1회 → 성공하면 그룹 이벤트 전체 완료 (에코 등록, 성공 기록)
+     * 2. 커밋 실패 또는 트랜잭션 중단(커넥션 장애): 롤백 후 건별 자동 커밋으로 재반영
+     *    → 데이터 오류 행만 failed, 나머지는 반영 (한 행 때문에 그룹 전체가 거부되지 않음)
+     * 3. 재반영 중 일시적 DB 장애: 남은 항목은 remaining (호출자가 백오프 후 replayGroup)
+     */
+    public <T> Result<T> commitGroups(GroupCommitSession<T> session) {
+        Result<T> result = Result.empty();
+        for (Group<T> group : session.drain()) {
+            if (group.entries.isEmpty()) {
+                group.rollback();
+                continue;
+            }
+
+            if (!group.broken) {
+                long startNanos = System.nanoTime();
+                try {
+                    group.commit();
+                    for (Entry<T> entry : group.entries) {
+                        markDelivered(entry);
+                        result.committed().add(entry.source());
                     }
+                    monitoringService.recordGroupCommit(group.direction, group.entries.size(),
+                            System.nanoTime() - startNanos);
+                    log.debug("[{}] Group committed {} events", group.direction, group.entries.size());
+                    continue;
+                } catch (DataAccessException e) {
+                    log.warn("[{}] Group commit of {} events failed, replaying row by row: {}",
+                            group.direction, group.entries.size(), e.getMessage());
                 }
+            }
 
-                columns.add(upperKey);
-                values.add(value);
+            monitoringService.recordGroupFallback(group.direction, group.entries.size());
+            replay(group.entries, result);
+        }
+        return result;
+    }
+
+    /**
+     * 일시적 DB 장애로 남은 그룹 항목 건별 재반영 (commitGroups 결과의 remaining)
+     */
+    public <T> Result<T> replayGroup(List<Entry<T>> remaining) {
+        Result<T> result = Result.empty();
+        replay(remaining, result);
+        return result;
+    }
+
+    private <T> boolean addToGroup(GroupCommitSession<T> session, JdbcTemplate sourceJdbcTemplate,
+                                   JdbcTemplate jdbcTemplate, CdcEvent event, String targetTable,
+                                   String direction, String topic, T source) {
+        monitoringService.recordReceived(topic);
+
+        boolean snapshot = isBulkSnapshot(event);
+        if (snapshot) {
+            prepareSnapshot(event, topic);
+        } else {
+            ensureHash(event, topic);
+            if (echoSuppressor.suppress(event)) {
+                session.echoSuppressed(event, source);
+                return false;
             }
+        }
 
-            // INSERT SQL 생성
-            String columnList = String.join(", ", columns);
-            String placeholders = String.join(", ", columns.stream().map(c -> "?").toList());
-            String sql = String.format("INSERT INTO %s (%s) VALUES (%s)",
-                    targetTable, columnList, placeholders);
+        Map<String, Object> data = event.getData();
+        if (data == null || data.isEmpty()) {
+            log.warn("[{}] Empty data for table: {}", direction, targetTable);
+            return false;
+        }
+        String dataPreview = snapshot && snapshotConfig.isSkipPreview() ? null : createDataPreview(data);
 
-            // 실행
-            jdbcTemplate.update(sql, values.toArray());
+        Group<T> group = session.group(direction, sourceJdbcTemplate, jdbcTemplate);
+        TablePlan applyPlan = directApplier.plan(targetTable);
+        InsertPlan plan = null;
+        Object[] args = null;
+        try {
+            plan = insertPlanCache.plan(targetTable, event);
+            args = plan.bind(event, applyPlan != null);
+            if (!group.broken) {
+                long startNanos = System.nanoTime();
+                if (applyPlan == null) {
+                    group.execute(plan.sql(), args);
+                } else {
+                    applyInGroup(group, plan, applyPlan, event, args);
+                }
+                recordInsertTime(topic, InsertMode.GROUP, System.nanoTime() - startNanos);
+            }
+            group.entries.add(new Entry<>(group, topic, targetTable, event, plan, applyPlan, args,
+                    dataPreview, snapshot, source));
+            return true;
+
+        } catch (RuntimeException e) {
+            if (args == null || !isRetryable(e)) {
+                monitoringService.recordFailure(topic, targetTable, event.getOperation(), e.getMessage(),
+                        dataPreview != null ? dataPreview : createDataPreview(data));
+                log.error("[{}] Failed to insert into {}: {}", direction, targetTable, e.getMessage(), e);
+                throw e;
+            }
+            // 커넥션 장애: 트랜잭션을 잃었으므로 이 행까지 포함해 커밋 시점에 건별 재반영
+            log.warn("[{}] Group transaction lost after {} events, replaying on commit: {}",
+                    direction, group.entries.size(), e.getMessage());
+            group.rollback();
+            group.broken = true;
+            group.entries.add(new Entry<>(group, topic, targetTable, event, plan, applyPlan, args,
+                    dataPreview, snapshot, source));
+            return true;
+        }
+    }
 
-            // 모니터링: 성공 기록 (데이터 미리보기 포함)
-            monitoringService.recordSuccess(topic, targetTable, event.getOperation(), event.getChangeHash(), dataPreview);
+    /**
+     * 직접 반영 이벤트를 그룹 트랜잭션에서 실행 (데이터 오류면 이 이벤트 문장만 세이브포인트까지 롤백)
+     */
+    private <T> void applyInGroup(Group<T> group, InsertPlan plan, TablePlan applyPlan, CdcEvent event, Object[] args) {
+        Savepoint savepoint = group.savepoint();
+        try {
+            group.execute(plan.sql(), args);
+            directApplier.apply(group::executeBatch, group.jdbcTemplate, applyPlan, plan,
+                    List.of(event), List.<Object[]>of(args), group.direction);
+        } catch (RuntimeException e) {
+            // 일시적 DB 장애는 트랜잭션 자체를 잃었으므로 호출자가 그룹 전체를 건별 재반영
+            if (!isRetryable(e)) {
+                group.rollbackTo(savepoint);
+            }
+            throw e;
+        }
+    }
 
-            log.info("[{}] Inserted into {}: {} - hash={}",
-                    direction, targetTable, event.getOperation(),
-                    event.getChangeHash().substring(0, 16));
+    /**
+     * 그룹 항목 건별 자동 커밋 INSERT (일시적 DB 장애를 만나면 남은 항목을 remaining으로)
+     */
+    private <T> void replay(List<Entry<T>> entries, Result<T> result) {
+        for (int i = 0; i < entries.size(); i++) {
+            Entry<T> entry = entries.get(i);
+            try {
+                JdbcTemplate jdbcTemplate = entry.group.jdbcTemplate;
+                if (entry.applyPlan == null) {
+                    jdbcTemplate.update(entry.insertPlan.sql(), entry.args);
+                } else {
+                    transactionTemplate(jdbcTemplate).executeWithoutResult(status ->
+                            insertRows(jdbcTemplate, entry.insertPlan, entry.applyPlan, List.of(entry.event),
+                                    List.<Object[]>of(entry.args), entry.group.direction));
+                }
+                markDelivered(entry);
+                result.committed().add(entry.source());
+            } catch (RuntimeException e) {
+                if (isRetryable(e)) {
+                    log.warn("[{}] Replay of {} group events interrupted: {}",
+                            entry.group.direction, entries.size() - i, e.getMessage());
+                    result.remaining().addAll(entries.subList(i, entries.size()));
+                    return;
+                }
+                monitoringService.recordFailure(entry.topic, entry.targetTable, entry.event.getOperation(), e.getMessage(),
+                        entry.dataPreview != null ? entry.dataPreview : createDataPreview(entry.event.getData()));
+                log.error("[{}] Failed to insert into {}: {}",
+                        entry.group.direction, entry.targetTable, e.getMessage(), e);
+                result.failed().add(new Failure<>(entry.source(), e));
+            }
+        }
+    }
 
-        } catch (Exception e) {
-            // 모니터링: 실패 기록 (데이터 미리보기 포함)
-            monitoringService.recordFailure(topic, targetTable, event.getOperation(), e.getMessage(), dataPreview);
+    /**
+     * 그룹 항목 반영 완료 기록 (Worker 트리거, 스냅샷 행은 진행률, 그 외 에코 등록 + 성공 기록)
+     */
+    private <T> void markDelivered(Entry<T> entry) {
+        CdcEvent event = entry.event;
+        workerTrigger.inserted(entry.targetTable);
+        if (entry.snapshot) {
+            snapshotProgress.record(entry.group.sourceJdbcTemplate, entry.topic, event, entry.targetTable,
+                    1, 0, event.isSnapshotLast());
+            return;
+        }
+        echoSuppressor.delivered(event);
+        syncMetrics.recordLag(entry.topic, event);
+        monitoringService.recordSuccess(entry.topic, entry.targetTable, event.getOperation(),
+                event.getChangeHash(), entry.dataPreview);
+    }
 
-            log.error("[{}] Failed to insert into {}: {}",
-                    direction, targetTable, e.getMessage(), e);
+    /**
+     * INSERT 실행 시간 기록 (Micrometer Timer + 대시보드 시계열)
+     */
+    private void recordInsertTime(String topic, InsertMode mode, long elapsedNanos) {
+        syncMetrics.recordInsert(topic, mode, elapsedNanos);
+        monitoringService.recordInsertLatency(topic, elapsedNanos);
+    }
+
+    /**
+     * 대량 적재 경로로 보낼 스냅샷 행인지 (cdc.sync.snapshot.enabled=false면 스냅샷도 실시간 경로)
+     */
+    private boolean isBulkSnapshot(CdcEvent event) {
+        return snapshotConfig.isEnabled() && event.isSnapshot();
+    }
+
+    /**
+     * 스냅샷 행 해시 생성 (skip-hash면 CHANGE_HASH 없이 INSERT)
+     */
+    private void prepareSnapshot(CdcEvent event, String topic) {
+        if (!snapshotConfig.isSkipHash()) {
+            ensureHash(event, topic);
+        }
+    }
+
+    /**
+     * 해시가 없으면 생성 + 토픽별 해시 시간 기록 (역직렬화기는 해시를 만들지 않음)
+     */
+    private void ensureHash(CdcEvent event, String topic) {
+        if (event.getChangeHash() == null && event.getData() != null) {
+            long startNanos = System.nanoTime();
+            event.setChangeHash(generateHash(event.getData()));
+            syncMetrics.recordHash(topic, System.nanoTime() - startNanos);
         }
     }
 
+    /**
+     * 재처리하면 성공할 수 있는 일시적 장애인지 판단
+     *
+     * - TransientDataAccessException: 데드락, 락 타임아웃, 쿼리 타임아웃
+     * - DataAccessResourceFailureException: 커넥션 획득 실패 (DB 다운, 풀 고갈)
+     * - CannotCreateTransactionException: 트랜잭션 시작 시 커넥션 획득 실패
+     */
+    public static boolean isRetryable(Throwable e) {
+        return e instanceof TransientDataAccessException
+                || e instanceof RecoverableDataAccessException
+                || e instanceof DataAccessResourceFailureException
+                || e instanceof CannotCreateTransactionException;
+    }
+
     /**
      * 데이터 미리보기 문자열 생성 (전체 데이터 표시)
      */
@@ -207,13 +825,7 @@ public class CdcSyncService {
             Object value = entry.getValue();
 
             // Debezium 복합 타입 디코딩
-            if (value instanceof Map) {
-                @SuppressWarnings("unchecked")
-                Map<String, Object> complexValue = (Map<String, Object>) value;
-                if (complexValue.containsKey("value")) {
-                    value = decodeDebeziumNumber(complexValue);
-                }
-            }
+            value = ValueConverter.decodeIfNumber(value);
 
             // 값 포맷팅 (전체 표시, 짤림 없음)
             String valueStr;
@@ -232,96 +844,35 @@ public class CdcSyncService {
         return sb.toString();
     }
 
-    /**
-     * Debezium 타임스탬프를 java.sql.Timestamp로 변환
-     *
-     * [Debezium 타임스탬프 형식]
-     * - io.debezium.time.MicroTimestamp: 마이크로초 (나누기 1000 필요)
-     * - io.debezium.time.Timestamp: 밀리초
-     * - io.debezium.time.Date: epoch days (곱하기 86400000 필요)
-     *
-     * @param epochValue epoch 값 (마이크로초, 밀리초, 또는 일수)
-     * @return java.sql.Timestamp
-     */
-    private Timestamp convertEpochToTimestamp(long epochValue) {
-        // 값 범위로 형식 추정
-        // 마이크로초: 10^15 이상 (예: 1768279886846975)
-        // 밀리초: 10^12 ~ 10^15 (예: 1768279886846)
-        // 일수: 10^5 미만 (예: 19736 = 2024-01-13)
-
-        long epochMs;
-        if (epochValue > 100_000_000_000_000L) {
-            // 마이크로초 → 밀리초로 변환
-            epochMs = epochValue / 1000;
-        } else if (epochValue < 100_000) {
-            // 일수 → 밀리초로 변환
-            epochMs = epochValue * 86400000L;
-        } else {
-            // 이미 밀리초
-            epochMs = epochValue;
-        }
-
-        return new Timestamp(epochMs);
-    }
-
-    /**
-     * Debezium NUMBER 타입 디코딩
-     *
-     * [Debezium NUMBER 형식]
-     * Oracle NUMBER를 다음 형식으로 전송:
-     * { "scale": 0, "value": "AQ==" }  (Base64 인코딩된 BigInteger)
-     *
-     * @param complexValue Debezium 복합 값
-     * @return 디코딩된 숫자
-     */
-    private Object decodeDebeziumNumber(Map<String, Object> complexValue) {
-        try {
-            Object valueObj = complexValue.get("value");
-            if (valueObj instanceof String base64Value) {
-                byte[] bytes = java.util.Base64.getDecoder().decode(base64Value);
-                java.math.BigInteger bigInt = new java.math.BigInteger(bytes);
-
-                Object scaleObj = complexValue.get("scale");
-                int scale = scaleObj != null ? ((Number) scaleObj).intValue() : 0;
-
-                if (scale == 0) {
-                    return bigInt.longValue();
-                } else {
-                    return new java.math.BigDecimal(bigInt, scale);
-                }
-            }
-        } catch (Exception e) {
-            log.warn("Failed to decode Debezium number: {}", e.getMessage());
-        }
-        return complexValue;
-    }
-
     /**
      * 데이터 해시 생성 (SHA-256)
      *
      * [설계 의도]
      * - 무한루프 방지: 동일 데이터의 재처리 감지
      * - CDC 테이블에 해시 저장 후 Worker에서 중복 체크
+     * - 키 정렬 정규화 형식 → Map 순서와 무관하게 같은 데이터면 같은 해시 (ChangeHasher)
      *
      * @param data 데이터 맵
      * @return SHA-256 해시 문자열
      */
     public static String generateHash(Map<String, Object> data) {
-        try {
-            MessageDigest digest = MessageDigest.getInstance("SHA-256");
-            String dataStr = data.toString();  // 간단한 문자열 변환
-            byte[] hash = digest.digest(dataStr.getBytes(StandardCharsets.UTF_8));
-
-            // Hex 문자열로 변환
-            StringBuilder hexString = new StringBuilder();
-            for (byte b : hash) {
-                String hex = Integer.toHexString(0xff & b);
-                if (hex.length() == 1) hexString.append('0');
-                hexString.append(hex);
-            }
-            return hexString.toString();
-        } catch (NoSuchAlgorithmException e) {
-            throw new RuntimeException("SHA-256 not available", e);
-        }
+        return ChangeHasher.hash(data);
     }
+
+    // ==================== 배치 처리용 타입 ====================
+
+    /**
+     * 배치 처리 단위 (원본 토픽 + 파싱된 이벤트)
+     */
+    public record BatchEntry(String topic, CdcEvent event) {}
+
+    /**
+     * 배치 중 INSERT 실패 이벤트 (데이터 오류)
+     */
+    public record BatchFailure(BatchEntry entry, Exception error) {}
+
+    /**
+     * 배치 실행 대기 중인 INSERT
+     */
+    private record PendingInsert(BatchEntry entry, Object[] args, String dataPreview) {}
 }
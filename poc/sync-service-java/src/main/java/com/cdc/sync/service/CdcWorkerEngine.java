@@ -0,0 +1,501 @@
+package com.cdc.sync.service;
+
+import com.cdc.sync.config.CdcSyncConfig;
+import com.cdc.sync.config.CdcSyncConfig.TopicMapping;
+import com.cdc.sync.config.CdcSyncConfig.WorkerConfig;
+import com.cdc.sync.service.DirectApplier.Change;
+import com.cdc.sync.service.DirectApplier.TablePlan;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionStatus;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.PreparedStatement;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Java Worker (CDC 테이블 → STAGING → 원본 테이블, PL/SQL Worker 대체)
+ *
+ * [문제]
+ * - SP_WORKER_*: 커서 FOR LOOP로 행마다 FN_IS_LOOP SELECT + FN_CONVERT_CODE SELECT + INSERT/UPDATE + COMMIT
+ *   → 행마다 redo log sync, 테이블을 순서대로 하나씩 처리, 여러 세션이 돌면 같은 행을 중복 처리
+ *
+ * [설계 의도]
+ * - 청크 1개 = 트랜잭션 1개: PROCESSED_YN='N' 행을 최대 chunk-size건 가져와 단계마다 JDBC batch → 커밋 1회
+ *   1. 루프 판정: CHANGE_HASH를 CDC_PROCESSED_HASH에서 IN 목록으로 한 번에 조회 (FN_IS_LOOP와 같은 5분 기준)
+ *   2. STAGING INSERT (PROCESSED_YN='Y', 변환 결과 감사 기록) → 원본 MERGE/DELETE + 해시 + 이력 (DirectApplier)
+ *   3. CDC 행 PROCESSED_YN 갱신 (Y / S=LOOP_BLOCKED / E=데이터 오류)
+ * - 변환 규칙은 직접 반영과 같은 cdc.sync.direct-apply.tables 설정 (enabled와 무관), 코드 변환은 메모리 사본
+ * - 테이블별로 병렬 (고정 크기 스레드 풀, 테이블 1개는 한 번에 스레드 1개)
+ *
+ * [인스턴스 간 분배]
+ * - 테이블 행을 키 해시(ORA_HASH) 슬롯으로 나누고, 슬롯마다 CDC_WORKER_SLOT 행을 FOR UPDATE SKIP LOCKED로 잠금
+ *   → 다른 인스턴스가 처리 중인 슬롯은 기다리지 않고 건너뜀, 같은 키는 한 번에 한 인스턴스만 (키 순서 유지)
+ * - 슬롯 안의 CDC 행도 FOR UPDATE SKIP LOCKED로 가져옴 (잠금은 커밋까지, 중단되면 롤백으로 자동 반환)
+ *
+ * [장애 처리]
+ * - 일시적 DB 장애(isRetryable): 청크 롤백 → 행은 'N'으로 남아 다음 주기에 다시 처리
+ * - 데이터 오류: 가져온 직후 세이브포인트로 롤백 → 행마다 세이브포인트로 다시 반영, 실패 행만 'E' + FAILED 이력
+ *
+ * [프로덕션 고려사항]
+ * - 전환 시 JOB_CDC_WORKER를 중지하고 STAGING의 PROCESSED_YN='N' 잔여분을 먼저 비울 것
+ *   (PL/SQL Worker와 같은 테이블을 동시에 처리하면 같은 행이 두 번 반영됨)
+ * - 모든 인스턴스가 같은 slots 값을 써야 함 (값이 다르면 같은 키가 다른 슬롯으로 나뉨)
+ * - 스레드마다 대상 DB 커넥션 1개 점유 (threads ≤ 풀 여유분)
+ */
+@Component
+@ConditionalOnProperty(prefix = "cdc.sync.worker", name = "enabled", havingValue = "true")
+public class CdcWorkerEngine {
+
+    private static final Logger log = LoggerFactory.getLogger(CdcWorkerEngine.class);
+
+    private static final String ENSURE_SLOT_SQL = "MERGE INTO CDC_WORKER_SLOT t"
+            + " USING (SELECT ? AS TABLE_NAME, ? AS SLOT FROM DUAL) s"
+            + " ON (t.TABLE_NAME = s.TABLE_NAME AND t.SLOT = s.SLOT)"
+            + " WHEN NOT MATCHED THEN INSERT (TABLE_NAME, SLOT) VALUES (s.TABLE_NAME, s.SLOT)";
+    private static final String LOCK_SLOT_SQL =
+            "SELECT SLOT FROM CDC_WORKER_SLOT WHERE TABLE_NAME = ? AND SLOT = ? FOR UPDATE SKIP LOCKED";
+    private static final String RECENT_HASH_SQL = "SELECT HASH_VALUE FROM CDC_PROCESSED_HASH"
+            + " WHERE PROCESSED_AT > SYSTIMESTAMP - INTERVAL '5' MINUTE AND HASH_VALUE IN (";
+    private static final String CLEANUP_HASH_SQL =
+            "DELETE FROM CDC_PROCESSED_HASH WHERE PROCESSED_AT < SYSTIMESTAMP - INTERVAL '10' MINUTE";
+
+    // Oracle IN 목록 최대 항목 수
+    private static final int MAX_IN_LIST = 1000;
+    private static final int MAX_ERROR_LENGTH = 500;
+
+    private final WorkerConfig config;
+    private final int slots;
+    private final DirectApplier directApplier;
+    private final CdcMonitoringService monitoringService;
+    private final List<WorkerTable> tables = new ArrayList<>();
+    private final Map<String, WorkerTable> tablesByName = new HashMap<>();
+    private final Map<JdbcTemplate, String> databases = new LinkedHashMap<>();
+
+    private final ThreadPoolExecutor executor;
+    private final AtomicBoolean cleaning = new AtomicBoolean();
+    private volatile long lastCleanupMillis = System.currentTimeMillis();
+    private volatile boolean running = true;
+
+    public CdcWorkerEngine(
+            @Qualifier("asisJdbcTemplate") JdbcTemplate asisJdbcTemplate,
+            @Qualifier("tobeJdbcTemplate") JdbcTemplate tobeJdbcTemplate,
+            @Qualifier("asisTransactionManager") PlatformTransactionManager asisTransactionManager,
+            @Qualifier("tobeTransactionManager") PlatformTransactionManager tobeTransactionManager,
+            DirectApplier directApplier,
+            CdcMonitoringService monitoringService,
+            CdcSyncConfig syncConfig) {
+        this.config = syncConfig.getWorker();
+        this.directApplier = directApplier;
+        this.monitoringService = monitoringService;
+
+        TransactionTemplate asisTransactionTemplate = new TransactionTemplate(asisTransactionManager);
+        TransactionTemplate tobeTransactionTemplate = new TransactionTemplate(tobeTransactionManager);
+        this.slots = Math.max(1, config.getSlots());
+        for (String cdcTable : config.getTables()) {
+            TablePlan plan = directApplier.tablePlan(cdcTable);
+            if (plan == null) {
+                throw new IllegalStateException("Worker table " + cdcTable
+                        + " has no cdc.sync.direct-apply.tables entry");
+            }
+            // CDC 테이블이 있는 DB = 원본 테이블이 있는 DB (ASIS->TOBE면 TOBE DB)
+            if (contains(syncConfig.getAsisToTobe(), cdcTable)) {
+                tables.add(new WorkerTable(plan, "ASIS->TOBE", tobeJdbcTemplate, tobeTransactionTemplate, slots));
+                databases.put(tobeJdbcTemplate, "TOBE");
+            } else if (contains(syncConfig.getTobeToAsis(), cdcTable)) {
+                tables.add(new WorkerTable(plan, "TOBE->ASIS", asisJdbcTemplate, asisTransactionTemplate, slots));
+                databases.put(asisJdbcTemplate, "ASIS");
+            } else {
+                throw new IllegalStateException("Worker table " + cdcTable + " is not a target of any topic mapping");
+            }
+            tablesByName.put(cdcTable, tables.get(tables.size() - 1));
+        }
+
+        int threads = Math.max(1, config.getThreads());
+        AtomicInteger threadIndex = new AtomicInteger();
+        // 테이블당 작업 1개 + 해시 정리 1개까지만 대기 (busy 플래그로 중복 제출 없음)
+        this.executor = new ThreadPoolExecutor(threads, threads, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(tables.size() + 1),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "cdc-worker-" + threadIndex.getAndIncrement());
+                    thread.setDaemon(true);
+                    return thread;
+                });
+        log.info("Java worker enabled: {} ({} threads, chunk {}, {} slots)",
+                tables.stream().map(t -> t.plan.cdcTable + " -> " + t.plan.targetTable).toList(),
+                threads, config.getChunkSize(), slots);
+    }
+
+    private static boolean contains(List<TopicMapping> mappings, String cdcTable) {
+        return mappings.stream().anyMatch(mapping -> cdcTable.equals(mapping.getTargetTable()));
+    }
+
+    /**
+     * 처리 중이 아닌 테이블을 스레드 풀에 제출 (스케줄러 스레드, 바로 반환)
+     */
+    @Scheduled(fixedDelayString = "${cdc.sync.worker.interval-ms:1000}")
+    public void tick() {
+        if (!running) {
+            return;
+        }
+        for (WorkerTable table : tables) {
+            schedule(table);
+        }
+        long now = System.currentTimeMillis();
+        if (now - lastCleanupMillis >= config.getHashCleanupMs() && cleaning.compareAndSet(false, true)) {
+            lastCleanupMillis = now;
+            submit(() -> {
+                try {
+                    cleanupHashes();
+                } finally {
+                    cleaning.set(false);
+                }
+            }, cleaning);
+        }
+    }
+
+    /**
+     * 이 엔진이 처리하는 CDC 테이블인지 (WorkerTrigger가 프로시저 대신 wake 호출)
+     */
+    public boolean handles(String cdcTable) {
+        return tablesByName.containsKey(cdcTable);
+    }
+
+    /**
+     * 주기를 기다리지 않고 바로 처리 (CDC INSERT 직후, 처리 중이면 끝난 뒤 한 번 더)
+     */
+    public void wake(String cdcTable) {
+        WorkerTable table = tablesByName.get(cdcTable);
+        if (table != null && running) {
+            table.wakeup = true;
+            schedule(table);
+        }
+    }
+
+    private void schedule(WorkerTable table) {
+        if (table.busy.compareAndSet(false, true)) {
+            submit(() -> {
+                try {
+                    do {
+                        table.wakeup = false;
+                        drain(table);
+                    } while (table.wakeup && running);
+                } finally {
+                    table.busy.set(false);
+                }
+            }, table.busy);
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        running = false;
+        executor.shutdown();
+        try {
+            if (!executor.awaitTermination(30, TimeUnit.SECONDS)) {
+                executor.shutdownNow();
+            }
+        } catch (InterruptedException e) {
+            executor.shutdownNow();
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void submit(Runnable task, AtomicBoolean flag) {
+        try {
+            executor.execute(task);
+        } catch (RejectedExecutionException e) {
+            flag.set(false);
+        }
+    }
+
+    /**
+     * 테이블 1개 미처리 행 비우기 (슬롯을 돌며, 청크가 가득 차면 같은 슬롯 계속)
+     */
+    private void drain(WorkerTable table) {
+        try {
+            ensureSlots(table);
+            for (int i = 0; i < slots && running; i++) {
+                // drain마다 시작 슬롯을 돌려 앞쪽 슬롯만 먼저 처리되지 않도록
+                int slot = table.nextSlot++ % slots;
+                while (running) {
+                    long start = System.nanoTime();
+                    ChunkResult result = table.transactionTemplate.execute(status -> processChunk(table, slot, status));
+                    if (result == null || result.claimed == 0) {
+                        break;
+                    }
+                    monitoringService.recordWorkerChunk(table.plan.cdcTable, result.claimed, result.applied,
+                            result.loopBlocked, result.failed, System.nanoTime() - start);
+                    log.debug("[{}] Worker chunk slot {}: {} rows (applied {}, loop {}, failed {})",
+                            table.plan.cdcTable, slot, result.claimed, result.applied, result.loopBlocked, result.failed);
+                    if (result.claimed < config.getChunkSize()) {
+                        break;
+                    }
+                }
+            }
+        } catch (RuntimeException e) {
+            // 청크 롤백 → 행은 'N'으로 남아 다음 주기에 재처리
+            log.warn("[{}] Worker drain stopped: {}", table.plan.cdcTable, e.getMessage());
+        }
+    }
+
+    /**
+     * 슬롯 행 생성 (테이블당 1회, 이미 있으면 그대로)
+     */
+    private void ensureSlots(WorkerTable table) {
+        if (table.slotsReady) {
+            return;
+        }
+        List<Object[]> slotRows = new ArrayList<>();
+        for (int slot = 0; slot < slots; slot++) {
+            slotRows.add(new Object[]{table.plan.cdcTable, slot});
+        }
+        table.jdbcTemplate.batchUpdate(ENSURE_SLOT_SQL, slotRows);
+        table.slotsReady = true;
+    }
+
+    /**
+     * 청크 1개 처리 (트랜잭션 안, 슬롯을 다른 인스턴스가 잡고 있으면 null)
+     */
+    private ChunkResult processChunk(WorkerTable table, int slot, TransactionStatus status) {
+        TablePlan plan = table.plan;
+        if (table.jdbcTemplate.queryForList(LOCK_SLOT_SQL, Integer.class, plan.cdcTable, slot).isEmpty()) {
+            return null;
+        }
+        List<Claimed> claimed = claim(table, slot);
+        if (claimed.isEmpty()) {
+            return new ChunkResult(0, 0, 0, 0);
+        }
+
+        Set<String> processed = recentHashes(table.jdbcTemplate, claimed);
+        List<Claimed> rows = new ArrayList<>(claimed.size());
+        List<Object[]> marks = new ArrayList<>(claimed.size());
+        List<Object[]> logs = new ArrayList<>();
+        int loopBlocked = 0;
+        for (Claimed row : claimed) {
+            String hash = row.change.changeHash();
+            if (hash != null && processed.contains(hash)) {
+                loopBlocked++;
+                marks.add(new Object[]{"S", "LOOP_BLOCKED", row.cdcSeq});
+                if (plan.syncLog) {
+                    logs.add(DirectApplier.syncLogRow(plan, table.direction, row.change.operation(),
+                            plan.pkValue(row.change.values()), "LOOP_BLOCKED", null, hash));
+                }
+            } else {
+                rows.add(row);
+            }
+        }
+
+        int failed = 0;
+        if (!rows.isEmpty()) {
+            List<Change> changes = rows.stream().map(Claimed::change).toList();
+            // 코드 매핑 조회 실패는 세이브포인트 전 → 청크 전체 롤백 후 재처리
+            List<Object[]> values = directApplier.convert(table.jdbcTemplate, plan, changes, table.direction);
+            Object savepoint = status.createSavepoint();
+            try {
+                apply(table, rows, changes, values);
+                for (Claimed row : rows) {
+                    marks.add(new Object[]{"Y", null, row.cdcSeq});
+                }
+            } catch (RuntimeException e) {
+                if (CdcSyncService.isRetryable(e)) {
+                    throw e;
+                }
+                status.rollbackToSavepoint(savepoint);
+                log.warn("[{}] Worker chunk failed, retrying {} rows one by one: {}",
+                        plan.cdcTable, rows.size(), e.getMessage());
+                failed = applyRowByRow(table, rows, changes, values, status, marks, logs);
+            }
+        }
+
+        table.jdbcTemplate.batchUpdate(table.markSql, marks);
+        if (!logs.isEmpty()) {
+            table.jdbcTemplate.batchUpdate(DirectApplier.SYNC_LOG_SQL, logs);
+        }
+        return new ChunkResult(claimed.size(), rows.size() - failed, loopBlocked, failed);
+    }
+
+    /**
+     * 슬롯의 미처리 행을 CDC_SEQ 순서로 최대 chunk-size건 잠가서 가져오기
+     */
+    private List<Claimed> claim(WorkerTable table, int slot) {
+        int chunkSize = Math.max(1, config.getChunkSize());
+        int columns = table.plan.sourceColumns().size();
+        return table.jdbcTemplate.query(con -> {
+            PreparedStatement ps = con.prepareStatement(table.claimSql);
+            // 가져온 만큼만 잠그도록 한 번의 fetch로 제한
+            ps.setMaxRows(chunkSize);
+            ps.setFetchSize(chunkSize);
+            ps.setInt(1, slot);
+            return ps;
+        }, (rs, rowNum) -> {
+            Object[] values = new Object[columns];
+            for (int i = 0; i < columns; i++) {
+                values[i] = rs.getObject(4 + i);
+            }
+            return new Claimed(rs.getLong(1), new Change(rs.getString(2), values, rs.getString(3)));
+        });
+    }
+
+    /**
+     * 5분 안에 처리한 해시 중 청크에 있는 것 (FN_IS_LOOP를 IN 목록 조회로)
+     */
+    private static Set<String> recentHashes(JdbcTemplate jdbcTemplate, List<Claimed> claimed) {
+        List<String> hashes = new ArrayList<>();
+        for (Claimed row : claimed) {
+            if (row.change.changeHash() != null) {
+                hashes.add(row.change.changeHash());
+            }
+        }
+        if (hashes.isEmpty()) {
+            return Collections.emptySet();
+        }
+        Set<String> processed = new HashSet<>();
+        for (int from = 0; from < hashes.size(); from += MAX_IN_LIST) {
+            List<String> part = hashes.subList(from, Math.min(hashes.size(), from + MAX_IN_LIST));
+            String sql = RECENT_HASH_SQL + String.join(", ", Collections.nCopies(part.size(), "?")) + ")";
+            processed.addAll(jdbcTemplate.queryForList(sql, String.class, part.toArray()));
+        }
+        return processed;
+    }
+
+    /**
+     * STAGING 감사 기록 + 원본 반영 (호출자 트랜잭션 안)
+     */
+    private void apply(WorkerTable table, List<Claimed> rows, List<Change> changes, List<Object[]> values) {
+        TablePlan plan = table.plan;
+        if (plan.stagingSql != null) {
+            List<Object[]> staging = new ArrayList<>(rows.size());
+            for (int i = 0; i < rows.size(); i++) {
+                staging.add(plan.bindStaging(rows.get(i).cdcSeq, changes.get(i).operation(), values.get(i)));
+            }
+            table.jdbcTemplate.batchUpdate(plan.stagingSql, staging);
+        }
+        directApplier.apply(table.jdbcTemplate::batchUpdate, plan, changes, values, table.direction);
+    }
+
+    /**
+     * 행마다 세이브포인트로 다시 반영 (데이터 오류 행만 'E')
+     *
+     * @return 실패 행 수
+     */
+    private int applyRowByRow(WorkerTable table, List<Claimed> rows, List<Change> changes, List<Object[]> values,
+                              TransactionStatus status, List<Object[]> marks, List<Object[]> logs) {
+        int failed = 0;
+        for (int i = 0; i < rows.size(); i++) {
+            Claimed row = rows.get(i);
+            Object savepoint = status.createSavepoint();
+            try {
+                apply(table, List.of(row), List.of(changes.get(i)), List.<Object[]>of(values.get(i)));
+                status.releaseSavepoint(savepoint);
+                marks.add(new Object[]{"Y", null, row.cdcSeq});
+            } catch (RuntimeException e) {
+                if (CdcSyncService.isRetryable(e)) {
+                    throw e;
+                }
+                status.rollbackToSavepoint(savepoint);
+                failed++;
+                String message = errorMessage(e);
+                marks.add(new Object[]{"E", message, row.cdcSeq});
+                if (table.plan.syncLog) {
+                    logs.add(DirectApplier.syncLogRow(table.plan, table.direction, row.change.operation(),
+                            table.plan.pkValue(values.get(i)), "FAILED", message, row.change.changeHash()));
+                }
+                log.warn("[{}] Worker row CDC_SEQ={} failed: {}", table.plan.cdcTable, row.cdcSeq, message);
+            }
+        }
+        return failed;
+    }
+
+    /**
+     * CDC_PROCESSED_HASH 만료 행 정리 (SP_CLEANUP_HASH와 같은 10분 기준)
+     */
+    private void cleanupHashes() {
+        for (Map.Entry<JdbcTemplate, String> database : databases.entrySet()) {
+            try {
+                int deleted = database.getKey().update(CLEANUP_HASH_SQL);
+                if (deleted > 0) {
+                    log.debug("[{}] Cleaned up {} processed hashes", database.getValue(), deleted);
+                }
+            } catch (DataAccessException e) {
+                log.warn("[{}] Failed to clean up processed hashes: {}", database.getValue(), e.getMessage());
+            }
+        }
+    }
+
+    private static String errorMessage(Throwable e) {
+        Throwable cause = e instanceof DataAccessException dataAccessException
+                ? dataAccessException.getMostSpecificCause() : e;
+        String message = String.valueOf(cause.getMessage());
+        return message.length() > MAX_ERROR_LENGTH ? message.substring(0, MAX_ERROR_LENGTH) : message;
+    }
+
+    /**
+     * Worker 대상 테이블 1개 (SQL은 1회 생성)
+     */
+    private static final class WorkerTable {
+
+        final TablePlan plan;
+        final String direction;
+        final JdbcTemplate jdbcTemplate;
+        final TransactionTemplate transactionTemplate;
+        final String claimSql;
+        final String markSql;
+        final AtomicBoolean busy = new AtomicBoolean();
+
+        // 처리 중에 들어온 wake (끝난 뒤 한 번 더 drain)
+        volatile boolean wakeup;
+
+        // drain 스레드에서만 변경 (busy 플래그로 테이블당 1개)
+        volatile boolean slotsReady;
+        int nextSlot;
+
+        WorkerTable(TablePlan plan, String direction, JdbcTemplate jdbcTemplate, TransactionTemplate transactionTemplate,
+                    int slots) {
+            this.plan = plan;
+            this.direction = direction;
+            this.jdbcTemplate = jdbcTemplate;
+            this.transactionTemplate = transactionTemplate;
+
+            List<String> keys = plan.keySourceColumns();
+            String slotKey = keys.size() == 1 ? keys.get(0) : String.join(" || '|' || ", keys);
+            this.claimSql = "SELECT CDC_SEQ, OPERATION, CHANGE_HASH, " + String.join(", ", plan.sourceColumns())
+                    + " FROM " + plan.cdcTable + " WHERE PROCESSED_YN = 'N'"
+                    + " AND ORA_HASH(" + slotKey + ", " + (slots - 1) + ") = ?"
+                    + " ORDER BY CDC_SEQ FOR UPDATE SKIP LOCKED";
+            this.markSql = "UPDATE " + plan.cdcTable
+                    + " SET PROCESSED_YN = ?, ERROR_MSG = ?, PROCESSED_AT = SYSTIMESTAMP WHERE CDC_SEQ = ?";
+        }
+    }
+
+    /**
+     * 가져온 CDC 행 1개
+     */
+    private record Claimed(long cdcSeq, Change change) {}
+
+    /**
+     * 청크 처리 결과 건수
+     */
+    private record ChunkResult(int claimed, int applied, int loopBlocked, int failed) {}
+}
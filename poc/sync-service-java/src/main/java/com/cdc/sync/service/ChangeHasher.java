@@ -0,0 +1,259 @@
+package com.cdc.sync.service;
+
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.security.DigestException;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 변경 해시 생성기 (SHA-256, 정규화 직렬화)
+ *
+ * [문제]
+ * - 기존 방식: 이벤트마다 MessageDigest.getInstance() + data.toString() + 바이트별 Integer.toHexString
+ * - toString()은 Map 반복 순서에 의존 → 같은 행이라도 Map 구현/순서가 다르면 다른 해시
+ *
+ * [설계 의도]
+ * - 키를 정렬한 고정 형식으로 재사용 버퍼에 바로 UTF-8 직렬화 (중간 String 없음)
+ * - 스레드별 MessageDigest/버퍼 재사용 (Consumer/워커 스레드는 장수명)
+ * - 16진수 변환은 룩업 테이블 (결과 String 1개만 생성)
+ *
+ * [직렬화 형식] (값 타입이 같으면 Map 순서와 무관하게 같은 바이트)
+ * - Map : '{' + (키 0x1F 값 0x1E)* + '}'  (키 정렬)
+ * - List: '[' + (값 0x1E)* + ']'
+ * - null: 0x00, 정수: 10진수, BigDecimal: toPlainString, 그 외: toString
+ *
+ * [DB 호환 형식]
+ * - procedureHash(): FN_GENERATE_HASH(04_create_procedures.sql)와 같은 값
+ *   SHA-256(table || '|' || pk || '|' || op || '|' || 필드1 || 필드2 ...) 대문자 16진수 (RAWTOHEX)
+ *   Oracle 문자열 연결처럼 null 필드는 빈 문자열, 숫자는 NUMBER → 문자 변환 형식 (12.50 → 12.5, 0.5 → .5)
+ */
+public final class ChangeHasher {
+
+    private static final byte[] HEX_LOWER = "0123456789abcdef".getBytes(StandardCharsets.US_ASCII);
+    private static final byte[] HEX_UPPER = "0123456789ABCDEF".getBytes(StandardCharsets.US_ASCII);
+
+    private static final byte KEY_END = 0x1F;
+    private static final byte VALUE_END = 0x1E;
+    private static final byte NULL = 0x00;
+
+    private static final ThreadLocal<Encoder> ENCODER = ThreadLocal.withInitial(Encoder::new);
+
+    private ChangeHasher() {
+    }
+
+    /**
+     * 이벤트 데이터의 정규화 해시 (소문자 16진수 64자)
+     *
+     * @param data 변경 데이터 (before 또는 after)
+     */
+    public static String hash(Map<String, Object> data) {
+        Encoder encoder = ENCODER.get();
+        encoder.reset();
+        encoder.writeMap(data, 0);
+        return encoder.digestHex(HEX_LOWER);
+    }
+
+    /**
+     * FN_GENERATE_HASH와 같은 해시 (대문자 16진수 64자)
+     *
+     * @param table 원본 테이블명 (예: BOOK_INFO)
+     * @param pk PK 값 (TO_CHAR 결과와 같은 문자열)
+     * @param operation INSERT/UPDATE/DELETE
+     * @param fields 프로시저가 연결하는 필드 값 (순서 동일, null은 빈 문자열)
+     */
+    public static String procedureHash(String table, String pk, String operation, Object... fields) {
+        Encoder encoder = ENCODER.get();
+        encoder.reset();
+        encoder.writeString(table);
+        encoder.writeByte('|');
+        encoder.writeString(pk);
+        encoder.writeByte('|');
+        encoder.writeString(operation);
+        encoder.writeByte('|');
+        for (Object field : fields) {
+            if (field != null) {
+                encoder.writeString(field instanceof BigDecimal decimal ? oracleText(decimal) : field.toString());
+            }
+        }
+        return encoder.digestHex(HEX_UPPER);
+    }
+
+    /**
+     * Oracle NUMBER의 기본 문자 변환과 같은 문자열 (지수 표기 없음, 끝 0 제거, 소수 앞 0 생략)
+     */
+    static String oracleText(BigDecimal value) {
+        if (value.signum() == 0) {
+            return "0";
+        }
+        String text = value.stripTrailingZeros().toPlainString();
+        if (text.startsWith("0.")) {
+            return text.substring(1);
+        }
+        if (text.startsWith("-0.")) {
+            return "-" + text.substring(2);
+        }
+        return text;
+    }
+
+    /**
+     * 스레드별 직렬화 버퍼 + Digest
+     */
+    private static final class Encoder {
+
+        private final MessageDigest digest;
+        private final byte[] hash = new byte[32];
+        private byte[] buffer = new byte[1024];
+        private int length;
+
+        // 중첩 깊이별 키 정렬용 배열 (Debezium 복합 NUMBER {scale, value} 등)
+        private String[][] keysByDepth = new String[4][];
+
+        Encoder() {
+            try {
+                digest = MessageDigest.getInstance("SHA-256");
+            } catch (NoSuchAlgorithmException e) {
+                throw new IllegalStateException("SHA-256 not available", e);
+            }
+        }
+
+        void reset() {
+            length = 0;
+        }
+
+        void writeMap(Map<?, ?> map, int depth) {
+            writeByte('{');
+            int size = map.size();
+            if (depth >= keysByDepth.length) {
+                keysByDepth = Arrays.copyOf(keysByDepth, depth + 4);
+            }
+            String[] keys = keysByDepth[depth];
+            if (keys == null || keys.length < size) {
+                keys = new String[Math.max(size, 16)];
+                keysByDepth[depth] = keys;
+            }
+            int n = 0;
+            for (Object key : map.keySet()) {
+                keys[n++] = String.valueOf(key);
+            }
+            Arrays.sort(keys, 0, n);
+            for (int i = 0; i < n; i++) {
+                writeString(keys[i]);
+                writeByte(KEY_END);
+                writeValue(map.get(keys[i]), depth + 1);
+                writeByte(VALUE_END);
+                keys[i] = null;
+            }
+            writeByte('}');
+        }
+
+        private void writeValue(Object value, int depth) {
+            if (value == null) {
+                writeByte(NULL);
+            } else if (value instanceof String s) {
+                writeString(s);
+            } else if (value instanceof Long || value instanceof Integer || value instanceof Short) {
+                writeLong(((Number) value).longValue());
+            } else if (value instanceof BigDecimal decimal) {
+                writeString(decimal.toPlainString());
+            } else if (value instanceof Map<?, ?> map) {
+                writeMap(map, depth);
+            } else if (value instanceof List<?> list) {
+                writeByte('[');
+                for (Object item : list) {
+                    writeValue(item, depth);
+                    writeByte(VALUE_END);
+                }
+                writeByte(']');
+            } else {
+                writeString(value.toString());
+            }
+        }
+
+        void writeByte(int b) {
+            ensure(1);
+            buffer[length++] = (byte) b;
+        }
+
+        private void writeLong(long value) {
+            if (value == Long.MIN_VALUE) {
+                writeString(Long.toString(value));
+                return;
+            }
+            ensure(20);
+            if (value < 0) {
+                buffer[length++] = '-';
+                value = -value;
+            }
+            int start = length;
+            do {
+                buffer[length++] = (byte) ('0' + value % 10);
+                value /= 10;
+            } while (value != 0);
+            // 역순으로 쓴 자릿수 뒤집기
+            for (int i = start, j = length - 1; i < j; i++, j--) {
+                byte tmp = buffer[i];
+                buffer[i] = buffer[j];
+                buffer[j] = tmp;
+            }
+        }
+
+        /**
+         * 문자열 → UTF-8 (String.getBytes 없이 버퍼에 직접)
+         */
+        void writeString(String s) {
+            int len = s.length();
+            ensure(len * 3);
+            for (int i = 0; i < len; i++) {
+                char c = s.charAt(i);
+                if (c < 0x80) {
+                    buffer[length++] = (byte) c;
+                } else if (c < 0x800) {
+                    buffer[length++] = (byte) (0xC0 | (c >> 6));
+                    buffer[length++] = (byte) (0x80 | (c & 0x3F));
+                } else if (Character.isHighSurrogate(c) && i + 1 < len && Character.isLowSurrogate(s.charAt(i + 1))) {
+                    int cp = Character.toCodePoint(c, s.charAt(++i));
+                    buffer[length++] = (byte) (0xF0 | (cp >> 18));
+                    buffer[length++] = (byte) (0x80 | ((cp >> 12) & 0x3F));
+                    buffer[length++] = (byte) (0x80 | ((cp >> 6) & 0x3F));
+                    buffer[length++] = (byte) (0x80 | (cp & 0x3F));
+                } else if (Character.isSurrogate(c)) {
+                    // 짝 없는 서로게이트: String.getBytes(UTF_8)와 같이 '?'로 대체
+                    buffer[length++] = '?';
+                } else {
+                    buffer[length++] = (byte) (0xE0 | (c >> 12));
+                    buffer[length++] = (byte) (0x80 | ((c >> 6) & 0x3F));
+                    buffer[length++] = (byte) (0x80 | (c & 0x3F));
+                }
+            }
+        }
+
+        private void ensure(int extra) {
+            if (length + extra > buffer.length) {
+                buffer = Arrays.copyOf(buffer, Math.max(buffer.length * 2, length + extra));
+            }
+        }
+
+        String digestHex(byte[] alphabet) {
+            digest.update(buffer, 0, length);
+            try {
+                digest.digest(hash, 0, hash.length);
+            } catch (DigestException e) {
+                throw new IllegalStateException(e);
+            }
+            byte[] hex = new byte[64];
+            for (int i = 0; i < hash.length; i++) {
+                hex[i * 2] = alphabet[(hash[i] >> 4) & 0x0F];
+                hex[i * 2 + 1] = alphabet[hash[i] & 0x0F];
+            }
+            // 버퍼가 과도하게 커진 경우(대용량 LOB 등) 원래 크기로 복귀
+            if (buffer.length > 1 << 20) {
+                buffer = new byte[1024];
+            }
+            return new String(hex, StandardCharsets.ISO_8859_1);
+        }
+    }
+}
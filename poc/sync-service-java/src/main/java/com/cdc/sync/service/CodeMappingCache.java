@@ -0,0 +1,121 @@
+package com.cdc.sync.service;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * SYNC_CODE_MAPPING 메모리 사본 (대상 DB별)
+ *
+ * [문제]
+ * - Worker는 행마다 컬럼마다 FN_CONVERT_CODE 호출 → SYNC_CODE_MAPPING SELECT 1회씩
+ *
+ * [설계 의도]
+ * - 대상 DB의 SYNC_CODE_MAPPING 전체를 한 번에 읽어 MAP_GROUP → SOURCE_SYSTEM → SOURCE_VALUE 맵으로 보관
+ *   (FN_CONVERT_CODE가 실행되는 DB와 같은 테이블: ASIS->TOBE면 TOBE DB, SOURCE_SYSTEM='ASIS')
+ * - refresh-ms마다 다시 읽어 통째로 교체 (읽는 쪽은 락 없이 불변 사본 사용)
+ * - 재조회는 한 스레드만 수행, 나머지는 이전 사본으로 계속 처리
+ *   재조회 실패 시 이전 사본 유지, 사본이 아예 없으면 예외 (호출자 트랜잭션 롤백)
+ *
+ * [프로덕션 고려사항]
+ * - 매핑 변경은 최대 refresh-ms 뒤에 반영 (즉시 반영이 필요하면 주기를 줄이거나 재기동)
+ */
+public class CodeMappingCache {
+
+    private static final Logger log = LoggerFactory.getLogger(CodeMappingCache.class);
+
+    private static final String LOAD_SQL =
+            "SELECT MAP_GROUP, SOURCE_SYSTEM, SOURCE_VALUE, TARGET_VALUE FROM SYNC_CODE_MAPPING";
+
+    private final long refreshNanos;
+
+    // 대상 DB JdbcTemplate → 최근 사본
+    private final Map<JdbcTemplate, Mappings> mappingsByDb = new ConcurrentHashMap<>();
+    private final ReentrantLock loadLock = new ReentrantLock();
+
+    public CodeMappingCache(long refreshMs) {
+        this.refreshNanos = TimeUnit.MILLISECONDS.toNanos(refreshMs);
+    }
+
+    /**
+     * 대상 DB의 코드 매핑 사본 (없거나 오래됐으면 다시 읽기)
+     *
+     * @throws DataAccessException 최초 조회 실패
+     */
+    public Mappings get(JdbcTemplate jdbcTemplate) {
+        Mappings current = mappingsByDb.get(jdbcTemplate);
+        if (current != null && System.nanoTime() - current.loadedAtNanos < refreshNanos) {
+            return current;
+        }
+
+        if (current != null) {
+            // 재조회 중이면 기다리지 않고 이전 사본 사용
+            if (!loadLock.tryLock()) {
+                return current;
+            }
+        } else {
+            loadLock.lock();
+        }
+        try {
+            Mappings latest = mappingsByDb.get(jdbcTemplate);
+            if (latest != current) {
+                return latest;
+            }
+            Mappings loaded = load(jdbcTemplate);
+            mappingsByDb.put(jdbcTemplate, loaded);
+            return loaded;
+        } catch (DataAccessException e) {
+            if (current == null) {
+                throw e;
+            }
+            log.warn("Failed to reload SYNC_CODE_MAPPING, keeping previous copy: {}", e.getMessage());
+            // 실패 직후 매번 재시도하지 않도록 다음 주기까지 이전 사본 연장
+            Mappings extended = new Mappings(current.groups, System.nanoTime());
+            mappingsByDb.put(jdbcTemplate, extended);
+            return extended;
+        } finally {
+            loadLock.unlock();
+        }
+    }
+
+    private Mappings load(JdbcTemplate jdbcTemplate) {
+        Map<String, Map<String, Map<String, String>>> groups = new HashMap<>();
+        int[] rows = {0};
+        jdbcTemplate.query(LOAD_SQL, rs -> {
+            groups.computeIfAbsent(rs.getString(1), k -> new HashMap<>())
+                    .computeIfAbsent(rs.getString(2), k -> new HashMap<>())
+                    .put(rs.getString(3), rs.getString(4));
+            rows[0]++;
+        });
+        log.info("Loaded {} code mappings ({} groups)", rows[0], groups.size());
+        return new Mappings(groups, System.nanoTime());
+    }
+
+    /**
+     * 코드 매핑 사본 1개 (불변, 스레드 간 공유)
+     *
+     * @param groups MAP_GROUP → SOURCE_SYSTEM → SOURCE_VALUE → TARGET_VALUE
+     * @param loadedAtNanos 조회 시각 (System.nanoTime)
+     */
+    public record Mappings(Map<String, Map<String, Map<String, String>>> groups, long loadedAtNanos) {
+
+        /**
+         * FN_CONVERT_CODE와 같은 변환 (매핑 없으면 null 반환, 호출자가 원래 값/기본값 결정)
+         */
+        public String lookup(String mapGroup, String sourceSystem, String sourceValue) {
+            if (sourceValue == null) {
+                return null;
+            }
+            Map<String, Map<String, String>> bySystem = groups.get(mapGroup);
+            Map<String, String> values = bySystem != null ? bySystem.get(sourceSystem) : null;
+            return values != null ? values.get(sourceValue) : null;
+        }
+    }
+}
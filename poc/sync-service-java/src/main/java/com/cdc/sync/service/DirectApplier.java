@@ -0,0 +1,574 @@
+package com.cdc.sync.service;
+
+import com.cdc.sync.config.CdcSyncConfig;
+import com.cdc.sync.config.CdcSyncConfig.DirectApplyColumn;
+import com.cdc.sync.config.CdcSyncConfig.DirectApplyConfig;
+import com.cdc.sync.config.CdcSyncConfig.DirectApplyTable;
+import com.cdc.sync.domain.CdcEvent;
+import com.cdc.sync.service.CodeMappingCache.Mappings;
+import com.cdc.sync.service.InsertPlanCache.InsertPlan;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.dao.DataAccessException;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 직접 반영 (CDC 테이블 → STAGING → 원본 테이블 3단계를 Java 1단계로)
+ *
+ * [문제]
+ * - Kafka → CDC 테이블(Java) → STAGING(Worker 1단계) → 원본 테이블(Worker 2단계)
+ *   단계마다 건별 처리 + 5초 주기 JOB_CDC_WORKER → 동기화 지연 하한이 수 초
+ *
+ * [설계 의도]
+ * - CDC 테이블 INSERT와 같은 트랜잭션에서 원본 테이블에 MERGE(INSERT/UPDATE) 또는 DELETE
+ *   → CDC 행은 PROCESSED_YN='Y' 감사 기록으로 남고 Worker는 건너뜀
+ * - 컬럼명 변경/코드 변환은 SP_WORKER_BOOK, SP_WORKER_MEMBER와 같게 설정 (cdc.sync.direct-apply.tables)
+ *   코드 변환은 SYNC_CODE_MAPPING 메모리 사본 (CodeMappingCache, 행마다 FN_CONVERT_CODE SELECT 없음)
+ * - 값은 CDC INSERT에 바인딩한 값(ValueConverter 변환 후)을 그대로 재사용 → 이벤트 값 변환은 1회
+ * - 이벤트 목록을 같은 문장(MERGE/DELETE)이 연속되는 구간별로 JDBC batch 실행 → 같은 키 변경 순서 유지
+ * - CDC_SYNC_LOG에 Worker와 같은 SUCCESS/TARGET_NOT_FOUND 이력 (batch 1회)
+ * - hash-columns 설정 시 SP_RECORD_HASH와 같은 CDC_PROCESSED_HASH 기록 (batch 1회)
+ * - 같은 변환을 Java Worker(CdcWorkerEngine)도 사용 → 변경 1건은 Change(연산, 원본 컬럼 값, 해시)로 표현
+ *
+ * [Worker와 차이]
+ * - UPDATE 대상 행이 없으면 MERGE가 INSERT (Worker는 TARGET_NOT_FOUND 기록) → 재처리해도 결과 동일
+ * - DUP_VAL_ON_INDEX 예외 처리 불필요 (INSERT도 MERGE)
+ * - 되돌아오는 에코는 EchoSuppressor가 먼저 처리 (CDC_PROCESSED_HASH는 Worker와 같은 형식으로만 기록)
+ *
+ * [프로덕션 고려사항]
+ * - 직접 반영 테이블은 스냅샷 행도 직접 반영 (Worker가 늦게 반영한 스냅샷 행이 실시간 변경을 덮어쓰지 않도록)
+ * - 같은 테이블을 Worker와 직접 반영이 동시에 처리하지 않도록 전환 시 PROCESSED_YN='N' 잔여분을 먼저 비울 것
+ */
+@Component
+public class DirectApplier {
+
+    private static final Logger log = LoggerFactory.getLogger(DirectApplier.class);
+
+    static final String SYNC_LOG_SQL = "INSERT INTO CDC_SYNC_LOG"
+            + " (DIRECTION, TABLE_NAME, OPERATION, PK_VALUE, STATUS, ERROR_MSG, CHANGE_HASH)"
+            + " VALUES (?, ?, ?, ?, ?, ?, ?)";
+
+    // SP_RECORD_HASH와 같은 MERGE (이미 있으면 처리 시각만 갱신)
+    private static final String RECORD_HASH_SQL = "MERGE INTO CDC_PROCESSED_HASH t"
+            + " USING (SELECT ? AS HASH_VALUE, ? AS TABLE_NAME, ? AS PK_VALUE FROM DUAL) s"
+            + " ON (t.HASH_VALUE = s.HASH_VALUE)"
+            + " WHEN MATCHED THEN UPDATE SET t.PROCESSED_AT = SYSTIMESTAMP"
+            + " WHEN NOT MATCHED THEN INSERT (HASH_VALUE, TABLE_NAME, PK_VALUE, PROCESSED_AT)"
+            + " VALUES (s.HASH_VALUE, s.TABLE_NAME, s.PK_VALUE, SYSTIMESTAMP)";
+
+    private final CdcMonitoringService monitoringService;
+    private final CodeMappingCache codeMappingCache;
+
+    // 대상 CDC 테이블 → 반영 계획 (설정된 테이블 전부, Java Worker용)
+    private final Map<String, TablePlan> allPlans = new HashMap<>();
+    // 대상 CDC 테이블 → 반영 계획 (enabled 테이블만, 직접 반영용)
+    private final Map<String, TablePlan> plansByCdcTable = new HashMap<>();
+
+    public DirectApplier(CdcSyncConfig syncConfig, CdcMonitoringService monitoringService) {
+        DirectApplyConfig config = syncConfig.getDirectApply();
+        this.monitoringService = monitoringService;
+        this.codeMappingCache = new CodeMappingCache(config.getCodeMappingRefreshMs());
+
+        for (DirectApplyTable table : config.getTables()) {
+            TablePlan plan = TablePlan.create(table);
+            allPlans.put(table.getCdcTable(), plan);
+            if (table.isEnabled()) {
+                plansByCdcTable.put(table.getCdcTable(), plan);
+            }
+        }
+        if (!plansByCdcTable.isEmpty()) {
+            log.info("Direct apply enabled: {}", plansByCdcTable.values().stream()
+                    .map(plan -> plan.cdcTable + " -> " + plan.targetTable).toList());
+        }
+    }
+
+    /**
+     * 대상 CDC 테이블의 반영 계획 (직접 반영 대상이 아니면 null)
+     */
+    public TablePlan plan(String cdcTable) {
+        return plansByCdcTable.isEmpty() ? null : plansByCdcTable.get(cdcTable);
+    }
+
+    /**
+     * 대상 CDC 테이블의 변환 설정 (enabled와 무관, 설정이 없으면 null)
+     */
+    public TablePlan tablePlan(String cdcTable) {
+        return allPlans.get(cdcTable);
+    }
+
+    /**
+     * 이벤트 목록을 원본 테이블에 반영 (호출자 트랜잭션 안에서, 커밋하지 않음)
+     *
+     * @param executor JDBC batch 실행 (JdbcTemplate 또는 그룹 커밋 커넥션)
+     * @param jdbcTemplate 대상 DB JdbcTemplate (코드 매핑 조회용)
+     * @param plan 반영 계획
+     * @param insertPlan CDC INSERT 계획 (바인딩 값 위치)
+     * @param events 반영할 이벤트 (수신 순서)
+     * @param cdcArgs 이벤트별 CDC INSERT 바인딩 값 (events와 같은 순서)
+     * @param direction 동기화 방향 (예: ASIS->TOBE)
+     * @throws RuntimeException 반영 실패 (호출자가 CDC INSERT까지 롤백)
+     */
+    public void apply(BatchExecutor executor, JdbcTemplate jdbcTemplate, TablePlan plan, InsertPlan insertPlan,
+                      List<CdcEvent> events, List<Object[]> cdcArgs, String direction) {
+        int[] sourceIndex = plan.sourceIndex(insertPlan);
+        List<Change> changes = new ArrayList<>(events.size());
+        for (int i = 0; i < events.size(); i++) {
+            CdcEvent event = events.get(i);
+            changes.add(new Change(event.getOperation(), plan.sourceValues(cdcArgs.get(i), sourceIndex),
+                    event.getChangeHash()));
+        }
+
+        Outcome outcome = apply(executor, plan, changes, convert(jdbcTemplate, plan, changes, direction), direction);
+        monitoringService.recordDirectApply(plan.targetTable, outcome.merged(), outcome.deleted(), outcome.notFound());
+    }
+
+    /**
+     * 원본 컬럼 값 → 원본 테이블 컬럼 값 (코드 변환, 변경별 MERGE 바인딩 순서)
+     *
+     * @param jdbcTemplate 대상 DB JdbcTemplate (코드 매핑 조회용)
+     * @throws DataAccessException 코드 매핑 최초 조회 실패
+     */
+    public List<Object[]> convert(JdbcTemplate jdbcTemplate, TablePlan plan, List<Change> changes, String direction) {
+        String sourceSystem = direction.substring(0, direction.indexOf("->"));
+        Mappings codes = plan.usesCodeMaps ? codeMappingCache.get(jdbcTemplate) : null;
+        List<Object[]> values = new ArrayList<>(changes.size());
+        for (Change change : changes) {
+            values.add(plan.convert(change.values(), codes, sourceSystem));
+        }
+        return values;
+    }
+
+    /**
+     * 변환한 변경 목록을 원본 테이블에 반영 + 해시/이력 기록 (호출자 트랜잭션 안에서, 커밋하지 않음)
+     *
+     * @param changes 반영할 변경 (발생 순서)
+     * @param values 변경별 변환 값 (convert 결과)
+     * @return 연산별 반영 건수
+     * @throws RuntimeException 반영 실패 (호출자가 롤백)
+     */
+    public Outcome apply(BatchExecutor executor, TablePlan plan, List<Change> changes, List<Object[]> values,
+                         String direction) {
+        boolean[] notFound = new boolean[changes.size()];
+        List<Object[]> run = new ArrayList<>();
+        String runSql = null;
+        int runStart = 0;
+        int deleted = 0;
+        for (int i = 0; i < changes.size(); i++) {
+            String operation = changes.get(i).operation();
+            boolean delete = "DELETE".equals(operation);
+            if (!delete && !"INSERT".equals(operation) && !"UPDATE".equals(operation)) {
+                // 데이터 오류로 처리 (재시도 토픽 / Worker는 'E')
+                throw new DataIntegrityViolationException("Unsupported operation for direct apply: " + operation);
+            }
+
+            String sql = delete ? plan.deleteSql : plan.mergeSql;
+            if (!sql.equals(runSql)) {
+                deleted += flush(executor, runSql, run, runStart, plan, notFound);
+                runSql = sql;
+                runStart = i;
+            }
+            run.add(delete ? plan.bindKeys(values.get(i)) : values.get(i));
+        }
+        deleted += flush(executor, runSql, run, runStart, plan, notFound);
+
+        int missing = 0;
+        for (boolean rowNotFound : notFound) {
+            if (rowNotFound) {
+                missing++;
+            }
+        }
+        if (plan.recordsHash()) {
+            List<Object[]> hashes = new ArrayList<>(changes.size());
+            for (int i = 0; i < changes.size(); i++) {
+                hashes.add(plan.hashRow(changes.get(i).operation(), values.get(i)));
+            }
+            executor.batch(RECORD_HASH_SQL, hashes);
+        }
+        if (plan.syncLog) {
+            List<Object[]> rows = new ArrayList<>(changes.size());
+            for (int i = 0; i < changes.size(); i++) {
+                Change change = changes.get(i);
+                String pk = plan.pkValue(values.get(i));
+                rows.add(syncLogRow(plan, direction, change.operation(), pk,
+                        notFound[i] ? "TARGET_NOT_FOUND" : "SUCCESS",
+                        notFound[i] ? "대상이 존재하지 않음 (" + plan.keyLabel + "=" + pk + ")" : null,
+                        change.changeHash()));
+            }
+            executor.batch(SYNC_LOG_SQL, rows);
+        }
+        return new Outcome(changes.size() - deleted - missing, deleted, missing);
+    }
+
+    /**
+     * 같은 문장 구간 실행 (DELETE 구간은 행별 건수로 TARGET_NOT_FOUND 확인)
+     *
+     * @return 삭제한 행이 있는 DELETE 건수
+     */
+    private static int flush(BatchExecutor executor, String sql, List<Object[]> run, int runStart,
+                             TablePlan plan, boolean[] notFound) {
+        if (run.isEmpty()) {
+            return 0;
+        }
+        int[] counts = executor.batch(sql, run);
+        int deleted = 0;
+        if (sql.equals(plan.deleteSql)) {
+            for (int i = 0; i < counts.length; i++) {
+                // 0만 대상 없음 (드라이버가 건수를 모르면 SUCCESS_NO_INFO)
+                if (counts[i] == 0) {
+                    notFound[runStart + i] = true;
+                } else {
+                    deleted++;
+                }
+            }
+        }
+        run.clear();
+        return deleted;
+    }
+
+    /**
+     * CDC_SYNC_LOG 1행 바인딩 값 (SYNC_LOG_SQL 순서, DIRECTION은 ASIS_TO_TOBE 형식)
+     */
+    static Object[] syncLogRow(TablePlan plan, String direction, String operation, String pk,
+                               String status, String errorMsg, String changeHash) {
+        return new Object[]{
+                direction.replace("->", "_TO_"), plan.targetTable, operation, pk, status, errorMsg, changeHash
+        };
+    }
+
+    /**
+     * SQL 1개를 여러 바인딩 값으로 batch 실행
+     */
+    @FunctionalInterface
+    public interface BatchExecutor {
+        int[] batch(String sql, List<Object[]> args);
+    }
+
+    /**
+     * 변경 1건 (원본 테이블 기준 연산 + 원본 컬럼 값)
+     *
+     * @param operation INSERT/UPDATE/DELETE
+     * @param values source가 있는 컬럼별 값 (설정 순서, 코드 변환 전)
+     * @param changeHash CDC 행 CHANGE_HASH (이력용, 없으면 null)
+     */
+    public record Change(String operation, Object[] values, String changeHash) {}
+
+    /**
+     * 반영 결과 건수
+     *
+     * @param merged MERGE(INSERT/UPDATE) 건수
+     * @param deleted 삭제한 행이 있는 DELETE 건수
+     * @param notFound 대상이 없던 DELETE 건수
+     */
+    public record Outcome(int merged, int deleted, int notFound) {}
+
+    /**
+     * 테이블 1개 반영 계획 (설정에서 1회 생성, 불변 + CDC INSERT 계획별 위치 캐시)
+     */
+    public static final class TablePlan {
+
+        final String cdcTable;
+        final String targetTable;
+        final String mergeSql;
+        final String deleteSql;
+        final boolean syncLog;
+        final boolean usesCodeMaps;
+        final String keyLabel;
+
+        // STAGING INSERT (staging-table 설정 시, Java Worker 감사 기록용)
+        final String stagingTable;
+        final String stagingSql;
+
+        // MERGE USING 절 바인딩 컬럼 (설정 순서, source가 있는 컬럼만)
+        private final DirectApplyColumn[] boundColumns;
+        // 키 컬럼별 boundColumns 위치 (keyColumns 순서)
+        private final int[] keyPositions;
+        // STAGING INSERT 바인딩 컬럼별 boundColumns 위치
+        private final int[] stagingPositions;
+        // FN_GENERATE_HASH 연결 필드별 boundColumns 위치 (비어 있으면 해시 기록 없음)
+        private final int[] hashPositions;
+
+        // CDC INSERT 계획 → boundColumns별 바인딩 값 위치 (없으면 -1)
+        private final Map<InsertPlan, int[]> sourceIndexes = new ConcurrentHashMap<>();
+
+        private TablePlan(DirectApplyTable table, String mergeSql, String deleteSql, String stagingSql,
+                          DirectApplyColumn[] boundColumns, int[] keyPositions, int[] stagingPositions,
+                          int[] hashPositions) {
+            this.cdcTable = table.getCdcTable();
+            this.targetTable = table.getTargetTable();
+            this.mergeSql = mergeSql;
+            this.deleteSql = deleteSql;
+            this.syncLog = table.isSyncLog();
+            this.stagingTable = table.getStagingTable();
+            this.stagingSql = stagingSql;
+            this.boundColumns = boundColumns;
+            this.keyPositions = keyPositions;
+            this.stagingPositions = stagingPositions;
+            this.hashPositions = hashPositions;
+            this.keyLabel = String.join(",", table.getKeyColumns());
+            boolean codeMaps = false;
+            for (DirectApplyColumn column : boundColumns) {
+                codeMaps |= column.getCodeMap() != null;
+            }
+            this.usesCodeMaps = codeMaps;
+        }
+
+        /**
+         * MERGE INTO 원본 USING (SELECT 식 AS 컬럼 ... FROM DUAL) s ON (키) UPDATE/INSERT + DELETE 문 생성
+         */
+        static TablePlan create(DirectApplyTable table) {
+            String target = table.getTargetTable();
+            List<String> keys = table.getKeyColumns();
+            if (target == null || table.getCdcTable() == null || keys.isEmpty()) {
+                throw new IllegalStateException("Direct apply table needs cdc-table, target-table and key-columns: "
+                        + table.getCdcTable());
+            }
+
+            List<DirectApplyColumn> bound = new ArrayList<>();
+            List<Integer> stagingBound = new ArrayList<>();
+            StringBuilder select = new StringBuilder();
+            StringBuilder updates = new StringBuilder();
+            StringBuilder insertColumns = new StringBuilder();
+            StringBuilder insertValues = new StringBuilder();
+            StringBuilder stagingValues = new StringBuilder();
+            for (DirectApplyColumn column : table.getColumns()) {
+                String expression = column.getExpression();
+                int placeholders = expression.length() - expression.replace("?", "").length();
+                if (placeholders != (column.getSource() != null ? 1 : 0)) {
+                    throw new IllegalStateException("Direct apply column " + target + "." + column.getTarget()
+                            + " expression must have one ? when source is set, none otherwise: " + expression);
+                }
+                if (column.getSource() != null) {
+                    bound.add(column);
+                }
+
+                String name = column.getTarget();
+                append(select, expression + " AS " + name);
+                if (column.isUpdate() && !keys.contains(name)) {
+                    append(updates, "t." + name + " = s." + name);
+                }
+                if (column.isInsert()) {
+                    append(insertColumns, name);
+                    append(insertValues, "s." + name);
+                    // STAGING은 Worker 1단계와 같이 INSERT 컬럼을 변환 값으로 보관
+                    append(stagingValues, expression);
+                    if (column.getSource() != null) {
+                        stagingBound.add(bound.size() - 1);
+                    }
+                }
+            }
+
+            int[] keyPositions = new int[keys.size()];
+            StringBuilder on = new StringBuilder();
+            StringBuilder where = new StringBuilder();
+            for (int k = 0; k < keys.size(); k++) {
+                keyPositions[k] = position(bound, target, keys.get(k));
+                if (k > 0) {
+                    on.append(" AND ");
+                    where.append(" AND ");
+                }
+                on.append("t.").append(keys.get(k)).append(" = s.").append(keys.get(k));
+                where.append(keys.get(k)).append(" = ?");
+            }
+
+            int[] hashPositions = new int[table.getHashColumns().size()];
+            for (int h = 0; h < hashPositions.length; h++) {
+                hashPositions[h] = position(bound, target, table.getHashColumns().get(h));
+            }
+
+            StringBuilder merge = new StringBuilder("MERGE INTO ").append(target).append(" t USING (SELECT ")
+                    .append(select).append(" FROM DUAL) s ON (").append(on).append(")");
+            if (!updates.isEmpty()) {
+                merge.append(" WHEN MATCHED THEN UPDATE SET ").append(updates);
+            }
+            merge.append(" WHEN NOT MATCHED THEN INSERT (").append(insertColumns)
+                    .append(") VALUES (").append(insertValues).append(")");
+
+            String stagingSql = table.getStagingTable() == null ? null
+                    : "INSERT INTO " + table.getStagingTable() + " (CDC_SEQ, OPERATION, " + insertColumns
+                    + ", PROCESSED_YN, PROCESSED_AT) VALUES (?, ?, " + stagingValues + ", 'Y', SYSTIMESTAMP)";
+
+            return new TablePlan(table, merge.toString(), "DELETE FROM " + target + " WHERE " + where, stagingSql,
+                    bound.toArray(DirectApplyColumn[]::new), keyPositions,
+                    stagingBound.stream().mapToInt(Integer::intValue).toArray(), hashPositions);
+        }
+
+        /**
+         * 원본 테이블 컬럼의 boundColumns 위치 (키/해시 컬럼은 source가 있어야 함)
+         */
+        private static int position(List<DirectApplyColumn> bound, String target, String column) {
+            for (int i = 0; i < bound.size(); i++) {
+                if (bound.get(i).getTarget().equals(column)) {
+                    return i;
+                }
+            }
+            throw new IllegalStateException("Direct apply key/hash column " + target + "." + column
+                    + " must be a column with source");
+        }
+
+        private static void append(StringBuilder sb, String part) {
+            if (!sb.isEmpty()) {
+                sb.append(", ");
+            }
+            sb.append(part);
+        }
+
+        /**
+         * CDC 테이블에서 읽을 원본 컬럼 (Change.values 순서)
+         */
+        public List<String> sourceColumns() {
+            List<String> sources = new ArrayList<>(boundColumns.length);
+            for (DirectApplyColumn column : boundColumns) {
+                sources.add(column.getSource());
+            }
+            return sources;
+        }
+
+        /**
+         * 키 컬럼의 CDC 테이블 원본 컬럼명 (keyColumns 순서)
+         */
+        public List<String> keySourceColumns() {
+            List<String> sources = new ArrayList<>(keyPositions.length);
+            for (int position : keyPositions) {
+                sources.add(boundColumns[position].getSource());
+            }
+            return sources;
+        }
+
+        public String targetTable() {
+            return targetTable;
+        }
+
+        /**
+         * boundColumns별 CDC INSERT 바인딩 값 위치 (계획당 1회 계산)
+         */
+        int[] sourceIndex(InsertPlan insertPlan) {
+            return sourceIndexes.computeIfAbsent(insertPlan, p -> {
+                String[] keys = p.keys();
+                int metaColumns = p.metaColumnCount();
+                int[] index = new int[boundColumns.length];
+                for (int i = 0; i < boundColumns.length; i++) {
+                    index[i] = -1;
+                    for (int k = 0; k < keys.length; k++) {
+                        if (keys[k].equalsIgnoreCase(boundColumns[i].getSource())) {
+                            index[i] = metaColumns + k;
+                        }
+                    }
+                }
+                return index;
+            });
+        }
+
+        /**
+         * CDC INSERT 바인딩 값 → boundColumns별 원본 값
+         */
+        Object[] sourceValues(Object[] cdcArgs, int[] sourceIndex) {
+            Object[] values = new Object[boundColumns.length];
+            for (int i = 0; i < boundColumns.length; i++) {
+                values[i] = sourceIndex[i] >= 0 ? cdcArgs[sourceIndex[i]] : null;
+            }
+            return values;
+        }
+
+        /**
+         * 원본 값 → MERGE 바인딩 값 (코드 변환)
+         */
+        Object[] convert(Object[] sourceValues, Mappings codes, String sourceSystem) {
+            Object[] args = new Object[boundColumns.length];
+            for (int i = 0; i < boundColumns.length; i++) {
+                Object value = sourceValues[i];
+                DirectApplyColumn column = boundColumns[i];
+                if (column.getCodeMap() != null) {
+                    value = convertCode(column, codes, sourceSystem, value);
+                }
+                args[i] = value;
+            }
+            return args;
+        }
+
+        Object[] bindKeys(Object[] values) {
+            Object[] args = new Object[keyPositions.length];
+            for (int k = 0; k < keyPositions.length; k++) {
+                args[k] = values[keyPositions[k]];
+            }
+            return args;
+        }
+
+        /**
+         * STAGING INSERT 바인딩 값 (CDC_SEQ, OPERATION, 변환 값)
+         */
+        Object[] bindStaging(long cdcSeq, String operation, Object[] values) {
+            Object[] args = new Object[2 + stagingPositions.length];
+            args[0] = cdcSeq;
+            args[1] = operation;
+            for (int i = 0; i < stagingPositions.length; i++) {
+                args[2 + i] = values[stagingPositions[i]];
+            }
+            return args;
+        }
+
+        boolean recordsHash() {
+            return hashPositions.length > 0;
+        }
+
+        /**
+         * CDC_PROCESSED_HASH 1행 (HASH_VALUE, TABLE_NAME, PK_VALUE, FN_GENERATE_HASH와 같은 값)
+         */
+        Object[] hashRow(String operation, Object[] values) {
+            Object[] fields = new Object[hashPositions.length];
+            for (int h = 0; h < hashPositions.length; h++) {
+                fields[h] = toText(values[hashPositions[h]]);
+            }
+            String pk = pkValue(values);
+            return new Object[]{ChangeHasher.procedureHash(targetTable, pk, operation, fields), targetTable, pk};
+        }
+
+        /**
+         * CDC_SYNC_LOG.PK_VALUE (TO_CHAR 형식, 복합 키는 쉼표 연결)
+         */
+        String pkValue(Object[] values) {
+            Object[] keys = bindKeys(values);
+            if (keys.length == 1) {
+                return toText(keys[0]);
+            }
+            StringBuilder sb = new StringBuilder();
+            for (Object key : keys) {
+                if (!sb.isEmpty()) {
+                    sb.append(',');
+                }
+                sb.append(toText(key));
+            }
+            return sb.toString();
+        }
+
+        /**
+         * FN_CONVERT_CODE와 같은 변환 (SOURCE_SYSTEM = 발생 쪽, 매핑 없으면 원래 값 또는 code-default)
+         */
+        private static Object convertCode(DirectApplyColumn column, Mappings codes, String sourceSystem, Object value) {
+            String text = toText(value);
+            String mapped = codes.lookup(column.getCodeMap(), sourceSystem, text);
+            if (mapped != null) {
+                return mapped;
+            }
+            return column.getCodeDefault() != null ? column.getCodeDefault() : value;
+        }
+
+        /**
+         * Oracle TO_CHAR와 같은 문자열 (숫자는 지수 표기 없이)
+         */
+        private static String toText(Object value) {
+            if (value == null) {
+                return null;
+            }
+            return value instanceof BigDecimal decimal ? ChangeHasher.oracleText(decimal) : value.toString();
+        }
+    }
+}
@@ -0,0 +1,255 @@
+package com.cdc.sync.service;
+
+import com.cdc.sync.config.CdcSyncConfig;
+import com.cdc.sync.config.CdcSyncConfig.EchoConfig;
+import com.cdc.sync.config.CdcSyncConfig.EchoTable;
+import com.cdc.sync.domain.CdcEvent;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+
+import java.math.BigDecimal;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 양방향 테이블 에코 억제 (프로세스 내 캐시)
+ *
+ * [문제]
+ * - ASIS 변경 → TOBE CDC → SP_WORKER_BOOK이 TB_BOOK 반영 → Debezium이 다시 캡처 → Kafka
+ *   → ASIS CDC 테이블 INSERT → 그제서야 FN_IS_LOOP(CDC_PROCESSED_HASH 조회 + 건별 COMMIT)로 폐기
+ *
+ * [설계 의도]
+ * - 한 방향으로 전달(INSERT 성공)한 변경의 내용 지문을 기억
+ * - 반대 방향에서 같은 내용의 변경이 오면 JDBC 호출 전에 폐기 (전달 1건당 에코 1건만 소비)
+ * - 지문은 TOBE 기준 표현: ASIS 컬럼 → TOBE 컬럼 + 코드 변환(SYNC_CODE_MAPPING과 같게 설정)
+ *   → Worker가 그대로 옮기는 컬럼(PK, 제목, 코드 등)과 연산으로 구성, Worker가 새로 채우는 일시 컬럼은 제외
+ *
+ * [캐시]
+ * - 삽입 순서 LinkedHashMap: TTL이 고정이므로 앞쪽이 항상 먼저 만료 → 앞에서부터 만료 제거
+ * - max-entries 초과 시 가장 오래된 항목 제거
+ * - ReentrantLock (가상 스레드 실행 시 synchronized pinning 방지)
+ *
+ * [프로덕션 고려사항]
+ * - 인스턴스가 여러 개면 같은 행의 양방향 토픽 파티션이 다른 인스턴스로 갈 수 있음 → 억제 누락분은 FN_IS_LOOP가 처리
+ */
+@Component
+public class EchoSuppressor {
+
+    private static final Logger log = LoggerFactory.getLogger(EchoSuppressor.class);
+
+    private static final char FIELD_SEPARATOR = '\u001F';
+    private static final String NULL_VALUE = "\u0000";
+
+    private final EchoConfig config;
+    private final CdcMonitoringService monitoringService;
+
+    // 원본 테이블명(ASIS/TOBE 모두) → 지문 규칙
+    private final Map<String, Side> sidesByTable = new HashMap<>();
+
+    private final ReentrantLock lock = new ReentrantLock();
+    private final LinkedHashMap<String, Pending> pending = new LinkedHashMap<>();
+
+    public EchoSuppressor(CdcSyncConfig syncConfig, CdcMonitoringService monitoringService) {
+        this.config = syncConfig.getEcho();
+        this.monitoringService = monitoringService;
+
+        for (EchoTable table : config.getTables()) {
+            int size = table.getColumns().size();
+            String[] asisColumns = new String[size];
+            String[] tobeColumns = new String[size];
+            Map<String, String>[] codeMaps = newCodeMapArray(size);
+            for (int i = 0; i < size; i++) {
+                String[] pair = table.getColumns().get(i).split(":");
+                if (pair.length != 2) {
+                    throw new IllegalStateException("Echo column must be ASIS:TOBE, got '"
+                            + table.getColumns().get(i) + "' for " + table.getName());
+                }
+                asisColumns[i] = pair[0].trim();
+                tobeColumns[i] = pair[1].trim();
+                codeMaps[i] = table.getCodeMaps().getOrDefault(asisColumns[i], Map.of());
+            }
+            sidesByTable.put(table.getAsisTable(), new Side(table.getName(), "ASIS", "TOBE", asisColumns, codeMaps));
+            sidesByTable.put(table.getTobeTable(), new Side(table.getName(), "TOBE", "ASIS", tobeColumns, newCodeMapArray(0)));
+        }
+        if (config.isEnabled() && !sidesByTable.isEmpty()) {
+            log.info("Echo suppression enabled for {} (ttl={}ms, max={})",
+                    config.getTables().stream().map(EchoTable::getName).toList(), config.getTtlMs(), config.getMaxEntries());
+        }
+    }
+
+    /**
+     * 반대 방향으로 방금 전달한 변경의 에코인지 확인 (에코면 소비하고 true)
+     *
+     * @param event 수신 이벤트
+     * @return true면 INSERT하지 않고 폐기
+     */
+    public boolean suppress(CdcEvent event) {
+        Side side = side(event);
+        if (side == null) {
+            return false;
+        }
+
+        String key = side.fingerprint(event, side.name);
+        long now = System.currentTimeMillis();
+        lock.lock();
+        try {
+            expire(now);
+            Pending entry = pending.get(key);
+            if (entry == null) {
+                return false;
+            }
+            if (--entry.count == 0) {
+                pending.remove(key);
+            }
+        } finally {
+            lock.unlock();
+        }
+
+        monitoringService.recordEchoSuppressed(event.getSourceTable());
+        log.debug("[{}] Echo suppressed: {} {}", side.pairName, event.getOperation(), event.getSourceTable());
+        return true;
+    }
+
+    /**
+     * suppress()로 소비한 지문 되돌리기 (폐기한 에코를 오프셋 되돌리기로 다시 수신할 때)
+     *
+     * @param event suppress()가 true를 반환한 이벤트
+     */
+    public void restore(CdcEvent event) {
+        Side side = side(event);
+        if (side == null) {
+            return;
+        }
+        register(side.fingerprint(event, side.name), System.currentTimeMillis());
+    }
+
+    /**
+     * CDC 테이블 INSERT 성공 기록 → 반대쪽에서 돌아올 에코를 기다림
+     *
+     * @param event 전달한 이벤트
+     */
+    public void delivered(CdcEvent event) {
+        Side side = side(event);
+        if (side == null) {
+            return;
+        }
+
+        // 에코는 반대쪽 테이블에서 오므로 반대쪽 이름으로 등록
+        register(side.fingerprint(event, side.opposite), System.currentTimeMillis());
+        monitoringService.recordEchoTracked(event.getSourceTable());
+    }
+
+    private void register(String key, long now) {
+        lock.lock();
+        try {
+            expire(now);
+            Pending entry = pending.remove(key);
+            if (entry == null) {
+                entry = new Pending();
+            }
+            entry.count++;
+            entry.expiresAt = now + config.getTtlMs();
+            // 재삽입으로 맨 뒤로 (만료 순서 유지)
+            pending.put(key, entry);
+            if (pending.size() > config.getMaxEntries()) {
+                Iterator<Pending> eldest = pending.values().iterator();
+                eldest.next();
+                eldest.remove();
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * 현재 기억 중인 전달 건수
+     */
+    public int size() {
+        lock.lock();
+        try {
+            return pending.size();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private Side side(CdcEvent event) {
+        if (!config.isEnabled() || sidesByTable.isEmpty()) {
+            return null;
+        }
+        String table = event.getSourceTable();
+        return table != null ? sidesByTable.get(table) : null;
+    }
+
+    /**
+     * 만료 항목 제거 (락 보유 상태에서 호출)
+     */
+    private void expire(long now) {
+        Iterator<Pending> it = pending.values().iterator();
+        while (it.hasNext() && it.next().expiresAt <= now) {
+            it.remove();
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Map<String, String>[] newCodeMapArray(int size) {
+        return new Map[size];
+    }
+
+    /**
+     * 같은 내용 대기 건수 + 만료 시각
+     */
+    private static final class Pending {
+        int count;
+        long expiresAt;
+    }
+
+    /**
+     * 테이블 한쪽(ASIS 또는 TOBE)의 지문 규칙
+     *
+     * @param pairName 양방향 테이블 이름 (예: BOOK)
+     * @param name 이쪽 이름 (ASIS/TOBE)
+     * @param opposite 반대쪽 이름
+     * @param columns 비교 컬럼 (양쪽 같은 순서)
+     * @param codeMaps 컬럼별 코드 변환 (TOBE 표현으로, TOBE 쪽은 빈 배열)
+     */
+    private record Side(String pairName, String name, String opposite, String[] columns, Map<String, String>[] codeMaps) {
+
+        /**
+         * 지문: 테이블쌍 | 발생 쪽 | 연산 | TOBE 표현 컬럼 값들
+         */
+        String fingerprint(CdcEvent event, String sourceSide) {
+            Map<String, Object> data = event.getData();
+            StringBuilder sb = new StringBuilder(64)
+                    .append(pairName).append(FIELD_SEPARATOR)
+                    .append(sourceSide).append(FIELD_SEPARATOR)
+                    .append(event.getOperation());
+            for (int i = 0; i < columns.length; i++) {
+                String value = normalize(data != null ? data.get(columns[i]) : null);
+                if (i < codeMaps.length) {
+                    value = codeMaps[i].getOrDefault(value, value);
+                }
+                sb.append(FIELD_SEPARATOR).append(value);
+            }
+            return sb.toString();
+        }
+
+        /**
+         * 값 → 비교용 문자열 (숫자는 형식/scale 차이 제거: NUMBER(1) 1 = "1" = 1.0)
+         */
+        private static String normalize(Object raw) {
+            Object value = ValueConverter.decodeIfNumber(raw);
+            if (value == null) {
+                return NULL_VALUE;
+            }
+            if (value instanceof BigDecimal decimal) {
+                return decimal.signum() == 0 ? "0" : decimal.stripTrailingZeros().toPlainString();
+            }
+            return value.toString();
+        }
+    }
+}
@@ -0,0 +1,308 @@
+package com.cdc.sync.service;
+
+import com.cdc.sync.domain.CdcEvent;
+import com.cdc.sync.service.DirectApplier.TablePlan;
+import com.cdc.sync.service.InsertPlanCache.InsertPlan;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.UncategorizedSQLException;
+import org.springframework.jdbc.core.ArgumentPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceUtils;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Savepoint;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 그룹 커밋 세션 (Consumer 스레드 1개 전용, 대상 DB별 열린 트랜잭션 1개)
+ *
+ * [문제]
+ * - jdbcTemplate.update는 자동 커밋 → CDC 행 1건마다 Oracle redo log sync (log file sync 대기)
+ *
+ * [설계 의도]
+ * - 대상 DB별로 커넥션 1개를 자동 커밋 없이 빌려 여러 이벤트의 INSERT를 바로 실행 → 커밋 1회
+ * - INSERT는 받은 즉시 실행: 데이터 오류는 그 문장만 롤백(Oracle 문장 단위 롤백), 그룹은 계속
+ * - 실행한 SQL/바인딩 값은 그룹에 보관 → 커밋 실패 시 건별 자동 커밋으로 다시 반영 (CdcSyncService)
+ * - 커넥션은 커밋/롤백 후 바로 풀에 반납 (유휴 중에 커넥션을 점유하지 않음)
+ * - 직접 반영 이벤트는 문장이 여러 개 (CDC INSERT + 원본 MERGE/DELETE + 이력)
+ *   → 이벤트 앞 세이브포인트로 데이터 오류 시 그 이벤트 문장만 되돌림
+ *
+ * [스레드]
+ * - Spring 트랜잭션(스레드 바인딩)을 쓰지 않고 커넥션을 직접 보관 → 두 DB 그룹이 동시에 열려도 서로 무관
+ * - 세션은 만든 스레드에서만 사용 (GroupCommitCoordinator가 Consumer 스레드별로 보관)
+ *
+ * @param <T> 호출자가 이벤트에 붙이는 원본 (Kafka 레코드, 커밋 후 오프셋 완료 기록용)
+ */
+public class GroupCommitSession<T> {
+
+    private static final Logger log = LoggerFactory.getLogger(GroupCommitSession.class);
+
+    private final int maxEvents;
+    private final long maxDelayNanos;
+
+    // 동기화 방향(대상 DB) → 열린 그룹
+    private final Map<String, Group<T>> groups = new LinkedHashMap<>();
+    // 그룹이 열려 있는 동안 에코로 폐기한 이벤트 (그룹 재반영 포기로 다시 수신하면 지문 복원)
+    private final List<Echo<T>> echoes = new ArrayList<>();
+
+    public GroupCommitSession(int maxEvents, long maxDelayNanos) {
+        this.maxEvents = maxEvents;
+        this.maxDelayNanos = maxDelayNanos;
+    }
+
+    /**
+     * 커밋할 그룹이 있는지 (건수/시간 한도 도달 또는 커넥션 장애로 중단된 그룹)
+     */
+    public boolean isDue(long nowNanos) {
+        for (Group<T> group : groups.values()) {
+            if (group.broken || group.entries.size() >= maxEvents || nowNanos - group.openedAtNanos >= maxDelayNanos) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    public boolean isEmpty() {
+        return groups.isEmpty();
+    }
+
+    /**
+     * 방향별 그룹 (없으면 열기, 커넥션은 첫 INSERT 때 획득)
+     */
+    Group<T> group(String direction, JdbcTemplate sourceJdbcTemplate, JdbcTemplate jdbcTemplate) {
+        return groups.computeIfAbsent(direction, k -> new Group<>(direction, sourceJdbcTemplate, jdbcTemplate));
+    }
+
+    /**
+     * 에코 폐기 기록 (열린 그룹이 없으면 되돌릴 일이 없으므로 기록 안 함)
+     */
+    void echoSuppressed(CdcEvent event, T source) {
+        if (!groups.isEmpty()) {
+            echoes.add(new Echo<>(event, source));
+        }
+    }
+
+    /**
+     * 직전 커밋 이후 에코로 폐기한 이벤트 꺼내기
+     */
+    public List<Echo<T>> drainEchoes() {
+        List<Echo<T>> drained = new ArrayList<>(echoes);
+        echoes.clear();
+        return drained;
+    }
+
+    /**
+     * 열린 그룹 전부 꺼내기 (커밋 대상)
+     */
+    List<Group<T>> drain() {
+        List<Group<T>> drained = new ArrayList<>(groups.values());
+        groups.clear();
+        return drained;
+    }
+
+    /**
+     * 대상 DB 1개의 열린 트랜잭션
+     */
+    static final class Group<T> {
+
+        final String direction;
+        final JdbcTemplate sourceJdbcTemplate;
+        final JdbcTemplate jdbcTemplate;
+        final List<Entry<T>> entries = new ArrayList<>();
+        final long openedAtNanos = System.nanoTime();
+
+        private Connection connection;
+
+        // 커넥션 장애로 트랜잭션을 잃음 → 커밋 없이 건별 재반영
+        boolean broken;
+
+        Group(String direction, JdbcTemplate sourceJdbcTemplate, JdbcTemplate jdbcTemplate) {
+            this.direction = direction;
+            this.sourceJdbcTemplate = sourceJdbcTemplate;
+            this.jdbcTemplate = jdbcTemplate;
+        }
+
+        /**
+         * 열린 트랜잭션에서 INSERT 실행 (커밋하지 않음)
+         *
+         * @throws DataAccessException 실행 실패 (isRetryable이면 트랜잭션도 잃었으므로 호출자가 broken 처리)
+         */
+        void execute(String sql, Object[] args) {
+            try (PreparedStatement ps = connection().prepareStatement(sql)) {
+                new ArgumentPreparedStatementSetter(args).setValues(ps);
+                ps.executeUpdate();
+            } catch (SQLException e) {
+                throw translate("group insert", sql, e);
+            }
+        }
+
+        /**
+         * 열린 트랜잭션에서 JDBC batch 실행 (직접 반영 MERGE/DELETE/이력, 커밋하지 않음)
+         *
+         * @return 행별 반영 건수
+         */
+        int[] executeBatch(String sql, List<Object[]> batchArgs) {
+            try (PreparedStatement ps = connection().prepareStatement(sql)) {
+                for (Object[] args : batchArgs) {
+                    new ArgumentPreparedStatementSetter(args).setValues(ps);
+                    ps.addBatch();
+                }
+                return ps.executeBatch();
+            } catch (SQLException e) {
+                throw translate("group batch", sql, e);
+            }
+        }
+
+        /**
+         * 이벤트 1건 시작 지점 (여러 문장을 이벤트 단위로 되돌리기 위함)
+         */
+        Savepoint savepoint() {
+            try {
+                return connection().setSavepoint();
+            } catch (SQLException e) {
+                throw translate("setSavepoint", null, e);
+            }
+        }
+
+        /**
+         * 세이브포인트 이후 문장만 롤백 (그룹의 앞선 이벤트는 유지)
+         */
+        void rollbackTo(Savepoint savepoint) {
+            try {
+                connection.rollback(savepoint);
+            } catch (SQLException e) {
+                throw translate("rollback to savepoint", null, e);
+            }
+        }
+
+        /**
+         * 커밋 후 커넥션 반납
+         */
+        void commit() {
+            if (connection == null) {
+                return;
+            }
+            try {
+                connection.commit();
+            } catch (SQLException e) {
+                // setAutoCommit(true)가 남은 트랜잭션을 커밋하지 않도록 먼저 롤백
+                rollback();
+                throw translate("group commit", null, e);
+            }
+            release();
+        }
+
+        /**
+         * 롤백 후 커넥션 반납 (롤백 실패는 로그만, 커넥션이 끊긴 경우 등)
+         */
+        void rollback() {
+            if (connection == null) {
+                return;
+            }
+            try {
+                connection.rollback();
+            } catch (SQLException e) {
+                log.warn("[{}] Group rollback failed: {}", direction, e.getMessage());
+            } finally {
+                release();
+            }
+        }
+
+        private Connection connection() {
+            if (connection == null) {
+                connection = DataSourceUtils.getConnection(jdbcTemplate.getDataSource());
+                try {
+                    connection.setAutoCommit(false);
+                } catch (SQLException e) {
+                    release();
+                    throw translate("setAutoCommit", null, e);
+                }
+            }
+            return connection;
+        }
+
+        private void release() {
+            try {
+                connection.setAutoCommit(true);
+            } catch (SQLException e) {
+                log.debug("[{}] Failed to restore auto-commit: {}", direction, e.getMessage());
+            }
+            DataSourceUtils.releaseConnection(connection, jdbcTemplate.getDataSource());
+            connection = null;
+        }
+
+        private DataAccessException translate(String task, String sql, SQLException e) {
+            DataAccessException translated = jdbcTemplate.getExceptionTranslator().translate(task, sql, e);
+            return translated != null ? translated : new UncategorizedSQLException(task, sql, e);
+        }
+    }
+
+    /**
+     * 에코로 폐기한 이벤트 + 원본
+     */
+    public record Echo<T>(CdcEvent event, T source) {}
+
+    /**
+     * 그룹에 실행된 INSERT 1건 (커밋 실패 시 같은 SQL/값으로 건별 재반영)
+     */
+    public static final class Entry<T> {
+
+        final Group<T> group;
+        final String topic;
+        final String targetTable;
+        final CdcEvent event;
+        final InsertPlan insertPlan;
+        final TablePlan applyPlan;  // 직접 반영 테이블이 아니면 null
+        final Object[] args;
+        final String dataPreview;   // 스냅샷 skip-preview면 null
+        final boolean snapshot;
+        private final T source;
+
+        Entry(Group<T> group, String topic, String targetTable, CdcEvent event, InsertPlan insertPlan,
+              TablePlan applyPlan, Object[] args, String dataPreview, boolean snapshot, T source) {
+            this.group = group;
+            this.topic = topic;
+            this.targetTable = targetTable;
+            this.event = event;
+            this.insertPlan = insertPlan;
+            this.applyPlan = applyPlan;
+            this.args = args;
+            this.dataPreview = dataPreview;
+            this.snapshot = snapshot;
+            this.source = source;
+        }
+
+        /**
+         * 호출자 원본 (Kafka 레코드)
+         */
+        public T source() {
+            return source;
+        }
+    }
+
+    /**
+     * 그룹 커밋 결과
+     *
+     * @param committed 반영 완료 (그룹 커밋 또는 건별 재반영)
+     * @param failed 데이터 오류로 반영하지 못한 원본 (재시도 토픽 대상)
+     * @param remaining 일시적 DB 장애로 아직 반영하지 못한 항목 (호출자가 백오프 후 replay)
+     */
+    public record Result<T>(List<T> committed, List<Failure<T>> failed, List<Entry<T>> remaining) {
+
+        static <T> Result<T> empty() {
+            return new Result<>(new ArrayList<>(), new ArrayList<>(), new ArrayList<>());
+        }
+    }
+
+    /**
+     * 데이터 오류로 반영하지 못한 원본
+     */
+    public record Failure<T>(T source, Exception error) {}
+}
@@ -0,0 +1,122 @@
+package com.cdc.sync.service;
+
+import com.cdc.sync.domain.CdcEvent;
+import com.cdc.sync.domain.RowSchema;
+
+import java.sql.Timestamp;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * CDC 테이블 INSERT 계획 캐시 (대상 테이블 + 스키마 버전 + 컬럼 구성별)
+ *
+ * [문제]
+ * - 이벤트마다 컬럼 목록/값 목록 생성, 키 대문자 변환, 플레이스홀더 join, String.format
+ * - 같은 테이블이라도 Map 순서가 바뀌면 SQL 문자열이 달라져 드라이버 Statement 캐시 미적중
+ *
+ * [설계 의도]
+ * - 계획 = 고정 컬럼 순서 + SQL 문자열 + 컬럼별 변환기 배열 (최초 1회 생성)
+ * - 변환기는 이벤트의 RowSchema(스키마 버전별 공유 인스턴스)로 결정 → 스키마가 바뀌면 새 계획
+ * - 조회 키는 이벤트 데이터의 키 집합 자체 (순서 무관, 조회 시 할당 없음)
+ *   → 컬럼 순서가 달라도 같은 계획/같은 SQL → Oracle 암묵적 Statement 캐시 적중
+ * - 바인딩은 계획 순서대로 data.get() → 변환 → Object[]에 직접 기록 (중간 List 없음)
+ */
+public class InsertPlanCache {
+
+    /**
+     * 메타 컬럼 (모든 CDC 테이블 공통, 데이터 컬럼 앞)
+     */
+    private static final String[] META_COLUMNS = {"OPERATION", "SOURCE_TIMESTAMP", "CHANGE_HASH", "PROCESSED_YN"};
+
+    private final Map<String, Map<RowSchema, Map<Set<String>, InsertPlan>>> plansByTable = new ConcurrentHashMap<>();
+    private final CdcMonitoringService monitoringService;
+
+    public InsertPlanCache(CdcMonitoringService monitoringService) {
+        this.monitoringService = monitoringService;
+    }
+
+    /**
+     * 이벤트 스키마/컬럼 구성에 맞는 INSERT 계획 조회 (없으면 생성)
+     *
+     * @param targetTable 대상 CDC 테이블
+     * @param event CDC 이벤트 (데이터 키 = 원본 컬럼명)
+     */
+    public InsertPlan plan(String targetTable, CdcEvent event) {
+        Map<RowSchema, Map<Set<String>, InsertPlan>> bySchema =
+                plansByTable.computeIfAbsent(targetTable, k -> new ConcurrentHashMap<>());
+        RowSchema schema = event.getSchema();
+        Map<Set<String>, InsertPlan> plans = bySchema.computeIfAbsent(schema, k -> new ConcurrentHashMap<>());
+        Set<String> shape = event.getData().keySet();
+
+        InsertPlan plan = plans.get(shape);
+        if (plan != null) {
+            monitoringService.recordInsertPlanLookup(targetTable, true, 0);
+            return plan;
+        }
+
+        plan = plans.computeIfAbsent(Set.copyOf(shape), key -> InsertPlan.create(targetTable, schema, shape));
+        int planCount = bySchema.values().stream().mapToInt(Map::size).sum();
+        monitoringService.recordInsertPlanLookup(targetTable, false, planCount);
+        return plan;
+    }
+
+    /**
+     * INSERT 계획 1개 (불변, 스레드 간 공유)
+     *
+     * @param sql INSERT 문 (메타 컬럼 + 데이터 컬럼, 고정 순서)
+     * @param keys 데이터 컬럼의 원본 키 (바인딩 순서)
+     * @param converters 데이터 컬럼별 변환기 (keys와 같은 순서)
+     */
+    public record InsertPlan(String sql, String[] keys, ValueConverter[] converters) {
+
+        /**
+         * 데이터 컬럼 앞 메타 컬럼 수 (바인딩 값에서 keys[i]의 위치 = metaColumnCount() + i)
+         */
+        public int metaColumnCount() {
+            return META_COLUMNS.length;
+        }
+
+        static InsertPlan create(String targetTable, RowSchema schema, Set<String> dataKeys) {
+            String[] keys = dataKeys.stream().sorted().toArray(String[]::new);
+            ValueConverter[] converters = new ValueConverter[keys.length];
+
+            StringBuilder columns = new StringBuilder(String.join(", ", META_COLUMNS));
+            StringBuilder placeholders = new StringBuilder("?, ?, ?, ?");
+            for (int i = 0; i < keys.length; i++) {
+                String column = keys[i].toUpperCase();
+                converters[i] = ValueConverter.forField(schema, keys[i], column);
+                columns.append(", ").append(column);
+                placeholders.append(", ?");
+            }
+
+            String sql = "INSERT INTO " + targetTable + " (" + columns + ") VALUES (" + placeholders + ")";
+            return new InsertPlan(sql, keys, converters);
+        }
+
+        /**
+         * 이벤트 → 바인딩 값 (계획의 컬럼 순서, Worker 처리 대기 PROCESSED_YN='N')
+         */
+        public Object[] bind(CdcEvent event) {
+            return bind(event, false);
+        }
+
+        /**
+         * 이벤트 → 바인딩 값
+         *
+         * @param processed true면 PROCESSED_YN='Y' (직접 반영: 원본 테이블까지 같은 트랜잭션에서 반영)
+         */
+        public Object[] bind(CdcEvent event, boolean processed) {
+            Map<String, Object> data = event.getData();
+            Object[] args = new Object[META_COLUMNS.length + keys.length];
+            args[0] = event.getOperation();
+            args[1] = Timestamp.valueOf(event.getSourceTimestamp());
+            args[2] = event.getChangeHash();
+            args[3] = processed ? "Y" : "N";
+            for (int i = 0; i < keys.length; i++) {
+                args[META_COLUMNS.length + i] = converters[i].convert(data.get(keys[i]));
+            }
+            return args;
+        }
+    }
+}
@@ -0,0 +1,154 @@
+package com.cdc.sync.service;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.function.BiFunction;
+
+/**
+ * 최근 N건 순환 버퍼 (락 없음, 최근 이벤트/에러 로그용)
+ *
+ * [문제]
+ * - ArrayList.add(0, ...) + 락: 기록마다 목록 전체 이동, 대시보드 조회도 같은 락에서 복사
+ *   → Consumer 스레드가 많을수록 기록끼리, 조회와 기록이 서로 대기
+ *
+ * [설계 의도]
+ * - 고정 크기 배열 + 원자적 순번: 기록은 getAndIncrement 1회 + 슬롯 1개 교체 (대기 없음)
+ * - 슬롯 = 불변 객체 (순번, 기록 시각 epoch ms, 값) → 조회는 락 없이 최근 순번부터 배열을 한 바퀴 읽음
+ * - 조회 시 슬롯 순번이 기대와 다르면 건너뜀 (그 사이 덮어쓰였거나 아직 쓰는 중) → 조회는 항상 유한 단계
+ * - 시각은 숫자로 보관, 문자열 변환은 조회 시에만 (기록 경로에서 DateTimeFormatter 호출 없음)
+ *
+ * [한계]
+ * - 조회 결과는 정확한 한 시점 사본이 아님 (조회 중 들어온 기록은 포함되거나 빠질 수 있음, 모니터링 용도로 충분)
+ */
+final class LogRing<E> {
+
+    private final int capacity;
+    private final AtomicReferenceArray<Slot<E>> slots;
+    private final AtomicLong sequence = new AtomicLong();
+
+    // clear 시점 순번 (이보다 앞선 슬롯은 조회하지 않음)
+    private volatile long floor;
+
+    LogRing(int capacity) {
+        this.capacity = capacity;
+        this.slots = new AtomicReferenceArray<>(capacity);
+    }
+
+    /**
+     * 기록 (가장 오래된 슬롯 덮어씀)
+     *
+     * @return 기록 순번
+     */
+    long add(long epochMillis, E value) {
+        long seq = sequence.getAndIncrement();
+        slots.set((int) (seq % capacity), new Slot<>(seq, epochMillis, value));
+        return seq;
+    }
+
+    /**
+     * 재시작 복원: 이전 실행의 기록을 원래 순번 자리에 채움 (기록 시작 전, 순번 오름차순으로 호출)
+     */
+    void restore(long seq, long epochMillis, E value) {
+        slots.set((int) (seq % capacity), new Slot<>(seq, epochMillis, value));
+        sequence.accumulateAndGet(seq + 1, Math::max);
+    }
+
+    /**
+     * 재시작 복원: 이전 실행의 clear 위치 (순번은 그 이후부터 이어감)
+     */
+    void restoreFloor(long floor) {
+        this.floor = floor;
+        sequence.accumulateAndGet(floor, Math::max);
+    }
+
+    /**
+     * 최근 순 사본
+     *
+     * @param mapper (기록 시각 epoch ms, 값) → 반환 항목
+     */
+    <R> List<R> snapshot(BiFunction<Long, E, R> mapper) {
+        long end = sequence.get();
+        long start = Math.max(floor, end - capacity);
+        List<R> result = new ArrayList<>((int) Math.max(0, end - start));
+        for (long seq = end - 1; seq >= start; seq--) {
+            Slot<E> slot = slots.get((int) (seq % capacity));
+            if (slot != null && slot.seq == seq) {
+                result.add(mapper.apply(slot.epochMillis, slot.value));
+            }
+        }
+        return result;
+    }
+
+    /**
+     * from 순번 이후 기록 (최근 순, 구독자별 증분 전송용)
+     *
+     * - 아직 쓰는 중인 슬롯을 만나면 그 앞까지만 반환 (next가 그 순번 → 다음 조회에서 읽음)
+     * - from 이후 기록 일부가 이미 덮어쓰였으면 null (구독자가 너무 뒤처짐 → 전체 사본 필요)
+     *
+     * @param from 구독자가 마지막으로 받은 위치 (이전 결과의 next)
+     * @param mapper (기록 시각 epoch ms, 값) → 반환 항목
+     */
+    <R> Slice<R> since(long from, BiFunction<Long, E, R> mapper) {
+        long end = sequence.get();
+        long start = Math.max(from, floor);
+        if (start < end - capacity) {
+            return null;
+        }
+        return slice(start, end, true, mapper);
+    }
+
+    /**
+     * 현재 보관 중인 전체 기록 + 다음 since 기준 위치 (구독자 전체 사본용, 읽는 중 덮어쓰인 항목은 제외)
+     */
+    <R> Slice<R> latest(BiFunction<Long, E, R> mapper) {
+        long end = sequence.get();
+        return slice(Math.max(floor, end - capacity), end, false, mapper);
+    }
+
+    /**
+     * [start, end) 구간 읽기 (최근 순)
+     *
+     * @param strict true면 덮어쓰인 슬롯을 만났을 때 null, false면 건너뜀
+     */
+    private <R> Slice<R> slice(long start, long end, boolean strict, BiFunction<Long, E, R> mapper) {
+        List<R> items = new ArrayList<>((int) Math.max(0, end - start));
+        long next = Math.max(start, end);
+        for (long seq = start; seq < end; seq++) {
+            Slot<E> slot = slots.get((int) (seq % capacity));
+            if (slot == null || slot.seq < seq) {
+                next = seq;
+                break;
+            }
+            if (slot.seq > seq) {
+                if (strict) {
+                    return null;
+                }
+                continue;
+            }
+            items.add(mapper.apply(slot.epochMillis, slot.value));
+        }
+        Collections.reverse(items);
+        return new Slice<>(items, next);
+    }
+
+    /**
+     * 지금까지의 기록을 조회에서 제외 (슬롯은 다음 기록이 덮어씀)
+     *
+     * @return 새 기준 순번 (이보다 앞선 기록은 제외)
+     */
+    long clear() {
+        long seq = sequence.get();
+        floor = seq;
+        return seq;
+    }
+
+    private record Slot<E>(long seq, long epochMillis, E value) {}
+
+    /**
+     * since 결과 (items: 최근 순, next: 다음 since 기준 위치)
+     */
+    record Slice<R>(List<R> items, long next) {}
+}
@@ -0,0 +1,106 @@
+package com.cdc.sync.service;
+
+import com.cdc.sync.service.CdcMonitoringService.ErrorLog;
+import com.cdc.sync.service.CdcMonitoringService.EventLog;
+import com.cdc.sync.service.MonitoringStatsFile.Contents;
+import com.cdc.sync.service.MonitoringStatsFile.LogEntry;
+import com.cdc.sync.service.MonitoringStatsFile.TableEntry;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * 모니터링 통계 파일 출력 도구 (오프라인, Spring 컨텍스트 없이 실행)
+ *
+ * - 서비스가 실행 중이어도 읽기 가능 (쓰는 중인 레코드는 제외)
+ * - 장애 후 서비스를 띄우기 전에 마지막 카운터/에러 확인용
+ *
+ * [실행] (실행 jar 그대로 사용, 서비스 기동 없음)
+ * java -cp target/sync-service-1.0.0.jar -Dloader.main=com.cdc.sync.service.MonitoringStatsDump \
+ *      org.springframework.boot.loader.launch.PropertiesLauncher ./data/monitoring-stats.dat
+ */
+public final class MonitoringStatsDump {
+
+    private static final DateTimeFormatter FORMATTER = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss")
+            .withZone(ZoneId.systemDefault());
+
+    private MonitoringStatsDump() {
+    }
+
+    public static void main(String[] args) {
+        if (args.length != 1) {
+            System.err.println("usage: MonitoringStatsDump <stats-file>");
+            System.exit(2);
+        }
+        Path path = Paths.get(args[0]);
+        try {
+            if (!Files.exists(path)) {
+                throw new IOException("no such file");
+            }
+            print(MonitoringStatsFile.read(path), path, System.out);
+        } catch (IOException | IllegalStateException e) {
+            System.err.println("Cannot read stats file " + path + ": " + e.getMessage());
+            System.exit(1);
+        }
+    }
+
+    static void print(Contents contents, Path path, PrintStream out) {
+        out.printf("%s (created %s)%n", path, time(contents.createdAt()));
+        out.printf("topics %d/%d, events %d/%d, errors %d/%d%n%n",
+                contents.tables().size(), contents.maxTables(),
+                contents.events().size(), contents.eventCapacity(),
+                contents.errors().size(), contents.errorCapacity());
+
+        long received = 0;
+        long success = 0;
+        long failed = 0;
+        out.printf("%-48s %12s %12s %10s  %-19s  %-19s%n",
+                "TOPIC", "RECEIVED", "SUCCESS", "FAILED", "LAST_SUCCESS", "LAST_ERROR");
+        List<TableEntry> tables = contents.tables().stream()
+                .sorted(Comparator.comparing(TableEntry::topic))
+                .toList();
+        for (TableEntry table : tables) {
+            out.printf("%-48s %12d %12d %10d  %-19s  %-19s%n", table.topic(), table.received(), table.success(),
+                    table.failed(), time(table.lastSuccessAt()), time(table.lastErrorAt()));
+            received += table.received();
+            success += table.success();
+            failed += table.failed();
+        }
+        out.printf("%-48s %12d %12d %10d%n", "(total)", received, success, failed);
+
+        out.printf("%n-- recent events (latest first)%n");
+        List<LogEntry<EventLog>> events = contents.events();
+        for (int i = events.size() - 1; i >= 0; i--) {
+            LogEntry<EventLog> entry = events.get(i);
+            EventLog event = entry.value();
+            out.printf("%s  %-7s %-6s %s -> %s  %s%n", time(entry.epochMillis()), event.status, event.operation,
+                    event.topic, event.targetTable,
+                    event.errorMessage != null ? event.errorMessage : nullToEmpty(event.dataPreview));
+        }
+
+        out.printf("%n-- recent errors (latest first)%n");
+        List<LogEntry<ErrorLog>> errors = contents.errors();
+        for (int i = errors.size() - 1; i >= 0; i--) {
+            LogEntry<ErrorLog> entry = errors.get(i);
+            ErrorLog error = entry.value();
+            out.printf("%s  %-6s %s -> %s  %s%n", time(entry.epochMillis()), error.operation,
+                    error.topic, error.targetTable, nullToEmpty(error.errorMessage));
+        }
+    }
+
+    private static String time(long epochMillis) {
+        return epochMillis > 0 ? FORMATTER.format(Instant.ofEpochMilli(epochMillis)) : "-";
+    }
+
+    private static String nullToEmpty(String value) {
+        return value != null ? value : "";
+    }
+}
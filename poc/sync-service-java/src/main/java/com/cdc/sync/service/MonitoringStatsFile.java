@@ -0,0 +1,576 @@
+package com.cdc.sync.service;
+
+import com.cdc.sync.service.CdcMonitoringService.ErrorLog;
+import com.cdc.sync.service.CdcMonitoringService.EventLog;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileLock;
+import java.nio.channels.OverlappingFileLockException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+/**
+ * 모니터링 통계 파일 (메모리 매핑, 재시작 후에도 토픽별 카운터와 최근 이벤트/에러 유지)
+ *
+ * [문제]
+ * - CdcMonitoringService 통계는 메모리에만 있음 → 재배포/재시작마다 0부터
+ * - Oracle/Redis에 매 이벤트 기록하면 이벤트마다 왕복 → 처리 경로가 느려짐
+ *
+ * [설계 의도]
+ * - 고정 배치 파일 1개를 MappedByteBuffer로 매핑 → 기록은 메모리 쓰기뿐 (이벤트당 시스템 호출 없음)
+ *   디스크 반영은 OS가 페이지 단위로 (프로세스가 죽어도 페이지 캐시는 남음) + force-interval-ms마다 force
+ * - 토픽 카운터: 토픽 첫 기록 때 슬롯 1개 배정, 이후 VarHandle getAndAdd (락 없음)
+ * - 최근 이벤트/에러: LogRing과 같은 순번으로 (순번 % 용량) 레코드에 덮어씀
+ *   레코드 머리 = 0(빈 슬롯) / 순번+1(완료) / -(순번+1)(쓰는 중) → CAS로 선점 후 본문, 마지막에 머리 기록
+ *   다른 스레드가 같은 슬롯을 쓰는 중이면 파일 기록만 건너뜀 (메모리 LogRing에는 남음)
+ * - 파일 크기 = 머리 + max-tables × 256B + 레코드 (이벤트 50 + 에러 100) × 1KB → 설정으로 상한 고정
+ * - 파일 잠금: 같은 파일을 두 프로세스가 쓰지 않도록 (이미 잠겨 있으면 열기 실패 → 영속화 없이 동작)
+ *
+ * [파일 배치] (little-endian)
+ * - 머리 64B: magic "CDCM", 버전, max-tables, 이벤트/에러 용량, 생성 시각, 이벤트/에러 초기화 순번
+ * - 토픽 슬롯 256B: 수신, 성공, 실패, 마지막 성공/실패 시각(epoch ms), 토픽 이름 길이(0 = 빈 슬롯), 토픽 이름(UTF-8)
+ * - 레코드: 머리, 기록 시각(epoch ms), 문자열 필드(길이 short, -1 = null + 필드별 고정 크기, 넘으면 잘라서 보관)
+ *
+ * [한계]
+ * - 시계열(TimeSeriesStore)과 배치/커밋/백프레셔 등 부가 통계는 보관하지 않음 (재시작 후 다시 쌓임)
+ * - 마지막 force 이후 변경은 OS가 디스크에 쓰기 전 전원이 꺼지면 유실
+ * - 전체 합계는 보관하지 않음 (복원 시 토픽 카운터 합, 슬롯이 없는 토픽 분은 재시작 후 빠짐)
+ *
+ * 파일 확인: MonitoringStatsDump (서비스 실행 중에도 읽기 가능)
+ */
+final class MonitoringStatsFile implements AutoCloseable {
+
+    private static final Logger log = LoggerFactory.getLogger(MonitoringStatsFile.class);
+
+    private static final int MAGIC = 0x4344434D;  // "CDCM"
+    private static final int VERSION = 1;
+    private static final ByteOrder ORDER = ByteOrder.LITTLE_ENDIAN;
+
+    private static final VarHandle LONG = MethodHandles.byteBufferViewVarHandle(long[].class, ORDER);
+    private static final VarHandle INT = MethodHandles.byteBufferViewVarHandle(int[].class, ORDER);
+
+    // 머리
+    private static final int HEADER_BYTES = 64;
+    private static final int H_MAGIC = 0;
+    private static final int H_VERSION = 4;
+    private static final int H_MAX_TABLES = 8;
+    private static final int H_EVENT_CAPACITY = 12;
+    private static final int H_ERROR_CAPACITY = 16;
+    private static final int H_CREATED_AT = 24;
+    private static final int H_EVENT_FLOOR = 32;
+    private static final int H_ERROR_FLOOR = 40;
+
+    // 토픽 슬롯
+    static final int RECEIVED = 0;
+    static final int SUCCESS = 1;
+    static final int FAILED = 2;
+    static final int LAST_SUCCESS_AT = 3;
+    static final int LAST_ERROR_AT = 4;
+    private static final int TABLE_BYTES = 256;
+    private static final int T_NAME_LENGTH = 40;
+    private static final int T_NAME = 44;
+    private static final int MAX_NAME_BYTES = TABLE_BYTES - T_NAME;
+
+    // 레코드: 머리(8) + 기록 시각(8) + 문자열 필드
+    private static final int R_HEADER = 0;
+    private static final int R_TIME = 8;
+    private static final int R_FIELDS = 16;
+    // status, topic, targetTable, operation, hash, errorMessage, dataPreview
+    private static final int[] EVENT_FIELDS = {16, 192, 128, 16, 32, 256, 352};
+    // topic, targetTable, operation, errorMessage
+    private static final int[] ERROR_FIELDS = {192, 128, 16, 662};
+    private static final int EVENT_BYTES = recordBytes(EVENT_FIELDS);
+    private static final int ERROR_BYTES = recordBytes(ERROR_FIELDS);
+
+    private final Path path;
+    private final FileChannel channel;
+    private final FileLock lock;
+    private final MappedByteBuffer buffer;
+    private final int maxTables;
+    private final int eventCapacity;
+    private final int errorCapacity;
+    private final int eventsOffset;
+    private final int errorsOffset;
+    private final Contents restored;
+
+    // 토픽 → 슬롯 (-1 = 슬롯 부족/이름이 너무 김 → 보관 안 함)
+    private final Map<String, Integer> slots = new ConcurrentHashMap<>();
+    private final AtomicInteger nextSlot;
+    private final AtomicBoolean slotsExhausted = new AtomicBoolean();
+    private final ScheduledThreadPoolExecutor flusher;
+
+    private MonitoringStatsFile(Path path, FileChannel channel, FileLock lock, MappedByteBuffer buffer,
+                                int maxTables, int eventCapacity, int errorCapacity, Contents restored,
+                                long forceIntervalMs) {
+        this.path = path;
+        this.channel = channel;
+        this.lock = lock;
+        this.buffer = buffer;
+        this.maxTables = maxTables;
+        this.eventCapacity = eventCapacity;
+        this.errorCapacity = errorCapacity;
+        this.eventsOffset = HEADER_BYTES + maxTables * TABLE_BYTES;
+        this.errorsOffset = eventsOffset + eventCapacity * EVENT_BYTES;
+        this.restored = restored;
+
+        int used = 0;
+        for (TableEntry table : restored.tables()) {
+            slots.put(table.topic(), table.slot());
+            used = Math.max(used, table.slot() + 1);
+        }
+        this.nextSlot = new AtomicInteger(used);
+
+        if (forceIntervalMs > 0) {
+            this.flusher = new ScheduledThreadPoolExecutor(1, runnable -> {
+                Thread thread = new Thread(runnable, "cdc-stats-file-force");
+                thread.setDaemon(true);
+                return thread;
+            });
+            flusher.scheduleWithFixedDelay(this::force, forceIntervalMs, forceIntervalMs, TimeUnit.MILLISECONDS);
+        } else {
+            this.flusher = null;
+        }
+    }
+
+    /**
+     * 파일 열기 (없으면 생성, 이전 내용은 restored()로)
+     *
+     * - 배치(max-tables, 용량)가 같으면 그대로 매핑해 이어서 기록
+     * - 다르면 이전 내용을 읽어 새 배치로 다시 씀 (토픽 슬롯은 앞에서부터, 넘치는 토픽은 버림)
+     *
+     * @throws IOException 다른 프로세스가 사용 중이거나 파일을 만들 수 없음
+     */
+    static MonitoringStatsFile open(Path path, int maxTables, int eventCapacity, int errorCapacity,
+                                    long forceIntervalMs) throws IOException {
+        if (path.getParent() != null) {
+            Files.createDirectories(path.getParent());
+        }
+        FileChannel channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.READ,
+                StandardOpenOption.WRITE);
+        try {
+            FileLock lock;
+            try {
+                lock = channel.tryLock();
+            } catch (OverlappingFileLockException e) {
+                // 같은 JVM 안에서 이미 열림
+                lock = null;
+            }
+            if (lock == null) {
+                throw new IOException("Stats file already in use: " + path);
+            }
+
+            Contents previous = null;
+            if (channel.size() > 0) {
+                try {
+                    previous = read(channel);
+                } catch (IllegalStateException e) {
+                    log.warn("Stats file unreadable, starting empty -> {} ({})", path, e.getMessage());
+                }
+            }
+
+            long size = HEADER_BYTES + (long) maxTables * TABLE_BYTES
+                    + (long) eventCapacity * EVENT_BYTES + (long) errorCapacity * ERROR_BYTES;
+            boolean sameLayout = previous != null && channel.size() == size && previous.maxTables() == maxTables
+                    && previous.eventCapacity() == eventCapacity && previous.errorCapacity() == errorCapacity;
+            if (!sameLayout) {
+                channel.truncate(0);
+            }
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, size);
+            buffer.order(ORDER);
+
+            if (sameLayout) {
+                // 쓰는 중 종료된 레코드(머리 < 0)는 다시 선점할 수 없으므로 빈 레코드로
+                int eventsOffset = HEADER_BYTES + maxTables * TABLE_BYTES;
+                int torn = clearTorn(buffer, eventsOffset, eventCapacity, EVENT_BYTES)
+                        + clearTorn(buffer, eventsOffset + eventCapacity * EVENT_BYTES, errorCapacity, ERROR_BYTES);
+                if (torn > 0) {
+                    log.info("Stats file had {} partially written records, cleared -> {}", torn, path);
+                }
+                return new MonitoringStatsFile(path, channel, lock, buffer, maxTables, eventCapacity, errorCapacity,
+                        previous, forceIntervalMs);
+            }
+            Contents restored = rewrite(buffer, previous, maxTables, eventCapacity, errorCapacity);
+            MonitoringStatsFile file = new MonitoringStatsFile(path, channel, lock, buffer, maxTables, eventCapacity,
+                    errorCapacity, restored, forceIntervalMs);
+            for (LogEntry<EventLog> event : restored.events()) {
+                file.writeEvent(event.seq(), event.epochMillis(), event.value());
+            }
+            for (LogEntry<ErrorLog> error : restored.errors()) {
+                file.writeError(error.seq(), error.epochMillis(), error.value());
+            }
+            file.force();
+            return file;
+        } catch (IOException | RuntimeException e) {
+            channel.close();
+            throw e;
+        }
+    }
+
+    /**
+     * 파일을 열 때 읽은 이전 실행의 내용
+     */
+    Contents restored() {
+        return restored;
+    }
+
+    Path path() {
+        return path;
+    }
+
+    /**
+     * 토픽 슬롯 (처음이면 배정, 보관 불가면 -1)
+     */
+    int slot(String topic) {
+        return slots.computeIfAbsent(topic, this::allocate);
+    }
+
+    /**
+     * 토픽 카운터 증가 (RECEIVED, SUCCESS, FAILED)
+     */
+    void add(int slot, int field, long delta) {
+        if (slot >= 0) {
+            LONG.getAndAdd(buffer, tableOffset(slot) + field * 8, delta);
+        }
+    }
+
+    /**
+     * 토픽 마지막 성공/실패 시각 (LAST_SUCCESS_AT, LAST_ERROR_AT)
+     */
+    void touch(int slot, int field, long epochMillis) {
+        if (slot >= 0) {
+            LONG.setOpaque(buffer, tableOffset(slot) + field * 8, epochMillis);
+        }
+    }
+
+    void writeEvent(long seq, long epochMillis, EventLog event) {
+        int offset = eventsOffset + (int) (seq % eventCapacity) * EVENT_BYTES;
+        if (claim(offset, seq)) {
+            LONG.set(buffer, offset + R_TIME, epochMillis);
+            int field = offset + R_FIELDS;
+            field = putString(field, EVENT_FIELDS[0], event.status);
+            field = putString(field, EVENT_FIELDS[1], event.topic);
+            field = putString(field, EVENT_FIELDS[2], event.targetTable);
+            field = putString(field, EVENT_FIELDS[3], event.operation);
+            field = putString(field, EVENT_FIELDS[4], event.hash);
+            field = putString(field, EVENT_FIELDS[5], event.errorMessage);
+            putString(field, EVENT_FIELDS[6], event.dataPreview);
+            LONG.setRelease(buffer, offset + R_HEADER, seq + 1);
+        }
+    }
+
+    void writeError(long seq, long epochMillis, ErrorLog error) {
+        int offset = errorsOffset + (int) (seq % errorCapacity) * ERROR_BYTES;
+        if (claim(offset, seq)) {
+            LONG.set(buffer, offset + R_TIME, epochMillis);
+            int field = offset + R_FIELDS;
+            field = putString(field, ERROR_FIELDS[0], error.topic);
+            field = putString(field, ERROR_FIELDS[1], error.targetTable);
+            field = putString(field, ERROR_FIELDS[2], error.operation);
+            putString(field, ERROR_FIELDS[3], error.errorMessage);
+            LONG.setRelease(buffer, offset + R_HEADER, seq + 1);
+        }
+    }
+
+    /**
+     * 통계 초기화 반영 (토픽 슬롯은 유지하고 카운터만 0, 순번 floor 이전 레코드는 복원하지 않음)
+     */
+    void reset(long eventFloor, long errorFloor) {
+        int used = Math.min(nextSlot.get(), maxTables);
+        for (int slot = 0; slot < used; slot++) {
+            for (int field = RECEIVED; field <= LAST_ERROR_AT; field++) {
+                LONG.setOpaque(buffer, tableOffset(slot) + field * 8, 0L);
+            }
+        }
+        LONG.setRelease(buffer, H_EVENT_FLOOR, eventFloor);
+        LONG.setRelease(buffer, H_ERROR_FLOOR, errorFloor);
+    }
+
+    /**
+     * 디스크 반영 (주기 실행 + 종료 시, 기록 경로에서는 호출하지 않음)
+     */
+    void force() {
+        try {
+            buffer.force();
+        } catch (RuntimeException e) {
+            log.warn("Stats file force failed -> {} ({})", path, e.getMessage());
+        }
+    }
+
+    @Override
+    public void close() {
+        if (flusher != null) {
+            flusher.shutdownNow();
+        }
+        force();
+        try {
+            lock.release();
+            channel.close();
+        } catch (IOException e) {
+            log.warn("Stats file close failed -> {} ({})", path, e.getMessage());
+        }
+    }
+
+    private int allocate(String topic) {
+        byte[] name = topic.getBytes(StandardCharsets.UTF_8);
+        if (name.length > MAX_NAME_BYTES) {
+            log.warn("Topic name too long for stats file, not persisted -> {}", topic);
+            return -1;
+        }
+        int slot = nextSlot.getAndIncrement();
+        if (slot >= maxTables) {
+            if (slotsExhausted.compareAndSet(false, true)) {
+                log.warn("Stats file table slots exhausted ({}), further topics not persisted -> {}", maxTables, topic);
+            }
+            return -1;
+        }
+        int offset = tableOffset(slot);
+        buffer.put(offset + T_NAME, name, 0, name.length);
+        // 이름 길이를 마지막에 기록 (0이 아니면 이름까지 다 쓴 슬롯)
+        INT.setRelease(buffer, offset + T_NAME_LENGTH, name.length);
+        return slot;
+    }
+
+    /**
+     * 레코드 선점 (비었거나 더 오래된 순번이면 -(seq+1)로 CAS, 쓰는 중이거나 더 최근 순번이면 false)
+     */
+    private boolean claim(int offset, long seq) {
+        long current = (long) LONG.getAcquire(buffer, offset + R_HEADER);
+        return current >= 0 && current <= seq && LONG.compareAndSet(buffer, offset + R_HEADER, current, -(seq + 1));
+    }
+
+    private static int clearTorn(MappedByteBuffer buffer, int start, int capacity, int recordBytes) {
+        int cleared = 0;
+        for (int i = 0; i < capacity; i++) {
+            int offset = start + i * recordBytes;
+            if ((long) LONG.get(buffer, offset + R_HEADER) < 0) {
+                LONG.set(buffer, offset + R_HEADER, 0L);
+                cleared++;
+            }
+        }
+        return cleared;
+    }
+
+    private int putString(int offset, int capacity, String value) {
+        if (value == null) {
+            buffer.putShort(offset, (short) -1);
+        } else {
+            byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+            int length = utf8Prefix(bytes, capacity);
+            buffer.put(offset + 2, bytes, 0, length);
+            buffer.putShort(offset, (short) length);
+        }
+        return offset + 2 + capacity;
+    }
+
+    private int tableOffset(int slot) {
+        return HEADER_BYTES + slot * TABLE_BYTES;
+    }
+
+    // ---- 읽기 (열 때 복원 + MonitoringStatsDump) ----
+
+    /**
+     * 파일 읽기 (쓰는 중인 프로세스가 있어도 가능, 쓰는 중인 레코드는 제외)
+     *
+     * @throws IllegalStateException 통계 파일 형식이 아님
+     */
+    static Contents read(Path path) throws IOException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            return read(channel);
+        }
+    }
+
+    private static Contents read(FileChannel channel) throws IOException {
+        if (channel.size() < HEADER_BYTES) {
+            throw new IllegalStateException("file too small: " + channel.size() + " bytes");
+        }
+        ByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size()).order(ORDER);
+        if (buffer.getInt(H_MAGIC) != MAGIC) {
+            throw new IllegalStateException("not a monitoring stats file");
+        }
+        if (buffer.getInt(H_VERSION) != VERSION) {
+            throw new IllegalStateException("unsupported version: " + buffer.getInt(H_VERSION));
+        }
+        int maxTables = buffer.getInt(H_MAX_TABLES);
+        int eventCapacity = buffer.getInt(H_EVENT_CAPACITY);
+        int errorCapacity = buffer.getInt(H_ERROR_CAPACITY);
+        long expected = HEADER_BYTES + (long) maxTables * TABLE_BYTES
+                + (long) eventCapacity * EVENT_BYTES + (long) errorCapacity * ERROR_BYTES;
+        if (maxTables < 0 || eventCapacity <= 0 || errorCapacity <= 0 || channel.size() < expected) {
+            throw new IllegalStateException("truncated: " + channel.size() + " of " + expected + " bytes");
+        }
+        long eventFloor = (long) LONG.getAcquire(buffer, H_EVENT_FLOOR);
+        long errorFloor = (long) LONG.getAcquire(buffer, H_ERROR_FLOOR);
+
+        List<TableEntry> tables = new ArrayList<>();
+        for (int slot = 0; slot < maxTables; slot++) {
+            int offset = HEADER_BYTES + slot * TABLE_BYTES;
+            int nameLength = (int) INT.getAcquire(buffer, offset + T_NAME_LENGTH);
+            if (nameLength <= 0 || nameLength > MAX_NAME_BYTES) {
+                continue;
+            }
+            byte[] name = new byte[nameLength];
+            buffer.get(offset + T_NAME, name);
+            tables.add(new TableEntry(slot, new String(name, StandardCharsets.UTF_8),
+                    (long) LONG.getOpaque(buffer, offset + RECEIVED * 8),
+                    (long) LONG.getOpaque(buffer, offset + SUCCESS * 8),
+                    (long) LONG.getOpaque(buffer, offset + FAILED * 8),
+                    (long) LONG.getOpaque(buffer, offset + LAST_SUCCESS_AT * 8),
+                    (long) LONG.getOpaque(buffer, offset + LAST_ERROR_AT * 8)));
+        }
+
+        int eventsOffset = HEADER_BYTES + maxTables * TABLE_BYTES;
+        int errorsOffset = eventsOffset + eventCapacity * EVENT_BYTES;
+        List<LogEntry<EventLog>> events = readRecords(buffer, eventsOffset, eventCapacity, EVENT_BYTES, EVENT_FIELDS,
+                eventFloor, f -> new EventLog(null, f[0], f[1], f[2], f[3], f[4], f[5], f[6]));
+        List<LogEntry<ErrorLog>> errors = readRecords(buffer, errorsOffset, errorCapacity, ERROR_BYTES, ERROR_FIELDS,
+                errorFloor, f -> new ErrorLog(null, f[0], f[1], f[2], f[3]));
+
+        return new Contents(maxTables, eventCapacity, errorCapacity, buffer.getLong(H_CREATED_AT),
+                eventFloor, errorFloor, tables, events, errors);
+    }
+
+    /**
+     * 레코드 영역 읽기 (순번 오름차순, 머리를 본문 앞뒤로 읽어 같을 때만 → 읽는 중 덮어쓴 레코드 제외)
+     */
+    private static <E> List<LogEntry<E>> readRecords(ByteBuffer buffer, int base, int capacity, int recordBytes,
+                                                     int[] fields, long floor,
+                                                     Function<String[], E> factory) {
+        List<LogEntry<E>> entries = new ArrayList<>();
+        for (int i = 0; i < capacity; i++) {
+            int offset = base + i * recordBytes;
+            long header = (long) LONG.getAcquire(buffer, offset + R_HEADER);
+            if (header <= 0 || header - 1 < floor) {
+                continue;
+            }
+            long epochMillis = buffer.getLong(offset + R_TIME);
+            String[] values = new String[fields.length];
+            int field = offset + R_FIELDS;
+            for (int f = 0; f < fields.length; f++) {
+                values[f] = getString(buffer, field, fields[f]);
+                field += 2 + fields[f];
+            }
+            VarHandle.loadLoadFence();
+            if ((long) LONG.getAcquire(buffer, offset + R_HEADER) == header) {
+                entries.add(new LogEntry<>(header - 1, epochMillis, factory.apply(values)));
+            }
+        }
+        entries.sort(Comparator.comparingLong(LogEntry::seq));
+        return entries;
+    }
+
+    /**
+     * 새 배치로 머리 + 토픽 슬롯 다시 쓰기 (빈 파일 또는 배치가 바뀐 파일, 레코드는 열린 뒤 writeEvent/writeError로)
+     */
+    private static Contents rewrite(MappedByteBuffer buffer, Contents previous, int maxTables,
+                                    int eventCapacity, int errorCapacity) {
+        long createdAt = previous != null ? previous.createdAt() : System.currentTimeMillis();
+        buffer.putInt(H_MAGIC, MAGIC);
+        buffer.putInt(H_VERSION, VERSION);
+        buffer.putInt(H_MAX_TABLES, maxTables);
+        buffer.putInt(H_EVENT_CAPACITY, eventCapacity);
+        buffer.putInt(H_ERROR_CAPACITY, errorCapacity);
+        buffer.putLong(H_CREATED_AT, createdAt);
+        if (previous == null) {
+            return new Contents(maxTables, eventCapacity, errorCapacity, createdAt, 0, 0,
+                    List.of(), List.of(), List.of());
+        }
+        buffer.putLong(H_EVENT_FLOOR, previous.eventFloor());
+        buffer.putLong(H_ERROR_FLOOR, previous.errorFloor());
+
+        List<TableEntry> tables = new ArrayList<>();
+        for (TableEntry table : previous.tables()) {
+            if (tables.size() == maxTables) {
+                log.warn("Stats file max-tables reduced to {}, dropped {} topics", maxTables,
+                        previous.tables().size() - maxTables);
+                break;
+            }
+            int slot = tables.size();
+            int offset = HEADER_BYTES + slot * TABLE_BYTES;
+            byte[] name = table.topic().getBytes(StandardCharsets.UTF_8);
+            buffer.putLong(offset + RECEIVED * 8, table.received());
+            buffer.putLong(offset + SUCCESS * 8, table.success());
+            buffer.putLong(offset + FAILED * 8, table.failed());
+            buffer.putLong(offset + LAST_SUCCESS_AT * 8, table.lastSuccessAt());
+            buffer.putLong(offset + LAST_ERROR_AT * 8, table.lastErrorAt());
+            buffer.put(offset + T_NAME, name);
+            buffer.putInt(offset + T_NAME_LENGTH, name.length);
+            tables.add(new TableEntry(slot, table.topic(), table.received(), table.success(), table.failed(),
+                    table.lastSuccessAt(), table.lastErrorAt()));
+        }
+        return new Contents(maxTables, eventCapacity, errorCapacity, createdAt,
+                previous.eventFloor(), previous.errorFloor(), tables,
+                latest(previous.events(), eventCapacity), latest(previous.errors(), errorCapacity));
+    }
+
+    private static <E> List<LogEntry<E>> latest(List<LogEntry<E>> entries, int capacity) {
+        return entries.subList(Math.max(0, entries.size() - capacity), entries.size());
+    }
+
+    private static String getString(ByteBuffer buffer, int offset, int capacity) {
+        int length = buffer.getShort(offset);
+        if (length < 0 || length > capacity) {
+            return null;
+        }
+        byte[] bytes = new byte[length];
+        buffer.get(offset + 2, bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * capacity 바이트 이내에서 UTF-8 문자 경계로 자른 길이
+     */
+    private static int utf8Prefix(byte[] bytes, int capacity) {
+        if (bytes.length <= capacity) {
+            return bytes.length;
+        }
+        int length = capacity;
+        while (length > 0 && (bytes[length] & 0xC0) == 0x80) {
+            length--;
+        }
+        return length;
+    }
+
+    private static int recordBytes(int[] fields) {
+        int bytes = R_FIELDS;
+        for (int field : fields) {
+            bytes += 2 + field;
+        }
+        // 레코드 머리 VarHandle 접근은 8바이트 정렬 필요
+        return (bytes + 7) & ~7;
+    }
+
+    /**
+     * 파일 내용 (이벤트/에러는 순번 오름차순, timestamp는 비어 있음 → 기록 시각은 LogEntry.epochMillis)
+     */
+    record Contents(int maxTables, int eventCapacity, int errorCapacity, long createdAt,
+                    long eventFloor, long errorFloor, List<TableEntry> tables,
+                    List<LogEntry<EventLog>> events, List<LogEntry<ErrorLog>> errors) {}
+
+    /**
+     * 토픽 슬롯 1개 (시각은 epoch ms, 0 = 없음)
+     */
+    record TableEntry(int slot, String topic, long received, long success, long failed,
+                      long lastSuccessAt, long lastErrorAt) {}
+
+    record LogEntry<E>(long seq, long epochMillis, E value) {}
+}
@@ -0,0 +1,293 @@
+package com.cdc.sync.service;
+
+import com.cdc.sync.config.CdcSyncConfig;
+import com.cdc.sync.config.CdcSyncConfig.MonitoringStreamConfig;
+import com.cdc.sync.service.CdcMonitoringService.Counters;
+import com.cdc.sync.service.CdcMonitoringService.ErrorLog;
+import com.cdc.sync.service.CdcMonitoringService.EventLog;
+import com.cdc.sync.service.CdcMonitoringService.TableStats;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 모니터링 변경분 SSE push (대시보드 폴링 대체)
+ *
+ * [문제]
+ * - /api/monitoring/dashboard 폴링: 호출마다 tableStats 전체, 두 순환 버퍼, dataPreview 전부 복사
+ *   → 변경이 없어도 같은 비용, 운영자 여러 명이 보면 배수로 증가
+ *
+ * [설계 의도]
+ * - 구독자별 커서: 마지막으로 보낸 이벤트/에러 순번 + 카운터 값
+ *   → 프레임에는 커서 이후 새 이벤트/에러와 카운터 증가분(변경된 토픽만)만 담음
+ * - 타이머 1개가 1/max-frames-per-sec 간격으로 전체 구독자 확인 → 그 사이 변경은 프레임 1개로 합침
+ *   변경이 없으면 보내지 않음 (heartbeat-ms마다 keepalive 주석만)
+ * - 전송은 별도 스레드 풀: 이전 프레임을 아직 쓰는 구독자는 이번 주기를 건너뜀 (느린 구독자가 다른 구독자를 막지 않음)
+ *   → 건너뛰는 동안 순환 버퍼가 커서를 넘어가면 증분 불가 → 전체 사본(snapshot) 전송
+ * - 통계 초기화 세대(CdcMonitoringService.getResetGeneration)가 구독자가 마지막으로 본 값과 다르면 역시 전체 사본
+ *   (카운터 감소로 추정하지 않음: 초기화 후 다음 주기 전에 이전 값을 넘어서면 놓침)
+ *
+ * [프레임] (SSE event 이름 = type)
+ * - snapshot: 카운터 절대값 + 최근 이벤트/에러 전체 (연결 직후, 뒤처짐, 초기화)
+ * - delta   : 카운터 증가분 + 새 이벤트/에러 (최근 순)
+ *
+ * [한계]
+ * - 재연결(Last-Event-ID)은 전체 사본부터 다시 (카운터 기준값을 서버가 구독자별로 보관하지 않음)
+ */
+@Component
+public class MonitoringStream {
+
+    private static final Logger log = LoggerFactory.getLogger(MonitoringStream.class);
+
+    private final CdcMonitoringService monitoringService;
+    private final MonitoringStreamConfig config;
+
+    private final Set<Client> clients = ConcurrentHashMap.newKeySet();
+    private final ScheduledThreadPoolExecutor timer;
+    private final ThreadPoolExecutor sender;
+
+    public MonitoringStream(CdcMonitoringService monitoringService, CdcSyncConfig syncConfig) {
+        this.monitoringService = monitoringService;
+        this.config = syncConfig.getMonitoringStream();
+
+        this.timer = new ScheduledThreadPoolExecutor(1, threadFactory("cdc-stream-timer"));
+        // 구독자당 전송 작업은 최대 1개 (sending 플래그)
+        this.sender = new ThreadPoolExecutor(2, 2, 0L, TimeUnit.MILLISECONDS, new LinkedBlockingQueue<>(),
+                threadFactory("cdc-stream-send"));
+        long periodMs = Math.max(1, 1000 / Math.max(1, config.getMaxFramesPerSec()));
+        timer.scheduleAtFixedRate(this::tick, periodMs, periodMs, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * 구독 등록 (첫 프레임은 다음 주기에 snapshot)
+     *
+     * @return SSE 연결, 구독자 수 상한이면 null
+     */
+    public SseEmitter subscribe() {
+        if (clients.size() >= config.getMaxClients()) {
+            return null;
+        }
+        SseEmitter emitter = new SseEmitter(config.getTimeoutMs());
+        Client client = new Client(emitter);
+        clients.add(client);
+        emitter.onCompletion(() -> clients.remove(client));
+        emitter.onTimeout(() -> clients.remove(client));
+        emitter.onError(e -> clients.remove(client));
+        log.info("Monitoring stream subscribed ({} clients)", clients.size());
+        return emitter;
+    }
+
+    public int getClientCount() {
+        return clients.size();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        timer.shutdownNow();
+        sender.shutdownNow();
+        for (Client client : clients) {
+            client.emitter.complete();
+        }
+        clients.clear();
+    }
+
+    /**
+     * 주기 확인: 구독자별 프레임 생성 후 전송 스레드로 넘김
+     */
+    private void tick() {
+        if (clients.isEmpty()) {
+            return;
+        }
+        try {
+            long now = System.currentTimeMillis();
+            // 카운터보다 먼저 읽음: 이후 초기화가 일어나면 다음 주기에 세대 차이로 전체 사본
+            long resetGeneration = monitoringService.getResetGeneration();
+            Counters totals = monitoringService.getTotals();
+            Map<String, TableStats> tables = monitoringService.getTableStatsView();
+            for (Client client : clients) {
+                if (!client.sending.compareAndSet(false, true)) {
+                    // 이전 프레임 전송 중 → 이번 변경은 다음 프레임에 합침
+                    continue;
+                }
+                boolean reset = client.resetGeneration != resetGeneration;
+                Frame frame = client.initialized && !reset ? delta(client, totals, tables) : null;
+                if (frame == null && (!client.initialized || reset || client.behind)) {
+                    frame = snapshot(client, totals, tables);
+                    client.resetGeneration = resetGeneration;
+                }
+                if (frame == null && now - client.lastSentAt < config.getHeartbeatMs()) {
+                    client.sending.set(false);
+                    continue;
+                }
+                client.lastSentAt = now;
+                send(client, frame);
+            }
+        } catch (RuntimeException e) {
+            // 타이머 스레드가 죽으면 이후 주기가 모두 취소되므로 여기서 삼킴
+            log.warn("Monitoring stream tick failed: {}", e.getMessage(), e);
+        }
+    }
+
+    /**
+     * 커서 이후 변경분 (변경 없으면 null, 증분 불가면 null + behind 표시)
+     */
+    private Frame delta(Client client, Counters totals, Map<String, TableStats> tables) {
+        client.behind = false;
+        LogRing.Slice<EventLog> events = monitoringService.getEventsSince(client.eventPosition);
+        LogRing.Slice<ErrorLog> errors = monitoringService.getErrorsSince(client.errorPosition);
+        if (events == null || errors == null) {
+            client.behind = true;
+            return null;
+        }
+
+        Map<String, Counters> changed = new LinkedHashMap<>();
+        for (Map.Entry<String, TableStats> entry : tables.entrySet()) {
+            TableStats stats = entry.getValue();
+            Counters current = new Counters(stats.received.get(), stats.success.get(), stats.failed.get());
+            Counters previous = client.tables.getOrDefault(entry.getKey(), ZERO);
+            if (!current.equals(previous)) {
+                changed.put(entry.getKey(), new Counters(current.received() - previous.received(),
+                        current.success() - previous.success(), current.failed() - previous.failed()));
+                client.tables.put(entry.getKey(), current);
+            }
+        }
+        if (changed.isEmpty() && events.items().isEmpty() && errors.items().isEmpty()) {
+            return null;
+        }
+
+        Frame frame = new Frame("delta", events.next(), errors.next(),
+                new Counters(totals.received() - client.totals.received(), totals.success() - client.totals.success(),
+                        totals.failed() - client.totals.failed()),
+                changed, events.items(), errors.items());
+        client.totals = totals;
+        client.eventPosition = events.next();
+        client.errorPosition = errors.next();
+        return frame;
+    }
+
+    /**
+     * 전체 사본 (카운터 절대값 + 순환 버퍼 전체) → 구독자 커서를 현재 위치로
+     */
+    private Frame snapshot(Client client, Counters totals, Map<String, TableStats> tables) {
+        LogRing.Slice<EventLog> events = monitoringService.getLatestEvents();
+        LogRing.Slice<ErrorLog> errors = monitoringService.getLatestErrors();
+
+        Map<String, Counters> counters = new HashMap<>();
+        for (Map.Entry<String, TableStats> entry : tables.entrySet()) {
+            TableStats stats = entry.getValue();
+            counters.put(entry.getKey(), new Counters(stats.received.get(), stats.success.get(), stats.failed.get()));
+        }
+        client.tables.clear();
+        client.tables.putAll(counters);
+        client.totals = totals;
+        client.eventPosition = events.next();
+        client.errorPosition = errors.next();
+        client.initialized = true;
+        client.behind = false;
+        return new Frame("snapshot", events.next(), errors.next(), totals, counters, events.items(), errors.items());
+    }
+
+    /**
+     * 전송 (frame이 null이면 keepalive 주석), 실패한 구독자는 제거
+     */
+    private void send(Client client, Frame frame) {
+        try {
+            sender.execute(() -> {
+                try {
+                    if (frame == null) {
+                        client.emitter.send(SseEmitter.event().comment("keepalive"));
+                    } else {
+                        client.emitter.send(SseEmitter.event()
+                                .id(frame.eventSeq + ":" + frame.errorSeq)
+                                .name(frame.type)
+                                .data(frame, MediaType.APPLICATION_JSON));
+                    }
+                } catch (IOException | IllegalStateException e) {
+                    // 브라우저 종료/연결 끊김
+                    clients.remove(client);
+                    client.emitter.completeWithError(e);
+                } finally {
+                    client.sending.set(false);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            // 종료 중
+            client.sending.set(false);
+        }
+    }
+
+    private static ThreadFactory threadFactory(String prefix) {
+        AtomicLong index = new AtomicLong();
+        return runnable -> {
+            Thread thread = new Thread(runnable, prefix + "-" + index.getAndIncrement());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+
+    private static final Counters ZERO = new Counters(0, 0, 0);
+
+    /**
+     * 구독자 1명의 연결과 커서 (필드는 타이머 스레드만 변경, sending 플래그로 전송과 겹치지 않음)
+     */
+    private static final class Client {
+
+        final SseEmitter emitter;
+        final AtomicBoolean sending = new AtomicBoolean();
+        final Map<String, Counters> tables = new HashMap<>();
+        Counters totals = ZERO;
+        long resetGeneration;
+        long eventPosition;
+        long errorPosition;
+        long lastSentAt;
+        boolean initialized;
+        boolean behind;
+
+        Client(SseEmitter emitter) {
+            this.emitter = emitter;
+        }
+    }
+
+    /**
+     * SSE 프레임 (eventSeq/errorSeq: 이 프레임까지 반영된 순환 버퍼 위치)
+     */
+    public static class Frame {
+        public String type;
+        public long eventSeq;
+        public long errorSeq;
+        public Counters totals;
+        public Map<String, Counters> tables;
+        public List<EventLog> events;
+        public List<ErrorLog> errors;
+
+        Frame(String type, long eventSeq, long errorSeq, Counters totals, Map<String, Counters> tables,
+              List<EventLog> events, List<ErrorLog> errors) {
+            this.type = type;
+            this.eventSeq = eventSeq;
+            this.errorSeq = errorSeq;
+            this.totals = totals;
+            this.tables = tables;
+            this.events = events;
+            this.errors = errors;
+        }
+    }
+}
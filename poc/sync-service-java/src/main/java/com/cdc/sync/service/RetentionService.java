@@ -0,0 +1,347 @@
+package com.cdc.sync.service;
+
+import com.cdc.sync.config.CdcSyncConfig;
+import com.cdc.sync.config.CdcSyncConfig.RetentionConfig;
+import com.cdc.sync.config.CdcSyncConfig.RetentionTable;
+import com.cdc.sync.service.ArchiveStore.Segment;
+import com.cdc.sync.service.ArchiveStore.SegmentWriter;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.sql.PreparedStatement;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+
+/**
+ * 보존/보관 (처리 끝난 CDC/STAGING/CDC_SYNC_LOG 행 → 로컬 세그먼트 파일 → 삭제)
+ *
+ * [문제]
+ * - CDC_*, STAGING_*, CDC_SYNC_LOG 행은 삭제되지 않음
+ *   → Worker의 PROCESSED_YN = 'N' 조회, 시뮬레이터의 ORDER BY ... DESC 조회가 점점 느려짐
+ *
+ * [설계 의도]
+ * - 테이블별 보존 기간(horizon-hours)보다 오래되고 처리 끝난 행(processed-values)만 대상
+ * - 순번(CDC_SEQ 등) 순서로 segment-rows씩 읽어 세그먼트 파일에 쓰고 fsync한 뒤에만 삭제
+ *   (파일 쓰기 실패 시 삭제하지 않음 → 다음 실행에서 다시 시도)
+ * - 삭제는 delete-batch-size 단위 DELETE + 자동 커밋, 배치 사이 delete-pause-ms 대기
+ *   → 긴 트랜잭션/대량 undo 없이 Worker, Consumer INSERT와 같이 실행
+ * - 실행 1회에 테이블별 max-rows-per-run까지만 → 쌓인 백로그는 여러 주기에 나눠 처리
+ * - 전용 스레드 1개에서 실행 (공용 스케줄러 스레드를 대기 시간 동안 붙잡지 않음)
+ *
+ * [회수 크기]
+ * - 삭제한 행의 컬럼 VSIZE 합 + 행 헤더 추정치 (블록 안 공간은 새 INSERT가 재사용)
+ * - 테이블스페이스 크기를 줄이려면 별도로 ALTER TABLE ... SHRINK SPACE 필요
+ *
+ * [프로덕션 고려사항]
+ * - 여러 인스턴스에서 켜면 같은 행을 중복 보관할 수 있음 → 한 인스턴스에서만 활성화
+ * - 보존 기간은 루프 판정(FN_IS_LOOP 5분)과 장애 분석 기간보다 길게 설정
+ */
+@Component
+@ConditionalOnProperty(prefix = "cdc.sync.retention", name = "enabled", havingValue = "true")
+public class RetentionService {
+
+    private static final Logger log = LoggerFactory.getLogger(RetentionService.class);
+
+    private static final Pattern IDENTIFIER = Pattern.compile("[A-Z][A-Z0-9_$#]*");
+    private static final String COLUMNS_SQL =
+            "SELECT COLUMN_NAME, DATA_TYPE FROM USER_TAB_COLUMNS WHERE TABLE_NAME = ? ORDER BY COLUMN_ID";
+    private static final String ROW_BYTES_COLUMN = "ARCHIVE_ROW_BYTES";
+
+    private final RetentionConfig config;
+    private final CdcMonitoringService monitoringService;
+    private final ArchiveStore archiveStore;
+    private final List<Target> targets = new ArrayList<>();
+    private final ExecutorService executor;
+    private final AtomicBoolean busy = new AtomicBoolean();
+    private volatile boolean running = true;
+
+    public RetentionService(
+            @Qualifier("asisJdbcTemplate") JdbcTemplate asisJdbcTemplate,
+            @Qualifier("tobeJdbcTemplate") JdbcTemplate tobeJdbcTemplate,
+            CdcMonitoringService monitoringService,
+            CdcSyncConfig syncConfig) {
+        this.config = syncConfig.getRetention();
+        this.monitoringService = monitoringService;
+        this.archiveStore = new ArchiveStore(config.getDirectory());
+        this.executor = Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "cdc-retention");
+            thread.setDaemon(true);
+            return thread;
+        });
+
+        for (RetentionTable table : config.getTables()) {
+            for (String identifier : Arrays.asList(table.getTable(), table.getKeyColumn(), table.getTimeColumn())) {
+                if (identifier == null || !IDENTIFIER.matcher(identifier).matches()) {
+                    throw new IllegalStateException("Invalid retention identifier: " + identifier);
+                }
+            }
+            JdbcTemplate jdbcTemplate = switch (String.valueOf(table.getDatabase())) {
+                case "ASIS" -> asisJdbcTemplate;
+                case "TOBE" -> tobeJdbcTemplate;
+                default -> throw new IllegalStateException("Retention table " + table.getTable()
+                        + " has unknown database: " + table.getDatabase());
+            };
+            targets.add(new Target(table, jdbcTemplate));
+        }
+        log.info("Retention enabled: {} tables, every {} ms, archive directory {}",
+                targets.size(), config.getIntervalMs(), config.getDirectory());
+    }
+
+    @Scheduled(fixedDelayString = "${cdc.sync.retention.interval-ms:300000}",
+            initialDelayString = "${cdc.sync.retention.interval-ms:300000}")
+    public void tick() {
+        start();
+    }
+
+    /**
+     * 보관/삭제 1회 실행 시작 (이미 실행 중이면 false)
+     */
+    public boolean start() {
+        if (!running || !busy.compareAndSet(false, true)) {
+            return false;
+        }
+        try {
+            executor.execute(() -> {
+                try {
+                    for (Target target : targets) {
+                        if (!running) {
+                            break;
+                        }
+                        runTable(target);
+                    }
+                } finally {
+                    busy.set(false);
+                }
+            });
+            return true;
+        } catch (RejectedExecutionException e) {
+            busy.set(false);
+            return false;
+        }
+    }
+
+    /**
+     * 보관된 행 조회
+     *
+     * @see ArchiveStore#lookup(String, String, String, int)
+     */
+    public List<Map<String, Object>> lookup(String table, String pkValue, String hash, int limit) throws IOException {
+        return archiveStore.lookup(table, pkValue, hash, limit);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        running = false;
+        executor.shutdownNow();
+        try {
+            executor.awaitTermination(30, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * 테이블 1개 보관/삭제 (세그먼트 단위 반복)
+     */
+    private void runTable(Target target) {
+        long startNanos = System.nanoTime();
+        Timestamp cutoff = Timestamp.valueOf(LocalDateTime.now().minusHours(target.table.getHorizonHours()));
+        String error = null;
+        try {
+            target.describe();
+            long afterKey = 0;
+            int moved = 0;
+            while (running && moved < config.getMaxRowsPerRun()) {
+                int limit = Math.min(Math.max(1, config.getSegmentRows()), config.getMaxRowsPerRun() - moved);
+                Archived archived = archive(target, cutoff, afterKey, limit);
+                if (archived == null) {
+                    break;
+                }
+                int purged = purge(target, archived.keys);
+                monitoringService.recordRetention(target.label, archived.keys.length, purged,
+                        archived.segment.bytes(), archived.rowBytes * purged / archived.keys.length);
+                log.info("[{}] Archived {} rows (seq {}..{}) to {} ({} bytes), purged {}",
+                        target.label, archived.keys.length, archived.segment.minKey(), archived.segment.maxKey(),
+                        archived.segment.path().getFileName(), archived.segment.bytes(), purged);
+
+                moved += archived.keys.length;
+                afterKey = archived.segment.maxKey();
+                if (archived.keys.length < limit || purged < archived.keys.length) {
+                    break;
+                }
+            }
+        } catch (DataAccessException | IOException | UncheckedIOException | IllegalStateException e) {
+            // 확정 전 세그먼트는 삭제 안 함 → 다음 실행에서 다시 시도
+            error = e.getMessage();
+            log.warn("[{}] Retention run failed: {}", target.label, e.getMessage());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        monitoringService.recordRetentionRun(target.label, (System.nanoTime() - startNanos) / 1_000_000, error);
+    }
+
+    /**
+     * 대상 행을 세그먼트 1개에 쓰고 확정
+     *
+     * @return 확정된 세그먼트와 순번 (대상 행이 없으면 null)
+     */
+    private Archived archive(Target target, Timestamp cutoff, long afterKey, int limit) throws IOException {
+        List<Long> keys = new ArrayList<>(Math.min(limit, 10_000));
+        long[] rowBytes = {0};
+        try (SegmentWriter writer = archiveStore.open(target.table.getDatabase(), target.table.getTable(),
+                target.table.getPkColumn(), target.table.getHashColumn())) {
+            target.jdbcTemplate.query(con -> {
+                PreparedStatement ps = con.prepareStatement(target.selectSql);
+                ps.setFetchSize(Math.min(limit, 1000));
+                int index = 1;
+                ps.setLong(index++, afterKey);
+                ps.setTimestamp(index++, cutoff);
+                for (String value : target.table.getProcessedValues()) {
+                    ps.setString(index++, value);
+                }
+                ps.setInt(index, limit);
+                return ps;
+            }, rs -> {
+                Map<String, Object> row = new LinkedHashMap<>();
+                for (int i = 0; i < target.columns.size(); i++) {
+                    Column column = target.columns.get(i);
+                    row.put(column.name, switch (column.kind) {
+                        case NUMBER -> rs.getBigDecimal(i + 1);
+                        case TIMESTAMP -> {
+                            Timestamp value = rs.getTimestamp(i + 1);
+                            yield value != null ? value.toLocalDateTime().toString() : null;
+                        }
+                        case TEXT -> rs.getString(i + 1);
+                    });
+                }
+                long key = rs.getLong(target.table.getKeyColumn());
+                try {
+                    writer.append(key, row);
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+                keys.add(key);
+                rowBytes[0] += rs.getLong(ROW_BYTES_COLUMN);
+            });
+            Segment segment = writer.commit();
+            if (segment == null) {
+                return null;
+            }
+            return new Archived(segment, keys.stream().mapToLong(Long::longValue).toArray(), rowBytes[0]);
+        }
+    }
+
+    /**
+     * 보관한 행 삭제 (배치마다 자동 커밋 + 대기)
+     *
+     * @return 삭제한 행 수 (중단되면 그때까지)
+     */
+    private int purge(Target target, long[] keys) throws InterruptedException {
+        int batchSize = Math.min(Math.max(1, config.getDeleteBatchSize()), 1000);
+        int purged = 0;
+        for (int from = 0; from < keys.length && running; from += batchSize) {
+            if (from > 0 && config.getDeletePauseMs() > 0) {
+                Thread.sleep(config.getDeletePauseMs());
+            }
+            int to = Math.min(from + batchSize, keys.length);
+            Object[] args = new Object[to - from];
+            for (int i = from; i < to; i++) {
+                args[i - from] = keys[i];
+            }
+            purged += target.jdbcTemplate.update("DELETE FROM " + target.table.getTable()
+                    + " WHERE " + target.table.getKeyColumn() + " IN ("
+                    + String.join(",", Collections.nCopies(args.length, "?")) + ")", args);
+        }
+        return purged;
+    }
+
+    /**
+     * 보존 대상 테이블 1개 (컬럼 구성은 첫 실행 때 USER_TAB_COLUMNS에서 조회)
+     */
+    private static final class Target {
+
+        final RetentionTable table;
+        final JdbcTemplate jdbcTemplate;
+        final String label;
+
+        List<Column> columns;
+        String selectSql;
+
+        Target(RetentionTable table, JdbcTemplate jdbcTemplate) {
+            this.table = table;
+            this.jdbcTemplate = jdbcTemplate;
+            this.label = table.getDatabase() + "." + table.getTable();
+        }
+
+        void describe() {
+            if (selectSql != null) {
+                return;
+            }
+            List<Column> described = jdbcTemplate.query(COLUMNS_SQL,
+                    (rs, rowNum) -> new Column(rs.getString(1), Kind.of(rs.getString(2))), table.getTable());
+            if (described.isEmpty()) {
+                throw new IllegalStateException("Retention table not found: " + label);
+            }
+            String columnList = described.stream().map(column -> column.name).collect(Collectors.joining(", "));
+            // 행 헤더(3) + 컬럼별 길이(1) + 값 크기
+            String rowBytes = (3 + described.size()) + " + " + described.stream()
+                    .map(column -> "NVL(VSIZE(" + column.name + "), 0)").collect(Collectors.joining(" + "));
+            StringBuilder sql = new StringBuilder()
+                    .append("SELECT ").append(columnList).append(", ").append(rowBytes).append(" AS ").append(ROW_BYTES_COLUMN)
+                    .append(" FROM ").append(table.getTable())
+                    .append(" WHERE ").append(table.getKeyColumn()).append(" > ?")
+                    .append(" AND ").append(table.getTimeColumn()).append(" < ?");
+            if (!table.getProcessedValues().isEmpty()) {
+                sql.append(" AND PROCESSED_YN IN (")
+                        .append(String.join(",", Collections.nCopies(table.getProcessedValues().size(), "?")))
+                        .append(")");
+            }
+            sql.append(" ORDER BY ").append(table.getKeyColumn()).append(" FETCH FIRST ? ROWS ONLY");
+            this.columns = described;
+            this.selectSql = sql.toString();
+        }
+    }
+
+    private record Column(String name, Kind kind) {}
+
+    /**
+     * 세그먼트 값 변환 방식 (Oracle 타입 → JSON)
+     */
+    private enum Kind {
+        NUMBER, TIMESTAMP, TEXT;
+
+        static Kind of(String dataType) {
+            if ("NUMBER".equals(dataType)) {
+                return NUMBER;
+            }
+            return "DATE".equals(dataType) || dataType.startsWith("TIMESTAMP") ? TIMESTAMP : TEXT;
+        }
+    }
+
+    /**
+     * 확정된 세그먼트 1개와 그 행들의 순번
+     */
+    private record Archived(Segment segment, long[] keys, long rowBytes) {}
+}
@@ -0,0 +1,92 @@
+package com.cdc.sync.service;
+
+import com.cdc.sync.config.CdcSyncConfig.SnapshotConfig;
+import com.cdc.sync.domain.CdcEvent;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 스냅샷 적재 진행률 (원본 테이블별 rows/sec, ETA)
+ *
+ * [설계 의도]
+ * - Debezium 스냅샷 이벤트에는 테이블 전체 행 수가 없음 → 테이블별 첫 스냅샷 적재 시 1회 결정
+ *   1. cdc.sync.snapshot.expected-rows 설정값
+ *   2. 원본 DB ALL_TABLES.NUM_ROWS (옵티마이저 통계, COUNT(*) 전체 스캔 없음)
+ *   3. 둘 다 없으면 진행률/ETA 없이 처리량만 기록
+ * - 처리량은 첫 스냅샷 배치 시작부터 누적 (배치 사이 Kafka 대기 포함 → 실제 완료 시각에 가까운 ETA)
+ * - 테이블 스냅샷 마지막 행(source.snapshot=last...)이면 완료 처리, 다음 스냅샷은 행 수를 다시 조회
+ */
+public class SnapshotProgress {
+
+    private static final Logger log = LoggerFactory.getLogger(SnapshotProgress.class);
+
+    private static final String NUM_ROWS_SQL = "SELECT NUM_ROWS FROM ALL_TABLES WHERE OWNER = ? AND TABLE_NAME = ?";
+
+    private final SnapshotConfig config;
+    private final CdcMonitoringService monitoringService;
+
+    // 원본 테이블(SCHEMA.TABLE) → 예상 행 수 (모르면 -1)
+    private final Map<String, Long> expectedRows = new ConcurrentHashMap<>();
+
+    public SnapshotProgress(SnapshotConfig config, CdcMonitoringService monitoringService) {
+        this.config = config;
+        this.monitoringService = monitoringService;
+    }
+
+    /**
+     * 스냅샷 적재 결과 기록
+     *
+     * @param sourceJdbcTemplate 원본 DB JdbcTemplate (NUM_ROWS 조회용)
+     * @param topic 원본 토픽
+     * @param event 적재한 스냅샷 이벤트 중 하나 (원본 테이블 확인용)
+     * @param targetTable 대상 CDC 테이블
+     * @param rows INSERT 성공 행 수
+     * @param elapsedNanos 적재 소요 시간 (나노초)
+     * @param completed 테이블 스냅샷 마지막 행 포함 여부
+     */
+    void record(JdbcTemplate sourceJdbcTemplate, String topic, CdcEvent event, String targetTable,
+                int rows, long elapsedNanos, boolean completed) {
+        String schema = event.getSourceSchema();
+        String table = event.getSourceTable() != null ? event.getSourceTable() : targetTable;
+        String key = schema != null ? schema + "." + table : table;
+
+        Long expected = expectedRows.get(key);
+        if (expected == null) {
+            expected = resolveExpectedRows(sourceJdbcTemplate, schema, table);
+            expectedRows.put(key, expected);
+            log.info("Snapshot of {} started -> {} (expected rows: {})",
+                    key, targetTable, expected >= 0 ? expected : "unknown");
+        }
+
+        monitoringService.recordSnapshotRows(topic, key, targetTable, rows, elapsedNanos, expected, completed);
+
+        if (completed) {
+            expectedRows.remove(key);
+            log.info("Snapshot of {} completed -> {}", key, targetTable);
+        }
+    }
+
+    private long resolveExpectedRows(JdbcTemplate sourceJdbcTemplate, String schema, String table) {
+        Long configured = config.getExpectedRows().get(table);
+        if (configured != null) {
+            return configured;
+        }
+        if (schema == null) {
+            return -1;
+        }
+        try {
+            List<Long> numRows = sourceJdbcTemplate.queryForList(NUM_ROWS_SQL, Long.class, schema, table);
+            return !numRows.isEmpty() && numRows.get(0) != null ? numRows.get(0) : -1;
+        } catch (DataAccessException e) {
+            log.warn("Failed to read NUM_ROWS of {}.{}, reporting snapshot without ETA: {}",
+                    schema, table, e.getMessage());
+            return -1;
+        }
+    }
+}
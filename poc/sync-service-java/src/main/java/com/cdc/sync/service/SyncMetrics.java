@@ -0,0 +1,163 @@
+package com.cdc.sync.service;
+
+import com.cdc.sync.config.CdcSimulatorConfig.SyncDirection;
+import com.cdc.sync.config.CdcSyncConfig;
+import com.cdc.sync.config.CdcSyncConfig.TopicMapping;
+import com.cdc.sync.domain.CdcEvent;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.composite.CompositeMeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 동기화 단계별 Micrometer 지표 (Prometheus: /actuator/prometheus)
+ *
+ * [지표] 태그: topic, table, direction, format
+ * - cdc.sync.parse : 레코드 바이트 → CdcEvent 역직렬화
+ * - cdc.sync.hash  : CHANGE_HASH 생성
+ * - cdc.sync.insert: CDC 테이블 INSERT 실행 (+ mode 태그)
+ *   single = 건당 1문장, batch = JDBC batch 1회(트랜잭션 포함), group = 그룹 트랜잭션 안 1문장(커밋 제외)
+ * - cdc.sync.lag   : 원본 DB 변경 시각(ts_ms) → CDC 테이블 반영 완료 (스냅샷 행 제외)
+ * - hikaricp.connections.acquire: Hikari 기본 지표 (풀 단위라 토픽/테이블 없음, direction 태그는 MeterFilterConfig)
+ *
+ * [설계 의도]
+ * - Timer는 기동 시 토픽 매핑 설정으로 미리 만들어 토픽 → 묶음 Map에 보관
+ *   → 기록 경로는 Map 조회 1회 + Timer.record (태그 조합/레지스트리 조회 없음)
+ * - 태그 값은 설정에서만 나옴 (메시지 내용이 태그가 되지 않음), 매핑 없는 토픽은 기록하지 않음
+ * - 히스토그램 버킷은 application.yml management.metrics.distribution.slo 에서 지정 (코드에 버킷 없음)
+ *
+ * [카디널리티]
+ * - 시계열 수 ≈ 매핑 토픽 수 × Timer 수 × (버킷 수 + count/sum/max)
+ *   예: 171 테이블 × 4 Timer × (버킷 10 + 3) ≈ 8,900
+ * - insert Timer는 mode별로 처음 기록할 때 등록 (쓰지 않는 실행 방식의 빈 시계열을 내보내지 않음)
+ * - per-table=false: topic/table 태그를 "*"로 고정 → 방향 × 형식 단위 (테이블 수와 무관)
+ * - max-tables: table 태그 값 상한 (MeterFilterConfig, 매핑이 잘못 늘어도 상한 이상 등록 안 함)
+ */
+@Component
+public class SyncMetrics {
+
+    private static final Logger log = LoggerFactory.getLogger(SyncMetrics.class);
+
+    public static final String PARSE = "cdc.sync.parse";
+    public static final String HASH = "cdc.sync.hash";
+    public static final String INSERT = "cdc.sync.insert";
+    public static final String LAG = "cdc.sync.lag";
+
+    private static final String ALL = "*";
+
+    /**
+     * INSERT 실행 방식 (cdc.sync.insert mode 태그)
+     */
+    public enum InsertMode { SINGLE, BATCH, GROUP }
+
+    // 토픽 → Timer 묶음 (기동 후 불변)
+    private final Map<String, RouteMeters> routes;
+
+    public SyncMetrics(ObjectProvider<MeterRegistry> meterRegistry, CdcSyncConfig syncConfig) {
+        MeterRegistry registry = meterRegistry.getIfAvailable(CompositeMeterRegistry::new);
+        boolean perTable = syncConfig.getMetrics().isPerTable();
+
+        Map<String, RouteMeters> map = new HashMap<>();
+        addRoutes(map, registry, syncConfig.getAsisToTobe(), SyncDirection.ASIS_TO_TOBE, perTable);
+        addRoutes(map, registry, syncConfig.getTobeToAsis(), SyncDirection.TOBE_TO_ASIS, perTable);
+        this.routes = Map.copyOf(map);
+
+        log.info("Sync metrics registered: {} topics (perTable={})", routes.size(), perTable);
+    }
+
+    public void recordParse(String topic, long nanos) {
+        RouteMeters meters = routes.get(topic);
+        if (meters != null) {
+            meters.parse.record(nanos, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    public void recordHash(String topic, long nanos) {
+        RouteMeters meters = routes.get(topic);
+        if (meters != null) {
+            meters.hash.record(nanos, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    public void recordInsert(String topic, InsertMode mode, long nanos) {
+        RouteMeters meters = routes.get(topic);
+        if (meters != null) {
+            meters.insert(mode).record(nanos, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    /**
+     * 원본 변경 시각 → 지금(반영 완료)까지 지연 기록 (스냅샷 행은 ts_ms가 읽은 시각이라 제외)
+     */
+    public void recordLag(String topic, CdcEvent event) {
+        RouteMeters meters = routes.get(topic);
+        LocalDateTime sourceTimestamp = event.getSourceTimestamp();
+        if (meters == null || sourceTimestamp == null || event.isSnapshot()) {
+            return;
+        }
+        long sourceMillis = sourceTimestamp.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+        // 원본 DB와 시계가 어긋나 음수가 되면 0으로 기록
+        meters.lag.record(Math.max(0, System.currentTimeMillis() - sourceMillis), TimeUnit.MILLISECONDS);
+    }
+
+    private static void addRoutes(Map<String, RouteMeters> map, MeterRegistry registry, List<TopicMapping> mappings,
+                                  SyncDirection direction, boolean perTable) {
+        for (TopicMapping mapping : mappings) {
+            Tags tags = Tags.of(
+                    "topic", perTable ? mapping.getSourceTopic() : ALL,
+                    "table", perTable ? mapping.getTargetTable() : ALL,
+                    "direction", direction.name(),
+                    "format", mapping.getFormat());
+            map.put(mapping.getSourceTopic(), new RouteMeters(registry, tags));
+        }
+    }
+
+    /**
+     * 토픽 1개의 Timer 묶음 (per-table=false면 같은 방향/형식 토픽끼리 같은 Timer 공유)
+     */
+    private static final class RouteMeters {
+
+        final Timer parse;
+        final Timer hash;
+        final Timer lag;
+        private final Timer[] insert = new Timer[InsertMode.values().length];
+        private final MeterRegistry registry;
+        private final Tags tags;
+
+        RouteMeters(MeterRegistry registry, Tags tags) {
+            this.registry = registry;
+            this.tags = tags;
+            this.parse = timer(registry, PARSE, "Record value to CdcEvent deserialization time", tags);
+            this.hash = timer(registry, HASH, "CHANGE_HASH generation time", tags);
+            this.lag = timer(registry, LAG, "Source commit (ts_ms) to CDC table insert lag", tags);
+        }
+
+        /**
+         * mode별 INSERT Timer (동시에 처음 등록해도 레지스트리가 같은 Timer를 돌려주므로 결과 동일)
+         */
+        Timer insert(InsertMode mode) {
+            Timer timer = insert[mode.ordinal()];
+            if (timer == null) {
+                timer = timer(registry, INSERT, "CDC table INSERT execution time",
+                        tags.and("mode", mode.name().toLowerCase()));
+                insert[mode.ordinal()] = timer;
+            }
+            return timer;
+        }
+
+        private static Timer timer(MeterRegistry registry, String name, String description, Tags tags) {
+            return Timer.builder(name).description(description).tags(tags).register(registry);
+        }
+    }
+}
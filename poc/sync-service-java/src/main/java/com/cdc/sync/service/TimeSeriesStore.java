@@ -0,0 +1,211 @@
+package com.cdc.sync.service;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * 토픽별 처리량/에러/INSERT 지연 시계열 (대시보드 추이 차트용)
+ *
+ * [문제]
+ * - 누적 합계(totalSuccess, successRate)만으로는 현재 처리 속도나 처리량 급감을 알 수 없음
+ *
+ * [설계 의도]
+ * - 토픽마다 고정 크기 순환 버킷 2개: 초 단위 600개(최근 10분) + 분 단위 1440개(최근 24시간)
+ * - 버킷 = [단위 번호, 수신, 성공, 실패, 지연 합, 지연 건수, 지연 최대] long 7개
+ *   → 배열 하나(AtomicLongArray)에 연속 배치, 토픽 첫 기록 때 한 번만 할당 (토픽당 약 114KB, 171개면 약 20MB)
+ * - 기록: 슬롯 단위 번호가 현재와 다르면 CAS로 선점 후 초기화 → 그 뒤 getAndAdd (락 없음)
+ *   (초기화 중인 슬롯을 만난 스레드는 필드 6개 초기화가 끝날 때까지만 대기)
+ * - 조회: 요청 구간의 단위 번호와 슬롯 번호가 같을 때만 읽음 (덮어쓴 슬롯은 0으로)
+ *
+ * [한계]
+ * - 조회 중 기록 중인 버킷은 필드 간 시점이 조금 다를 수 있음 (모니터링 용도로 충분)
+ * - 마지막 버킷은 진행 중인 구간 (값이 아직 차는 중)
+ */
+final class TimeSeriesStore {
+
+    static final int RECEIVED = 0;
+    static final int SUCCESS = 1;
+    static final int FAILED = 2;
+    static final int LATENCY_SUM = 3;
+    static final int LATENCY_COUNT = 4;
+    static final int LATENCY_MAX = 5;
+    static final int FIELDS = 6;
+
+    static final int SECOND_BUCKETS = 600;
+    static final int MINUTE_BUCKETS = 1440;
+
+    private final Map<String, Series> series = new ConcurrentHashMap<>();
+
+    void add(String topic, int field, long nowMillis) {
+        Series s = series(topic);
+        s.seconds.add(nowMillis, field, 1);
+        s.minutes.add(nowMillis, field, 1);
+    }
+
+    void addLatency(String topic, long nanos, long nowMillis) {
+        Series s = series(topic);
+        s.seconds.addLatency(nowMillis, nanos);
+        s.minutes.addLatency(nowMillis, nanos);
+    }
+
+    /**
+     * 토픽의 대상 CDC 테이블 기록 (조회 시 테이블 기준 필터용)
+     */
+    void table(String topic, String targetTable) {
+        Series s = series(topic);
+        if (s.table == null) {
+            s.table = targetTable;
+        }
+    }
+
+    /**
+     * 구간 [firstUnit, firstUnit + step * count)를 step개 버킷씩 합침 (최대 지연은 최대값)
+     *
+     * @return [필드][점] 합계
+     */
+    static long[][] downsample(Ring ring, long firstUnit, int step, int count) {
+        long[][] sums = new long[FIELDS][count];
+        long[] bucket = new long[FIELDS];
+        for (int i = 0; i < count; i++) {
+            long unit = firstUnit + (long) i * step;
+            for (int j = 0; j < step; j++) {
+                if (ring.read(unit + j, bucket)) {
+                    accumulate(sums, i, bucket);
+                }
+            }
+        }
+        return sums;
+    }
+
+    /**
+     * 점별 합계 더하기 (토픽 합계용)
+     */
+    static void merge(long[][] into, long[][] from) {
+        long[] point = new long[FIELDS];
+        for (int i = 0; i < into[0].length; i++) {
+            for (int f = 0; f < FIELDS; f++) {
+                point[f] = from[f][i];
+            }
+            accumulate(into, i, point);
+        }
+    }
+
+    private static void accumulate(long[][] sums, int index, long[] values) {
+        for (int f = 0; f < FIELDS; f++) {
+            sums[f][index] = f == LATENCY_MAX ? Math.max(sums[f][index], values[f]) : sums[f][index] + values[f];
+        }
+    }
+
+    Map<String, Series> series() {
+        return series;
+    }
+
+    void clear() {
+        series.clear();
+    }
+
+    private Series series(String topic) {
+        return series.computeIfAbsent(topic, k -> new Series());
+    }
+
+    /**
+     * 토픽 1개의 시계열 (초/분 해상도)
+     */
+    static final class Series {
+        final Ring seconds = new Ring(SECOND_BUCKETS, 1000);
+        final Ring minutes = new Ring(MINUTE_BUCKETS, 60_000);
+        volatile String table;
+    }
+
+    /**
+     * 고정 크기 순환 버킷 (한 해상도)
+     */
+    static final class Ring {
+
+        private static final int STRIDE = FIELDS + 1;
+
+        final int size;
+        final long unitMillis;
+        private final AtomicLongArray slots;
+
+        Ring(int size, long unitMillis) {
+            this.size = size;
+            this.unitMillis = unitMillis;
+            this.slots = new AtomicLongArray(size * STRIDE);
+        }
+
+        long unit(long epochMillis) {
+            return epochMillis / unitMillis;
+        }
+
+        void add(long nowMillis, int field, long delta) {
+            int base = slot(unit(nowMillis));
+            if (base >= 0) {
+                slots.getAndAdd(base + 1 + field, delta);
+            }
+        }
+
+        void addLatency(long nowMillis, long nanos) {
+            int base = slot(unit(nowMillis));
+            if (base < 0) {
+                return;
+            }
+            slots.getAndAdd(base + 1 + LATENCY_SUM, nanos);
+            slots.getAndIncrement(base + 1 + LATENCY_COUNT);
+            int maxIndex = base + 1 + LATENCY_MAX;
+            long current;
+            while (nanos > (current = slots.get(maxIndex)) && !slots.compareAndSet(maxIndex, current, nanos)) {
+                // 다른 스레드가 더 큰 값으로 바꿨으면 다시 비교
+            }
+        }
+
+        /**
+         * 단위 번호 버킷 읽기 (슬롯이 다른 단위로 바뀌었거나 비었으면 false)
+         *
+         * @param out 필드 값을 담을 배열 (길이 FIELDS)
+         */
+        boolean read(long unit, long[] out) {
+            int base = (int) Math.floorMod(unit, (long) size) * STRIDE;
+            if (slots.get(base) != unit) {
+                return false;
+            }
+            for (int i = 0; i < FIELDS; i++) {
+                out[i] = slots.get(base + 1 + i);
+            }
+            return true;
+        }
+
+        /**
+         * 단위 번호의 슬롯 시작 위치 (필요하면 초기화, 이미 더 최근 단위가 차지했으면 -1)
+         *
+         * 슬롯 단위 번호: unit = 사용 중, -unit = 초기화 중
+         */
+        private int slot(long unit) {
+            int base = (int) Math.floorMod(unit, (long) size) * STRIDE;
+            while (true) {
+                long current = slots.get(base);
+                if (current == unit) {
+                    return base;
+                }
+                long owner = current < 0 ? -current : current;
+                if (owner > unit) {
+                    // 한 바퀴 이상 지난 기록 (스레드가 시각을 읽은 뒤 오래 멈춤) → 버림
+                    return -1;
+                }
+                if (current < 0) {
+                    // 다른 스레드가 초기화 중
+                    Thread.onSpinWait();
+                    continue;
+                }
+                if (slots.compareAndSet(base, current, -unit)) {
+                    for (int i = 1; i < STRIDE; i++) {
+                        slots.set(base + i, 0);
+                    }
+                    slots.set(base, unit);
+                    return base;
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,234 @@
+package com.cdc.sync.service;
+
+import com.cdc.sync.domain.RowSchema;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.Base64;
+import java.util.Map;
+
+/**
+ * Debezium 필드 값 → JDBC 바인딩 값 변환기 (컬럼별 1개, InsertPlan이 보관)
+ *
+ * [설계 의도]
+ * - 컬럼별 변환 방식은 INSERT 계획 생성 시 1회 결정 → 이벤트마다 컬럼명/값 크기 검사 없음
+ * - 스키마가 있으면 논리 타입(RowSchema.Field)으로 변환기 고정 (forField)
+ * - 스키마가 없으면(schemas.enable=false) 기존 컬럼명 기반 추측 (forColumn)
+ *
+ * [Debezium 논리 타입]
+ * - io.debezium.time.Timestamp / MicroTimestamp / NanoTimestamp: 타임존 없는 epoch (UTC 기준 벽시계 시각)
+ * - io.debezium.time.Date: epoch 일수
+ * - org.apache.kafka.connect.data.Decimal: Base64 2의 보수 (scale은 스키마 파라미터)
+ * - io.debezium.data.VariableScaleDecimal: { scale, value } (scale은 값마다)
+ * - 8바이트 이하 정수부는 BigInteger 없이 long으로 디코딩
+ */
+@FunctionalInterface
+public interface ValueConverter {
+
+    /**
+     * 값 그대로
+     */
+    ValueConverter IDENTITY = raw -> raw;
+
+    /**
+     * 복합 NUMBER만 디코딩 (스키마 없는 경우)
+     */
+    ValueConverter DEBEZIUM_VALUE = ValueConverter::decodeIfNumber;
+
+    /**
+     * 날짜/시간 컬럼명: 복합 NUMBER 디코딩 후 epoch 정수면 크기로 단위 추정 (스키마 없는 경우)
+     */
+    ValueConverter EPOCH_TIMESTAMP = raw -> {
+        Object value = decodeIfNumber(raw);
+        if (value instanceof Long || value instanceof Integer) {
+            return convertEpochToTimestamp(((Number) value).longValue());
+        }
+        return value;
+    };
+
+    ValueConverter EPOCH_MILLIS = raw -> raw == null ? null
+            : utcTimestamp(Math.floorDiv(((Number) raw).longValue(), 1_000L),
+                    Math.floorMod(((Number) raw).longValue(), 1_000L) * 1_000_000L);
+
+    ValueConverter EPOCH_MICROS = raw -> raw == null ? null
+            : utcTimestamp(Math.floorDiv(((Number) raw).longValue(), 1_000_000L),
+                    Math.floorMod(((Number) raw).longValue(), 1_000_000L) * 1_000L);
+
+    ValueConverter EPOCH_NANOS = raw -> raw == null ? null
+            : utcTimestamp(Math.floorDiv(((Number) raw).longValue(), 1_000_000_000L),
+                    Math.floorMod(((Number) raw).longValue(), 1_000_000_000L));
+
+    ValueConverter EPOCH_DAYS = raw -> raw == null ? null
+            : utcTimestamp(Math.multiplyExact(((Number) raw).longValue(), 86_400L), 0);
+
+    ValueConverter VARIABLE_SCALE_DECIMAL = raw -> raw == null ? null
+            : decodeUnscaled((String) ((Map<?, ?>) raw).get("value"), ((Number) ((Map<?, ?>) raw).get("scale")).intValue());
+
+    /**
+     * Debezium 필드 값을 바인딩 값으로 변환
+     *
+     * @param raw Debezium 필드 값 (null 가능)
+     * @return JDBC 바인딩 값
+     */
+    Object convert(Object raw);
+
+    /**
+     * 스키마 필드 타입으로 변환기 선택
+     *
+     * @param schema 행 스키마 (UNKNOWN이면 컬럼명 기반)
+     * @param key 원본 필드명
+     * @param upperColumn 대문자 컬럼명
+     */
+    static ValueConverter forField(RowSchema schema, String key, String upperColumn) {
+        if (schema == RowSchema.UNKNOWN) {
+            return forColumn(upperColumn);
+        }
+        RowSchema.Field field = schema.field(key);
+        if (field == null || field.logicalName() == null) {
+            return IDENTITY;
+        }
+        return switch (field.logicalName()) {
+            case "io.debezium.time.Timestamp", "org.apache.kafka.connect.data.Timestamp" -> EPOCH_MILLIS;
+            case "io.debezium.time.MicroTimestamp" -> EPOCH_MICROS;
+            case "io.debezium.time.NanoTimestamp" -> EPOCH_NANOS;
+            case "io.debezium.time.Date", "org.apache.kafka.connect.data.Date" -> EPOCH_DAYS;
+            case "io.debezium.data.VariableScaleDecimal" -> VARIABLE_SCALE_DECIMAL;
+            case "org.apache.kafka.connect.data.Decimal" -> {
+                int scale = field.scale();
+                yield raw -> raw == null ? null : decodeUnscaled((String) raw, scale);
+            }
+            default -> IDENTITY;
+        };
+    }
+
+    /**
+     * 컬럼명으로 변환기 선택 (날짜 관련 컬럼명이면 epoch → Timestamp)
+     *
+     * @param upperColumn 대문자 컬럼명
+     */
+    static ValueConverter forColumn(String upperColumn) {
+        if (upperColumn.contains("DATE") || upperColumn.contains("_AT")
+                || upperColumn.contains("TIME") || upperColumn.contains("TIMESTAMP")) {
+            return EPOCH_TIMESTAMP;
+        }
+        return DEBEZIUM_VALUE;
+    }
+
+    /**
+     * 복합 NUMBER({scale, value})면 디코딩, 아니면 그대로
+     */
+    @SuppressWarnings("unchecked")
+    static Object decodeIfNumber(Object value) {
+        if (value instanceof Map<?, ?> complexValue && complexValue.containsKey("value")) {
+            return ValueConverters.decodeDebeziumNumber((Map<String, Object>) complexValue);
+        }
+        return value;
+    }
+
+    /**
+     * Base64 2의 보수 정수부 + scale → Long(scale 0) 또는 BigDecimal
+     *
+     * - 8바이트 이하(패딩 포함 12자 이하): 문자열에서 바로 long 조립 (byte[]/BigInteger 생성 없음)
+     * - 그 외: BigInteger 경유
+     */
+    static Object decodeUnscaled(String base64, int scale) {
+        int length = base64.length();
+        if (length <= 12 && length % 4 == 0) {
+            int padding = length == 0 ? 0 : base64.charAt(length - 1) != '=' ? 0 : base64.charAt(length - 2) != '=' ? 1 : 2;
+            int bytes = length / 4 * 3 - padding;
+            if (bytes <= 8) {
+                return toNumber(base64Long(base64, bytes), scale);
+            }
+        }
+        BigInteger unscaled = new BigInteger(Base64.getDecoder().decode(base64));
+        return new BigDecimal(unscaled, scale);
+    }
+
+    /**
+     * 2의 보수 big-endian 바이트 → Long(scale 0) 또는 BigDecimal (Avro decimal용)
+     */
+    static Object toNumber(byte[] twosComplement, int scale) {
+        if (twosComplement.length > 0 && twosComplement.length <= 8) {
+            long value = 0;
+            for (byte b : twosComplement) {
+                value = (value << 8) | (b & 0xFF);
+            }
+            int shift = 64 - 8 * twosComplement.length;
+            return toNumber((value << shift) >> shift, scale);
+        }
+        return new BigDecimal(new BigInteger(twosComplement), scale);
+    }
+
+    private static Object toNumber(long unscaled, int scale) {
+        return scale == 0 ? (Object) unscaled : BigDecimal.valueOf(unscaled, scale);
+    }
+
+    /**
+     * 패딩된 Base64(8바이트 이하) → 부호 확장된 long
+     */
+    private static long base64Long(String base64, int bytes) {
+        long value = 0;
+        int remaining = bytes;
+        for (int i = 0; i < base64.length() && remaining > 0; i += 4) {
+            int group = base64Digit(base64.charAt(i)) << 18
+                    | base64Digit(base64.charAt(i + 1)) << 12
+                    | base64Digit(base64.charAt(i + 2)) << 6
+                    | base64Digit(base64.charAt(i + 3));
+            for (int k = 0; k < 3 && remaining > 0; k++, remaining--) {
+                value = (value << 8) | ((group >>> (16 - 8 * k)) & 0xFF);
+            }
+        }
+        if (bytes == 0) {
+            return 0;
+        }
+        int shift = 64 - 8 * bytes;
+        return (value << shift) >> shift;
+    }
+
+    private static int base64Digit(char c) {
+        if (c >= 'A' && c <= 'Z') return c - 'A';
+        if (c >= 'a' && c <= 'z') return c - 'a' + 26;
+        if (c >= '0' && c <= '9') return c - '0' + 52;
+        if (c == '+') return 62;
+        if (c == '/') return 63;
+        if (c == '=') return 0;
+        throw new IllegalArgumentException("Illegal base64 character: " + c);
+    }
+
+    /**
+     * UTC 기준 epoch → 같은 벽시계 시각의 Timestamp (Debezium 시간 타입은 타임존 없음)
+     */
+    private static Timestamp utcTimestamp(long epochSecond, long nanoOfSecond) {
+        return Timestamp.valueOf(LocalDateTime.ofEpochSecond(epochSecond, (int) nanoOfSecond, ZoneOffset.UTC));
+    }
+
+    /**
+     * Debezium 타임스탬프를 java.sql.Timestamp로 변환 (스키마 없는 경우)
+     *
+     * [Debezium 타임스탬프 형식]
+     * - io.debezium.time.MicroTimestamp: 마이크로초 (나누기 1000 필요)
+     * - io.debezium.time.Timestamp: 밀리초
+     * - io.debezium.time.Date: epoch days (곱하기 86400000 필요)
+     * - 스키마가 있는 경우와 같이 UTC 기준 벽시계 시각으로 변환 (JVM 타임존 무관)
+     *
+     * @param epochValue epoch 값 (마이크로초, 밀리초, 또는 일수)
+     * @return java.sql.Timestamp
+     */
+    static Timestamp convertEpochToTimestamp(long epochValue) {
+        // 값 범위로 형식 추정
+        // 마이크로초: 10^15 이상 (예: 1768279886846975)
+        // 밀리초: 10^12 ~ 10^15 (예: 1768279886846)
+        // 일수: 10^5 미만 (예: 19736 = 2024-01-13)
+
+        if (epochValue > 100_000_000_000_000L) {
+            return (Timestamp) EPOCH_MICROS.convert(epochValue);
+        }
+        if (epochValue < 100_000) {
+            return (Timestamp) EPOCH_DAYS.convert(epochValue);
+        }
+        return (Timestamp) EPOCH_MILLIS.convert(epochValue);
+    }
+}
@@ -0,0 +1,41 @@
+package com.cdc.sync.service;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.Map;
+
+/**
+ * ValueConverter 보조 (인터페이스에 둘 수 없는 로거 사용 부분)
+ */
+final class ValueConverters {
+
+    private static final Logger log = LoggerFactory.getLogger(ValueConverter.class);
+
+    private ValueConverters() {
+    }
+
+    /**
+     * Debezium NUMBER 타입 디코딩
+     *
+     * [Debezium NUMBER 형식]
+     * Oracle NUMBER를 다음 형식으로 전송:
+     * { "scale": 0, "value": "AQ==" }  (Base64 인코딩된 BigInteger)
+     *
+     * @param complexValue Debezium 복합 값
+     * @return 디코딩된 숫자 (실패 시 원본 그대로)
+     */
+    static Object decodeDebeziumNumber(Map<String, Object> complexValue) {
+        try {
+            Object valueObj = complexValue.get("value");
+            if (valueObj instanceof String base64Value) {
+                Object scaleObj = complexValue.get("scale");
+                int scale = scaleObj != null ? ((Number) scaleObj).intValue() : 0;
+                return ValueConverter.decodeUnscaled(base64Value, scale);
+            }
+        } catch (Exception e) {
+            log.warn("Failed to decode Debezium number: {}", e.getMessage());
+        }
+        return complexValue;
+    }
+}
@@ -0,0 +1,307 @@
+package com.cdc.sync.service;
+
+import com.cdc.sync.config.CdcSyncConfig;
+import com.cdc.sync.config.CdcSyncConfig.TopicMapping;
+import com.cdc.sync.config.CdcSyncConfig.WorkerTriggerConfig;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.CallableStatementCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.sql.Types;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Worker 이벤트 트리거 (CDC INSERT 직후 해당 테이블 Worker만 호출)
+ *
+ * [문제]
+ * - JOB_CDC_WORKER가 5초마다 SP_RUN_ALL_WORKERS 호출
+ *   → 변경이 없어도 모든 CDC/STAGING 테이블 PROCESSED_YN 스캔, 변경이 있으면 최대 5초 지연
+ *
+ * [설계 의도]
+ * - CDC 테이블 INSERT가 커밋되면 그 테이블의 Worker 프로시저만 호출 (SP_RUN_WORKER 경유)
+ * - 디바운스: 첫 INSERT 후 debounce-ms 뒤 호출, 그 사이 INSERT는 호출 1회로 합침
+ * - 테이블별 실행은 한 번에 1개: 실행 중 들어온 INSERT는 끝난 직후 한 번 더 호출
+ *   (Worker 커서는 시작 시점 기준이므로 실행 중 INSERT된 행은 다음 호출에서 처리)
+ * - DB별 고정 크기 스레드 풀 = 동시 호출 상한 (max-concurrent-per-db)
+ * - SP_RUN_WORKER는 DBMS_LOCK으로 같은 Worker 동시 실행을 막음 → Job/다른 인스턴스가 실행 중이면 나중에 재호출
+ * - sweep-interval-ms마다 전체 테이블 호출 + SP_CLEANUP_HASH (트리거를 놓친 행의 안전망)
+ *
+ * [호출 대상 제외]
+ * - 직접 반영 테이블: CDC 행이 이미 PROCESSED_YN='Y'
+ * - Java Worker 테이블: 프로시저 대신 CdcWorkerEngine.wake
+ *
+ * [프로덕션 고려사항]
+ * - 사용 시 JOB_CDC_WORKER 주기를 안전망 수준(1분 등)으로 늘릴 것 (04_create_procedures.sql 참고)
+ * - INSERT → 호출 시작 지연을 테이블별로 기록 (workerTriggerStats)
+ */
+@Component
+public class WorkerTrigger {
+
+    private static final Logger log = LoggerFactory.getLogger(WorkerTrigger.class);
+
+    private static final String RUN_WORKER_CALL = "{call SP_RUN_WORKER(?, ?)}";
+    private static final String CLEANUP_HASH_CALL = "{call SP_CLEANUP_HASH}";
+
+    private final WorkerTriggerConfig config;
+    private final CdcMonitoringService monitoringService;
+    private final CdcWorkerEngine workerEngine;
+
+    // 대상 CDC 테이블 → 호출 대상 (프로시저 호출 테이블만)
+    private final Map<String, Target> targets = new LinkedHashMap<>();
+    // 대상 DB → 호출 스레드 풀 (DB별 동시 호출 상한)
+    private final Map<JdbcTemplate, ThreadPoolExecutor> executors = new LinkedHashMap<>();
+    private final ScheduledThreadPoolExecutor timer;
+    private volatile boolean running = true;
+
+    public WorkerTrigger(
+            @Qualifier("asisJdbcTemplate") JdbcTemplate asisJdbcTemplate,
+            @Qualifier("tobeJdbcTemplate") JdbcTemplate tobeJdbcTemplate,
+            DirectApplier directApplier,
+            ObjectProvider<CdcWorkerEngine> workerEngine,
+            CdcMonitoringService monitoringService,
+            CdcSyncConfig syncConfig) {
+        this.config = syncConfig.getWorkerTrigger();
+        this.monitoringService = monitoringService;
+        this.workerEngine = workerEngine.getIfAvailable();
+        this.timer = new ScheduledThreadPoolExecutor(1, threadFactory("cdc-trigger-timer"));
+        timer.setRemoveOnCancelPolicy(true);
+
+        if (!config.isEnabled()) {
+            return;
+        }
+        int maxConcurrent = Math.max(1, config.getMaxConcurrentPerDb());
+        for (Map.Entry<String, String> entry : config.getProcedures().entrySet()) {
+            String cdcTable = entry.getKey();
+            String procedure = entry.getValue();
+            if (directApplier.plan(cdcTable) != null
+                    || (this.workerEngine != null && this.workerEngine.handles(cdcTable))) {
+                continue;
+            }
+
+            // CDC 테이블이 있는 DB (ASIS->TOBE면 TOBE DB)
+            JdbcTemplate jdbcTemplate;
+            String database;
+            if (contains(syncConfig.getAsisToTobe(), cdcTable)) {
+                jdbcTemplate = tobeJdbcTemplate;
+                database = "TOBE";
+            } else if (contains(syncConfig.getTobeToAsis(), cdcTable)) {
+                jdbcTemplate = asisJdbcTemplate;
+                database = "ASIS";
+            } else {
+                throw new IllegalStateException("Worker trigger table " + cdcTable
+                        + " is not a target of any topic mapping");
+            }
+            ThreadPoolExecutor executor = executors.computeIfAbsent(jdbcTemplate, k ->
+                    new ThreadPoolExecutor(maxConcurrent, maxConcurrent, 0L, TimeUnit.MILLISECONDS,
+                            // 테이블당 대기 작업은 최대 1개 (scheduled 플래그)
+                            new LinkedBlockingQueue<>(),
+                            threadFactory("cdc-trigger-" + database.toLowerCase())));
+            targets.put(cdcTable, new Target(cdcTable, procedure, database, jdbcTemplate, executor));
+        }
+        log.info("Worker trigger enabled: {} (debounce {} ms, max {} calls/DB, sweep {} ms)",
+                targets.values().stream().map(t -> t.cdcTable + " -> " + t.database + "." + t.procedure).toList(),
+                config.getDebounceMs(), maxConcurrent, config.getSweepIntervalMs());
+    }
+
+    private static boolean contains(List<TopicMapping> mappings, String cdcTable) {
+        return mappings.stream().anyMatch(mapping -> cdcTable.equals(mapping.getTargetTable()));
+    }
+
+    /**
+     * CDC 테이블 INSERT 커밋 후 호출 (Kafka Consumer 스레드, 바로 반환)
+     *
+     * @param cdcTable INSERT한 CDC 테이블
+     */
+    public void inserted(String cdcTable) {
+        if (!config.isEnabled() || !running) {
+            return;
+        }
+        Target target = targets.get(cdcTable);
+        if (target == null) {
+            if (workerEngine != null) {
+                workerEngine.wake(cdcTable);
+            }
+            return;
+        }
+        monitoringService.recordWorkerTriggerRequested(cdcTable);
+        // 아직 호출되지 않은 INSERT 중 가장 오래된 시각 (호출 시작까지 지연 측정)
+        target.pendingSinceNanos.compareAndSet(0, System.nanoTime());
+        request(target);
+    }
+
+    /**
+     * 안전망: 전체 테이블 호출 + 해시 정리
+     */
+    @Scheduled(fixedDelayString = "${cdc.sync.worker-trigger.sweep-interval-ms:60000}")
+    public void sweep() {
+        if (!config.isEnabled() || !running) {
+            return;
+        }
+        for (Target target : targets.values()) {
+            request(target);
+        }
+        for (Map.Entry<JdbcTemplate, ThreadPoolExecutor> entry : executors.entrySet()) {
+            execute(entry.getValue(), () -> {
+                try {
+                    entry.getKey().execute(CLEANUP_HASH_CALL);
+                } catch (DataAccessException e) {
+                    log.warn("SP_CLEANUP_HASH failed: {}", e.getMessage());
+                }
+            });
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        running = false;
+        timer.shutdownNow();
+        for (ThreadPoolExecutor executor : executors.values()) {
+            executor.shutdown();
+        }
+        for (ThreadPoolExecutor executor : executors.values()) {
+            try {
+                if (!executor.awaitTermination(30, TimeUnit.SECONDS)) {
+                    executor.shutdownNow();
+                }
+            } catch (InterruptedException e) {
+                executor.shutdownNow();
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+    /**
+     * 호출 예약 (이미 예약/실행 중이면 표시만 → 끝난 뒤 한 번 더)
+     */
+    private void request(Target target) {
+        target.dirty = true;
+        if (target.scheduled.compareAndSet(false, true)) {
+            schedule(target);
+        }
+    }
+
+    private void schedule(Target target) {
+        try {
+            timer.schedule(() -> {
+                if (!execute(target.executor, () -> run(target))) {
+                    target.scheduled.set(false);
+                }
+            }, config.getDebounceMs(), TimeUnit.MILLISECONDS);
+        } catch (RejectedExecutionException e) {
+            // 종료 중
+            target.scheduled.set(false);
+        }
+    }
+
+    private static boolean execute(ThreadPoolExecutor executor, Runnable task) {
+        try {
+            executor.execute(task);
+            return true;
+        } catch (RejectedExecutionException e) {
+            return false;
+        }
+    }
+
+    /**
+     * Worker 호출 (DB 스레드, 테이블당 한 번에 1개)
+     */
+    private void run(Target target) {
+        try {
+            while (target.dirty && running) {
+                target.dirty = false;
+                long pendingSince = target.pendingSinceNanos.getAndSet(0);
+                long startNanos = System.nanoTime();
+                boolean ran = callWorker(target);
+                monitoringService.recordWorkerTriggerRun(target.cdcTable,
+                        pendingSince != 0 ? startNanos - pendingSince : -1, System.nanoTime() - startNanos, ran);
+                if (!ran) {
+                    // 다른 세션(Job/다른 인스턴스)이 실행 중 → 그 커서가 못 본 행을 위해 디바운스 후 재호출
+                    target.pendingSinceNanos.compareAndSet(0, pendingSince);
+                    target.dirty = true;
+                    break;
+                }
+                log.debug("[{}] {} ran in {} ms", target.database, target.procedure,
+                        (System.nanoTime() - startNanos) / 1_000_000);
+            }
+        } catch (DataAccessException e) {
+            // 다음 INSERT 또는 안전망 호출에서 재시도
+            monitoringService.recordWorkerTriggerFailure(target.cdcTable);
+            log.warn("[{}] {} failed: {}", target.database, target.procedure, e.getMessage());
+        } finally {
+            target.scheduled.set(false);
+            // 플래그 해제 전에 들어온 요청 유실 방지
+            if (target.dirty && running && target.scheduled.compareAndSet(false, true)) {
+                schedule(target);
+            }
+        }
+    }
+
+    /**
+     * SP_RUN_WORKER 호출
+     *
+     * @return false면 다른 세션이 같은 Worker 실행 중
+     */
+    private static boolean callWorker(Target target) {
+        Integer ran = target.jdbcTemplate.execute(RUN_WORKER_CALL, (CallableStatementCallback<Integer>) cs -> {
+            cs.setString(1, target.procedure);
+            cs.registerOutParameter(2, Types.INTEGER);
+            cs.execute();
+            return cs.getInt(2);
+        });
+        return ran != null && ran == 1;
+    }
+
+    private static ThreadFactory threadFactory(String prefix) {
+        AtomicLong index = new AtomicLong();
+        return runnable -> {
+            Thread thread = new Thread(runnable, prefix + "-" + index.getAndIncrement());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+
+    /**
+     * Worker 프로시저 호출 대상 1개 (CDC 테이블)
+     */
+    private static final class Target {
+
+        final String cdcTable;
+        final String procedure;
+        final String database;
+        final JdbcTemplate jdbcTemplate;
+        final ThreadPoolExecutor executor;
+
+        // 예약 또는 실행 중 (테이블당 1개)
+        final AtomicBoolean scheduled = new AtomicBoolean();
+        // 예약 이후 들어온 요청 있음
+        volatile boolean dirty;
+        // 아직 호출되지 않은 가장 오래된 INSERT 시각 (System.nanoTime, 없으면 0)
+        final AtomicLong pendingSinceNanos = new AtomicLong();
+
+        Target(String cdcTable, String procedure, String database, JdbcTemplate jdbcTemplate,
+               ThreadPoolExecutor executor) {
+            this.cdcTable = cdcTable;
+            this.procedure = procedure;
+            this.database = database;
+            this.jdbcTemplate = jdbcTemplate;
+            this.executor = executor;
+        }
+    }
+}
@@ -0,0 +1,153 @@
+package com.cdc.sync.consumer;
+
+import com.cdc.sync.service.CdcSyncService;
+import org.apache.kafka.clients.consumer.Consumer;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.common.TopicPartition;
+import org.apache.kafka.common.header.Header;
+import org.apache.kafka.common.serialization.ByteArrayDeserializer;
+import org.apache.kafka.common.serialization.StringDeserializer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.kafka.core.DefaultKafkaConsumerFactory;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.test.EmbeddedKafkaBroker;
+import org.springframework.kafka.test.context.EmbeddedKafka;
+import org.springframework.kafka.test.utils.KafkaTestUtils;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * 재시도 단계 → DLT → 재주입 파이프라인 (Embedded Kafka, DB는 CdcSyncService 목으로 대체)
+ *
+ * - 데이터 오류 레코드: 원본 토픽 → 단계 1 → 단계 2 → DLT, 단계마다 cdc-attempt 1씩 증가
+ * - 원본 위치/최초 실패 시각 헤더는 단계를 거쳐도 유지
+ * - POST /api/monitoring/dlt/replay: DLT 레코드를 단계 1로 cdc-attempt=1로 재주입
+ */
+@SpringBootTest(properties = {
+        "cdc.sync.retry.delays-ms=200,400",
+        "cdc.sync.listener.concurrency=1",
+        "cdc.sync.backpressure.enabled=false",
+        "cdc.sync.monitoring-file.enabled=false"
+})
+@AutoConfigureMockMvc
+@EmbeddedKafka(partitions = 1, topics = CdcRetryPipelineTest.SOURCE_TOPIC,
+        bootstrapServersProperty = "spring.kafka.bootstrap-servers")
+class CdcRetryPipelineTest {
+
+    static final String SOURCE_TOPIC = "asis.ASIS_USER.LEGACY_CODE";
+    private static final String TIER_1 = "cdc-sync.retry.200ms";
+    private static final String TIER_2 = "cdc-sync.retry.400ms";
+    private static final String DLT = "cdc-sync.dlt";
+    private static final String ERROR = "ORA-12899: value too large for column CODE_NAME";
+    private static final Duration TIMEOUT = Duration.ofSeconds(30);
+
+    @Autowired
+    private EmbeddedKafkaBroker broker;
+
+    @Autowired
+    private KafkaTemplate<String, byte[]> retryKafkaTemplate;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockBean
+    private CdcSyncService syncService;
+
+    private final List<Consumer<String, byte[]>> readers = new ArrayList<>();
+
+    @AfterEach
+    void closeReaders() {
+        readers.forEach(Consumer::close);
+    }
+
+    @Test
+    void dataErrorMovesThroughTiersToDltAndReplaysToFirstTier() throws Exception {
+        doThrow(new DataIntegrityViolationException(ERROR))
+                .when(syncService).syncAsisToTobe(any(), anyString(), anyString());
+
+        String payload = "{\"op\":\"c\",\"after\":{\"CODE_ID\":\"C001\",\"CODE_NAME\":\"too long\"}}";
+        retryKafkaTemplate.send(SOURCE_TOPIC, "C001", payload.getBytes(StandardCharsets.UTF_8)).get();
+
+        ConsumerRecord<String, byte[]> tier1 = awaitRecords(TIER_1, 1).get(0);
+        ConsumerRecord<String, byte[]> tier2 = awaitRecords(TIER_2, 1).get(0);
+        ConsumerRecord<String, byte[]> dead = awaitRecords(DLT, 1).get(0);
+
+        assertThat(header(tier1, CdcRetryPublisher.HEADER_ATTEMPT)).isEqualTo("1");
+        assertThat(header(tier2, CdcRetryPublisher.HEADER_ATTEMPT)).isEqualTo("2");
+        assertThat(header(dead, CdcRetryPublisher.HEADER_ATTEMPT)).isEqualTo("3");
+
+        String firstFailedAt = header(tier1, CdcRetryPublisher.HEADER_FIRST_FAILED_AT);
+        for (ConsumerRecord<String, byte[]> record : List.of(tier1, tier2, dead)) {
+            assertThat(record.key()).isEqualTo("C001");
+            assertThat(new String(record.value(), StandardCharsets.UTF_8)).isEqualTo(payload);
+            assertThat(header(record, CdcRetryPublisher.HEADER_ORIGINAL_TOPIC)).isEqualTo(SOURCE_TOPIC);
+            assertThat(header(record, CdcRetryPublisher.HEADER_ORIGINAL_PARTITION)).isEqualTo("0");
+            assertThat(header(record, CdcRetryPublisher.HEADER_ORIGINAL_OFFSET)).isEqualTo("0");
+            assertThat(header(record, CdcRetryPublisher.HEADER_FIRST_FAILED_AT)).isEqualTo(firstFailedAt);
+            assertThat(header(record, CdcRetryPublisher.HEADER_ERROR)).isEqualTo(ERROR);
+        }
+        // 원본 1회 + 단계 2회
+        verify(syncService, times(3)).syncAsisToTobe(any(), eq("CDC_TOBE_LEGACY_CODE"), eq(SOURCE_TOPIC));
+
+        mockMvc.perform(post("/api/monitoring/dlt/replay"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.success").value(true))
+                .andExpect(jsonPath("$.replayed").value(1));
+
+        ConsumerRecord<String, byte[]> replayed = awaitRecords(TIER_1, 2).get(1);
+        assertThat(replayed.key()).isEqualTo("C001");
+        assertThat(header(replayed, CdcRetryPublisher.HEADER_ATTEMPT)).isEqualTo("1");
+        assertThat(replayed.headers().headers(CdcRetryPublisher.HEADER_ATTEMPT)).hasSize(1);
+        assertThat(header(replayed, CdcRetryPublisher.HEADER_ORIGINAL_TOPIC)).isEqualTo(SOURCE_TOPIC);
+        assertThat(header(replayed, CdcRetryPublisher.HEADER_FIRST_FAILED_AT)).isEqualTo(firstFailedAt);
+    }
+
+    /**
+     * 토픽 처음부터 count건이 쌓일 때까지 읽기 (검증 전용 Consumer, 그룹 커밋 없음)
+     */
+    private List<ConsumerRecord<String, byte[]>> awaitRecords(String topic, int count) {
+        Map<String, Object> props = KafkaTestUtils.consumerProps("retry-pipeline-test", "false", broker);
+        Consumer<String, byte[]> reader = new DefaultKafkaConsumerFactory<>(props,
+                new StringDeserializer(), new ByteArrayDeserializer()).createConsumer();
+        readers.add(reader);
+
+        TopicPartition partition = new TopicPartition(topic, 0);
+        reader.assign(List.of(partition));
+        reader.seekToBeginning(List.of(partition));
+
+        List<ConsumerRecord<String, byte[]>> records = new ArrayList<>();
+        long deadline = System.currentTimeMillis() + TIMEOUT.toMillis();
+        while (records.size() < count && System.currentTimeMillis() < deadline) {
+            reader.poll(Duration.ofMillis(200)).forEach(records::add);
+        }
+        assertThat(records).as("records in %s", topic).hasSizeGreaterThanOrEqualTo(count);
+        return records;
+    }
+
+    private static String header(ConsumerRecord<String, byte[]> record, String key) {
+        Header header = record.headers().lastHeader(key);
+        return header != null ? new String(header.value(), StandardCharsets.UTF_8) : null;
+    }
+}
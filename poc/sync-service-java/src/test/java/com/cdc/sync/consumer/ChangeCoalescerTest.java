@@ -0,0 +1,113 @@
+package com.cdc.sync.consumer;
+
+import com.cdc.sync.consumer.ChangeCoalescer.Change;
+import com.cdc.sync.consumer.ChangeCoalescer.Result;
+import com.cdc.sync.domain.CdcEvent;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 같은 PK 변경의 순 변경 계산
+ *
+ * - INSERT+DELETE → 변경 없음, DELETE+INSERT → UPDATE
+ * - UPDATE+UPDATE → 첫 변경의 전 값 + 마지막 변경의 후 값
+ * - 키별 순 변경은 마지막 변경 위치 순서로 배치
+ */
+class ChangeCoalescerTest {
+
+    @Test
+    void insertThenDeleteYieldsNothing() {
+        CdcEvent insert = event("INSERT", null, row(1, "A"));
+        CdcEvent delete = event("DELETE", row(1, "A"), null);
+
+        assertThat(ChangeCoalescer.merge(insert, delete)).isNull();
+    }
+
+    @Test
+    void deleteThenInsertYieldsUpdate() {
+        CdcEvent delete = event("DELETE", row(1, "A"), null);
+        CdcEvent insert = event("INSERT", null, row(1, "B"));
+
+        CdcEvent net = ChangeCoalescer.merge(delete, insert);
+
+        assertThat(net.getOperation()).isEqualTo("UPDATE");
+        assertThat(net.getBefore()).isEqualTo(row(1, "A"));
+        assertThat(net.getAfter()).isEqualTo(row(1, "B"));
+        assertThat(net.getData()).isEqualTo(row(1, "B"));
+    }
+
+    @Test
+    void updateThenUpdateKeepsFirstBeforeAndLatestAfter() {
+        CdcEvent first = event("UPDATE", row(1, "A"), row(1, "B"));
+        CdcEvent last = event("UPDATE", row(1, "B"), row(1, "C"));
+        last.setChangeHash("hash-c");
+
+        CdcEvent net = ChangeCoalescer.merge(first, last);
+
+        assertThat(net.getOperation()).isEqualTo("UPDATE");
+        assertThat(net.getBefore()).isEqualTo(row(1, "A"));
+        assertThat(net.getAfter()).isEqualTo(row(1, "C"));
+        assertThat(net.getChangeHash()).isEqualTo("hash-c");
+    }
+
+    @Test
+    void insertThenUpdateYieldsInsertOfLatestValues() {
+        CdcEvent insert = event("INSERT", null, row(1, "A"));
+        CdcEvent update = event("UPDATE", row(1, "A"), row(1, "B"));
+
+        CdcEvent net = ChangeCoalescer.merge(insert, update);
+
+        assertThat(net.getOperation()).isEqualTo("INSERT");
+        assertThat(net.getBefore()).isNull();
+        assertThat(net.getAfter()).isEqualTo(row(1, "B"));
+    }
+
+    @Test
+    void updateThenDeleteYieldsDelete() {
+        CdcEvent update = event("UPDATE", row(1, "A"), row(1, "B"));
+        CdcEvent delete = event("DELETE", row(1, "B"), null);
+
+        assertThat(ChangeCoalescer.merge(update, delete)).isSameAs(delete);
+    }
+
+    @Test
+    void netChangesFollowLastChangeOfEachKey() {
+        List<Item> items = List.of(
+                new Item("1", event("INSERT", null, row(1, "A"))),
+                new Item("2", event("UPDATE", row(2, "A"), row(2, "B"))),
+                new Item("1", event("UPDATE", row(1, "A"), row(1, "B"))),
+                new Item("3", event("INSERT", null, row(3, "A"))),
+                new Item("3", event("DELETE", row(3, "A"), null)),
+                new Item(null, event("UPDATE", row(4, "A"), row(4, "B"))));
+
+        Result<Item> result = ChangeCoalescer.coalesce(items, Item::key, Item::event);
+
+        assertThat(result.inputCount()).isEqualTo(6);
+        assertThat(result.changes()).extracting(change -> change.event().getOperation())
+                .containsExactly("UPDATE", "INSERT", "UPDATE");
+        assertThat(result.changes()).extracting(change -> change.sources().size())
+                .containsExactly(1, 2, 1);
+        Change<Item> merged = result.changes().get(1);
+        assertThat(merged.event().getAfter()).isEqualTo(row(1, "B"));
+        assertThat(result.dropped()).extracting(Item::key).containsExactly("3", "3");
+    }
+
+    private record Item(String key, CdcEvent event) {}
+
+    private static CdcEvent event(String operation, Map<String, Object> before, Map<String, Object> after) {
+        CdcEvent event = new CdcEvent();
+        event.setOperation(operation);
+        event.setBefore(before);
+        event.setAfter(after);
+        event.setSource(Map.of("table", "BOOK"));
+        return event;
+    }
+
+    private static Map<String, Object> row(long id, String title) {
+        return Map.of("BOOK_ID", id, "TITLE", title);
+    }
+}
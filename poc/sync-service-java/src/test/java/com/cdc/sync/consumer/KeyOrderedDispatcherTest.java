@@ -0,0 +1,177 @@
+package com.cdc.sync.consumer;
+
+import com.cdc.sync.config.CdcSyncConfig;
+import com.cdc.sync.service.CdcMonitoringService;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.common.TopicPartition;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.LockSupport;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+/**
+ * 같은 키는 워커가 여러 개여도 전달 순서대로 실행
+ *
+ * - 키별 실행 순서 = 전달 순서, 다른 키는 여러 워커에서 병렬 실행
+ * - 실패한 작업은 같은 워커에서 재시도 → 뒤따르는 같은 키 레코드가 앞지르지 않음
+ * - 회수된 파티션의 대기 작업은 실행하지 않음, 큐가 가득 차면 전달 거절
+ */
+class KeyOrderedDispatcherTest {
+
+    private static final String TOPIC = "asis.ASIS_USER.BOOK";
+    private static final TopicPartition PARTITION = new TopicPartition(TOPIC, 0);
+
+    private final OffsetCommitManager commitManager =
+            new OffsetCommitManager(new CdcSyncConfig(), mock(CdcMonitoringService.class));
+    private KeyOrderedDispatcher dispatcher;
+
+    @AfterEach
+    void shutdown() {
+        if (dispatcher != null) {
+            dispatcher.shutdown();
+        }
+    }
+
+    @Test
+    void sameKeyRunsInDispatchOrderAcrossWorkers() throws Exception {
+        dispatcher = dispatcher(4, 1024, 1000);
+        commitManager.onPartitionsAssigned(null, List.of(PARTITION));
+
+        int keys = 16;
+        int perKey = 50;
+        Map<String, List<Long>> executed = new ConcurrentHashMap<>();
+        Set<String> threads = ConcurrentHashMap.newKeySet();
+        CountDownLatch done = new CountDownLatch(keys * perKey);
+
+        long offset = 0;
+        for (int i = 0; i < perKey; i++) {
+            for (int k = 0; k < keys; k++) {
+                ConsumerRecord<String, byte[]> record = record(offset++, "BOOK-" + k);
+                assertThat(dispatcher.dispatch(record, () -> {
+                    // 실행 시간을 흔들어 워커 간 진행 속도를 다르게
+                    LockSupport.parkNanos(ThreadLocalRandom.current().nextLong(50_000));
+                    executed.computeIfAbsent(record.key(), key -> new ArrayList<>()).add(record.offset());
+                    threads.add(Thread.currentThread().getName());
+                    done.countDown();
+                })).isTrue();
+            }
+        }
+
+        assertThat(done.await(10, TimeUnit.SECONDS)).isTrue();
+        assertThat(executed).hasSize(keys);
+        executed.forEach((key, offsets) -> assertThat(offsets).hasSize(perKey).isSorted());
+        assertThat(threads).hasSizeGreaterThan(1);
+        awaitNoPending();
+    }
+
+    @Test
+    void failedTaskIsRetriedBeforeLaterRecordsOfSameKey() throws Exception {
+        dispatcher = dispatcher(2, 16, 1000);
+        commitManager.onPartitionsAssigned(null, List.of(PARTITION));
+
+        List<Long> executed = new ArrayList<>();
+        AtomicBoolean failOnce = new AtomicBoolean(true);
+        CountDownLatch done = new CountDownLatch(3);
+        for (long offset = 0; offset < 3; offset++) {
+            ConsumerRecord<String, byte[]> record = record(offset, "BOOK-1");
+            dispatcher.dispatch(record, () -> {
+                if (record.offset() == 0 && failOnce.getAndSet(false)) {
+                    throw new IllegalStateException("connection reset");
+                }
+                synchronized (executed) {
+                    executed.add(record.offset());
+                }
+                done.countDown();
+            });
+        }
+
+        assertThat(done.await(10, TimeUnit.SECONDS)).isTrue();
+        assertThat(executed).containsExactly(0L, 1L, 2L);
+        awaitNoPending();
+    }
+
+    @Test
+    void queuedTasksOfRevokedPartitionAreNotRun() throws Exception {
+        dispatcher = dispatcher(1, 16, 1000);
+        commitManager.onPartitionsAssigned(null, List.of(PARTITION));
+
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        AtomicInteger laterRuns = new AtomicInteger();
+        dispatcher.dispatch(record(0, "BOOK-1"), () -> {
+            started.countDown();
+            await(release);
+        });
+        dispatcher.dispatch(record(1, "BOOK-2"), laterRuns::incrementAndGet);
+        assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+
+        commitManager.onPartitionsLost(null, List.of(PARTITION));
+        release.countDown();
+
+        // 다시 할당된 뒤 전달한 레코드가 실행되면 같은 워커의 앞선 대기 작업은 이미 지나감
+        commitManager.onPartitionsAssigned(null, List.of(PARTITION));
+        CountDownLatch marker = new CountDownLatch(1);
+        dispatcher.dispatch(record(2, "BOOK-3"), marker::countDown);
+        assertThat(marker.await(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(laterRuns).hasValue(0);
+    }
+
+    @Test
+    void dispatchIsRejectedWhenLaneIsFull() throws Exception {
+        dispatcher = dispatcher(1, 1, 50);
+        commitManager.onPartitionsAssigned(null, List.of(PARTITION));
+
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        assertThat(dispatcher.dispatch(record(0, "BOOK-1"), () -> {
+            started.countDown();
+            await(release);
+        })).isTrue();
+        assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+
+        assertThat(dispatcher.dispatch(record(1, "BOOK-1"), () -> { })).isTrue();
+        assertThat(dispatcher.hasCapacity(TOPIC, "BOOK-1")).isFalse();
+        assertThat(dispatcher.dispatch(record(2, "BOOK-1"), () -> { })).isFalse();
+
+        release.countDown();
+        awaitNoPending();
+        assertThat(dispatcher.hasCapacity(TOPIC, "BOOK-1")).isTrue();
+    }
+
+    private KeyOrderedDispatcher dispatcher(int workers, int queueCapacity, long offerTimeoutMs) {
+        return new KeyOrderedDispatcher(Map.of(), workers, queueCapacity, 1000, offerTimeoutMs, false, commitManager);
+    }
+
+    private static ConsumerRecord<String, byte[]> record(long offset, String key) {
+        return new ConsumerRecord<>(TOPIC, 0, offset, key, new byte[0]);
+    }
+
+    private void awaitNoPending() throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 5000;
+        while (commitManager.pendingCount() > 0 && System.currentTimeMillis() < deadline) {
+            Thread.sleep(10);
+        }
+        assertThat(commitManager.pendingCount()).isZero();
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,117 @@
+package com.cdc.sync.consumer;
+
+import org.apache.kafka.clients.consumer.OffsetAndMetadata;
+import org.apache.kafka.common.TopicPartition;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 커밋 오프셋은 연속으로 완료된 앞부분까지만 전진
+ *
+ * - 중간 미완료(공백)가 있으면 그 오프셋에서 멈추고, 채워지면 한 번에 전진
+ * - 회수(remove) 후 다시 할당되면 새로 받은 첫 오프셋 기준으로 시작
+ */
+class PartitionOffsetTrackerTest {
+
+    private static final TopicPartition PARTITION = new TopicPartition("asis.ASIS_USER.BOOK", 0);
+    private static final List<TopicPartition> SCOPE = List.of(PARTITION);
+
+    private final PartitionOffsetTracker tracker = new PartitionOffsetTracker();
+
+    @Test
+    void commitOffsetStopsAtLowestIncompleteOffset() {
+        dispatch(10, 11, 12);
+        tracker.completed(PARTITION, 12);
+        tracker.completed(PARTITION, 10);
+
+        assertThat(committable()).isEqualTo(11L);
+    }
+
+    @Test
+    void commitOffsetJumpsPastGapOnceItIsFilled() {
+        dispatch(10, 11, 12, 13);
+        tracker.completed(PARTITION, 10);
+        tracker.completed(PARTITION, 12);
+        tracker.completed(PARTITION, 13);
+        assertThat(committable()).isEqualTo(11L);
+
+        tracker.completed(PARTITION, 11);
+        assertThat(committable()).isEqualTo(14L);
+    }
+
+    @Test
+    void nothingCommittableUntilFirstRecordCompletes() {
+        dispatch(10, 11);
+        assertThat(tracker.committableOffsets(SCOPE)).isEmpty();
+
+        tracker.completed(PARTITION, 11);
+        assertThat(tracker.committableOffsets(SCOPE)).isEmpty();
+        assertThat(tracker.pendingCount()).isEqualTo(1);
+    }
+
+    @Test
+    void sameOffsetIsNotRequestedTwice() {
+        tracker.processed(PARTITION, 10);
+        assertThat(committable()).isEqualTo(11L);
+        assertThat(tracker.committableOffsets(SCOPE)).isEmpty();
+    }
+
+    @Test
+    void failedCommitIsRequestedAgain() {
+        tracker.processed(PARTITION, 10);
+        Map<TopicPartition, OffsetAndMetadata> offsets = tracker.committableOffsets(SCOPE);
+        tracker.commitCompleted(offsets, false);
+
+        assertThat(committable()).isEqualTo(11L);
+    }
+
+    @Test
+    void cancelledRecordIsNotCommittedPast() {
+        dispatch(10, 11);
+        tracker.completed(PARTITION, 10);
+        tracker.cancelled(PARTITION, 11);
+
+        assertThat(committable()).isEqualTo(11L);
+    }
+
+    @Test
+    void rewindDropsLaterRecordsEvenIfCompleted() {
+        dispatch(10, 11, 12);
+        tracker.completed(PARTITION, 10);
+        tracker.completed(PARTITION, 12);
+
+        assertThat(tracker.rewind(PARTITION, 11)).isEqualTo(12L);
+        assertThat(committable()).isEqualTo(11L);
+        assertThat(tracker.pendingCount()).isZero();
+    }
+
+    @Test
+    void removedPartitionStartsOverFromNextAssignment() {
+        dispatch(10, 11);
+        tracker.completed(PARTITION, 11);
+
+        tracker.remove(SCOPE);
+        assertThat(tracker.pendingCount()).isZero();
+        assertThat(tracker.committableOffsets(SCOPE)).isEmpty();
+
+        // 다시 할당되어 20부터 수신 → 이전 미완료(10)는 남지 않음
+        dispatch(20);
+        tracker.completed(PARTITION, 20);
+        assertThat(committable()).isEqualTo(21L);
+    }
+
+    private void dispatch(long... offsets) {
+        for (long offset : offsets) {
+            tracker.dispatched(PARTITION, offset);
+        }
+    }
+
+    private Long committable() {
+        OffsetAndMetadata offset = tracker.committableOffsets(SCOPE).get(PARTITION);
+        return offset != null ? offset.offset() : null;
+    }
+}
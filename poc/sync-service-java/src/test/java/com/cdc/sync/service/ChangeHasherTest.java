@@ -0,0 +1,57 @@
+package com.cdc.sync.service;
+
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * procedureHash()와 FN_GENERATE_HASH(04_create_procedures.sql) 결과 일치
+ *
+ * - 기댓값: RAWTOHEX(DBMS_CRYPTO.HASH(UTL_RAW.CAST_TO_RAW(table || '|' || pk || '|' || op || '|' || data), HASH_SH256))
+ *   를 같은 입력 문자열(AL32UTF8)의 SHA-256으로 미리 계산한 고정 값
+ * - null 필드는 Oracle 연결처럼 빈 문자열, 숫자는 NUMBER 기본 문자 변환 형식
+ */
+class ChangeHasherTest {
+
+    @Test
+    void matchesProcedureHashForWorkerBookFields() {
+        // FN_GENERATE_HASH('TB_BOOK', TO_CHAR(BOOK_ID), OPERATION, TITLE || AUTHOR_NAME || CATEGORY_CD)
+        assertThat(ChangeHasher.procedureHash("TB_BOOK", "1001", "INSERT", "Clean Code", "Robert Martin", "IT"))
+                .isEqualTo("D3D1F4351AC423CA31C9B4596D84B9B6A49A1CAFECD62631861C1C01847AF9C0");
+    }
+
+    @Test
+    void encodesMultibyteFieldsAsUtf8() {
+        assertThat(ChangeHasher.procedureHash("TB_MEMBER", "42", "UPDATE", "홍길동", "hong@example.com"))
+                .isEqualTo("B1527138574470200BEFF57BC667C9E1DFB2577865F6929828786834438083DB");
+    }
+
+    @Test
+    void nullFieldsConcatenateAsEmptyString() {
+        assertThat(ChangeHasher.procedureHash("TB_BOOK", "1001", "UPDATE", "Clean Code", null, "IT"))
+                .isEqualTo("CDFA27BDBA183CABDA53529DC3259D836D96BE1F5863EBE3842007CAC8D7780C");
+        assertThat(ChangeHasher.procedureHash("BOOK_INFO", "7", "DELETE"))
+                .isEqualTo("CC2B95EA8E300B4459D635964F8CB55FB8BAB3CBB82349AA87E08D1F9A014D3C");
+    }
+
+    @Test
+    void numbersUseOracleTextFormat() {
+        // NUMBER 12.5 || '' = '12.5' (스케일 0 채움 없음)
+        assertThat(ChangeHasher.procedureHash("TB_BOOK", "5", "INSERT", new BigDecimal("12.5000")))
+                .isEqualTo("9F286E4AB9537C580E1546A30FD4E8FA762883DC0967DF97DB22E46CAB60CD19");
+        // 0.5 → '.5', -0.25 → '-.25', 100.00 → '100'
+        assertThat(ChangeHasher.procedureHash("TB_BOOK", "5", "INSERT",
+                new BigDecimal("0.50"), new BigDecimal("-0.25"), new BigDecimal("100.00")))
+                .isEqualTo("97E5665FA6A4C07B886072AF267544CA5AA1DBE44EB244C7C9B56C0001F96532");
+    }
+
+    @Test
+    void oracleTextMatchesNumberToCharDefaults() {
+        assertThat(ChangeHasher.oracleText(new BigDecimal("0.000"))).isEqualTo("0");
+        assertThat(ChangeHasher.oracleText(new BigDecimal("1E+3"))).isEqualTo("1000");
+        assertThat(ChangeHasher.oracleText(new BigDecimal("-0.050"))).isEqualTo("-.05");
+        assertThat(ChangeHasher.oracleText(new BigDecimal("3.14"))).isEqualTo("3.14");
+    }
+}
@@ -26,6 +26,7 @@ GRANT CREATE SEQUENCE TO TOBE_USER;
 GRANT CREATE VIEW TO TOBE_USER;
 GRANT CREATE JOB TO TOBE_USER;
 GRANT EXECUTE ON SYS.DBMS_CRYPTO TO TOBE_USER;
+GRANT EXECUTE ON SYS.DBMS_LOCK TO TOBE_USER;  -- SP_RUN_WORKER 동시 실행 방지
 
 -- 확인
 SELECT username, account_status FROM DBA_USERS WHERE username = 'TOBE_USER';
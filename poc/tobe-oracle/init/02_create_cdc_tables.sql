@@ -130,6 +130,13 @@ CREATE TABLE CDC_PROCESSED_HASH (
     PROCESSED_AT    TIMESTAMP DEFAULT SYSTIMESTAMP
 );
 
+-- Java Worker 슬롯 (CDC 테이블별 키 해시 구간, 행을 FOR UPDATE SKIP LOCKED로 잠가 인스턴스 간 분배)
+CREATE TABLE CDC_WORKER_SLOT (
+    TABLE_NAME      VARCHAR2(100),
+    SLOT            NUMBER(5),
+    CONSTRAINT PK_CDC_WORKER_SLOT PRIMARY KEY (TABLE_NAME, SLOT)
+);
+
 -- 인덱스 생성
 CREATE INDEX IDX_CDC_TOBE_LEGACY_PROC ON CDC_TOBE_LEGACY_CODE(PROCESSED_YN);
 CREATE INDEX IDX_CDC_TOBE_BOOK_PROC ON CDC_TOBE_BOOK(PROCESSED_YN);